@@ -8,6 +8,9 @@ plugins {
     kotlin("jvm") version "1.9.25"
     kotlin("plugin.spring") version "1.9.25"
     kotlin("plugin.jpa") version "1.9.25"
+
+    // JMH 벤치마크 (src/jmh)
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com"
@@ -48,6 +51,7 @@ dependencies {
     runtimeOnly("io.jsonwebtoken:jjwt-jackson:0.12.6")
 
     implementation("com.fasterxml.jackson.module:jackson-module-kotlin")
+    implementation("com.fasterxml.jackson.module:jackson-module-blackbird")
     implementation("org.jetbrains.kotlin:kotlin-reflect")
 
     implementation ("org.springframework.boot:spring-boot-starter-quartz")
@@ -87,6 +91,18 @@ dependencies {
 
     implementation("org.springframework.boot:spring-boot-starter-actuator")
 
+    // 지표 (@Timed 처리용 AOP, Hibernate 통계 바인딩, Prometheus 수집 엔드포인트)
+    implementation("org.springframework.boot:spring-boot-starter-aop")
+    implementation("org.hibernate.orm:hibernate-micrometer")
+    runtimeOnly("io.micrometer:micrometer-registry-prometheus")
+
+    // 느린 쿼리 로그 (바인딩 값 포함)
+    implementation("net.ttddyy:datasource-proxy:1.10")
+
+    // Hibernate 2차 캐시 (JCache + Caffeine, custom.cache.secondLevel.enabled=true 일 때만 켜짐)
+    implementation("org.hibernate.orm:hibernate-jcache")
+    implementation("com.github.ben-manes.caffeine:jcache")
+
     implementation("org.springframework.boot:spring-boot-starter-data-redis")
     implementation("org.springframework.session:spring-session-data-redis")
 }
@@ -94,3 +110,32 @@ dependencies {
 tasks.withType<Test> {
     useJUnitPlatform()
 }
+
+// ./gradlew jmh 로 실행, 결과는 build/results/jmh 에 실행 시각별 JSON 으로 저장 (추이 비교용)
+// 일부만 실행: ./gradlew jmh -PjmhIncludes=AuthBenchmark
+jmh {
+    warmupIterations = 2
+    iterations = 5
+    fork = 1
+    resultFormat = "JSON"
+    val startedAt = java.time.LocalDateTime.now().format(java.time.format.DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"))
+    resultsFile = layout.buildDirectory.file("results/jmh/results-$startedAt.json")
+    providers.gradleProperty("jmhIncludes").orNull?.let { includes = listOf(it) }
+}
+
+// 부하 테스트 클라이언트 (src/loadtest), 대상 서버는 loadtest 프로필로 띄운다
+// ./gradlew loadTest -PloadTestArgs="--users=200 --durationSec=120"
+val loadtest: SourceSet by sourceSets.creating
+
+dependencies {
+    "loadtestImplementation"("com.fasterxml.jackson.module:jackson-module-kotlin")
+}
+
+tasks.register<JavaExec>("loadTest") {
+    group = "verification"
+    description = "loadtest 프로필 서버에 API 부하를 주고 엔드포인트별 지연/처리량을 build/results/loadtest 에 저장"
+    classpath = loadtest.runtimeClasspath
+    mainClass = "com.tododuk.loadtest.LoadTestRunnerKt"
+    args(providers.gradleProperty("loadTestArgs").orNull?.split(" ")?.filter { it.isNotBlank() } ?: emptyList<String>())
+    args("--outputDir=${layout.buildDirectory.dir("results/loadtest").get().asFile}")
+}
@@ -0,0 +1,52 @@
+package com.tododuk.benchmark
+
+import com.tododuk.global.security.CustomAuthenticationFilter
+import com.tododuk.standard.util.Ut
+import org.openjdk.jmh.annotations.*
+import java.util.concurrent.TimeUnit
+
+/**
+ * 요청마다 실행되는 인증 경로
+ * - jwtIssue / jwtVerify / jwtPayload : AuthTokenService 와 같은 클레임(id, email)으로 Ut.jwt 발급/검증/파싱
+ * - parseHeader / parseCookie         : CustomAuthenticationFilter 의 apiKey, accessToken 추출
+ * - permitAllPath                     : 인증 생략 경로 매칭 (필터에서 요청당 두 번 호출)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+open class AuthBenchmark {
+
+    private val secret = "benchmark-secret-key-benchmark-secret-key-0123456789"
+    private val claims = mutableMapOf<String?, Any?>("id" to 1L, "email" to "user@tododuk.com")
+    private val cookies = mapOf("apiKey" to "8c5e4a3f-1f0b-4c1e-9a57-6b1c2f0d7e21")
+
+    private lateinit var accessToken: String
+    private lateinit var authorization: String
+
+    @Setup
+    fun setUp() {
+        accessToken = Ut.jwt.toString(secret, 60 * 60 * 24, claims)
+        authorization = "Bearer ${cookies["apiKey"]} $accessToken"
+    }
+
+    @Benchmark
+    fun jwtIssue(): String = Ut.jwt.toString(secret, 60 * 60 * 24, claims)
+
+    @Benchmark
+    fun jwtVerify(): Boolean = Ut.jwt.isValid(secret, accessToken)
+
+    @Benchmark
+    fun jwtPayload(): Map<String?, Any?>? = Ut.jwt.payload(secret, accessToken)
+
+    @Benchmark
+    fun parseHeader(): Pair<String, String> =
+        CustomAuthenticationFilter.parseCredentials(authorization) { "" }
+
+    @Benchmark
+    fun parseCookie(): Pair<String, String> =
+        CustomAuthenticationFilter.parseCredentials("") { name -> cookies[name] ?: "" }
+
+    @Benchmark
+    fun permitAllPath(): Boolean =
+        CustomAuthenticationFilter.isPermitAllPath("/api/v1/teams/1/todos")
+}
@@ -0,0 +1,182 @@
+package com.tododuk.benchmark
+
+import com.tododuk.domain.reminder.scheduler.wheel.HierarchicalTimingWheel
+import org.openjdk.jmh.annotations.*
+import org.quartz.*
+import org.quartz.impl.StdSchedulerFactory
+import java.util.*
+import java.util.concurrent.*
+
+/**
+ * 리마인더 스케줄러 비교 (Quartz RAMJobStore vs 계층형 타이밍 휠)
+ * - scheduleMillion : 1시간 뒤에 울릴 리마인더 100만 건 등록 시간과 등록 후 잔류 힙(retainedMb)
+ * - fireJitter      : 0.5~1.5초 뒤에 울릴 리마인더 1만 건의 remindAt 대비 실행 지연(p50/p99/max, ms)
+ * 측정값은 AuxCounters 로 함께 출력된다.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = ["-Xmx4g"])
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+open class ReminderSchedulerBenchmark {
+
+    @Param("quartz", "timing-wheel")
+    @JvmField
+    var scheduler: String = ""
+
+    private lateinit var target: Target
+
+    @Setup(Level.Invocation)
+    fun setUp() {
+        target = if (scheduler == "quartz") QuartzTarget() else WheelTarget()
+    }
+
+    @TearDown(Level.Invocation)
+    fun tearDown() {
+        target.close()
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    open class MemoryCounters {
+        @JvmField
+        var retainedMb: Double = 0.0
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    open class JitterCounters {
+        @JvmField
+        var p50JitterMs: Double = 0.0
+
+        @JvmField
+        var p99JitterMs: Double = 0.0
+
+        @JvmField
+        var maxJitterMs: Double = 0.0
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    fun scheduleMillion(counters: MemoryCounters) {
+        val baseline = usedHeap()
+        val fireAt = System.currentTimeMillis() + 3_600_000
+        for (id in 1..1_000_000) {
+            target.schedule(id, fireAt + id % 60_000)
+        }
+        counters.retainedMb = (usedHeap() - baseline) / (1024.0 * 1024.0)
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    fun fireJitter(counters: JitterCounters) {
+        val count = 10_000
+        val latch = CountDownLatch(count)
+        val jitters = ConcurrentLinkedQueue<Long>()
+        target.onFire = { scheduledAt ->
+            jitters.add(System.currentTimeMillis() - scheduledAt)
+            latch.countDown()
+        }
+
+        val start = System.currentTimeMillis() + 500
+        for (id in 1..count) {
+            target.schedule(id, start + id % 1_000)
+        }
+        latch.await(30, TimeUnit.SECONDS)
+
+        val sorted = jitters.sorted()
+        counters.p50JitterMs = sorted[sorted.size / 2].toDouble()
+        counters.p99JitterMs = sorted[(sorted.size * 99) / 100].toDouble()
+        counters.maxJitterMs = sorted.last().toDouble()
+    }
+
+    private fun usedHeap(): Long {
+        repeat(3) { System.gc() }
+        val runtime = Runtime.getRuntime()
+        return runtime.totalMemory() - runtime.freeMemory()
+    }
+
+    private abstract class Target : AutoCloseable {
+        @Volatile
+        var onFire: (Long) -> Unit = {}
+
+        abstract fun schedule(id: Int, fireAtMs: Long)
+    }
+
+    /**
+     * QuartzConfig 와 같은 기본 설정(RAMJobStore, 스레드 10개)
+     */
+    private class QuartzTarget : Target() {
+        private val scheduler: Scheduler = StdSchedulerFactory(Properties().apply {
+            setProperty("org.quartz.scheduler.instanceName", "benchmark-${UUID.randomUUID()}")
+            setProperty("org.quartz.threadPool.threadCount", "10")
+            setProperty("org.quartz.jobStore.class", "org.quartz.simpl.RAMJobStore")
+        }).scheduler.also {
+            it.context[TARGET_KEY] = this
+            it.start()
+        }
+
+        override fun schedule(id: Int, fireAtMs: Long) {
+            val job = JobBuilder.newJob(FireJob::class.java)
+                .withIdentity("reminderJob-$id")
+                .usingJobData("scheduledAt", fireAtMs)
+                .build()
+            val trigger = TriggerBuilder.newTrigger()
+                .withIdentity("reminderTrigger-$id")
+                .startAt(Date(fireAtMs))
+                .build()
+            scheduler.scheduleJob(job, setOf(trigger), true)
+        }
+
+        override fun close() {
+            scheduler.shutdown(false)
+        }
+    }
+
+    class FireJob : Job {
+        override fun execute(context: JobExecutionContext) {
+            val target = context.scheduler.context[TARGET_KEY] as Target
+            target.onFire(context.mergedJobDataMap.getLong("scheduledAt"))
+        }
+    }
+
+    /**
+     * TimingWheelReminderScheduler 와 같은 구성 (드라이버 스레드 1개 + 가상 스레드 발송)
+     */
+    private class WheelTarget : Target() {
+        private val wheel = HierarchicalTimingWheel<Long>()
+        private val entries = ConcurrentHashMap<Int, HierarchicalTimingWheel.Entry<Long>>()
+        private val executor = Executors.newVirtualThreadPerTaskExecutor()
+
+        @Volatile
+        private var running = true
+        private val driver = Thread.ofPlatform().daemon(true).start {
+            while (running) {
+                try {
+                    wheel.poll(200).forEach { entry -> fire(entry.payload) }
+                } catch (e: InterruptedException) {
+                    break
+                }
+            }
+        }
+
+        override fun schedule(id: Int, fireAtMs: Long) {
+            entries.remove(id)?.cancel()
+            val entry = wheel.add(fireAtMs, fireAtMs)
+            if (entry == null) fire(fireAtMs) else entries[id] = entry
+        }
+
+        private fun fire(scheduledAt: Long) {
+            executor.execute { onFire(scheduledAt) }
+        }
+
+        override fun close() {
+            running = false
+            driver.interrupt()
+            executor.shutdownNow()
+        }
+    }
+
+    companion object {
+        private const val TARGET_KEY = "benchmarkTarget"
+    }
+}
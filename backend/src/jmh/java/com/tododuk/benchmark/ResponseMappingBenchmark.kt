@@ -0,0 +1,84 @@
+package com.tododuk.benchmark
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule
+import com.tododuk.domain.team.constant.TeamRoleType
+import com.tododuk.domain.team.dto.TeamResponseDto
+import com.tododuk.domain.team.entity.Team
+import com.tododuk.domain.team.entity.TeamMember
+import com.tododuk.domain.todo.dto.TodoResponseDto
+import com.tododuk.domain.todo.entity.Todo
+import com.tododuk.domain.user.entity.User
+import com.tododuk.global.rsData.RsData
+import org.openjdk.jmh.annotations.*
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder
+import java.time.LocalDateTime
+import java.util.concurrent.TimeUnit
+
+/**
+ * 엔티티 -> 응답 DTO 매핑과 RsData 직렬화
+ * - todoMapping / teamMapping : TodoResponseDto.from, TeamResponseDto.from (멤버 members 명 포함)
+ * - todoResponse / teamResponse : 매핑 + 앱과 같은 ObjectMapper 로 RsData 직렬화
+ * ObjectMapper 는 스프링 부트처럼 Jackson2ObjectMapperBuilder 로 만들고 JacksonConfig 의 Blackbird 모듈을 등록한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+open class ResponseMappingBenchmark {
+
+    @Param("100")
+    @JvmField
+    var todoCount: Int = 0
+
+    @Param("10")
+    @JvmField
+    var members: Int = 0
+
+    private lateinit var objectMapper: ObjectMapper
+    private lateinit var todos: List<Todo>
+    private lateinit var team: Team
+
+    @Setup
+    fun setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+            .modulesToInstall(BlackbirdModule())
+            .build()
+
+        val now = LocalDateTime.now()
+        todos = (1..todoCount).map { i ->
+            Todo("할일 $i", "할일 설명 $i", i % 3 == 0, i % 3 + 1, now, now.plusDays((i % 30).toLong()), null).apply {
+                id = i
+                createDate = now
+                modifyDate = now
+            }
+        }
+
+        team = Team("벤치마크 팀", "벤치마크 팀 설명").apply {
+            id = 1
+            createDate = now
+            modifyDate = now
+        }
+        (1..members).forEach { i ->
+            val user = User("user$i@tododuk.com", "", "user$i").apply { id = i }
+            team.addMember(TeamMember(user, team, if (i == 1) TeamRoleType.LEADER else TeamRoleType.MEMBER, now).apply {
+                id = i
+                createDate = now
+                modifyDate = now
+            })
+        }
+    }
+
+    @Benchmark
+    fun todoMapping(): List<TodoResponseDto> = todos.map { TodoResponseDto.from(it) }
+
+    @Benchmark
+    fun teamMapping(): TeamResponseDto = TeamResponseDto.from(team)
+
+    @Benchmark
+    fun todoResponse(): ByteArray =
+        objectMapper.writeValueAsBytes(RsData.success("할일 목록 조회 성공", todos.map { TodoResponseDto.from(it) }))
+
+    @Benchmark
+    fun teamResponse(): ByteArray =
+        objectMapper.writeValueAsBytes(RsData.success("팀 상세 조회 성공", TeamResponseDto.from(team)))
+}
@@ -0,0 +1,80 @@
+package com.tododuk.benchmark
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.fasterxml.jackson.databind.SerializationFeature
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule
+import com.fasterxml.jackson.module.kotlin.jacksonObjectMapper
+import com.tododuk.domain.team.dto.TeamTodoResponseDto
+import com.tododuk.domain.todo.entity.Todo
+import com.tododuk.global.rsData.RsData
+import org.openjdk.jmh.annotations.*
+import java.time.LocalDateTime
+import java.util.concurrent.TimeUnit
+
+/**
+ * 팀 할일 목록(GET /api/v1/teams/{teamId}/todos) 응답 직렬화 비용 비교
+ * - mapResponse : 기존 Map<String, Any?> 기반 응답
+ * - dtoResponse : TeamTodoResponseDto 기반 응답
+ * blackbird=true 는 JacksonConfig 와 같이 Blackbird 모듈을 등록한 ObjectMapper 로 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+open class TeamTodoSerializationBenchmark {
+
+    @Param("1000")
+    @JvmField
+    var todoCount: Int = 0
+
+    @Param("false", "true")
+    @JvmField
+    var blackbird: Boolean = false
+
+    private lateinit var objectMapper: ObjectMapper
+    private lateinit var todos: List<Todo>
+
+    @Setup
+    fun setUp() {
+        // 스프링 기본 설정과 동일하게 날짜를 ISO 문자열로 직렬화
+        objectMapper = jacksonObjectMapper()
+            .registerModule(JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        if (blackbird) {
+            objectMapper.registerModule(BlackbirdModule())
+        }
+
+        val now = LocalDateTime.now()
+        todos = (1..todoCount).map { i ->
+            Todo("할일 $i", "팀 할일 설명 $i", i % 3 == 0, i % 3 + 1, now, now.plusDays((i % 30).toLong()), null).apply {
+                id = i
+                createDate = now
+                modifyDate = now
+            }
+        }
+    }
+
+    @Benchmark
+    fun mapResponse(): ByteArray {
+        val data = todos.map { todo ->
+            mapOf<String, Any?>(
+                "id" to todo.id,
+                "title" to todo.title,
+                "description" to todo.description,
+                "isCompleted" to todo.isCompleted,
+                "priority" to todo.priority,
+                "dueDate" to todo.dueDate,
+                "assignedMemberId" to null,
+                "type" to "team",
+                "createdAt" to todo.createDate
+            )
+        }
+        return objectMapper.writeValueAsBytes(RsData.success("할일 목록 조회 성공", data))
+    }
+
+    @Benchmark
+    fun dtoResponse(): ByteArray {
+        val data = todos.map { TeamTodoResponseDto.from(it, 1) }
+        return objectMapper.writeValueAsBytes(RsData.success("할일 목록 조회 성공", data))
+    }
+}
@@ -0,0 +1,82 @@
+package com.tododuk.benchmark
+
+import com.tododuk.domain.notification.dto.NotificationPayLoadDto
+import com.tododuk.domain.notification.entity.WebPushNotification
+import com.tododuk.domain.notification.service.WebPushNotificationService
+import nl.martijndwars.webpush.Encoding
+import nl.martijndwars.webpush.Notification
+import nl.martijndwars.webpush.PushService
+import org.apache.http.client.methods.HttpPost
+import org.bouncycastle.jce.ECNamedCurveTable
+import org.bouncycastle.jce.interfaces.ECPrivateKey
+import org.bouncycastle.jce.interfaces.ECPublicKey
+import org.bouncycastle.jce.provider.BouncyCastleProvider
+import org.openjdk.jmh.annotations.*
+import java.security.KeyPairGenerator
+import java.security.SecureRandom
+import java.security.Security
+import java.util.*
+import java.util.concurrent.TimeUnit
+
+/**
+ * 웹 푸시 전송 전 준비 비용 (네트워크 전송 제외)
+ * - buildNotification : 구독자 공개키 파싱 + 페이로드 직렬화 (WebPushNotificationService.buildNotification)
+ * - preparePost       : 페이로드 암호화(aes128gcm) + VAPID 서명까지 마친 HTTP 요청 생성
+ * - newPushService    : VAPID 키 파싱 (서비스가 PushService 를 재사용하기 전의 전송당 비용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+open class WebPushPayloadBenchmark {
+
+    private val payload = NotificationPayLoadDto("리마인더", "오늘 마감인 할일이 3개 있습니다.")
+
+    private lateinit var subscription: WebPushNotification
+    private lateinit var notification: Notification
+    private lateinit var pushService: PushService
+    private lateinit var vapidPublicKey: String
+    private lateinit var vapidPrivateKey: String
+
+    @Setup
+    fun setUp() {
+        // TododukApplication 과 같이 BouncyCastle 등록
+        Security.addProvider(BouncyCastleProvider())
+
+        val urlEncoder = Base64.getUrlEncoder().withoutPadding()
+
+        // 브라우저 구독 키 (P-256 공개키 + 16바이트 auth)
+        val userKeyPair = generateKeyPair()
+        val auth = ByteArray(16).also { SecureRandom().nextBytes(it) }
+        subscription = WebPushNotification(
+            1,
+            "https://fcm.googleapis.com/fcm/send/benchmark",
+            urlEncoder.encodeToString((userKeyPair.public as ECPublicKey).q.getEncoded(false)),
+            urlEncoder.encodeToString(auth)
+        )
+        notification = WebPushNotificationService.buildNotification(subscription, payload)
+
+        // 서버 VAPID 키
+        val vapidKeyPair = generateKeyPair()
+        vapidPublicKey = urlEncoder.encodeToString((vapidKeyPair.public as ECPublicKey).q.getEncoded(false))
+        vapidPrivateKey = urlEncoder.encodeToString((vapidKeyPair.private as ECPrivateKey).d.toByteArray())
+        pushService = newPushService()
+    }
+
+    @Benchmark
+    fun buildNotification(): Notification = WebPushNotificationService.buildNotification(subscription, payload)
+
+    @Benchmark
+    fun preparePost(): HttpPost = pushService.preparePost(notification, Encoding.AES128GCM)
+
+    @Benchmark
+    fun newPushService(): PushService =
+        PushService()
+            .setSubject(WebPushNotificationService.VAPID_SUBJECT)
+            .setPublicKey(vapidPublicKey)
+            .setPrivateKey(vapidPrivateKey)
+
+    private fun generateKeyPair() =
+        KeyPairGenerator.getInstance("ECDH", BouncyCastleProvider.PROVIDER_NAME).apply {
+            initialize(ECNamedCurveTable.getParameterSpec("prime256v1"), SecureRandom())
+        }.generateKeyPair()
+}
@@ -0,0 +1,66 @@
+package com.tododuk.loadtest
+
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * 엔드포인트(메서드 + 경로 패턴)별 응답 시간 기록
+ * 측정값을 모두 보관했다가 끝날 때 정렬해 백분위를 계산한다. (수십만 건 수준이라 메모리 부담이 작다)
+ */
+class EndpointStats {
+
+    class Recorder {
+        private var latenciesNanos = LongArray(1024)
+        private var size = 0
+        private var errors = 0
+
+        @Synchronized
+        fun record(latencyNanos: Long, success: Boolean) {
+            if (size == latenciesNanos.size) {
+                latenciesNanos = latenciesNanos.copyOf(size * 2)
+            }
+            latenciesNanos[size++] = latencyNanos
+            if (!success) errors++
+        }
+
+        @Synchronized
+        fun summarize(endpoint: String, elapsedSeconds: Double): Summary {
+            val sorted = latenciesNanos.copyOf(size).also { it.sort() }
+            return Summary(
+                endpoint = endpoint,
+                count = size,
+                errors = errors,
+                throughput = size / elapsedSeconds,
+                p50Ms = percentileMs(sorted, 0.50),
+                p99Ms = percentileMs(sorted, 0.99),
+                maxMs = if (sorted.isEmpty()) 0.0 else sorted.last() / 1_000_000.0
+            )
+        }
+
+        private fun percentileMs(sorted: LongArray, percentile: Double): Double {
+            if (sorted.isEmpty()) return 0.0
+            val index = (Math.ceil(percentile * sorted.size).toInt() - 1).coerceIn(0, sorted.size - 1)
+            return sorted[index] / 1_000_000.0
+        }
+    }
+
+    data class Summary(
+        val endpoint: String,
+        val count: Int,
+        val errors: Int,
+        val throughput: Double,
+        val p50Ms: Double,
+        val p99Ms: Double,
+        val maxMs: Double
+    )
+
+    private val recorders = ConcurrentHashMap<String, Recorder>()
+
+    fun record(endpoint: String, latencyNanos: Long, success: Boolean) {
+        recorders.computeIfAbsent(endpoint) { Recorder() }.record(latencyNanos, success)
+    }
+
+    fun summarize(elapsedSeconds: Double): List<Summary> =
+        recorders.entries
+            .map { (endpoint, recorder) -> recorder.summarize(endpoint, elapsedSeconds) }
+            .sortedByDescending { it.count }
+}
@@ -0,0 +1,254 @@
+package com.tododuk.loadtest
+
+import com.fasterxml.jackson.databind.JsonNode
+import com.fasterxml.jackson.databind.SerializationFeature
+import com.fasterxml.jackson.module.kotlin.jacksonObjectMapper
+import java.io.File
+import java.net.URI
+import java.net.http.HttpClient
+import java.net.http.HttpRequest
+import java.net.http.HttpResponse
+import java.time.Duration
+import java.time.LocalDateTime
+import java.time.format.DateTimeFormatter
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+import kotlin.random.Random
+
+/**
+ * 부하 테스트 클라이언트 (./gradlew loadTest -PloadTestArgs="--users=200 --durationSec=120")
+ * - loadtest 프로필로 띄운 서버(LoadTestInitData 가 만든 사용자)를 대상으로 한다.
+ * - 가상 사용자 하나가 가상 스레드 하나이며, 자기 API 키로 인증해 실제 화면과 비슷한 비율로 API 를 호출한다.
+ * - 끝나면 엔드포인트별 요청 수/오류 수/처리량/p50/p99 를 출력하고 outputDir 에 JSON 으로 저장한다.
+ *
+ * 옵션 (--이름=값)
+ * - baseUrl     : 대상 서버 (기본 http://localhost:8080)
+ * - users       : 가상 사용자 수 (기본 100, 생성된 사용자 수 이하)
+ * - userOffset  : 첫 가상 사용자 번호 (기본 1)
+ * - durationSec : 측정 시간 (기본 60)
+ * - rampUpSec   : 가상 사용자를 모두 띄우는 데 걸리는 시간 (기본 10, 측정 시간에 포함)
+ * - thinkTimeMs : 요청 사이 대기 시간 (기본 200)
+ * - outputDir   : 결과 JSON 저장 위치 (기본 build/results/loadtest)
+ * - scenario    : mixed(기본, 실제 화면 비율) | team-todos(팀 할일 조회만)
+ *
+ * 가상 스레드 모드 비교: 같은 힙(-Xmx512m)으로 서버를 spring.threads.virtual.enabled=false / true 로 각각 띄우고
+ * --scenario=team-todos --thinkTimeMs=0 으로 users 를 늘려 가며 오류 없이 버틴 최대 동시 요청 수(peakInFlight)와 p99 를 비교한다.
+ */
+fun main(args: Array<String>) {
+    val options = args.filter { it.startsWith("--") && it.contains('=') }
+        .associate { it.removePrefix("--").substringBefore('=') to it.substringAfter('=') }
+
+    val config = LoadTestConfig(
+        baseUrl = options["baseUrl"] ?: "http://localhost:8080",
+        users = options["users"]?.toInt() ?: 100,
+        userOffset = options["userOffset"]?.toInt() ?: 1,
+        durationSec = options["durationSec"]?.toLong() ?: 60,
+        rampUpSec = options["rampUpSec"]?.toLong() ?: 10,
+        thinkTimeMs = options["thinkTimeMs"]?.toLong() ?: 200,
+        outputDir = File(options["outputDir"] ?: "build/results/loadtest"),
+        scenario = options["scenario"] ?: SCENARIO_MIXED
+    )
+    LoadTestRunner(config).run()
+}
+
+data class LoadTestConfig(
+    val baseUrl: String,
+    val users: Int,
+    val userOffset: Int,
+    val durationSec: Long,
+    val rampUpSec: Long,
+    val thinkTimeMs: Long,
+    val outputDir: File,
+    val scenario: String
+)
+
+const val SCENARIO_MIXED = "mixed"
+const val SCENARIO_TEAM_TODOS = "team-todos"
+
+class LoadTestRunner(private val config: LoadTestConfig) {
+
+    private val objectMapper = jacksonObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+    private val stats = EndpointStats()
+    private val inFlight = AtomicInteger()
+    private val peakInFlight = AtomicInteger()
+    private val client: HttpClient = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(5))
+        .executor(Executors.newVirtualThreadPerTaskExecutor())
+        .build()
+
+    fun run() {
+        println("부하 테스트 시작: ${config.users}명, ${config.durationSec}초, ${config.scenario} -> ${config.baseUrl}")
+
+        val startedAt = System.nanoTime()
+        val deadline = startedAt + TimeUnit.SECONDS.toNanos(config.durationSec)
+        val rampUpStepNanos = if (config.users > 1) TimeUnit.SECONDS.toNanos(config.rampUpSec) / (config.users - 1) else 0L
+
+        Executors.newVirtualThreadPerTaskExecutor().use { executor ->
+            repeat(config.users) { i ->
+                val userNo = config.userOffset + i
+                executor.submit {
+                    sleepNanos(startedAt + rampUpStepNanos * i - System.nanoTime())
+                    try {
+                        VirtualUser(userNo).run(deadline)
+                    } catch (e: Exception) {
+                        System.err.println("가상 사용자 $userNo 중단: $e")
+                    }
+                }
+            }
+        }
+
+        val elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0
+        report(stats.summarize(elapsedSeconds), elapsedSeconds)
+    }
+
+    private fun report(summaries: List<EndpointStats.Summary>, elapsedSeconds: Double) {
+        println()
+        println("%-58s %8s %7s %9s %9s %9s %9s".format("endpoint", "count", "errors", "req/s", "p50(ms)", "p99(ms)", "max(ms)"))
+        summaries.forEach {
+            println(
+                "%-58s %8d %7d %9.1f %9.1f %9.1f %9.1f".format(
+                    it.endpoint, it.count, it.errors, it.throughput, it.p50Ms, it.p99Ms, it.maxMs
+                )
+            )
+        }
+        val total = summaries.sumOf { it.count }
+        println(
+            "전체 ${total}건, %.1f req/s (%.0f초), 최대 동시 요청 ${peakInFlight.get()}"
+                .format(total / elapsedSeconds, elapsedSeconds)
+        )
+
+        config.outputDir.mkdirs()
+        val file = File(config.outputDir, "results-${LocalDateTime.now().format(FILE_TIMESTAMP)}.json")
+        objectMapper.writeValue(
+            file,
+            mapOf(
+                "config" to config.copy(outputDir = config.outputDir.absoluteFile).toString(),
+                "elapsedSeconds" to elapsedSeconds,
+                "peakInFlight" to peakInFlight.get(),
+                "endpoints" to summaries
+            )
+        )
+        println("결과 저장: ${file.absolutePath}")
+    }
+
+    /**
+     * @param endpoint 집계용 이름 (경로 변수는 {이름} 으로 둔다)
+     */
+    private class ApiRequest(val method: String, val path: String, val endpoint: String)
+
+    /**
+     * 가상 사용자: 처음에 자기 팀/목록/할일/알림 ID 를 조회해 두고, 이후 가중치에 따라 API 를 호출한다.
+     */
+    private inner class VirtualUser(userNo: Int) {
+        private val authorization = "Bearer $API_KEY_PREFIX$userNo"
+        private val random = Random(userNo)
+
+        private var teamIds = emptyList<Int>()
+        private val todoListIdsByTeam = HashMap<Int, List<Int>>()
+        private val todoIdsByTeam = HashMap<Int, List<Int>>()
+        private var notificationIds = emptyList<Int>()
+
+        fun run(deadline: Long) {
+            discover()
+            while (System.nanoTime() < deadline) {
+                nextAction()
+                sleepNanos(TimeUnit.MILLISECONDS.toNanos(config.thinkTimeMs))
+            }
+        }
+
+        private fun discover() {
+            teamIds = ids(call("GET", "/api/v1/teams/my", "/api/v1/teams/my"))
+            teamIds.forEach { teamId ->
+                todoListIdsByTeam[teamId] =
+                    ids(call("GET", "/api/v1/teams/$teamId/todo-lists", "/api/v1/teams/{teamId}/todo-lists"))
+                todoIdsByTeam[teamId] = ids(call("GET", "/api/v1/teams/$teamId/todos", "/api/v1/teams/{teamId}/todos"))
+            }
+            notificationIds = ids(call("GET", "/api/notifications/notime", "/api/notifications/notime"))
+        }
+
+        private fun nextAction() {
+            val teamId = teamIds.randomOrNull(random)
+            val request = when (config.scenario) {
+                // 팀이 없는 사용자는 요청하지 않는다
+                SCENARIO_TEAM_TODOS -> teamId?.let { teamRequest(it, 20 + random.nextInt(30)) ?: teamRequest(it, 20) }
+                    ?: return sleepNanos(TimeUnit.SECONDS.toNanos(1))
+                else -> teamId?.let { teamRequest(it, random.nextInt(100)) } ?: personalRequest(random.nextInt(100))
+            }
+            call(request.method, request.path, request.endpoint)
+        }
+
+        // 팀 화면 60%, 나머지는 개인 화면 (팀이 없는 사용자는 개인 화면만)
+        private fun teamRequest(teamId: Int, roll: Int): ApiRequest? = when {
+            roll < 10 -> ApiRequest("GET", "/api/v1/teams/my", "/api/v1/teams/my")
+            roll < 20 -> ApiRequest("GET", "/api/v1/teams/$teamId", "/api/v1/teams/{teamId}")
+            roll < 40 -> ApiRequest("GET", "/api/v1/teams/$teamId/todos", "/api/v1/teams/{teamId}/todos")
+            roll < 50 -> todoListIdsByTeam[teamId]?.randomOrNull(random)?.let { listId ->
+                ApiRequest(
+                    "GET", "/api/v1/teams/$teamId/todo-lists/$listId/todos",
+                    "/api/v1/teams/{teamId}/todo-lists/{todoListId}/todos"
+                )
+            }
+            roll < 55 -> ApiRequest("GET", "/api/v1/teams/$teamId/stats", "/api/v1/teams/{teamId}/stats")
+            roll < 60 -> todoIdsByTeam[teamId]?.randomOrNull(random)?.let { todoId ->
+                ApiRequest(
+                    "PATCH", "/api/v1/teams/$teamId/todos/$todoId/toggle",
+                    "/api/v1/teams/{teamId}/todos/{todoId}/toggle"
+                )
+            }
+            else -> null
+        }
+
+        private fun personalRequest(roll: Int): ApiRequest = when {
+            roll < 25 -> ApiRequest("GET", "/api/v1/teams/assignments/me", "/api/v1/teams/assignments/me")
+            roll < 50 -> ApiRequest("GET", "/api/todo/me", "/api/todo/me")
+            roll < 85 || notificationIds.isEmpty() -> ApiRequest("GET", "/api/notifications/notime", "/api/notifications/notime")
+            else -> ApiRequest(
+                "PUT", "/api/notifications/setStatus/${notificationIds.random(random)}",
+                "/api/notifications/setStatus/{id}"
+            )
+        }
+
+        /**
+         * @return 성공한 요청의 응답 본문 (실패면 null)
+         */
+        private fun call(method: String, path: String, endpoint: String): JsonNode? {
+            val request = HttpRequest.newBuilder(URI.create(config.baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", authorization)
+                .header("Accept", "application/json")
+                .method(method, HttpRequest.BodyPublishers.noBody())
+                .build()
+
+            peakInFlight.accumulateAndGet(inFlight.incrementAndGet()) { a, b -> maxOf(a, b) }
+            val start = System.nanoTime()
+            return try {
+                val response = client.send(request, HttpResponse.BodyHandlers.ofByteArray())
+                val success = response.statusCode() in 200..399
+                stats.record("$method $endpoint", System.nanoTime() - start, success)
+                if (success && response.body().isNotEmpty()) objectMapper.readTree(response.body()) else null
+            } catch (e: Exception) {
+                stats.record("$method $endpoint", System.nanoTime() - start, false)
+                null
+            } finally {
+                inFlight.decrementAndGet()
+            }
+        }
+
+        // RsData 의 data 가 배열이면 각 원소의 id
+        private fun ids(body: JsonNode?): List<Int> =
+            body?.path("data")?.takeIf { it.isArray }?.mapNotNull { it.path("id").takeIf(JsonNode::isInt)?.asInt() }
+                ?: emptyList()
+    }
+
+    private fun sleepNanos(nanos: Long) {
+        if (nanos > 0) TimeUnit.NANOSECONDS.sleep(nanos)
+    }
+
+    companion object {
+        // LoadTestInitData 가 만드는 사용자 API 키 (loadtest-apikey-{번호})
+        private const val API_KEY_PREFIX = "loadtest-apikey-"
+
+        private val FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")
+    }
+}
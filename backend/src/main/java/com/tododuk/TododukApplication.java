@@ -4,11 +4,13 @@ import org.bouncycastle.jce.provider.BouncyCastleProvider;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import java.security.Security;
 
 @SpringBootApplication
 @EnableJpaAuditing
+@EnableScheduling
 public class TododukApplication {
 
     public static void main(String[] args) {
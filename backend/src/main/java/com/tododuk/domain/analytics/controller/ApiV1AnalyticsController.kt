@@ -0,0 +1,51 @@
+package com.tododuk.domain.analytics.controller
+
+import com.tododuk.domain.analytics.dto.ProductivitySeriesDto
+import com.tododuk.domain.analytics.service.ProductivityService
+import com.tododuk.global.exception.ServiceException
+import com.tododuk.global.rq.Rq
+import com.tododuk.global.rsData.RsData
+import io.swagger.v3.oas.annotations.Operation
+import io.swagger.v3.oas.annotations.tags.Tag
+import org.springframework.format.annotation.DateTimeFormat
+import org.springframework.web.bind.annotation.*
+import java.time.LocalDate
+
+@RestController
+@RequestMapping("/api/v1/analytics")
+@Tag(name = "ApiV1AnalyticsController", description = "생산성 통계 API (일별 집계 기반)")
+class ApiV1AnalyticsController(
+    private val productivityService: ProductivityService,
+    private val rq: Rq
+) {
+
+    @GetMapping("/me/productivity")
+    @Operation(
+        summary = "내 생산성 추이",
+        description = "from ~ to (yyyy-MM-dd, 포함) 기간의 일별 생성/완료/남은 할일/마감 경과 수와 완료 속도를 조회합니다. 오늘 데이터는 다음 날 집계됩니다."
+    )
+    fun getMyProductivity(
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) from: LocalDate,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) to: LocalDate
+    ): RsData<ProductivitySeriesDto> {
+        val series = productivityService.getUserSeries(actorId(), from, to)
+        return RsData.success("생산성 추이 조회 성공", series)
+    }
+
+    @GetMapping("/teams/{teamId}/productivity")
+    @Operation(
+        summary = "팀 생산성 추이",
+        description = "팀의 일별 번다운(남은 할일)과 완료 속도를 조회합니다. (팀 멤버만 가능)"
+    )
+    fun getTeamProductivity(
+        @PathVariable teamId: Int,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) from: LocalDate,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) to: LocalDate
+    ): RsData<ProductivitySeriesDto> {
+        val series = productivityService.getTeamSeries(teamId, actorId(), from, to)
+        return RsData.success("팀 생산성 추이 조회 성공", series)
+    }
+
+    private fun actorId(): Int =
+        rq.getActorId() ?: throw ServiceException("401-1", "로그인이 필요합니다.")
+}
@@ -0,0 +1,10 @@
+package com.tododuk.domain.analytics.dto
+
+/**
+ * 하루 동안 생성/완료된 할일 수 (집계 대상별)
+ */
+interface DailyActivityView {
+    val scopeId: Int
+    val created: Long
+    val completed: Long
+}
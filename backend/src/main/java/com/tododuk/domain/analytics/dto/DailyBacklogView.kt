@@ -0,0 +1,10 @@
+package com.tododuk.domain.analytics.dto
+
+/**
+ * 하루가 끝날 때 남아 있던 미완료/마감 경과 할일 수 (집계 대상별)
+ */
+interface DailyBacklogView {
+    val scopeId: Int
+    val remaining: Long
+    val overdue: Long
+}
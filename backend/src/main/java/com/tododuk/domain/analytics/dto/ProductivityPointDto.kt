@@ -0,0 +1,13 @@
+package com.tododuk.domain.analytics.dto
+
+import java.time.LocalDate
+
+data class ProductivityPointDto(
+    val day: LocalDate,
+    val created: Int,
+    val completed: Int,
+    val remaining: Int,
+    val overdue: Int,
+    // 최근 velocityWindowDays 일(당일 포함) 완료 수 평균
+    val velocity: Double
+)
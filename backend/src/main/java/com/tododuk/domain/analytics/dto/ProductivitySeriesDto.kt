@@ -0,0 +1,16 @@
+package com.tododuk.domain.analytics.dto
+
+import com.tododuk.domain.analytics.entity.ProductivityDaily
+import java.time.LocalDate
+
+/**
+ * 기간별 번다운/속도 차트 데이터 (집계가 없는 날은 0)
+ */
+data class ProductivitySeriesDto(
+    val scopeType: ProductivityDaily.ScopeType,
+    val scopeId: Int,
+    val from: LocalDate,
+    val to: LocalDate,
+    val velocityWindowDays: Int,
+    val points: List<ProductivityPointDto>
+)
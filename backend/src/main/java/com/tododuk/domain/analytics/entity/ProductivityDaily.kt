@@ -0,0 +1,47 @@
+package com.tododuk.domain.analytics.entity
+
+import com.tododuk.global.entity.BaseEntity
+import jakarta.persistence.*
+import java.time.LocalDate
+
+/**
+ * 일별 생산성 집계 (사용자/팀별 하루 한 행)
+ * ProductivityRollupJob 이 하루가 끝난 뒤 채우고, 차트 API 는 할일 대신 이 테이블만 읽는다.
+ * - created   : 그날 생성된 할일
+ * - completed : 그날 완료된 할일
+ * - remaining : 그날이 끝날 때 남아 있던 미완료 할일 (번다운)
+ * - overdue   : remaining 중 마감이 지난 할일
+ */
+@Entity
+@Table(
+    name = "productivity_daily",
+    uniqueConstraints = [UniqueConstraint(
+        name = "uk_productivity_daily_scope_day",
+        columnNames = ["scope_type", "scope_id", "day"]
+    )]
+)
+class ProductivityDaily(
+    @Enumerated(EnumType.STRING)
+    @Column(name = "scope_type", nullable = false, length = 10)
+    var scopeType: ScopeType = ScopeType.USER,
+
+    @Column(name = "scope_id", nullable = false)
+    var scopeId: Int = 0,
+
+    @Column(nullable = false)
+    var day: LocalDate = LocalDate.now(),
+
+    var created: Int = 0,
+
+    var completed: Int = 0,
+
+    var remaining: Int = 0,
+
+    var overdue: Int = 0
+) : BaseEntity() {
+
+    enum class ScopeType {
+        USER,  // 할일 목록 소유자 기준
+        TEAM   // 할일 목록이 속한 팀 기준
+    }
+}
@@ -0,0 +1,55 @@
+package com.tododuk.domain.analytics.job
+
+import com.tododuk.domain.analytics.repository.ProductivityDailyRepository
+import com.tododuk.domain.analytics.service.ProductivityService
+import com.tododuk.global.datasource.DataSourcePool
+import com.tododuk.global.datasource.UseDataSourcePool
+import io.micrometer.core.instrument.MeterRegistry
+import org.slf4j.LoggerFactory
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.scheduling.annotation.Scheduled
+import org.springframework.stereotype.Component
+import java.time.LocalDate
+
+/**
+ * 일별 생산성 집계
+ * 매일 자정 직후 전날을 집계한다. 서버가 내려가 있어 빠진 날이 있으면 catchUpDays 범위 안에서 함께 채운다.
+ * (remaining/overdue 는 실행 시점의 할일로 계산하므로 늦게 채운 날은 그 사이 삭제된 할일만큼 덜 잡힐 수 있다)
+ */
+@Component
+@UseDataSourcePool(DataSourcePool.BATCH)
+class ProductivityRollupJob(
+    private val productivityService: ProductivityService,
+    private val productivityDailyRepository: ProductivityDailyRepository,
+    private val meterRegistry: MeterRegistry,
+    @Value("\${custom.analytics.rollup.catchUpDays:7}")
+    private val catchUpDays: Long
+) {
+
+    @Scheduled(cron = "\${custom.analytics.rollup.cron:0 10 0 * * *}")
+    fun rollupYesterday() {
+        val yesterday = LocalDate.now().minusDays(1)
+        val earliest = yesterday.minusDays(catchUpDays - 1)
+        val start = productivityDailyRepository.findLastRolledUpDay()
+            ?.plusDays(1)
+            ?.coerceIn(earliest, yesterday)
+            ?: yesterday
+
+        generateSequence(start) { it.plusDays(1) }
+            .takeWhile { !it.isAfter(yesterday) }
+            .forEach { day ->
+                try {
+                    val rows = meterRegistry.timer("analytics.productivity.rollup").recordCallable {
+                        productivityService.rollup(day)
+                    }
+                    log.info("{} 생산성 집계 완료 ({}행)", day, rows)
+                } catch (e: Exception) {
+                    log.error("{} 생산성 집계 실패", day, e)
+                }
+            }
+    }
+
+    companion object {
+        private val log = LoggerFactory.getLogger(ProductivityRollupJob::class.java)
+    }
+}
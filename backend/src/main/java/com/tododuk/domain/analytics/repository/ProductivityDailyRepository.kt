@@ -0,0 +1,84 @@
+package com.tododuk.domain.analytics.repository
+
+import com.tododuk.domain.analytics.dto.DailyActivityView
+import com.tododuk.domain.analytics.dto.DailyBacklogView
+import com.tododuk.domain.analytics.entity.ProductivityDaily
+import org.springframework.data.jpa.repository.JpaRepository
+import org.springframework.data.jpa.repository.Modifying
+import org.springframework.data.jpa.repository.Query
+import org.springframework.data.repository.query.Param
+import org.springframework.stereotype.Repository
+import java.time.LocalDate
+import java.time.LocalDateTime
+
+@Repository
+interface ProductivityDailyRepository : JpaRepository<ProductivityDaily, Int> {
+
+    fun findByScopeTypeAndScopeIdAndDayBetweenOrderByDay(
+        scopeType: ProductivityDaily.ScopeType,
+        scopeId: Int,
+        from: LocalDate,
+        to: LocalDate
+    ): List<ProductivityDaily>
+
+    @Query("select max(p.day) from ProductivityDaily p")
+    fun findLastRolledUpDay(): LocalDate?
+
+    // 같은 날을 다시 집계할 때 기존 행을 지운다
+    @Modifying
+    @Query("delete from ProductivityDaily p where p.day = :day")
+    fun deleteByDay(@Param("day") day: LocalDate): Int
+
+    // ===== 집계 (idx_todo_create_date, idx_todo_completed_at) =====
+
+    @Query(
+        """
+        select l.user.id as scopeId,
+               sum(case when t.createDate >= :from and t.createDate < :to then 1 else 0 end) as created,
+               sum(case when t.completedAt >= :from and t.completedAt < :to then 1 else 0 end) as completed
+        from Todo t join t.todoList l
+        where (t.createDate >= :from and t.createDate < :to)
+           or (t.completedAt >= :from and t.completedAt < :to)
+        group by l.user.id
+        """
+    )
+    fun aggregateUserActivity(@Param("from") from: LocalDateTime, @Param("to") to: LocalDateTime): List<DailyActivityView>
+
+    @Query(
+        """
+        select l.team.id as scopeId,
+               sum(case when t.createDate >= :from and t.createDate < :to then 1 else 0 end) as created,
+               sum(case when t.completedAt >= :from and t.completedAt < :to then 1 else 0 end) as completed
+        from Todo t join t.todoList l
+        where (t.createDate >= :from and t.createDate < :to)
+           or (t.completedAt >= :from and t.completedAt < :to)
+        group by l.team.id
+        """
+    )
+    fun aggregateTeamActivity(@Param("from") from: LocalDateTime, @Param("to") to: LocalDateTime): List<DailyActivityView>
+
+    // to 시점에 미완료였던 할일 (이후에 완료된 할일 포함)
+    @Query(
+        """
+        select l.user.id as scopeId,
+               count(t) as remaining,
+               sum(case when t.dueDate < :to then 1 else 0 end) as overdue
+        from Todo t join t.todoList l
+        where t.createDate < :to and (t.isCompleted = false or t.completedAt >= :to)
+        group by l.user.id
+        """
+    )
+    fun aggregateUserBacklog(@Param("to") to: LocalDateTime): List<DailyBacklogView>
+
+    @Query(
+        """
+        select l.team.id as scopeId,
+               count(t) as remaining,
+               sum(case when t.dueDate < :to then 1 else 0 end) as overdue
+        from Todo t join t.todoList l
+        where t.createDate < :to and (t.isCompleted = false or t.completedAt >= :to)
+        group by l.team.id
+        """
+    )
+    fun aggregateTeamBacklog(@Param("to") to: LocalDateTime): List<DailyBacklogView>
+}
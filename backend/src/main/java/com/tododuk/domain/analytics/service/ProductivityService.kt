@@ -0,0 +1,126 @@
+package com.tododuk.domain.analytics.service
+
+import com.tododuk.domain.analytics.dto.DailyActivityView
+import com.tododuk.domain.analytics.dto.DailyBacklogView
+import com.tododuk.domain.analytics.dto.ProductivityPointDto
+import com.tododuk.domain.analytics.dto.ProductivitySeriesDto
+import com.tododuk.domain.analytics.entity.ProductivityDaily
+import com.tododuk.domain.analytics.entity.ProductivityDaily.ScopeType
+import com.tododuk.domain.analytics.repository.ProductivityDailyRepository
+import com.tododuk.domain.team.validator.TeamPermissionValidator
+import com.tododuk.global.exception.ServiceException
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.stereotype.Service
+import org.springframework.transaction.annotation.Transactional
+import java.time.LocalDate
+import java.time.temporal.ChronoUnit
+
+@Service
+@Transactional(readOnly = true)
+class ProductivityService(
+    private val productivityDailyRepository: ProductivityDailyRepository,
+    private val teamPermissionValidator: TeamPermissionValidator,
+    @Value("\${custom.analytics.maxRangeDays:366}")
+    private val maxRangeDays: Long,
+    @Value("\${custom.analytics.velocityWindowDays:7}")
+    private val velocityWindowDays: Int
+) {
+
+    /**
+     * day 하루를 사용자/팀별로 집계해 저장 (다시 실행하면 그날 행을 지우고 새로 만든다)
+     * @return 저장한 행 수
+     */
+    @Transactional
+    fun rollup(day: LocalDate): Int {
+        val from = day.atStartOfDay()
+        val to = day.plusDays(1).atStartOfDay()
+
+        val rows = buildRows(
+            ScopeType.USER, day,
+            productivityDailyRepository.aggregateUserActivity(from, to),
+            productivityDailyRepository.aggregateUserBacklog(to)
+        ) + buildRows(
+            ScopeType.TEAM, day,
+            productivityDailyRepository.aggregateTeamActivity(from, to),
+            productivityDailyRepository.aggregateTeamBacklog(to)
+        )
+
+        productivityDailyRepository.deleteByDay(day)
+        productivityDailyRepository.saveAll(rows)
+        return rows.size
+    }
+
+    fun getUserSeries(userId: Int, from: LocalDate, to: LocalDate): ProductivitySeriesDto =
+        getSeries(ScopeType.USER, userId, from, to)
+
+    fun getTeamSeries(teamId: Int, userId: Int, from: LocalDate, to: LocalDate): ProductivitySeriesDto {
+        teamPermissionValidator.validateTeamMember(teamId, userId, "팀 멤버만 접근할 수 있습니다.")
+        return getSeries(ScopeType.TEAM, teamId, from, to)
+    }
+
+    private fun getSeries(scopeType: ScopeType, scopeId: Int, from: LocalDate, to: LocalDate): ProductivitySeriesDto {
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= maxRangeDays) {
+            throw ServiceException("400-1", "조회 기간이 올바르지 않습니다. (최대 ${maxRangeDays}일)")
+        }
+
+        // 첫날의 속도 계산을 위해 앞쪽 (velocityWindowDays - 1)일을 함께 조회
+        val windowStart = from.minusDays(velocityWindowDays - 1L)
+        val rowsByDay = productivityDailyRepository
+            .findByScopeTypeAndScopeIdAndDayBetweenOrderByDay(scopeType, scopeId, windowStart, to)
+            .associateBy { it.day }
+
+        val window = ArrayDeque<Int>(velocityWindowDays)
+        var windowSum = 0
+        val points = ArrayList<ProductivityPointDto>()
+
+        generateSequence(windowStart) { it.plusDays(1) }
+            .takeWhile { !it.isAfter(to) }
+            .forEach { day ->
+                val row = rowsByDay[day]
+                val completed = row?.completed ?: 0
+
+                window.addLast(completed)
+                windowSum += completed
+                if (window.size > velocityWindowDays) windowSum -= window.removeFirst()
+
+                if (!day.isBefore(from)) {
+                    points.add(
+                        ProductivityPointDto(
+                            day = day,
+                            created = row?.created ?: 0,
+                            completed = completed,
+                            remaining = row?.remaining ?: 0,
+                            overdue = row?.overdue ?: 0,
+                            velocity = windowSum.toDouble() / velocityWindowDays
+                        )
+                    )
+                }
+            }
+
+        return ProductivitySeriesDto(scopeType, scopeId, from, to, velocityWindowDays, points)
+    }
+
+    private fun buildRows(
+        scopeType: ScopeType,
+        day: LocalDate,
+        activity: List<DailyActivityView>,
+        backlog: List<DailyBacklogView>
+    ): List<ProductivityDaily> {
+        val rows = LinkedHashMap<Int, ProductivityDaily>()
+        fun rowOf(scopeId: Int) = rows.getOrPut(scopeId) { ProductivityDaily(scopeType, scopeId, day) }
+
+        activity.forEach { view ->
+            rowOf(view.scopeId).apply {
+                created = view.created.toInt()
+                completed = view.completed.toInt()
+            }
+        }
+        backlog.forEach { view ->
+            rowOf(view.scopeId).apply {
+                remaining = view.remaining.toInt()
+                overdue = view.overdue.toInt()
+            }
+        }
+        return rows.values.toList()
+    }
+}
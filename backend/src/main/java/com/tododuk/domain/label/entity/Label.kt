@@ -1,9 +1,13 @@
 package com.tododuk.domain.label.entity
 
+import com.tododuk.global.cache.CacheRegions
 import com.tododuk.global.entity.BaseEntity
 import jakarta.persistence.Entity
+import org.hibernate.annotations.Cache
+import org.hibernate.annotations.CacheConcurrencyStrategy
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.LABEL)
 class Label (
     var name: String="",
     var color: String="" ): BaseEntity(){
@@ -4,10 +4,12 @@ import com.tododuk.domain.notification.dto.NotificationDto
 import com.tododuk.domain.notification.dto.NotificationResponseDto
 import com.tododuk.domain.notification.service.NotificationService
 import com.tododuk.domain.user.service.UserService
+import com.tododuk.global.page.CursorPage
 import com.tododuk.global.rsData.RsData
 import io.swagger.v3.oas.annotations.Operation
 import jakarta.validation.Valid
 import lombok.RequiredArgsConstructor
+import org.slf4j.LoggerFactory
 import org.springframework.security.core.Authentication
 import org.springframework.transaction.annotation.Transactional
 import org.springframework.web.bind.annotation.*
@@ -60,25 +62,15 @@ class ApiV1NotificationController(
         notificationService.deleteNotification(noti.id)
         return RsData<NotificationDto?>("200-1", "알림이 삭제되었습니다.", noti)
     }
-    @Operation(summary = "알람 다건 조회")
-    @Transactional
+    @Operation(summary = "관리자 - 알람 다건 조회", description = "id 커서 기반으로 페이지 단위 조회합니다. (관리자만 가능)")
+    @Transactional(readOnly = true)
     @GetMapping
-    fun getNotifications(): RsData<List<NotificationDto>> {
-        return try {
-            val notifications = notificationService?.getAllNotifications()
-
-            RsData(
-                "200-1",
-                "알림이 조회되었습니다.",
-                notifications // 변환 로직이 필요하다면
-            )
-        } catch (e: IllegalArgumentException) {
-            RsData(
-                "400-1",
-                "알림이 존재하지 않습니다.",
-                emptyList()
-            )
-        }
+    fun getNotifications(
+        @RequestParam(required = false) cursor: Int?,
+        @RequestParam(required = false) size: Int?
+    ): RsData<CursorPage<NotificationResponseDto>> {
+        val notifications = notificationService.getNotificationPage(cursor, size)
+        return RsData("200-1", "알림이 조회되었습니다.", notifications)
     }
     @GetMapping("/{id}")
     @Transactional
@@ -127,10 +119,12 @@ class ApiV1NotificationController(
             RsData("200-1", "알림 조회 성공", notifications)
 
         } catch (e: Exception) {
-            println("알림 조회 중 오류 발생: ${e.message}")
-            e.printStackTrace()
+            log.warn("알림 조회 중 오류 발생", e)
             RsData("500-1", "서버 오류: ${e.message}", null)
         }
     }
 
-}
\ No newline at end of file
+    companion object {
+        private val log = LoggerFactory.getLogger(ApiV1NotificationController::class.java)
+    }
+}
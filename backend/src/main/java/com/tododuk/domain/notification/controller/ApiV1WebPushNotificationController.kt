@@ -7,6 +7,7 @@ import io.swagger.v3.oas.annotations.Operation
 import jakarta.transaction.Transactional
 import jakarta.validation.Valid
 import lombok.RequiredArgsConstructor
+import org.slf4j.LoggerFactory
 import org.springframework.beans.factory.annotation.Value
 import org.springframework.security.core.Authentication
 import org.springframework.web.bind.annotation.*
@@ -34,7 +35,7 @@ class ApiV1WebPushNotificationController(
             val clientKey = webPushNotificationService.getVapidPublicKeyForClient()
             RsData<String>("200-1", "VAPID 공개키 조회 완료", clientKey)
         } catch (e: Exception) {
-            println("VAPID 공개키 조회 실패: ${e.message}")
+            log.warn("VAPID 공개키 조회 실패", e)
             RsData<String>("500-1", "VAPID 공개키 조회 중 오류가 발생했습니다.", null)
         }
     }
@@ -61,10 +62,10 @@ class ApiV1WebPushNotificationController(
                 createWebPushNotificationReqBody.auth
             )
 
-            println("웹 푸쉬 알림 인증 정보 저장 완료 - 사용자: ${user.get().id}")
+            log.debug("웹 푸쉬 알림 인증 정보 저장 완료 - 사용자: {}", user.get().id)
             RsData<String>("200-1", "웹 푸쉬 알림 인증 정보 저장 완료", "success")
         } catch (e: Exception) {
-            println("웹 푸쉬 알림 인증 정보 저장 실패: ${e.message}")
+            log.warn("웹 푸쉬 알림 인증 정보 저장 실패", e)
             RsData<String>("500-1", "웹 푸쉬 알림 인증 정보 저장 중 오류가 발생했습니다.", null)
         }
     }
@@ -82,9 +83,12 @@ class ApiV1WebPushNotificationController(
             val isSubscribed = webPushNotificationService!!.isSubscribed(userName)
             RsData<Boolean?>("200-1", "인증정보 전송 완료", isSubscribed)
         } catch (e: Exception) {
-            println("인증정보 확인 실패: ${e.message}")
+            log.warn("인증정보 확인 실패", e)
             RsData<Boolean?>("500-1", "인증정보 확인 중 오류가 발생했습니다.", null)
         }
     }
 
-}
\ No newline at end of file
+    companion object {
+        private val log = LoggerFactory.getLogger(ApiV1WebPushNotificationController::class.java)
+    }
+}
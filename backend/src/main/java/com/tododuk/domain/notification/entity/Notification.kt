@@ -2,10 +2,15 @@ package com.tododuk.domain.notification.entity
 
 import com.tododuk.domain.user.entity.User
 import com.tododuk.global.entity.BaseEntity
+import jakarta.persistence.Column
 import jakarta.persistence.Entity
 import jakarta.persistence.ManyToOne
+import jakarta.persistence.Table
+import jakarta.persistence.UniqueConstraint
 
+// 아웃박스 릴레이가 같은 메시지를 다시 전달해도 알림은 한 건만 남도록 outbox_message_id 에 유니크 제약
 @Entity
+@Table(uniqueConstraints = [UniqueConstraint(name = "uk_notification_outbox_message_id", columnNames = ["outbox_message_id"])])
 open class Notification : BaseEntity {
 
     @ManyToOne
@@ -15,6 +20,10 @@ open class Notification : BaseEntity {
     var url: String = ""
     var isRead: Boolean = false
 
+    // 이 알림을 만든 아웃박스 메시지 ID (직접 만든 알림은 null)
+    @Column(name = "outbox_message_id")
+    var outboxMessageId: Int? = null
+
     // JPA 기본 생성자
     protected constructor() : super()
 
@@ -0,0 +1,68 @@
+package com.tododuk.domain.notification.outbox
+
+import com.tododuk.global.entity.BaseEntity
+import jakarta.persistence.*
+import java.time.LocalDateTime
+
+/**
+ * 알림/웹 푸시 아웃박스
+ * 도메인 변경과 같은 트랜잭션에서 저장되고, OutboxRelay 가 커밋 이후 비동기로 전달한다.
+ * coalesceKey 가 같은 (종류, 사용자) 메시지는 릴레이가 한 건으로 묶어 전달한다.
+ */
+@Entity
+@Table(
+    name = "outbox_message",
+    indexes = [
+        Index(name = "idx_outbox_message_status_available_at", columnList = "status, available_at"),
+        Index(name = "idx_outbox_message_coalesce", columnList = "user_id, coalesce_key, status")
+    ]
+)
+class OutboxMessage(
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    var messageType: MessageType = MessageType.NOTIFICATION,
+
+    // 받는 사용자
+    @Column(name = "user_id", nullable = false)
+    var userId: Int = 0,
+
+    // OutboxPayload JSON
+    @Column(nullable = false, columnDefinition = "TEXT")
+    var payload: String = "",
+
+    // 전달 결과를 돌려받을 도메인 (예: REMINDER_FIRE + 발송 기록 ID)
+    var aggregateType: String? = null,
+    var aggregateId: Int? = null,
+
+    // 묶어서 보낼 메시지 구분 (예: team:1:todo-assigned), null 이면 한 건씩 전달
+    @Column(name = "coalesce_key", length = 100)
+    var coalesceKey: String? = null,
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    var status: Status = Status.PENDING,
+
+    // 이 시각 이후에 전달 대상 (선점 임대/재시도 대기에 사용)
+    @Column(name = "available_at", nullable = false)
+    var availableAt: LocalDateTime = LocalDateTime.now(),
+
+    var attempts: Int = 0,
+
+    var processedAt: LocalDateTime? = null,
+
+    @Column(length = 500)
+    var lastError: String? = null
+) : BaseEntity() {
+
+    enum class MessageType {
+        NOTIFICATION, // 알림함(Notification) 저장
+        WEB_PUSH      // 웹 푸시 전송
+    }
+
+    enum class Status {
+        PENDING, SENT, FAILED
+    }
+
+    // JPA를 위한 기본 생성자
+    constructor() : this(MessageType.NOTIFICATION, 0, "")
+}
@@ -0,0 +1,26 @@
+package com.tododuk.domain.notification.outbox
+
+/**
+ * 아웃박스 메시지 본문 (NOTIFICATION 은 title/body/url, WEB_PUSH 는 title/body 사용)
+ * 묶음 메시지는 item 과 groupBody 로 여러 건을 합친 본문을 만든다. (OutboxPayload.merge 참고)
+ */
+data class OutboxPayload(
+    val title: String,
+    val body: String,
+    val url: String? = null,
+    // 묶음 안에서 이 메시지를 가리키는 이름 (예: 할일 제목)
+    val item: String? = null,
+    // 여러 건이 묶였을 때의 본문 형식, 첫 항목(%s)과 나머지 건수(%d) (null 이면 첫 메시지 본문 그대로)
+    val groupBody: String? = null
+) {
+    companion object {
+        /**
+         * 같은 묶음의 본문들을 먼저 들어온 순서로 받아 한 건으로 합친다.
+         */
+        fun merge(payloads: List<OutboxPayload>): OutboxPayload {
+            val first = payloads.first()
+            if (payloads.size == 1 || first.groupBody == null) return first
+            return first.copy(body = first.groupBody.format(first.item, payloads.size - 1))
+        }
+    }
+}
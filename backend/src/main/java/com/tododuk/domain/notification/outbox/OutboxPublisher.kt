@@ -0,0 +1,89 @@
+package com.tododuk.domain.notification.outbox
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.stereotype.Component
+import org.springframework.transaction.annotation.Propagation
+import org.springframework.transaction.annotation.Transactional
+import java.time.Duration
+import java.time.LocalDateTime
+
+/**
+ * 아웃박스 기록 창구
+ * 반드시 도메인 변경 트랜잭션 안에서 호출한다. (MANDATORY: 트랜잭션이 없으면 예외)
+ */
+@Component
+class OutboxPublisher(
+    private val outboxRepository: OutboxRepository,
+    private val objectMapper: ObjectMapper,
+    @Value("\${custom.notification.coalesce.windowMs:5000}")
+    private val coalesceWindowMs: Long
+) {
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    fun publishNotification(
+        userId: Int,
+        title: String,
+        description: String,
+        url: String,
+        aggregateType: String? = null,
+        aggregateId: Int? = null
+    ) {
+        publish(OutboxMessage.MessageType.NOTIFICATION, userId, OutboxPayload(title, description, url), aggregateType, aggregateId)
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    fun publishWebPush(
+        userId: Int,
+        title: String,
+        body: String,
+        aggregateType: String? = null,
+        aggregateId: Int? = null
+    ) {
+        publish(OutboxMessage.MessageType.WEB_PUSH, userId, OutboxPayload(title, body), aggregateType, aggregateId)
+    }
+
+    /**
+     * 알림 + 웹 푸시를 묶음 메시지로 기록한다.
+     * coalesceWindowMs 뒤에 전달 대상이 되고, 그때까지 같은 사용자/coalesceKey 로 쌓인 메시지는 릴레이가 한 건으로 합친다.
+     * 예) 할일 12개를 연달아 배정해도 "'A' 외 11개 할일의 담당자로 지정되었습니다." 한 건
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    fun publishCoalesced(
+        userId: Int,
+        coalesceKey: String,
+        title: String,
+        url: String,
+        item: String,
+        body: String,
+        groupBody: String? = null
+    ) {
+        val availableAt = LocalDateTime.now().plus(Duration.ofMillis(coalesceWindowMs))
+        val payload = OutboxPayload(title, body, url, item, groupBody)
+        OutboxMessage.MessageType.entries.forEach { type ->
+            publish(type, userId, payload, null, null, coalesceKey, availableAt)
+        }
+    }
+
+    private fun publish(
+        type: OutboxMessage.MessageType,
+        userId: Int,
+        payload: OutboxPayload,
+        aggregateType: String?,
+        aggregateId: Int?,
+        coalesceKey: String? = null,
+        availableAt: LocalDateTime = LocalDateTime.now()
+    ) {
+        outboxRepository.save(
+            OutboxMessage(
+                messageType = type,
+                userId = userId,
+                payload = objectMapper.writeValueAsString(payload),
+                aggregateType = aggregateType,
+                aggregateId = aggregateId,
+                coalesceKey = coalesceKey,
+                availableAt = availableAt
+            )
+        )
+    }
+}
@@ -0,0 +1,175 @@
+package com.tododuk.domain.notification.outbox
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.tododuk.domain.notification.dto.NotificationPayLoadDto
+import com.tododuk.domain.notification.service.NotificationService
+import com.tododuk.domain.notification.service.WebPushNotificationService
+import com.tododuk.domain.reminder.job.ReminderDispatcher
+import com.tododuk.domain.reminder.service.ReminderFireLogService
+import com.tododuk.global.datasource.DataSourcePool
+import com.tododuk.global.datasource.UseDataSourcePool
+import io.micrometer.core.instrument.DistributionSummary
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.Timer
+import org.slf4j.LoggerFactory
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.data.domain.PageRequest
+import org.springframework.scheduling.annotation.Scheduled
+import org.springframework.stereotype.Component
+import org.springframework.transaction.PlatformTransactionManager
+import org.springframework.transaction.support.TransactionTemplate
+import java.time.Duration
+import java.time.LocalDateTime
+
+/**
+ * 아웃박스 릴레이
+ * 1. 짧은 트랜잭션에서 전달 대상을 FOR UPDATE SKIP LOCKED 로 선점하고 availableAt 을 임대 시간만큼 미룬다.
+ *    (여러 인스턴스가 같은 메시지를 동시에 잡지 않고, 전달 중 죽으면 임대가 끝난 뒤 다시 잡힌다)
+ *    묶음 메시지(coalesceKey)는 같은 묶음의 나머지 메시지도 함께 선점해 한 건으로 합친다.
+ * 2. 트랜잭션 밖에서 알림 저장 / 웹 푸시 전송
+ * 3. 성공한 메시지는 한 번의 update 로 SENT 처리, 실패는 지수 백오프 후 재시도, maxAttempts 초과 시 FAILED
+ * 전달은 최소 한 번(at-least-once)이고, 알림 저장은 메시지 ID 로 중복을 걸러 한 건만 남는다.
+ */
+@Component
+@UseDataSourcePool(DataSourcePool.SCHEDULER)
+class OutboxRelay(
+    private val outboxRepository: OutboxRepository,
+    private val notificationService: NotificationService,
+    private val webPushNotificationService: WebPushNotificationService,
+    private val reminderFireLogService: ReminderFireLogService,
+    private val objectMapper: ObjectMapper,
+    private val meterRegistry: MeterRegistry,
+    transactionManager: PlatformTransactionManager,
+    @Value("\${custom.outbox.relay.batchSize:100}")
+    private val batchSize: Int,
+    @Value("\${custom.outbox.relay.leaseMs:60000}")
+    private val leaseMs: Long,
+    @Value("\${custom.outbox.relay.maxAttempts:5}")
+    private val maxAttempts: Int
+) {
+
+    private val transactionTemplate = TransactionTemplate(transactionManager)
+
+    private val batchSizeSummary = DistributionSummary.builder("outbox.relay.batch.size")
+        .description("한 번에 선점한 메시지 수")
+        .register(meterRegistry)
+
+    @Scheduled(fixedDelayString = "\${custom.outbox.relay.fixedDelayMs:500}")
+    fun relay() {
+        // 가득 찬 배치를 받으면 밀린 메시지가 더 있다고 보고 바로 다음 배치를 처리
+        do {
+            val claimed = claimBatch()
+            if (claimed.isEmpty()) return
+            batchSizeSummary.record(claimed.size.toDouble())
+
+            val sentIds = ArrayList<Int>(claimed.size)
+            groupOf(claimed).forEach { group ->
+                if (deliver(group)) group.mapTo(sentIds) { it.id }
+            }
+            if (sentIds.isNotEmpty()) {
+                outboxRepository.markProcessed(sentIds, OutboxMessage.Status.SENT, LocalDateTime.now())
+            }
+        } while (claimed.size >= batchSize)
+    }
+
+    private fun claimBatch(): List<OutboxMessage> =
+        transactionTemplate.execute {
+            val now = LocalDateTime.now()
+            val ready = outboxRepository.findReadyForUpdateSkipLocked(OutboxMessage.Status.PENDING, now, PageRequest.ofSize(batchSize))
+
+            // 창이 닫힌 묶음은 뒤따라 들어온 같은 묶음 메시지도 함께 가져간다
+            val readyIds = ready.map { it.id }
+            val followers = ready
+                .filter { it.coalesceKey != null }
+                .distinctBy { Triple(it.messageType, it.userId, it.coalesceKey) }
+                .flatMap {
+                    outboxRepository.findCoalescingForUpdateSkipLocked(
+                        OutboxMessage.Status.PENDING, it.messageType, it.userId, it.coalesceKey!!, readyIds
+                    )
+                }
+
+            (ready + followers).onEach { message ->
+                message.attempts++
+                message.availableAt = now.plus(Duration.ofMillis(leaseMs))
+            }
+        } ?: emptyList()
+
+    // 묶음 메시지는 (종류, 사용자, coalesceKey) 별로 한 묶음, 나머지는 한 건씩 (먼저 기록된 순서)
+    private fun groupOf(claimed: List<OutboxMessage>): Collection<List<OutboxMessage>> =
+        claimed.sortedBy { it.id }
+            .groupBy { message -> message.coalesceKey?.let { Triple(message.messageType, message.userId, it) } ?: message.id }
+            .values
+
+    /**
+     * 묶음의 첫 메시지를 대표로 한 번 전달한다.
+     * @return 전달 성공 여부 (실패한 메시지는 여기서 재시도 일정/FAILED 를 저장)
+     */
+    private fun deliver(group: List<OutboxMessage>): Boolean {
+        val message = group.first()
+        val type = message.messageType.name
+        return try {
+            val payload = OutboxPayload.merge(group.map { objectMapper.readValue(it.payload, OutboxPayload::class.java) })
+            when (message.messageType) {
+                OutboxMessage.MessageType.NOTIFICATION -> deliverNotification(message, payload)
+                OutboxMessage.MessageType.WEB_PUSH -> deliverWebPush(message, payload)
+            }
+
+            Timer.builder("outbox.relay.lag")
+                .description("아웃박스 기록부터 전달 완료까지 걸린 시간")
+                .tag("type", type)
+                .register(meterRegistry)
+                .record(Duration.between(message.createDate, LocalDateTime.now()))
+            meterRegistry.counter("outbox.relay.delivered", "type", type, "result", "success").increment()
+            if (group.size > 1) {
+                meterRegistry.counter("outbox.relay.coalesced", "type", type).increment((group.size - 1).toDouble())
+            }
+            true
+        } catch (e: Exception) {
+            val giveUp = message.attempts >= maxAttempts
+            group.forEach { saveFailure(it.id, it.attempts >= maxAttempts, e) }
+            meterRegistry.counter("outbox.relay.delivered", "type", type, "result", if (giveUp) "failed" else "retry")
+                .increment()
+            log.warn("아웃박스 메시지 전달 실패 (id={}, type={}, attempts={})", message.id, type, message.attempts, e)
+            false
+        }
+    }
+
+    private fun deliverNotification(message: OutboxMessage, payload: OutboxPayload) {
+        val notification = notificationService.createNotificationForUser(
+            message.userId, payload.title, payload.body, payload.url ?: "", message.id
+        )
+        if (message.aggregateType == ReminderDispatcher.REMINDER_FIRE) {
+            reminderFireLogService.recordNotification(message.aggregateId!!, notification.id)
+        }
+    }
+
+    private fun deliverWebPush(message: OutboxMessage, payload: OutboxPayload) {
+        // 구독이 없거나 푸시 서비스가 거절한 경우는 재시도해도 같으므로 결과만 기록
+        val delivered = webPushNotificationService.sendWebPushNotification(
+            NotificationPayLoadDto(payload.title, payload.body), message.userId
+        )
+        if (message.aggregateType == ReminderDispatcher.REMINDER_FIRE) {
+            reminderFireLogService.recordPushResult(message.aggregateId!!, delivered)
+        }
+    }
+
+    private fun saveFailure(messageId: Int, giveUp: Boolean, e: Exception) {
+        transactionTemplate.executeWithoutResult {
+            outboxRepository.findById(messageId).ifPresent { message ->
+                message.lastError = e.message?.take(500)
+                if (giveUp) {
+                    message.status = OutboxMessage.Status.FAILED
+                    message.processedAt = LocalDateTime.now()
+                } else {
+                    // 1초, 2초, 4초 ... 최대 임대 시간까지
+                    val backoffMs = minOf(1000L shl (message.attempts - 1).coerceIn(0, 20), leaseMs)
+                    message.availableAt = LocalDateTime.now().plus(Duration.ofMillis(backoffMs))
+                }
+            }
+        }
+    }
+
+    companion object {
+        private val log = LoggerFactory.getLogger(OutboxRelay::class.java)
+    }
+}
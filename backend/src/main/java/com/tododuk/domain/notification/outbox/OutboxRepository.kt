@@ -0,0 +1,49 @@
+package com.tododuk.domain.notification.outbox
+
+import jakarta.persistence.LockModeType
+import jakarta.persistence.QueryHint
+import org.springframework.data.domain.Pageable
+import org.springframework.data.jpa.repository.*
+import org.springframework.data.repository.query.Param
+import org.springframework.stereotype.Repository
+import org.springframework.transaction.annotation.Transactional
+import java.time.LocalDateTime
+
+@Repository
+interface OutboxRepository : JpaRepository<OutboxMessage, Int> {
+
+    // 전달 대상 선점: SELECT ... FOR UPDATE SKIP LOCKED (lock.timeout = -2)
+    // 다른 릴레이가 잠근 행은 기다리지 않고 건너뛴다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select m from OutboxMessage m where m.status = :status and m.availableAt <= :now order by m.id")
+    fun findReadyForUpdateSkipLocked(
+        @Param("status") status: OutboxMessage.Status,
+        @Param("now") now: LocalDateTime,
+        pageable: Pageable
+    ): List<OutboxMessage>
+
+    // 전달 대상으로 잡힌 묶음 메시지와 같은 묶음의 나머지 (아직 창이 닫히지 않은 것 포함)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query(
+        "select m from OutboxMessage m where m.status = :status and m.messageType = :messageType " +
+            "and m.userId = :userId and m.coalesceKey = :coalesceKey and m.id not in :excludeIds order by m.id"
+    )
+    fun findCoalescingForUpdateSkipLocked(
+        @Param("status") status: OutboxMessage.Status,
+        @Param("messageType") messageType: OutboxMessage.MessageType,
+        @Param("userId") userId: Int,
+        @Param("coalesceKey") coalesceKey: String,
+        @Param("excludeIds") excludeIds: Collection<Int>
+    ): List<OutboxMessage>
+
+    @Modifying
+    @Transactional
+    @Query("update OutboxMessage m set m.status = :status, m.processedAt = :processedAt where m.id in :ids")
+    fun markProcessed(
+        @Param("ids") ids: Collection<Int>,
+        @Param("status") status: OutboxMessage.Status,
+        @Param("processedAt") processedAt: LocalDateTime
+    ): Int
+}
@@ -2,11 +2,20 @@ package com.tododuk.domain.notification.repository
 
 
 import com.tododuk.domain.notification.entity.Notification
+import org.springframework.data.domain.Pageable
 import org.springframework.data.jpa.repository.JpaRepository
+import org.springframework.data.jpa.repository.Query
+import org.springframework.data.repository.query.Param
 import org.springframework.stereotype.Repository
 
 
 @Repository
 interface NotificationRepository: JpaRepository<Notification, Int> {
     fun findByUserId(userId : Int): List<Notification>
+
+    fun findByOutboxMessageId(outboxMessageId: Int): Notification?
+
+    // 관리자용 전체 목록 키셋 페이지 조회 (id > cursor)
+    @Query("select n from Notification n join fetch n.user where n.id > :cursor order by n.id")
+    fun findPageAfter(@Param("cursor") cursor: Int, pageable: Pageable): List<Notification>
 }
\ No newline at end of file
@@ -4,18 +4,19 @@ import com.tododuk.domain.notification.dto.NotificationDto
 import com.tododuk.domain.notification.dto.NotificationResponseDto
 import com.tododuk.domain.notification.entity.Notification
 import com.tododuk.domain.notification.repository.NotificationRepository
-import com.tododuk.domain.reminder.service.ReminderService
-import com.tododuk.domain.todo.service.TodoService
 import com.tododuk.domain.user.entity.User
 import com.tododuk.domain.user.service.UserService
+import com.tododuk.global.page.CursorPage
+import com.tododuk.global.page.CursorPaging
+import io.micrometer.core.annotation.Timed
 import org.springframework.stereotype.Service
 
 @Service
+@Timed(value = "service.method", extraTags = ["service", "notification"])
 class NotificationService(
     val notificationRepository: NotificationRepository,
-    val reminderService: ReminderService,
     val userService: UserService,
-    val todoService: TodoService
+    private val cursorPaging: CursorPaging
 ) {
 
     fun createNotification(user: User, title: String, description: String, url: String): NotificationDto {
@@ -47,26 +48,33 @@ class NotificationService(
     }
 
     // Entity 대신 DTO 반환 (더 나은 방법)
-    fun getAllNotifications(): List<NotificationDto> {
-        return notificationRepository.findAll()
-            .map { NotificationDto(it) }
+    // 사용자 엔티티 전체가 노출되지 않도록 NotificationResponseDto 로 반환
+    fun getNotificationPage(cursor: Int?, size: Int?): CursorPage<NotificationResponseDto> {
+        val pageSize = cursorPaging.sizeOf(size)
+        val notifications = notificationRepository.findPageAfter(cursorPaging.cursorOf(cursor), cursorPaging.fetchLimit(pageSize))
+        return CursorPage.of(notifications, pageSize, Notification::id, NotificationResponseDto::from)
     }
 
 
-    fun createNotificationByReminder(reminderId: Int): NotificationDto {
-        val reminder = reminderService.findById(reminderId)
-            ?: throw IllegalArgumentException("Reminder not found with id $reminderId")
+    // 아웃박스 릴레이가 사용자 ID 만으로 알림을 저장할 때 사용
+    // 같은 아웃박스 메시지가 다시 전달되면 (전달 후 SENT 표시 전에 죽은 경우 등) 이미 만든 알림을 그대로 돌려준다.
+    // 동시에 두 번 전달되면 한쪽은 유니크 제약 위반으로 실패하고, 재시도 때 기존 알림을 찾는다.
+    fun createNotificationForUser(
+        userId: Int,
+        title: String,
+        description: String,
+        url: String,
+        outboxMessageId: Int? = null
+    ): NotificationDto {
+        outboxMessageId?.let { id ->
+            notificationRepository.findByOutboxMessageId(id)?.let { return NotificationDto(it) }
+        }
 
-        val userId = todoService.getTodoById(reminder.todoId!!).todoList!!.user.id
         val user: User = userService.findById(userId)
             .orElseThrow { IllegalArgumentException("User not found with id $userId") }!!
 
-        val title = "Reminder: ${reminder.method ?: "No Title"}"
-        val description = "Your reminder is scheduled for ${reminder.remindAt}."
-        val todoListId = todoService.getTodoById(reminder.todoId!!).todoList!!.id
-        val url = "/todoList/${todoListId}"
-
-        return createNotification(user, title, description, url)
+        val notification = Notification(user, title, description, url).apply { this.outboxMessageId = outboxMessageId }
+        return NotificationDto(notificationRepository.save(notification))
     }
 
     fun updateNotificationStatus(notificationId: Int): NotificationResponseDto {
@@ -3,14 +3,13 @@ package com.tododuk.domain.notification.service
 import com.tododuk.domain.notification.dto.NotificationPayLoadDto
 import com.tododuk.domain.notification.entity.WebPushNotification
 import com.tododuk.domain.notification.repository.WebPushNotificationRepository
-import com.tododuk.domain.reminder.service.ReminderService
-import com.tododuk.domain.todo.service.TodoService
 import com.tododuk.domain.todoList.service.TodoListService
 import com.tododuk.domain.user.repository.UserRepository
 import com.tododuk.domain.user.service.UserService
 import nl.martijndwars.webpush.PushService
 import nl.martijndwars.webpush.Subscription
 import org.apache.http.HttpResponse
+import org.slf4j.LoggerFactory
 import org.springframework.beans.factory.annotation.Value
 import org.springframework.stereotype.Service
 import java.util.*
@@ -19,14 +18,20 @@ import java.util.*
 class WebPushNotificationService(
     private val webPushNotificationRepository: WebPushNotificationRepository,
     private val userService: UserService,
-    private val todoService : TodoService,
     private val todoListService : TodoListService,
-    private val reminderService : ReminderService,
     private val userRepository: UserRepository,
     @Value("\${push.vapid.publicKey}") private val vapidPublicKey: String,
     @Value("\${push.vapid.privateKey}") private val vapidPrivateKey: String
 ) {
 
+    // VAPID 키 파싱 비용이 커서 전송마다 만들지 않고 재사용
+    private val pushService: PushService by lazy {
+        PushService()
+            .setSubject(VAPID_SUBJECT)
+            .setPublicKey(vapidPublicKey)
+            .setPrivateKey(vapidPrivateKey)
+    }
+
     fun createWebPushNotification(
         userId: Int,
         endPointBrowser: String,
@@ -42,39 +47,29 @@ class WebPushNotificationService(
         webPushNotificationRepository.save(webPushNotification)
     }
 
-    fun sendWebPushNotification(notification: NotificationPayLoadDto, userId: Int) {
+    // 푸시 서비스가 2xx 로 응답했으면 true
+    fun sendWebPushNotification(notification: NotificationPayLoadDto, userId: Int): Boolean {
         val webPushNotification = webPushNotificationRepository.findByUserId(userId)
         if (webPushNotification != null) {
             try {
-                val keys = Subscription.Keys(webPushNotification.p256dh, webPushNotification.auth)
-                val subscription = Subscription(webPushNotification.endPointBrowser, keys)
-
-                // DTO의 toString() 메서드 사용
-                val payloadJson = notification.toString()
-                println("보내는 페이로드: $payloadJson")
-
-                val noti = nl.martijndwars.webpush.Notification(subscription, payloadJson)
-
-                val pushService = PushService()
-                    .setSubject("mailto:moon4720907@gmail.com")  // mailto: 추가
-                    .setPublicKey(vapidPublicKey)
-                    .setPrivateKey(vapidPrivateKey)
-
+                val noti = buildNotification(webPushNotification, notification)
                 val response: HttpResponse = pushService.send(noti)
-                println("Response: ${response.statusLine.statusCode}")
+                log.debug("Response: {}", response.statusLine.statusCode)
 
                 if (response.statusLine.statusCode == 410) {
                     // 만료된 구독 삭제
                     webPushNotificationRepository.delete(webPushNotification)
-                    println("만료된 구독 삭제됨: $userId")
+                    log.debug("만료된 구독 삭제됨: {}", userId)
                 }
+                return response.statusLine.statusCode in 200..299
 
             } catch (e: Exception) {
-                println("웹 푸시 알림 전송 실패: ${e.message}")
-                e.printStackTrace()
+                log.warn("웹 푸시 알림 전송 실패", e)
+                return false
             }
         } else {
-            println("웹 푸시 알림 인증 정보가 없습니다. 사용자 ID: $userId")
+            log.debug("웹 푸시 알림 인증 정보가 없습니다. 사용자 ID: {}", userId)
+            return false
         }
     }
     fun isSubscribed(userName: String): Boolean? {
@@ -110,19 +105,32 @@ class WebPushNotificationService(
             // URL-safe Base64로 인코딩하여 반환
             return Base64.getUrlEncoder().withoutPadding().encodeToString(rawBytes)
         } catch (e: Exception) {
-            println("DER to Raw 변환 실패: ${e.message}")
-            println("원본 키: $derKey")
+            log.warn("DER to Raw 변환 실패", e)
+            log.debug("원본 키: {}", derKey)
             throw e
         }
     }
-    fun sendWebPushNotificationByReminder(reminderId: Int)
-    {
-        println("bbbb")
-        val reminder = reminderService.getReminderById(reminderId)
-        val notificationPayLoadDto = NotificationPayLoadDto(reminder.data!!.method,reminder.data.method+"종료5분전입니다")
-        val userId = todoService.getTodoById(reminderService.getReminderById(reminderId).data!!.todoId!!).todoList!!.user.id
-        println("userId : "+userId)
-        println("title : " + notificationPayLoadDto)
-        sendWebPushNotification(notificationPayLoadDto,userId)
+
+    companion object {
+        private val log = LoggerFactory.getLogger(WebPushNotificationService::class.java)
+
+        const val VAPID_SUBJECT = "mailto:moon4720907@gmail.com"  // mailto: 추가
+
+        /**
+         * 구독 정보와 페이로드로 전송할 알림 생성 (구독자 공개키 파싱 포함, 암호화는 전송 시점)
+         */
+        fun buildNotification(
+            webPushNotification: WebPushNotification,
+            notification: NotificationPayLoadDto
+        ): nl.martijndwars.webpush.Notification {
+            val keys = Subscription.Keys(webPushNotification.p256dh, webPushNotification.auth)
+            val subscription = Subscription(webPushNotification.endPointBrowser, keys)
+
+            // DTO의 toString() 메서드 사용
+            val payloadJson = notification.toString()
+            log.debug("보내는 페이로드: {}", payloadJson)
+
+            return nl.martijndwars.webpush.Notification(subscription, payloadJson)
+        }
     }
-}
\ No newline at end of file
+}
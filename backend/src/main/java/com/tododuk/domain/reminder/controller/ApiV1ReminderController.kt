@@ -1,7 +1,12 @@
 package com.tododuk.domain.reminder.controller
 
 import com.tododuk.domain.reminder.dto.ReminderDto
+import com.tododuk.domain.reminder.dto.ReminderFireLogDto
+import com.tododuk.domain.reminder.service.ReminderFireLogService
 import com.tododuk.domain.reminder.service.ReminderService
+import com.tododuk.global.exception.ServiceException
+import com.tododuk.global.page.CursorPage
+import com.tododuk.global.rq.Rq
 import com.tododuk.global.rsData.RsData
 import io.swagger.v3.oas.annotations.Operation
 import io.swagger.v3.oas.annotations.tags.Tag
@@ -16,7 +21,9 @@ import java.time.LocalDateTime
 @RequiredArgsConstructor
 @Tag(name = "ApiV1ReminderController", description = "API 리마인더 컨트롤러")
 class ApiV1ReminderController(
-    private val reminderService: ReminderService
+    private val reminderService: ReminderService,
+    private val reminderFireLogService: ReminderFireLogService,
+    private val rq: Rq
 ) {
 
 
@@ -25,7 +32,9 @@ class ApiV1ReminderController(
     data class ReminderReqBody(
         val todoId: Int,
         val remindDateTime: LocalDateTime?,
-        val method: String?
+        val method: String?,
+        // 반복 규칙 (예: "FREQ=DAILY", "FREQ=WEEKLY;BYDAY=MO,WE,FR;COUNT=10")
+        val recurrenceRule: String? = null
     )
 
     @PostMapping
@@ -34,8 +43,12 @@ class ApiV1ReminderController(
     fun createReminder(
         @RequestBody remCreRqBody: @Valid ReminderReqBody
     ): RsData<ReminderDto?> {
-        val reminder =
-            reminderService.createReminder(remCreRqBody.todoId, remCreRqBody.remindDateTime!!, remCreRqBody.method!!)
+        val reminder = reminderService.createReminder(
+            remCreRqBody.todoId,
+            remCreRqBody.remindDateTime!!,
+            remCreRqBody.method!!,
+            remCreRqBody.recurrenceRule
+        )
 
         return RsData<ReminderDto?>("201-1", "리마인더가 생성되었습니다.", ReminderDto(reminder))
     }
@@ -58,10 +71,27 @@ class ApiV1ReminderController(
         return reminderService.getReminderById(id) // RsData<ReminderDto> 반환
     }
 
-    @get:Operation(summary = "리마인더 전체 조회")
-    @get:Transactional
-    @get:GetMapping
-    val reminders: RsData<MutableList<ReminderDto?>?>
-        // 전체 리마인더 리스트 조회
-        get() = reminderService.getReminder() // RsData<List<ReminderDto>> 반환
+    // 리마인더 회차별 발송 상태 (최근 순, 본인 할일의 리마인더만)
+    @GetMapping("/{id}/fires")
+    @Operation(summary = "리마인더 발송 기록 조회")
+    fun getReminderFireLogs(
+        @PathVariable id: Int,
+        @RequestParam(defaultValue = "20") size: Int
+    ): RsData<List<ReminderFireLogDto>> {
+        val actorId = rq.getActorId() ?: throw ServiceException("401-1", "로그인이 필요합니다.")
+        reminderService.checkOwner(id, actorId)
+        val fireLogs = reminderFireLogService.getRecentFireLogs(id, size.coerceIn(1, 100))
+        return RsData("200-1", "리마인더 발송 기록 조회 성공", fireLogs)
+    }
+
+    // 전체 리마인더 리스트 조회 (관리자 전용, id 커서 페이지네이션)
+    @GetMapping
+    @Transactional(readOnly = true)
+    @Operation(summary = "관리자 - 리마인더 전체 조회")
+    fun getReminders(
+        @RequestParam(required = false) cursor: Int?,
+        @RequestParam(required = false) size: Int?
+    ): RsData<CursorPage<ReminderDto>> {
+        return reminderService.getReminderPage(cursor, size)
+    }
 }
\ No newline at end of file
@@ -10,7 +10,8 @@ data class ReminderDto(
     val method: String,
     val id: Int,
     val createDate: LocalDateTime,
-    val modifyDate: LocalDateTime
+    val modifyDate: LocalDateTime,
+    val recurrenceRule: String?
 ) {
     constructor(reminder: Reminder) : this(
         reminder.todoId,
@@ -18,6 +19,7 @@ data class ReminderDto(
         reminder.method,
         reminder.id,
         reminder.createDate,
-        reminder.modifyDate
+        reminder.modifyDate,
+        reminder.recurrenceRule
     )
 }
\ No newline at end of file
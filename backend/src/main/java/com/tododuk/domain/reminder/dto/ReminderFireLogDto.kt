@@ -0,0 +1,26 @@
+package com.tododuk.domain.reminder.dto
+
+import com.tododuk.domain.reminder.entity.ReminderFireLog
+import java.time.LocalDateTime
+
+data class ReminderFireLogDto(
+    val id: Int,
+    val reminderId: Int,
+    val scheduledFireTime: LocalDateTime,
+    val notificationId: Int?,
+    val status: ReminderFireLog.FireStatus,
+    val pushedAt: LocalDateTime?
+) {
+    companion object {
+        fun from(fireLog: ReminderFireLog): ReminderFireLogDto {
+            return ReminderFireLogDto(
+                id = fireLog.id,
+                reminderId = fireLog.reminderId,
+                scheduledFireTime = fireLog.scheduledFireTime,
+                notificationId = fireLog.notificationId,
+                status = fireLog.status,
+                pushedAt = fireLog.pushedAt
+            )
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.tododuk.domain.reminder.dto
+
+import java.time.LocalDateTime
+
+/**
+ * 스케줄 재조정용 프로젝션 (id, remindAt 만 조회)
+ */
+interface ReminderScheduleView {
+    val id: Int
+    val remindAt: LocalDateTime
+}
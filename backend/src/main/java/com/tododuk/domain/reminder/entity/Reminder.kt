@@ -1,19 +1,79 @@
 package com.tododuk.domain.reminder.entity
 
+import com.tododuk.domain.reminder.recurrence.RecurrenceRule
 import com.tododuk.global.entity.BaseEntity
 import jakarta.persistence.Entity
+import jakarta.persistence.Index
+import jakarta.persistence.Table
+import java.time.Duration
 import java.time.LocalDateTime
 
 
+// remindAt 은 반복 리마인더에서도 "다음 발송 시각" 이므로 배치 발송기는 (fired_at, remind_at) 인덱스만 타면 된다
 @Entity
+@Table(indexes = [Index(name = "idx_reminder_fired_at_remind_at", columnList = "fired_at, remind_at")])
 class Reminder (
     var todoId: Int?,
     var remindAt: LocalDateTime,
-    var method: String
+    var method: String,
+    // RRULE 부분 집합 (RecurrenceRule 참고), null 이면 한 번만 발송
+    var recurrenceRule: String? = null
 ) : BaseEntity(){
 
+    // 타이밍 휠 스케줄러가 알림을 보낸 시각 (remindAt 이 바뀌면 초기화)
+    var firedAt: LocalDateTime? = null
 
+    // 반복 리마인더의 첫 회차 시각 (RRULE 의 DTSTART)
+    var recurrenceStartAt: LocalDateTime? = if (recurrenceRule != null) remindAt else null
 
+    // 지금까지 지나간 회차 수 (COUNT 판단용)
+    var occurrenceCount: Int = 0
+
+    /**
+     * 사용자가 시각을 바꾸면 반복 규칙도 그 시각부터 다시 센다.
+     */
+    fun changeRemindAt(remindAt: LocalDateTime) {
+        if (this.remindAt != remindAt) {
+            this.remindAt = remindAt
+            this.firedAt = null
+            if (recurrenceRule != null) {
+                recurrenceStartAt = remindAt
+                occurrenceCount = 0
+            }
+        }
+    }
+
+    /**
+     * 할일 마감 시각이 옮겨진 만큼 리마인더도 옮긴다.
+     * 반복 리마인더는 첫 회차 기준점도 같이 옮겨 지나간 회차 수(COUNT)를 유지한다.
+     */
+    fun shiftBy(delta: Duration) {
+        if (delta.isZero) return
+        remindAt = remindAt.plus(delta)
+        recurrenceStartAt = recurrenceStartAt?.plus(delta)
+        firedAt = null
+    }
+
+    /**
+     * 반복 리마인더면 now 이후의 다음 회차로 옮기고 그 시각을 반환한다.
+     * 서버가 내려가 있어 지나가 버린 회차는 발송하지 않고 건너뛴다. 남은 회차가 없으면 null
+     */
+    fun advanceRecurrence(now: LocalDateTime): LocalDateTime? {
+        val rule = recurrenceRule?.let { RecurrenceRule.parse(it) } ?: return null
+        val start = recurrenceStartAt ?: remindAt
+
+        var index = occurrenceCount + 1
+        var next = rule.occurrence(start, remindAt, index) ?: return null
+        while (!next.isAfter(now)) {
+            index++
+            next = rule.occurrence(start, next, index) ?: return null
+        }
+
+        remindAt = next
+        occurrenceCount = index
+        firedAt = null
+        return next
+    }
 
     private constructor() : this(
 
@@ -21,4 +81,4 @@ class Reminder (
         remindAt = LocalDateTime.now(),
         method = ""
     )
-}
\ No newline at end of file
+}
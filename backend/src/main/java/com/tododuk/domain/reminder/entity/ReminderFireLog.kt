@@ -0,0 +1,45 @@
+package com.tododuk.domain.reminder.entity
+
+import com.tododuk.global.entity.BaseEntity
+import jakarta.persistence.*
+import java.time.LocalDateTime
+
+/**
+ * 리마인더 회차별 발송 기록
+ * (reminder_id, scheduled_fire_time) 유니크 제약으로 같은 회차의 알림/웹 푸시는 아웃박스에 한 번만 기록된다.
+ */
+@Entity
+@Table(
+    name = "reminder_fire_log",
+    uniqueConstraints = [UniqueConstraint(
+        name = "uk_reminder_fire_log_reminder_fire_time",
+        columnNames = ["reminder_id", "scheduled_fire_time"]
+    )]
+)
+class ReminderFireLog(
+    @Column(name = "reminder_id", nullable = false)
+    var reminderId: Int = 0,
+
+    @Column(name = "scheduled_fire_time", nullable = false)
+    var scheduledFireTime: LocalDateTime = LocalDateTime.now(),
+
+    // 이 회차로 만들어진 알림 (아웃박스 릴레이가 저장 후 기록)
+    var notificationId: Int? = null,
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    var status: FireStatus = FireStatus.QUEUED,
+
+    // 웹 푸시 처리가 끝난 시각
+    var pushedAt: LocalDateTime? = null
+) : BaseEntity() {
+
+    enum class FireStatus {
+        QUEUED,       // 알림/웹 푸시를 아웃박스에 기록함
+        PUSHED,       // 웹 푸시 성공
+        PUSH_FAILED   // 구독 없음/전송 실패
+    }
+
+    // JPA를 위한 기본 생성자
+    constructor() : this(0, LocalDateTime.now(), null, FireStatus.QUEUED, null)
+}
@@ -0,0 +1,96 @@
+package com.tododuk.domain.reminder.job
+
+import com.tododuk.domain.notification.outbox.OutboxPublisher
+import com.tododuk.domain.reminder.entity.Reminder
+import com.tododuk.domain.reminder.repository.ReminderRepository
+import com.tododuk.domain.reminder.scheduler.ReminderScheduler
+import com.tododuk.domain.reminder.service.ReminderFireLogService
+import com.tododuk.domain.todo.service.TodoService
+import io.micrometer.core.instrument.MeterRegistry
+import org.springframework.dao.DataIntegrityViolationException
+import org.springframework.stereotype.Component
+import java.time.LocalDateTime
+
+/**
+ * 리마인더 알림 발송 (Quartz 잡 / 타이밍 휠 공용)
+ * 삭제되었거나 시각이 변경된 리마인더는 알림 조회/발송을 하지 않고 건너뛴다.
+ * 회차별 발송 기록(ReminderFireLog)으로 같은 회차의 중복 알림을 막고, 반복 리마인더는 발송 후 다음 회차로 옮긴다.
+ */
+@Component
+class ReminderDispatcher(
+    private val reminderRepository: ReminderRepository,
+    private val reminderFireLogService: ReminderFireLogService,
+    private val todoService: TodoService,
+    private val outboxPublisher: OutboxPublisher,
+    private val meterRegistry: MeterRegistry
+) {
+
+    /**
+     * @param scheduledAtMillis 스케줄 등록 당시의 remindAt (epoch millis), 알 수 없으면 null
+     * @return 반복 리마인더의 다음 회차 시각 (호출 측이 같은 리마인더로 다시 등록), 없으면 null
+     */
+    fun dispatch(reminderId: Int, scheduledAtMillis: Long?): LocalDateTime? {
+        val reminder = reminderRepository.findById(reminderId).orElse(null)
+        if (reminder == null) {
+            skip("missing")
+            return null
+        }
+        if (scheduledAtMillis != null && scheduledAtMillis != ReminderScheduler.epochMillisOf(reminder.remindAt)) {
+            skip("stale")
+            return null
+        }
+
+        send(reminder)
+
+        // 다음 회차 하나만 계산해 같은 행에 저장 (회차마다 행/트리거를 만들지 않는다)
+        val next = reminder.advanceRecurrence(LocalDateTime.now()) ?: return null
+        reminderRepository.save(reminder)
+        return next
+    }
+
+    /**
+     * 회차(reminderId, remindAt) 단위로 알림/웹 푸시를 아웃박스에 정확히 한 번 기록한다.
+     * 잡 재실행이나 여러 인스턴스의 동시 실행은 발송 기록으로 걸러지고, 실제 전달은 OutboxRelay 가 한다.
+     */
+    private fun send(reminder: Reminder) {
+        val recorded = try {
+            reminderFireLogService.recordFire(reminder.id, reminder.remindAt) { fireLog ->
+                val todoList = todoService.getTodoById(reminder.todoId!!).todoList!!
+                val userId = todoList.user.id
+
+                outboxPublisher.publishNotification(
+                    userId = userId,
+                    title = "Reminder: ${reminder.method}",
+                    description = "Your reminder is scheduled for ${reminder.remindAt}.",
+                    url = "/todoList/${todoList.id}",
+                    aggregateType = REMINDER_FIRE,
+                    aggregateId = fireLog.id
+                )
+                outboxPublisher.publishWebPush(
+                    userId = userId,
+                    title = reminder.method,
+                    body = reminder.method + "종료5분전입니다",
+                    aggregateType = REMINDER_FIRE,
+                    aggregateId = fireLog.id
+                )
+            }
+        } catch (e: DataIntegrityViolationException) {
+            // 다른 실행이 같은 회차를 먼저 기록함
+            false
+        }
+
+        if (!recorded) {
+            skip("duplicate")
+        }
+    }
+
+    // 불필요한 실행을 막은 횟수
+    private fun skip(reason: String) {
+        meterRegistry.counter("reminder.job.skipped", "reason", reason).increment()
+    }
+
+    companion object {
+        // 아웃박스 전달 결과를 발송 기록으로 돌려받기 위한 aggregateType
+        const val REMINDER_FIRE = "REMINDER_FIRE"
+    }
+}
@@ -1,33 +1,50 @@
 package com.tododuk.domain.reminder.job
 
-import com.tododuk.domain.notification.service.NotificationService
-import com.tododuk.domain.notification.service.WebPushNotificationService
+import com.tododuk.domain.reminder.scheduler.ReminderScheduler
+import com.tododuk.global.datasource.DataSourcePool
+import com.tododuk.global.datasource.DataSourcePoolContext
 import org.quartz.Job
 import org.quartz.JobExecutionContext
 import org.quartz.JobExecutionException
+import org.slf4j.LoggerFactory
 import org.springframework.stereotype.Component
 
 @Component
 class ReminderJob(
-    val notificationService: NotificationService,
-    val webPushNotificationService: WebPushNotificationService
+    val reminderDispatcher: ReminderDispatcher,
+    val reminderScheduler: ReminderScheduler
 ) : Job {
 
 
     @Throws(JobExecutionException::class)
     override fun execute(context: JobExecutionContext) {
         try {
-            val reminderId = context.getMergedJobDataMap().getInt("reminderId")
-            println("ReminderJob executed for reminderId: " + reminderId)
+            val jobDataMap = context.getMergedJobDataMap()
+            val reminderId = jobDataMap.getInt(REMINDER_ID)
+            log.debug("ReminderJob executed for reminderId: {}", reminderId)
 
-            notificationService.createNotificationByReminder(reminderId)
-            webPushNotificationService.sendWebPushNotificationByReminder(reminderId)
+            val scheduledAt = if (jobDataMap.containsKey(SCHEDULED_AT)) jobDataMap.getLong(SCHEDULED_AT) else null
+            // 잡 인스턴스는 Quartz 가 직접 만들어 프록시를 거치지 않으므로 풀을 직접 지정
+            val next = DataSourcePoolContext.with(DataSourcePool.SCHEDULER) {
+                reminderDispatcher.dispatch(reminderId, scheduledAt)
+            }
+
+            // 반복 리마인더는 같은 잡/트리거 키로 다음 회차만 다시 등록
+            if (next != null) {
+                reminderScheduler.scheduleNow(reminderId, next)
+            }
         } catch (e: Exception) {
-            System.err.println("ReminderJob 실행 중 예외 발생:")
-            e.printStackTrace() // 콘솔에 자세한 에러 출력
+            log.error("ReminderJob 실행 중 예외 발생", e)
 
             // Quartz에게 실패 알리기
             throw JobExecutionException(e)
         }
     }
-}
\ No newline at end of file
+
+    companion object {
+        private val log = LoggerFactory.getLogger(ReminderJob::class.java)
+
+        const val REMINDER_ID = "reminderId"
+        const val SCHEDULED_AT = "scheduledAt"
+    }
+}
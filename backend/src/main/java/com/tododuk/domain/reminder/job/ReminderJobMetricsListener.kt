@@ -0,0 +1,65 @@
+package com.tododuk.domain.reminder.job
+
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.Timer
+import org.quartz.JobExecutionContext
+import org.quartz.JobExecutionException
+import org.quartz.JobListener
+import org.quartz.Trigger
+import org.quartz.Trigger.CompletedExecutionInstruction
+import org.quartz.TriggerListener
+import java.util.concurrent.TimeUnit
+
+/**
+ * Quartz 잡 지표 (스케줄러 전역 리스너로 등록)
+ * - quartz.job.fire.delay : 예정 시각 대비 실제 실행 시작 지연
+ * - quartz.job.duration   : 잡 실행 시간 (result = success | failure)
+ * - quartz.job.misfire    : 미스파이어된 트리거 수
+ */
+class ReminderJobMetricsListener(
+    private val meterRegistry: MeterRegistry
+) : JobListener, TriggerListener {
+
+    override fun getName(): String = "reminderJobMetrics"
+
+    override fun jobToBeExecuted(context: JobExecutionContext) {
+        val scheduled = context.scheduledFireTime ?: return
+        val delayMs = (context.fireTime.time - scheduled.time).coerceAtLeast(0L)
+
+        Timer.builder("quartz.job.fire.delay")
+            .description("예정 시각 대비 잡 실행 시작 지연")
+            .tag("job", jobTag(context))
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry)
+            .record(delayMs, TimeUnit.MILLISECONDS)
+    }
+
+    override fun jobExecutionVetoed(context: JobExecutionContext) = Unit
+
+    override fun jobWasExecuted(context: JobExecutionContext, jobException: JobExecutionException?) {
+        Timer.builder("quartz.job.duration")
+            .description("잡 실행 시간")
+            .tag("job", jobTag(context))
+            .tag("result", if (jobException == null) "success" else "failure")
+            .register(meterRegistry)
+            .record(context.jobRunTime.coerceAtLeast(0L), TimeUnit.MILLISECONDS)
+    }
+
+    override fun triggerMisfired(trigger: Trigger) {
+        meterRegistry.counter("quartz.job.misfire", "group", trigger.key.group ?: "DEFAULT").increment()
+    }
+
+    override fun triggerFired(trigger: Trigger, context: JobExecutionContext) = Unit
+
+    override fun vetoJobExecution(trigger: Trigger, context: JobExecutionContext): Boolean = false
+
+    override fun triggerComplete(
+        trigger: Trigger,
+        context: JobExecutionContext,
+        triggerInstructionCode: CompletedExecutionInstruction
+    ) = Unit
+
+    // 리마인더마다 잡 키가 달라 태그 폭증을 막기 위해 잡 클래스 이름만 사용
+    private fun jobTag(context: JobExecutionContext): String =
+        context.jobDetail.jobClass.simpleName
+}
@@ -0,0 +1,128 @@
+package com.tododuk.domain.reminder.recurrence
+
+import com.tododuk.global.exception.ServiceException
+import java.time.DayOfWeek
+import java.time.LocalDate
+import java.time.LocalDateTime
+import java.time.LocalTime
+import java.time.format.DateTimeFormatter
+import java.time.format.DateTimeParseException
+import java.time.temporal.ChronoUnit
+import java.time.temporal.TemporalAdjusters
+
+/**
+ * RFC 5545 RRULE 의 부분 집합
+ * - FREQ=DAILY|WEEKLY|MONTHLY|YEARLY (필수)
+ * - INTERVAL=n, COUNT=n, UNTIL=yyyyMMdd 또는 yyyyMMdd'T'HHmmss (로컬 시각, 포함)
+ * - BYDAY=MO,TU,... (FREQ=WEEKLY 에서만)
+ * 예) "FREQ=WEEKLY;BYDAY=MO,WE,FR;COUNT=10"
+ *
+ * 회차는 미리 만들어 두지 않고, 한 회차가 발송될 때 다음 회차 하나만 계산한다.
+ */
+data class RecurrenceRule(
+    val frequency: Frequency,
+    val interval: Int = 1,
+    val count: Int? = null,
+    val until: LocalDateTime? = null,
+    val byDay: Set<DayOfWeek> = emptySet()
+) {
+
+    enum class Frequency(val unit: ChronoUnit) {
+        DAILY(ChronoUnit.DAYS),
+        WEEKLY(ChronoUnit.WEEKS),
+        MONTHLY(ChronoUnit.MONTHS),
+        YEARLY(ChronoUnit.YEARS)
+    }
+
+    /**
+     * index 번째(0부터) 회차 시각. 규칙이 끝났으면 null
+     * - start    : 첫 회차 (RRULE 의 DTSTART)
+     * - previous : index - 1 번째 회차
+     * 월/연 단위는 start 기준으로 계산해 31일 -> 30일 -> 30일 같은 밀림이 생기지 않는다.
+     */
+    fun occurrence(start: LocalDateTime, previous: LocalDateTime, index: Int): LocalDateTime? {
+        if (count != null && index >= count) return null
+
+        val next = if (byDay.isEmpty()) {
+            start.plus(interval.toLong() * index, frequency.unit)
+        } else {
+            nextByDay(previous)
+        }
+        return next.takeUnless { until != null && it.isAfter(until) }
+    }
+
+    // previous 다음 날부터 BYDAY 에 해당하면서 INTERVAL 주 간격에 맞는 첫 날
+    private fun nextByDay(previous: LocalDateTime): LocalDateTime {
+        val previousWeek = weekStartOf(previous.toLocalDate())
+        var candidate = previous.plusDays(1)
+        while (true) {
+            val weeks = ChronoUnit.WEEKS.between(previousWeek, weekStartOf(candidate.toLocalDate()))
+            if (weeks % interval == 0L && candidate.dayOfWeek in byDay) {
+                return candidate
+            }
+            candidate = candidate.plusDays(1)
+        }
+    }
+
+    override fun toString(): String = buildString {
+        append("FREQ=").append(frequency.name)
+        if (interval != 1) append(";INTERVAL=").append(interval)
+        count?.let { append(";COUNT=").append(it) }
+        until?.let { append(";UNTIL=").append(it.format(UNTIL_DATE_TIME)) }
+        if (byDay.isNotEmpty()) {
+            append(";BYDAY=").append(byDay.sorted().joinToString(",") { it.name.take(2) })
+        }
+    }
+
+    companion object {
+        private val UNTIL_DATE = DateTimeFormatter.ofPattern("yyyyMMdd")
+        private val UNTIL_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss")
+
+        private val DAYS = DayOfWeek.entries.associateBy { it.name.take(2) }
+
+        fun parse(rule: String): RecurrenceRule {
+            val parts = rule.removePrefix("RRULE:")
+                .split(';')
+                .filter { it.isNotBlank() }
+                .associate { part ->
+                    val (key, value) = part.split('=', limit = 2).takeIf { it.size == 2 }
+                        ?: throw invalid(rule)
+                    key.trim().uppercase() to value.trim().uppercase()
+                }
+
+            val frequency = parts["FREQ"]
+                ?.let { value -> Frequency.entries.firstOrNull { it.name == value } }
+                ?: throw invalid(rule)
+            val interval = parts["INTERVAL"]?.toIntOrNull()?.takeIf { it > 0 }
+                ?: if ("INTERVAL" in parts) throw invalid(rule) else 1
+            val count = parts["COUNT"]?.let { value -> value.toIntOrNull()?.takeIf { it > 0 } ?: throw invalid(rule) }
+            val until = parts["UNTIL"]?.let { parseUntil(it) ?: throw invalid(rule) }
+            val byDay = parts["BYDAY"]
+                ?.split(',')
+                ?.map { DAYS[it.trim()] ?: throw invalid(rule) }
+                ?.toSet()
+                .orEmpty()
+
+            if (byDay.isNotEmpty() && frequency != Frequency.WEEKLY) throw invalid(rule)
+            if (count != null && until != null) throw invalid(rule) // RFC 5545: 둘 중 하나만
+
+            return RecurrenceRule(frequency, interval, count, until, byDay)
+        }
+
+        private fun parseUntil(value: String): LocalDateTime? = try {
+            if (value.length == 8) {
+                // 날짜만 주어지면 그날 끝까지 포함
+                LocalDate.parse(value, UNTIL_DATE).atTime(LocalTime.MAX)
+            } else {
+                LocalDateTime.parse(value.removeSuffix("Z"), UNTIL_DATE_TIME)
+            }
+        } catch (e: DateTimeParseException) {
+            null
+        }
+
+        private fun weekStartOf(date: LocalDate): LocalDate =
+            date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+
+        private fun invalid(rule: String) = ServiceException("400-2", "잘못된 반복 규칙입니다: $rule")
+    }
+}
@@ -0,0 +1,35 @@
+package com.tododuk.domain.reminder.repository
+
+import com.tododuk.domain.reminder.entity.ReminderFireLog
+import com.tododuk.domain.reminder.entity.ReminderFireLog.FireStatus
+import org.springframework.data.domain.Pageable
+import org.springframework.data.jpa.repository.JpaRepository
+import org.springframework.data.jpa.repository.Modifying
+import org.springframework.data.jpa.repository.Query
+import org.springframework.data.repository.query.Param
+import org.springframework.stereotype.Repository
+import org.springframework.transaction.annotation.Transactional
+import java.time.LocalDateTime
+
+@Repository
+interface ReminderFireLogRepository : JpaRepository<ReminderFireLog, Int> {
+
+    fun findByReminderIdAndScheduledFireTime(reminderId: Int, scheduledFireTime: LocalDateTime): ReminderFireLog?
+
+    // 리마인더별 최근 발송 기록 (대시보드용)
+    fun findByReminderIdOrderByScheduledFireTimeDesc(reminderId: Int, pageable: Pageable): List<ReminderFireLog>
+
+    @Modifying
+    @Transactional
+    @Query("update ReminderFireLog l set l.notificationId = :notificationId where l.id = :id")
+    fun updateNotificationId(@Param("id") id: Int, @Param("notificationId") notificationId: Int): Int
+
+    @Modifying
+    @Transactional
+    @Query("update ReminderFireLog l set l.status = :status, l.pushedAt = :pushedAt where l.id in :ids")
+    fun updatePushResult(
+        @Param("ids") ids: Collection<Int>,
+        @Param("status") status: FireStatus,
+        @Param("pushedAt") pushedAt: LocalDateTime
+    ): Int
+}
@@ -1,9 +1,47 @@
 package com.tododuk.domain.reminder.repository
 
+import com.tododuk.domain.reminder.dto.ReminderScheduleView
 import com.tododuk.domain.reminder.entity.Reminder
+import org.springframework.data.domain.Pageable
 import org.springframework.data.jpa.repository.JpaRepository
+import org.springframework.data.jpa.repository.Modifying
+import org.springframework.data.jpa.repository.Query
+import org.springframework.data.repository.query.Param
 import org.springframework.stereotype.Repository
+import org.springframework.transaction.annotation.Transactional
+import java.time.LocalDateTime
 
 @Repository
 interface ReminderRepository: JpaRepository<Reminder, Int> {
+
+    // 관리자용 전체 목록 키셋 페이지 조회 (id > cursor)
+    @Query("select r from Reminder r where r.id > :cursor order by r.id")
+    fun findPageAfter(@Param("cursor") cursor: Int, pageable: Pageable): List<Reminder>
+
+    fun findAllByTodoId(todoId: Int): List<Reminder>
+
+    // ===== 스케줄 재조정용 =====
+
+    @Query("select r.id from Reminder r where r.id in :ids")
+    fun findExistingIds(@Param("ids") ids: Collection<Int>): List<Int>
+
+    @Query("select r.id as id, r.remindAt as remindAt from Reminder r where r.remindAt > :now")
+    fun findUpcomingSchedules(@Param("now") now: LocalDateTime): List<ReminderScheduleView>
+
+    // ===== 타이밍 휠 스케줄러용 =====
+
+    // (from, until] 구간에 울려야 하는 아직 발송되지 않은 리마인더
+    @Query(
+        "select r.id as id, r.remindAt as remindAt from Reminder r " +
+            "where r.firedAt is null and r.remindAt > :from and r.remindAt <= :until"
+    )
+    fun findUnfiredSchedulesBetween(
+        @Param("from") from: LocalDateTime,
+        @Param("until") until: LocalDateTime
+    ): List<ReminderScheduleView>
+
+    @Modifying
+    @Transactional
+    @Query("update Reminder r set r.firedAt = :firedAt where r.id in :ids")
+    fun markFired(@Param("ids") ids: Collection<Int>, @Param("firedAt") firedAt: LocalDateTime): Int
 }
\ No newline at end of file
@@ -0,0 +1,67 @@
+package com.tododuk.domain.reminder.scheduler
+
+import com.tododuk.domain.reminder.job.ReminderJob
+import io.micrometer.core.instrument.MeterRegistry
+import org.quartz.*
+import org.quartz.impl.matchers.GroupMatcher
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty
+import org.springframework.stereotype.Component
+import java.time.LocalDateTime
+import java.util.*
+
+/**
+ * Quartz 기반 리마인더 스케줄러 (기본값)
+ * 잡/트리거 키는 리마인더 ID 로 고정되어 있어 같은 리마인더는 항상 하나의 트리거만 가진다.
+ */
+@Component
+@ConditionalOnProperty(name = [ReminderScheduler.PROPERTY], havingValue = "quartz", matchIfMissing = true)
+class QuartzReminderScheduler(
+    private val scheduler: Scheduler,
+    meterRegistry: MeterRegistry
+) : ReminderScheduler(meterRegistry) {
+
+    override fun scheduleNow(reminderId: Int, remindAt: LocalDateTime) {
+        val jobDetail = JobBuilder.newJob(ReminderJob::class.java)
+            .withIdentity(jobKey(reminderId))
+            .usingJobData(ReminderJob.REMINDER_ID, reminderId)
+            .usingJobData(ReminderJob.SCHEDULED_AT, epochMillisOf(remindAt))
+            .build()
+
+        val trigger = TriggerBuilder.newTrigger()
+            .withIdentity(triggerKey(reminderId))
+            .startAt(Date(epochMillisOf(remindAt)))
+            .build()
+
+        scheduler.scheduleJob(jobDetail, setOf(trigger), true)
+    }
+
+    override fun unscheduleNow(reminderId: Int) {
+        scheduler.deleteJob(jobKey(reminderId))
+    }
+
+    override fun scheduledFireTimes(): Map<Int, Long?> {
+        return scheduler.getJobKeys(GroupMatcher.jobGroupEquals(JobKey.DEFAULT_GROUP))
+            .mapNotNull { key ->
+                val reminderId = reminderIdOf(key) ?: return@mapNotNull null
+                val nextFireTime = scheduler.getTriggersOfJob(key)
+                    .mapNotNull { it.nextFireTime }
+                    .minOrNull()
+                reminderId to nextFireTime?.time
+            }
+            .toMap()
+    }
+
+    companion object {
+        private const val JOB_NAME_PREFIX = "reminderJob-"
+        private const val TRIGGER_NAME_PREFIX = "reminderTrigger-"
+
+        fun jobKey(reminderId: Int): JobKey = JobKey.jobKey("$JOB_NAME_PREFIX$reminderId")
+
+        fun triggerKey(reminderId: Int): TriggerKey = TriggerKey.triggerKey("$TRIGGER_NAME_PREFIX$reminderId")
+
+        fun reminderIdOf(jobKey: JobKey): Int? =
+            jobKey.name.takeIf { it.startsWith(JOB_NAME_PREFIX) }
+                ?.removePrefix(JOB_NAME_PREFIX)
+                ?.toIntOrNull()
+    }
+}
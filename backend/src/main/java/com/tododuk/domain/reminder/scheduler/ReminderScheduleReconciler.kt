@@ -0,0 +1,78 @@
+package com.tododuk.domain.reminder.scheduler
+
+import com.tododuk.domain.reminder.repository.ReminderRepository
+import com.tododuk.global.datasource.DataSourcePool
+import com.tododuk.global.datasource.UseDataSourcePool
+import io.micrometer.core.instrument.MeterRegistry
+import org.slf4j.LoggerFactory
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty
+import org.springframework.scheduling.annotation.Scheduled
+import org.springframework.stereotype.Component
+import java.time.LocalDateTime
+
+/**
+ * Quartz 에 등록된 리마인더 트리거와 Reminder 테이블을 주기적으로 비교해 어긋난 부분을 바로잡는다.
+ * - orphan  : 트리거는 있는데 리마인더가 삭제됨 -> 잡 삭제
+ * - missing : 앞으로 울려야 하는 리마인더인데 트리거가 없음 (재시작으로 RAM 잡스토어가 비워진 경우 등) -> 등록
+ * - stale   : 트리거 시각과 remindAt 이 다름 -> 재등록
+ * 타이밍 휠 스케줄러는 주기적으로 테이블에서 직접 적재하므로 Quartz 사용 시에만 동작한다.
+ */
+@Component
+@ConditionalOnProperty(name = [ReminderScheduler.PROPERTY], havingValue = "quartz", matchIfMissing = true)
+@UseDataSourcePool(DataSourcePool.SCHEDULER)
+class ReminderScheduleReconciler(
+    private val reminderRepository: ReminderRepository,
+    private val reminderScheduler: ReminderScheduler,
+    private val meterRegistry: MeterRegistry
+) {
+
+    @Scheduled(
+        initialDelayString = "\${custom.reminder.reconcile.initialDelayMs:60000}",
+        fixedDelayString = "\${custom.reminder.reconcile.fixedDelayMs:600000}"
+    )
+    fun reconcile() {
+        val scheduled = reminderScheduler.scheduledFireTimes()
+
+        // 1. 삭제된 리마인더의 잡 정리
+        val existingIds = if (scheduled.isEmpty()) emptySet()
+        else reminderRepository.findExistingIds(scheduled.keys).toSet()
+        val orphanIds = scheduled.keys - existingIds
+        orphanIds.forEach { reminderScheduler.unscheduleNow(it) }
+
+        // 2. 앞으로 울릴 리마인더 중 트리거가 없거나 시각이 다른 것 재등록
+        var missingCount = 0
+        var staleCount = 0
+        reminderRepository.findUpcomingSchedules(LocalDateTime.now()).forEach { upcoming ->
+            val expected = ReminderScheduler.epochMillisOf(upcoming.remindAt)
+            val actual = scheduled[upcoming.id]
+
+            when {
+                upcoming.id !in scheduled -> missingCount++
+                actual != expected -> staleCount++
+                else -> return@forEach
+            }
+            reminderScheduler.scheduleNow(upcoming.id, upcoming.remindAt)
+        }
+
+        record("orphan", orphanIds.size)
+        record("missing", missingCount)
+        record("stale", staleCount)
+
+        if (orphanIds.isNotEmpty() || missingCount > 0 || staleCount > 0) {
+            log.warn(
+                "리마인더 스케줄 불일치 정리 - orphan: {}, missing: {}, stale: {} (등록된 잡: {})",
+                orphanIds.size, missingCount, staleCount, scheduled.size
+            )
+        }
+    }
+
+    private fun record(type: String, count: Int) {
+        if (count > 0) {
+            meterRegistry.counter("reminder.reconcile.drift", "type", type).increment(count.toDouble())
+        }
+    }
+
+    companion object {
+        private val log = LoggerFactory.getLogger(ReminderScheduleReconciler::class.java)
+    }
+}
@@ -0,0 +1,83 @@
+package com.tododuk.domain.reminder.scheduler
+
+import com.tododuk.domain.reminder.entity.Reminder
+import io.micrometer.core.instrument.MeterRegistry
+import org.slf4j.LoggerFactory
+import org.springframework.transaction.support.TransactionSynchronization
+import org.springframework.transaction.support.TransactionSynchronizationManager
+import java.time.LocalDateTime
+import java.time.ZoneId
+
+/**
+ * 리마인더 <-> 스케줄러 동기화 창구
+ * - 트랜잭션 안에서 호출되면 커밋 이후에만 스케줄러에 반영한다. (롤백 시 고아 잡이 남지 않도록)
+ * - 같은 리마인더는 항상 하나의 실행 예약만 가진다. (재등록 시 기존 예약 교체)
+ * - 구현체는 custom.reminder.scheduler 로 선택 (quartz | timing-wheel)
+ */
+abstract class ReminderScheduler(
+    private val meterRegistry: MeterRegistry
+) {
+
+    fun schedule(reminder: Reminder) {
+        val reminderId = reminder.id
+        val remindAt = reminder.remindAt
+        afterCommit("schedule") { scheduleNow(reminderId, remindAt) }
+    }
+
+    fun reschedule(reminder: Reminder) {
+        val reminderId = reminder.id
+        val remindAt = reminder.remindAt
+        afterCommit("reschedule") { scheduleNow(reminderId, remindAt) }
+    }
+
+    fun unschedule(reminderId: Int) {
+        afterCommit("unschedule") { unscheduleNow(reminderId) }
+    }
+
+    /**
+     * 즉시 반영 (같은 리마인더의 기존 예약은 교체)
+     */
+    abstract fun scheduleNow(reminderId: Int, remindAt: LocalDateTime)
+
+    abstract fun unscheduleNow(reminderId: Int)
+
+    /**
+     * 현재 예약된 리마인더 목록 (리마인더 ID -> 다음 실행 시각 epoch millis)
+     */
+    abstract fun scheduledFireTimes(): Map<Int, Long?>
+
+    private fun afterCommit(operation: String, action: () -> Unit) {
+        val task = {
+            try {
+                action()
+                meterRegistry.counter(OPERATIONS_METRIC, "op", operation).increment()
+            } catch (e: Exception) {
+                // 이미 커밋된 데이터는 되돌릴 수 없으므로 실패는 기록만 하고 재조정 작업이 복구한다
+                meterRegistry.counter(OPERATIONS_METRIC, "op", operation, "result", "failed").increment()
+                log.error("리마인더 스케줄 반영 실패 (op={}), 재조정 작업에서 복구 예정", operation, e)
+            }
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task()
+            return
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(object : TransactionSynchronization {
+            override fun afterCommit() {
+                task()
+            }
+        })
+    }
+
+    companion object {
+        private val log = LoggerFactory.getLogger(ReminderScheduler::class.java)
+
+        private const val OPERATIONS_METRIC = "reminder.scheduler.operations"
+
+        const val PROPERTY = "custom.reminder.scheduler"
+
+        fun epochMillisOf(dateTime: LocalDateTime): Long =
+            dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+    }
+}
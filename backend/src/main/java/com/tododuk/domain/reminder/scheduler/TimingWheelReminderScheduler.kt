@@ -0,0 +1,214 @@
+package com.tododuk.domain.reminder.scheduler
+
+import com.tododuk.domain.reminder.job.ReminderDispatcher
+import com.tododuk.domain.reminder.repository.ReminderRepository
+import com.tododuk.domain.reminder.scheduler.wheel.HierarchicalTimingWheel
+import com.tododuk.global.datasource.DataSourcePool
+import com.tododuk.global.datasource.DataSourcePoolContext
+import com.tododuk.global.datasource.UseDataSourcePool
+import io.micrometer.core.instrument.Gauge
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.Timer
+import jakarta.annotation.PostConstruct
+import jakarta.annotation.PreDestroy
+import org.slf4j.LoggerFactory
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty
+import org.springframework.scheduling.annotation.Scheduled
+import org.springframework.stereotype.Component
+import java.time.Instant
+import java.time.LocalDateTime
+import java.time.ZoneId
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+/**
+ * 프로세스 내 계층형 타이밍 휠 기반 리마인더 스케줄러 (custom.reminder.scheduler=timing-wheel)
+ * - horizonMs 이내에 울릴 리마인더만 Reminder 테이블에서 주기적으로 적재한다. 그 이후의 리마인더는 다음 적재 때 들어온다.
+ * - 만료된 리마인더는 가상 스레드에서 발송하고, 발송 완료 표시(firedAt)는 모아서 한 번에 저장한다.
+ * - 단일 인스턴스 전제 (여러 인스턴스를 띄우면 같은 리마인더가 인스턴스 수만큼 발송된다)
+ */
+@Component
+@ConditionalOnProperty(name = [ReminderScheduler.PROPERTY], havingValue = "timing-wheel")
+class TimingWheelReminderScheduler(
+    private val reminderRepository: ReminderRepository,
+    private val reminderDispatcher: ReminderDispatcher,
+    private val meterRegistry: MeterRegistry,
+    @Value("\${custom.reminder.timingWheel.horizonMs:600000}")
+    private val horizonMs: Long,
+    @Value("\${custom.reminder.timingWheel.loadIntervalMs:60000}")
+    private val loadIntervalMs: Long,
+    @Value("\${custom.reminder.timingWheel.missedGraceMs:300000}")
+    private val missedGraceMs: Long,
+    @Value("\${custom.reminder.timingWheel.flushBatchSize:500}")
+    private val flushBatchSize: Int
+) : ReminderScheduler(meterRegistry) {
+
+    private val wheel = HierarchicalTimingWheel<Int>()
+    private val entries = ConcurrentHashMap<Int, HierarchicalTimingWheel.Entry<Int>>()
+
+    // 발송했지만 아직 firedAt 이 저장되지 않은 리마인더 (재적재 시 중복 발송 방지)
+    private val unflushedIds = ConcurrentHashMap.newKeySet<Int>()
+    private val firedQueue = ConcurrentLinkedQueue<Int>()
+
+    private val dispatchExecutor: ExecutorService = Executors.newVirtualThreadPerTaskExecutor()
+    private val jitter: Timer = Timer.builder("reminder.timing_wheel.jitter")
+        .description("remindAt 대비 실제 발송 시작 지연")
+        .publishPercentiles(0.5, 0.99)
+        .register(meterRegistry)
+
+    @Volatile
+    private var loadedUntilMs: Long = 0L
+
+    @Volatile
+    private var running = false
+    private lateinit var driver: Thread
+
+    @PostConstruct
+    fun start() {
+        require(loadIntervalMs < horizonMs) { "loadIntervalMs 는 horizonMs 보다 작아야 합니다." }
+
+        Gauge.builder("reminder.timing_wheel.size", wheel) { it.size().toDouble() }.register(meterRegistry)
+
+        running = true
+        driver = Thread.ofPlatform().name("reminder-timing-wheel").daemon(true).start {
+            while (running) {
+                try {
+                    wheel.poll(POLL_TIMEOUT_MS).forEach { fire(it) }
+                } catch (e: InterruptedException) {
+                    Thread.currentThread().interrupt()
+                    break
+                } catch (e: Exception) {
+                    log.error("타이밍 휠 처리 중 오류", e)
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    fun stop() {
+        running = false
+        driver.interrupt()
+        dispatchExecutor.shutdown()
+        dispatchExecutor.awaitTermination(10, TimeUnit.SECONDS)
+        flushFired()
+    }
+
+    /**
+     * horizonMs 이내에 울릴 리마인더 적재
+     * 기동 직후에는 중단되어 있던 동안 놓친 리마인더도 missedGraceMs 범위 안에서 함께 적재한다.
+     */
+    @UseDataSourcePool(DataSourcePool.SCHEDULER)
+    @Scheduled(fixedDelayString = "\${custom.reminder.timingWheel.loadIntervalMs:60000}")
+    fun loadHorizon() {
+        val nowMs = System.currentTimeMillis()
+        val untilMs = nowMs + horizonMs
+        val fromMs = if (loadedUntilMs == 0L) nowMs - missedGraceMs else loadedUntilMs
+
+        // 적재 구간을 먼저 넓혀 두어야 그 사이에 생성된 리마인더가 scheduleNow 에서 버려지지 않는다
+        loadedUntilMs = untilMs
+
+        var loaded = 0
+        reminderRepository.findUnfiredSchedulesBetween(toLocalDateTime(fromMs), toLocalDateTime(untilMs))
+            .forEach { view ->
+                if (view.id !in entries && view.id !in unflushedIds) {
+                    scheduleNow(view.id, view.remindAt)
+                    loaded++
+                }
+            }
+        if (loaded > 0) {
+            meterRegistry.counter("reminder.timing_wheel.loaded").increment(loaded.toDouble())
+        }
+    }
+
+    override fun scheduleNow(reminderId: Int, remindAt: LocalDateTime) {
+        val expirationMs = epochMillisOf(remindAt)
+        entries.remove(reminderId)?.cancel()
+
+        // 적재 구간 밖의 리마인더는 다음 loadHorizon 에서 들어온다
+        if (expirationMs > loadedUntilMs) return
+
+        val entry = wheel.add(reminderId, expirationMs)
+        if (entry == null) {
+            dispatch(reminderId, expirationMs)
+            return
+        }
+        entries[reminderId] = entry
+    }
+
+    override fun unscheduleNow(reminderId: Int) {
+        entries.remove(reminderId)?.cancel()
+    }
+
+    override fun scheduledFireTimes(): Map<Int, Long?> =
+        entries.mapValues { it.value.expirationMs }
+
+    private fun fire(entry: HierarchicalTimingWheel.Entry<Int>) {
+        // 그 사이 재등록/취소된 항목이면 무시
+        if (!entries.remove(entry.payload, entry)) return
+        dispatch(entry.payload, entry.expirationMs)
+    }
+
+    private fun dispatch(reminderId: Int, scheduledAtMs: Long) {
+        unflushedIds.add(reminderId)
+        jitter.record(maxOf(System.currentTimeMillis() - scheduledAtMs, 0L), TimeUnit.MILLISECONDS)
+
+        dispatchExecutor.execute {
+            val next = try {
+                DataSourcePoolContext.with(DataSourcePool.SCHEDULER) {
+                    reminderDispatcher.dispatch(reminderId, scheduledAtMs)
+                }
+            } catch (e: Exception) {
+                // 실패해도 재시도하지 않는다 (Quartz 잡과 동일)
+                log.error("리마인더 발송 실패 (reminderId={})", reminderId, e)
+                null
+            }
+
+            if (next != null) {
+                // 반복 리마인더는 발송 완료 표시 없이 다음 회차로 다시 등록
+                scheduleNow(reminderId, next)
+                unflushedIds.remove(reminderId)
+            } else {
+                firedQueue.add(reminderId)
+            }
+        }
+    }
+
+    /**
+     * 발송 완료 표시를 flushBatchSize 단위로 모아 저장
+     */
+    @UseDataSourcePool(DataSourcePool.SCHEDULER)
+    @Scheduled(fixedDelayString = "\${custom.reminder.timingWheel.flushIntervalMs:1000}")
+    fun flushFired() {
+        val firedAt = LocalDateTime.now()
+        while (true) {
+            val ids = ArrayList<Int>(flushBatchSize)
+            while (ids.size < flushBatchSize) {
+                ids.add(firedQueue.poll() ?: break)
+            }
+            if (ids.isEmpty()) return
+
+            try {
+                reminderRepository.markFired(ids, firedAt)
+                unflushedIds.removeAll(ids.toSet())
+            } catch (e: Exception) {
+                // 다음 주기에 다시 시도
+                firedQueue.addAll(ids)
+                log.error("리마인더 발송 완료 표시 저장 실패 ({}건)", ids.size, e)
+                return
+            }
+        }
+    }
+
+    private fun toLocalDateTime(epochMillis: Long): LocalDateTime =
+        LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault())
+
+    companion object {
+        private val log = LoggerFactory.getLogger(TimingWheelReminderScheduler::class.java)
+
+        private const val POLL_TIMEOUT_MS = 200L
+    }
+}
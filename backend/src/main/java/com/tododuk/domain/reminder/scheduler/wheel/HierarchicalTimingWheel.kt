@@ -0,0 +1,156 @@
+package com.tododuk.domain.reminder.scheduler.wheel
+
+import java.util.concurrent.DelayQueue
+import java.util.concurrent.Delayed
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.locks.ReentrantLock
+import kotlin.concurrent.withLock
+
+/**
+ * 계층형 타이밍 휠
+ * - 1단 휠은 tickMs 단위 버킷 wheelSize 개, 범위를 벗어나면 tickMs * wheelSize 단위의 상위 휠에 넣는다.
+ * - 비어 있지 않은 버킷만 DelayQueue 에 들어가므로 매 tick 마다 깨어나지 않고 가장 가까운 버킷 만료 시각까지만 대기한다.
+ * - 상위 휠 버킷이 만료되면 항목을 다시 add 해 하위 휠로 내려보내고, 1단 휠에서 만료된 항목만 실행 대상으로 반환한다.
+ * 등록/조회는 O(1), 취소는 항목에 표시만 해 두고 버킷을 비울 때 버린다.
+ */
+class HierarchicalTimingWheel<T : Any>(
+    private val tickMs: Long = 1,
+    private val wheelSize: Int = 512,
+    startMs: Long = System.currentTimeMillis()
+) {
+
+    class Entry<T>(val payload: T, val expirationMs: Long) {
+        @Volatile
+        var cancelled: Boolean = false
+            private set
+
+        fun cancel() {
+            cancelled = true
+        }
+    }
+
+    private val lock = ReentrantLock()
+    private val queue = DelayQueue<Bucket<T>>()
+    private val pending = AtomicInteger()
+    private val root = Level<T>(tickMs, wheelSize, startMs, queue)
+
+    init {
+        require(tickMs > 0) { "tickMs must be positive" }
+        require(wheelSize > 1) { "wheelSize must be greater than 1" }
+    }
+
+    /**
+     * @return 등록된 항목, 이미 만료 시각이 지난 경우 null (호출 측에서 바로 실행)
+     */
+    fun add(payload: T, expirationMs: Long): Entry<T>? {
+        val entry = Entry(payload, expirationMs)
+        val added = lock.withLock { root.add(entry) }
+        if (!added) return null
+
+        pending.incrementAndGet()
+        return entry
+    }
+
+    /**
+     * 가장 가까운 버킷이 만료될 때까지 최대 timeoutMs 대기한 뒤 만료된 항목을 모두 꺼낸다.
+     */
+    fun poll(timeoutMs: Long): List<Entry<T>> {
+        var bucket = queue.poll(timeoutMs, TimeUnit.MILLISECONDS) ?: return emptyList()
+
+        val expired = ArrayList<Entry<T>>()
+        lock.withLock {
+            while (true) {
+                root.advanceClock(bucket.expirationMs)
+                for (entry in bucket.flush()) {
+                    if (entry.cancelled) {
+                        pending.decrementAndGet()
+                    } else if (!root.add(entry)) {
+                        pending.decrementAndGet()
+                        expired.add(entry)
+                    }
+                }
+                bucket = queue.poll() ?: break
+            }
+        }
+        return expired
+    }
+
+    /**
+     * 휠에 남아 있는 항목 수 (취소되었지만 아직 버킷에서 빠지지 않은 항목 포함)
+     */
+    fun size(): Int = pending.get()
+
+    private class Bucket<T> : Delayed {
+        // 휠 lock 안에서만 변경
+        private val entries = ArrayList<Entry<T>>()
+
+        @Volatile
+        var expirationMs: Long = -1L
+            private set
+
+        fun add(entry: Entry<T>) {
+            entries.add(entry)
+        }
+
+        /**
+         * @return 만료 시각이 바뀌었으면 true (DelayQueue 에 다시 넣어야 함)
+         */
+        fun setExpiration(expirationMs: Long): Boolean {
+            val changed = this.expirationMs != expirationMs
+            this.expirationMs = expirationMs
+            return changed
+        }
+
+        fun flush(): List<Entry<T>> {
+            val flushed = ArrayList(entries)
+            entries.clear()
+            expirationMs = -1L
+            return flushed
+        }
+
+        override fun getDelay(unit: TimeUnit): Long =
+            unit.convert(maxOf(expirationMs - System.currentTimeMillis(), 0L), TimeUnit.MILLISECONDS)
+
+        override fun compareTo(other: Delayed): Int =
+            expirationMs.compareTo((other as Bucket<*>).expirationMs)
+    }
+
+    private class Level<T>(
+        private val tickMs: Long,
+        private val wheelSize: Int,
+        startMs: Long,
+        private val queue: DelayQueue<Bucket<T>>
+    ) {
+        private val interval = tickMs * wheelSize
+        private val buckets = Array(wheelSize) { Bucket<T>() }
+        private var currentTimeMs = startMs - startMs % tickMs
+        private var overflow: Level<T>? = null
+
+        fun add(entry: Entry<T>): Boolean {
+            val expirationMs = entry.expirationMs
+            if (expirationMs < currentTimeMs + tickMs) {
+                return false
+            }
+            if (expirationMs >= currentTimeMs + interval) {
+                val upper = overflow ?: Level(interval, wheelSize, currentTimeMs, queue).also { overflow = it }
+                return upper.add(entry)
+            }
+
+            val virtualId = expirationMs / tickMs
+            val bucket = buckets[(virtualId % wheelSize).toInt()]
+            bucket.add(entry)
+            if (bucket.setExpiration(virtualId * tickMs)) {
+                queue.offer(bucket)
+            }
+            return true
+        }
+
+        fun advanceClock(timeMs: Long) {
+            if (timeMs >= currentTimeMs + tickMs) {
+                currentTimeMs = timeMs - timeMs % tickMs
+                overflow?.advanceClock(currentTimeMs)
+            }
+        }
+    }
+}
@@ -1,20 +1,39 @@
 package com.tododuk.domain.reminder.service
 
+import com.tododuk.domain.reminder.job.ReminderJobMetricsListener
+import io.micrometer.core.instrument.MeterRegistry
 import org.quartz.spi.JobFactory
 import org.quartz.spi.TriggerFiredBundle
+import org.springframework.beans.factory.annotation.Value
 import org.springframework.beans.factory.config.AutowireCapableBeanFactory
 import org.springframework.context.annotation.Bean
 import org.springframework.context.annotation.Configuration
+import org.springframework.core.task.VirtualThreadTaskExecutor
 import org.springframework.scheduling.quartz.SchedulerFactoryBean
 import org.springframework.scheduling.quartz.SpringBeanJobFactory
 
 // QuartzConfig.java
 @Configuration
-class QuartzConfig(private val beanFactory: AutowireCapableBeanFactory) {
+class QuartzConfig(
+    private val beanFactory: AutowireCapableBeanFactory,
+    private val meterRegistry: MeterRegistry,
+    @Value("\${spring.threads.virtual.enabled:false}")
+    private val virtualThreads: Boolean
+) {
     @Bean
     fun schedulerFactoryBean(): SchedulerFactoryBean {
         val factory = SchedulerFactoryBean()
         factory.setJobFactory(springBeanJobFactory())
+
+        // 가상 스레드 모드면 잡마다 가상 스레드에서 실행 (고정 크기 SimpleThreadPool 대신)
+        if (virtualThreads) {
+            factory.setTaskExecutor(VirtualThreadTaskExecutor("quartz-"))
+        }
+
+        // 잡 실행 지연/시간, 미스파이어 지표
+        val metricsListener = ReminderJobMetricsListener(meterRegistry)
+        factory.setGlobalJobListeners(metricsListener)
+        factory.setGlobalTriggerListeners(metricsListener)
         return factory
     }
 
@@ -0,0 +1,94 @@
+package com.tododuk.domain.reminder.service
+
+import com.tododuk.domain.reminder.dto.ReminderFireLogDto
+import com.tododuk.domain.reminder.entity.ReminderFireLog
+import com.tododuk.domain.reminder.entity.ReminderFireLog.FireStatus
+import com.tododuk.domain.reminder.repository.ReminderFireLogRepository
+import com.tododuk.global.datasource.DataSourcePool
+import com.tododuk.global.datasource.UseDataSourcePool
+import jakarta.annotation.PreDestroy
+import org.slf4j.LoggerFactory
+import org.springframework.data.domain.PageRequest
+import org.springframework.scheduling.annotation.Scheduled
+import org.springframework.stereotype.Service
+import org.springframework.transaction.annotation.Propagation
+import org.springframework.transaction.annotation.Transactional
+import java.time.LocalDateTime
+import java.util.concurrent.ConcurrentLinkedQueue
+
+/**
+ * 리마인더 회차별 발송 기록
+ * - 알림/웹 푸시 아웃박스 기록은 발송 기록 INSERT 와 같은 트랜잭션에서 처리해 회차당 정확히 한 번만 남는다.
+ * - 실제 전달은 OutboxRelay 가 하고, 결과(알림 ID, 푸시 성공 여부)를 이쪽으로 돌려준다.
+ * - 푸시 결과(PUSHED/PUSH_FAILED)는 대시보드용이라 모아서 한 번에 저장한다.
+ */
+@Service
+class ReminderFireLogService(
+    private val reminderFireLogRepository: ReminderFireLogRepository
+) {
+
+    private val pushResults = ConcurrentLinkedQueue<Pair<Int, FireStatus>>()
+
+    /**
+     * 회차의 발송 기록을 남기고 같은 트랜잭션에서 enqueue 로 아웃박스에 기록한다.
+     * 이미 기록된 회차면 아무것도 하지 않고 false.
+     * 동시에 같은 회차를 처리하면 한쪽은 유니크 제약 위반(DataIntegrityViolationException)으로 롤백된다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    fun recordFire(
+        reminderId: Int,
+        scheduledFireTime: LocalDateTime,
+        enqueue: (ReminderFireLog) -> Unit
+    ): Boolean {
+        if (reminderFireLogRepository.findByReminderIdAndScheduledFireTime(reminderId, scheduledFireTime) != null) {
+            return false
+        }
+
+        // IDENTITY 전략이라 save 시점에 INSERT 되어 아웃박스에 기록하기 전에 중복이 걸러진다
+        val fireLog = reminderFireLogRepository.save(ReminderFireLog(reminderId, scheduledFireTime))
+        enqueue(fireLog)
+        return true
+    }
+
+    fun recordNotification(fireLogId: Int, notificationId: Int) {
+        reminderFireLogRepository.updateNotificationId(fireLogId, notificationId)
+    }
+
+    fun recordPushResult(fireLogId: Int, delivered: Boolean) {
+        pushResults.add(fireLogId to if (delivered) FireStatus.PUSHED else FireStatus.PUSH_FAILED)
+    }
+
+    @Transactional(readOnly = true)
+    fun getRecentFireLogs(reminderId: Int, size: Int): List<ReminderFireLogDto> =
+        reminderFireLogRepository.findByReminderIdOrderByScheduledFireTimeDesc(reminderId, PageRequest.ofSize(size))
+            .map { ReminderFireLogDto.from(it) }
+
+    /**
+     * 쌓인 푸시 결과를 상태별로 묶어 update 한 번씩 실행
+     */
+    @UseDataSourcePool(DataSourcePool.SCHEDULER)
+    @Scheduled(fixedDelayString = "\${custom.reminder.fireLog.flushIntervalMs:1000}")
+    @PreDestroy
+    fun flushPushResults() {
+        val drained = generateSequence { pushResults.poll() }.toList()
+        if (drained.isEmpty()) return
+
+        val pushedAt = LocalDateTime.now()
+        drained.groupBy({ it.second }, { it.first }).forEach { (status, ids) ->
+            try {
+                ids.chunked(FLUSH_CHUNK_SIZE).forEach { chunk ->
+                    reminderFireLogRepository.updatePushResult(chunk, status, pushedAt)
+                }
+            } catch (e: Exception) {
+                // 대시보드용 상태라 유실되어도 알림/푸시에는 영향 없음
+                log.warn("리마인더 푸시 결과 저장 실패 ({} {}건)", status, ids.size, e)
+            }
+        }
+    }
+
+    companion object {
+        private val log = LoggerFactory.getLogger(ReminderFireLogService::class.java)
+
+        private const val FLUSH_CHUNK_SIZE = 500
+    }
+}
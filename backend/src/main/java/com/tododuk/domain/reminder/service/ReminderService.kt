@@ -2,35 +2,45 @@ package com.tododuk.domain.reminder.service
 
 import com.tododuk.domain.reminder.dto.ReminderDto
 import com.tododuk.domain.reminder.entity.Reminder
-import com.tododuk.domain.reminder.job.ReminderJob
+import com.tododuk.domain.reminder.recurrence.RecurrenceRule
 import com.tododuk.domain.reminder.repository.ReminderRepository
+import com.tododuk.domain.reminder.scheduler.ReminderScheduler
 import com.tododuk.domain.todo.service.TodoService
+import com.tododuk.global.exception.ServiceException
+import com.tododuk.global.page.CursorPage
+import com.tododuk.global.page.CursorPaging
 import com.tododuk.global.rsData.RsData
+import io.micrometer.core.annotation.Timed
 import lombok.RequiredArgsConstructor
-import org.quartz.JobBuilder
-import org.quartz.Scheduler
-import org.quartz.SchedulerException
-import org.quartz.TriggerBuilder
 import org.springframework.stereotype.Service
+import org.springframework.transaction.annotation.Transactional
+import java.time.Duration
 import java.time.LocalDateTime
-import java.time.ZoneId
-import java.util.*
-import java.util.stream.Collectors
 
 @Service
+@Timed(value = "service.method", extraTags = ["service", "reminder"])
 @RequiredArgsConstructor
 class ReminderService(
 
     private val reminderRepository: ReminderRepository,
     private val todoService: TodoService,
-    private val scheduler: Scheduler
+    private val reminderScheduler: ReminderScheduler,
+    private val cursorPaging: CursorPaging
 
 ) {
-    fun createReminder(todoId: Int, remindDateTime: LocalDateTime, method: String): Reminder {
-
-        val reminder = Reminder(todoId, remindDateTime, method)
+    @Transactional
+    fun createReminder(
+        todoId: Int,
+        remindDateTime: LocalDateTime,
+        method: String,
+        recurrenceRule: String? = null
+    ): Reminder {
+
+        // 저장 전에 규칙을 검증하고 정규화된 형태로 저장
+        val normalizedRule = recurrenceRule?.takeIf { it.isNotBlank() }?.let { RecurrenceRule.parse(it).toString() }
+        val reminder = Reminder(todoId, remindDateTime, method, normalizedRule)
         reminderRepository.save<Reminder?>(reminder)
-        scheduleReminderJob(reminder)
+        reminderScheduler.schedule(reminder)
         return reminder
     }
 
@@ -39,18 +49,18 @@ class ReminderService(
         return reminderRepository.findById(id).orElse(null)
     }
 
+    @Transactional
     fun deleteReminder(id: Int): RsData<Void?> {
         reminderRepository.deleteById(id)
+        reminderScheduler.unschedule(id)
         return RsData<Void?>("200-1", "Reminder deleted successfully")
     }
 
-    fun getReminder(): RsData<MutableList<ReminderDto?>?>
-    {
-        val reminders = reminderRepository.findAll()
-        val reminderDto: MutableList<ReminderDto?> = reminders.stream()
-            .map { reminder: Reminder -> ReminderDto(reminder) }
-            .collect(Collectors.toList())
-        return RsData<MutableList<ReminderDto?>?>("200-1", "Reminders retrieved successfully", reminderDto)
+    fun getReminderPage(cursor: Int?, size: Int?): RsData<CursorPage<ReminderDto>> {
+        val pageSize = cursorPaging.sizeOf(size)
+        val reminders = reminderRepository.findPageAfter(cursorPaging.cursorOf(cursor), cursorPaging.fetchLimit(pageSize))
+        val page = CursorPage.of(reminders, pageSize, Reminder::id) { ReminderDto(it) }
+        return RsData("200-1", "Reminders retrieved successfully", page)
     }
 
     fun getReminderById(id: Int): RsData<ReminderDto?> {
@@ -70,6 +80,45 @@ class ReminderService(
 
 
 
+    /**
+     * 리마인더가 actorId 사용자의 할일에 걸린 것인지 확인한다. (없으면 404, 다른 사용자의 것이면 403)
+     */
+    @Transactional(readOnly = true)
+    fun checkOwner(reminderId: Int, actorId: Int) {
+        val reminder = reminderRepository.findById(reminderId)
+            .orElseThrow { ServiceException("404-1", "존재하지 않는 리마인더입니다.") }
+        val ownerId = reminder.todoId?.let { todoService.getTodoById(it).todoList?.user?.id }
+        if (ownerId != actorId) {
+            throw ServiceException("403-1", "본인 할일의 리마인더만 조회할 수 있습니다.")
+        }
+    }
+
+    /**
+     * 할일 마감 시각이 바뀌면 해당 할일의 리마인더를 같은 간격만큼 옮긴다.
+     * 사용자가 따로 정한 시각(마감 몇 분 전 등)과 반복 회차는 그대로 유지되고, 마감 시각이 그대로면 건드리지 않는다.
+     */
+    @Transactional
+    fun shiftRemindersForTodo(todoId: Int, previousDueDate: LocalDateTime?, dueDate: LocalDateTime?) {
+        if (previousDueDate == null || dueDate == null || previousDueDate == dueDate) return
+
+        val delta = Duration.between(previousDueDate, dueDate)
+        reminderRepository.findAllByTodoId(todoId).forEach { reminder ->
+            reminder.shiftBy(delta)
+            reminderScheduler.reschedule(reminder)
+        }
+    }
+
+    /**
+     * 할일 삭제 시 해당 할일의 리마인더와 트리거를 함께 삭제한다.
+     */
+    @Transactional
+    fun deleteRemindersForTodo(todoId: Int) {
+        val reminders = reminderRepository.findAllByTodoId(todoId)
+        reminderRepository.deleteAll(reminders)
+        reminders.forEach { reminderScheduler.unschedule(it.id) }
+    }
+
+    @Transactional
     fun updateReminder(id: Int, remindDateTime: LocalDateTime?, method: String?): RsData<ReminderDto?> {
         val existingReminder = reminderRepository!!.findById(id)
         if (existingReminder.isEmpty) {
@@ -80,34 +129,18 @@ class ReminderService(
 
         // Kotlin 스타일로 프로퍼티 직접 수정
         if (remindDateTime != null) {
-            reminder.remindAt = remindDateTime
+            reminder.changeRemindAt(remindDateTime)
         }
         if (method != null) {
             reminder.method = method
         }
 
         reminderRepository.save(reminder)
+        if (remindDateTime != null) {
+            reminderScheduler.reschedule(reminder)
+        }
 
         return RsData("200-1", "Reminder updated successfully", ReminderDto(reminder))
     }
 
-    fun scheduleReminderJob(reminder: Reminder) {
-        try {
-            val jobDetail = JobBuilder.newJob(ReminderJob::class.java)
-                .withIdentity("reminderJob-${reminder.id}")
-                .usingJobData("reminderId", reminder.id)
-                .build()
-
-            println("스케줄러 작동")
-
-            val trigger = TriggerBuilder.newTrigger()
-                .startAt(Date.from(reminder.remindAt.atZone(ZoneId.systemDefault()).toInstant()))
-                .build()
-
-            scheduler.scheduleJob(jobDetail, trigger)
-        } catch (e: SchedulerException) {
-            throw RuntimeException("Failed to schedule job", e)
-        }
-    }
-
 }
\ No newline at end of file
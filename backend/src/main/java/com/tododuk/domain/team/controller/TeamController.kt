@@ -1,24 +1,45 @@
 package com.tododuk.domain.team.controller
 
+import com.tododuk.domain.team.dto.MyAssignmentPageResponseDto
+import com.tododuk.domain.team.dto.TeamAssignmentResponseDto
 import com.tododuk.domain.team.dto.TeamCreateRequestDto
 import com.tododuk.domain.team.dto.TeamResponseDto
+import com.tododuk.domain.team.dto.TeamStatsResponseDto
+import com.tododuk.domain.team.dto.TeamTodoDetailResponseDto
+import com.tododuk.domain.team.dto.TeamTodoListRequestDto
+import com.tododuk.domain.team.dto.TeamTodoListResponseDto
+import com.tododuk.domain.team.dto.TeamTodoRequestDto
+import com.tododuk.domain.team.dto.TeamTodoResponseDto
 import com.tododuk.domain.team.dto.TeamUpdateRequestDto
+import com.tododuk.domain.team.dto.TodoAssignRequestDto
+import com.tododuk.domain.team.dto.TodoAssigneeCheckResponseDto
+import com.tododuk.domain.team.dto.TodoAssigneeResponseDto
+import com.tododuk.domain.team.dto.TodoAssigneesRequestDto
+import com.tododuk.domain.team.dto.TodoAssigneesResponseDto
+import com.tododuk.domain.team.dto.TodoAssignmentResponseDto
 import com.tododuk.domain.team.service.TeamService
 import com.tododuk.domain.user.entity.User
 import com.tododuk.domain.user.repository.UserRepository
 import com.tododuk.global.exception.ServiceException
+import com.tododuk.global.page.CursorPage
 import com.tododuk.global.rq.Rq
 import com.tododuk.global.rsData.RsData
+import com.tododuk.global.webMvc.ConditionalGetSupport
 import io.swagger.v3.oas.annotations.Operation
 import jakarta.validation.Valid
+import org.slf4j.LoggerFactory
+import org.springframework.format.annotation.DateTimeFormat
+import org.springframework.http.ResponseEntity
 import org.springframework.web.bind.annotation.*
+import java.time.LocalDateTime
 
 @RestController
 @RequestMapping("/api/v1/teams")
 class TeamController(
     private val teamService: TeamService,
     private val rq: Rq,
-    private val userRepository: UserRepository
+    private val userRepository: UserRepository,
+    private val conditionalGetSupport: ConditionalGetSupport
 ) {
 
     // ===== 팀 기본 CRUD =====
@@ -35,14 +56,16 @@ class TeamController(
     }
 
     @Operation(
-        summary = "팀 목록 조회",
-        description = "모든 팀의 목록을 조회합니다."
+        summary = "관리자 - 팀 목록 조회",
+        description = "모든 팀의 목록을 id 커서 기반으로 페이지 단위 조회합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 전달하세요. (관리자만 가능)"
     )
     @GetMapping
-    fun getTeams(): RsData<List<TeamResponseDto>> {
-        val teams = teamService.getAllTeams()
-        val teamResponseDtos = teams.map { TeamResponseDto.from(it) }
-        return RsData.success("팀 목록 조회 성공", teamResponseDtos)
+    fun getTeams(
+        @RequestParam(required = false) cursor: Int?,
+        @RequestParam(required = false) size: Int?
+    ): RsData<CursorPage<TeamResponseDto>> {
+        val teamPage = teamService.getTeamPage(cursor, size)
+        return RsData.success("팀 목록 조회 성공", teamPage)
     }
 
     @GetMapping("/my")
@@ -62,10 +85,14 @@ class TeamController(
         summary = "특정 팀 상세 조회",
         description = "지정된 팀 ID에 해당하는 팀의 상세 정보를 조회합니다. 팀 멤버 정보도 포함됩니다. (해당 팀 멤버만 조회 가능)"
     )
-    fun getTeamDetails(@PathVariable teamId: Int): RsData<TeamResponseDto> {
+    fun getTeamDetails(@PathVariable teamId: Int): ResponseEntity<RsData<TeamResponseDto>> {
         val authenticatedUser = getAuthenticatedUser()
-        val teamResponseDto = teamService.getTeamDetails(teamId, authenticatedUser.id)
-        return RsData.success("팀 상세 정보 조회 성공", teamResponseDto)
+        val version = teamService.getTeamDetailsVersion(teamId, authenticatedUser.id)
+
+        return conditionalGetSupport.ifModified("team:$teamId", version) {
+            val teamResponseDto = teamService.getTeamDetails(teamId, authenticatedUser.id)
+            RsData.success("팀 상세 정보 조회 성공", teamResponseDto)
+        }
     }
 
     @Operation(
@@ -100,10 +127,14 @@ class TeamController(
         summary = "할일 목록 조회",
         description = "지정된 팀의 할일 목록을 조회합니다. teamId가 0이면 개인 할일, 1 이상이면 팀 할일입니다. (팀 멤버만 가능)"
     )
-    fun getTeamTodos(@PathVariable teamId: Int): RsData<List<Map<String, Any?>>> {
+    fun getTeamTodos(@PathVariable teamId: Int): ResponseEntity<RsData<List<TeamTodoResponseDto>>> {
         val authenticatedUser = getAuthenticatedUser()
-        val todos = teamService.getTeamTodos(teamId, authenticatedUser.id)
-        return RsData.success("할일 목록 조회 성공", todos)
+        val version = teamService.getTeamTodosVersion(teamId, authenticatedUser.id)
+
+        return conditionalGetSupport.ifModified("team:$teamId:todos:${authenticatedUser.id}", version) {
+            val todos = teamService.getTeamTodos(teamId, authenticatedUser.id)
+            RsData.success("할일 목록 조회 성공", todos)
+        }
     }
 
     @PostMapping("/{teamId}/todos")
@@ -113,8 +144,8 @@ class TeamController(
     )
     fun addTeamTodo(
         @PathVariable teamId: Int,
-        @RequestBody todoRequest: Map<String, Any?>
-    ): RsData<Map<String, Any?>> {
+        @RequestBody todoRequest: TeamTodoRequestDto
+    ): RsData<TeamTodoResponseDto> {
         val authenticatedUser = getAuthenticatedUser()
         val newTodo = teamService.addTeamTodo(teamId, authenticatedUser.id, todoRequest)
         return RsData.success("할일 추가 성공", newTodo)
@@ -125,7 +156,7 @@ class TeamController(
         summary = "팀 할일 목록 조회",
         description = "지정된 팀의 할일 목록들을 조회합니다. (팀 멤버만 가능)"
     )
-    fun getTeamTodoLists(@PathVariable teamId: Int): RsData<List<Map<String, Any?>>> {
+    fun getTeamTodoLists(@PathVariable teamId: Int): RsData<List<TeamTodoListResponseDto>> {
         val authenticatedUser = getAuthenticatedUser()
         val todoLists = teamService.getTeamTodoLists(teamId, authenticatedUser.id)
         return RsData.success("팀 할일 목록 조회 성공", todoLists)
@@ -138,8 +169,8 @@ class TeamController(
     )
     fun createTeamTodoList(
         @PathVariable teamId: Int,
-        @RequestBody todoListRequest: Map<String, Any?>
-    ): RsData<Map<String, Any?>> {
+        @RequestBody todoListRequest: TeamTodoListRequestDto
+    ): RsData<TeamTodoListResponseDto> {
         val authenticatedUser = getAuthenticatedUser()
         val todoList = teamService.createTeamTodoList(teamId, todoListRequest, authenticatedUser.id)
         return RsData.success("할일 목록이 성공적으로 생성되었습니다.", todoList)
@@ -153,8 +184,8 @@ class TeamController(
     fun updateTeamTodoList(
         @PathVariable teamId: Int,
         @PathVariable todoListId: Int,
-        @RequestBody todoListRequest: Map<String, Any?>
-    ): RsData<Map<String, Any?>> {
+        @RequestBody todoListRequest: TeamTodoListRequestDto
+    ): RsData<TeamTodoListResponseDto> {
         val authenticatedUser = getAuthenticatedUser()
         val updatedTodoList = teamService.updateTeamTodoList(teamId, todoListId, todoListRequest, authenticatedUser.id)
         return RsData.success("할일 목록이 성공적으로 수정되었습니다.", updatedTodoList)
@@ -182,7 +213,7 @@ class TeamController(
     fun getTeamTodosByList(
         @PathVariable teamId: Int,
         @PathVariable todoListId: Int
-    ): RsData<List<Map<String, Any?>>> {
+    ): RsData<List<TeamTodoDetailResponseDto>> {
         val authenticatedUser = getAuthenticatedUser()
         val todos = teamService.getTeamTodosByList(teamId, todoListId, authenticatedUser.id)
         return RsData.success("할일 목록별 할일 조회 성공", todos)
@@ -196,8 +227,8 @@ class TeamController(
     fun addTodoToTeamList(
         @PathVariable teamId: Int,
         @PathVariable todoListId: Int,
-        @RequestBody todoRequest: Map<String, Any?>
-    ): RsData<Map<String, Any?>> {
+        @RequestBody todoRequest: TeamTodoRequestDto
+    ): RsData<TeamTodoDetailResponseDto> {
         val authenticatedUser = getAuthenticatedUser()
         val newTodo = teamService.addTodoToTeamList(teamId, todoListId, todoRequest, authenticatedUser.id)
         return RsData.success("할일이 성공적으로 추가되었습니다.", newTodo)
@@ -211,8 +242,8 @@ class TeamController(
     fun updateTeamTodo(
         @PathVariable teamId: Int,
         @PathVariable todoId: Int,
-        @RequestBody todoRequest: Map<String, Any?>
-    ): RsData<Map<String, Any?>> {
+        @RequestBody todoRequest: TeamTodoRequestDto
+    ): RsData<TeamTodoDetailResponseDto> {
         val authenticatedUser = getAuthenticatedUser()
         val updatedTodo = teamService.updateTeamTodo(teamId, todoId, todoRequest, authenticatedUser.id)
         return RsData.success("할일이 성공적으로 수정되었습니다.", updatedTodo)
@@ -240,7 +271,7 @@ class TeamController(
     fun toggleTeamTodoComplete(
         @PathVariable teamId: Int,
         @PathVariable todoId: Int
-    ): RsData<Map<String, Any?>> {
+    ): RsData<TeamTodoDetailResponseDto> {
         val authenticatedUser = getAuthenticatedUser()
         val updatedTodo = teamService.toggleTeamTodoComplete(teamId, todoId, authenticatedUser.id)
         return RsData.success("할일 완료 상태가 변경되었습니다.", updatedTodo)
@@ -256,10 +287,10 @@ class TeamController(
     fun assignTodoToMember(
         @PathVariable teamId: Int,
         @PathVariable todoId: Int,
-        @RequestBody assignmentRequest: Map<String, Any?>
-    ): RsData<Map<String, Any?>> {
+        @RequestBody assignmentRequest: TodoAssignRequestDto
+    ): RsData<TodoAssignmentResponseDto> {
         val authenticatedUser = getAuthenticatedUser()
-        val assignedUserId = assignmentRequest["assignedUserId"] as? Int
+        val assignedUserId = assignmentRequest.assignedUserId
             ?: throw ServiceException("400-BAD_REQUEST", "담당자 ID는 필수입니다.")
 
         val assignment = teamService.assignTodoToMember(teamId, todoId, assignedUserId, authenticatedUser.id)
@@ -288,18 +319,33 @@ class TeamController(
     fun getTodoAssignment(
         @PathVariable teamId: Int,
         @PathVariable todoId: Int
-    ): RsData<Map<String, Any?>> {
+    ): RsData<TodoAssigneeResponseDto> {
         val authenticatedUser = getAuthenticatedUser()
         val assignment = teamService.getTodoAssignment(teamId, todoId, authenticatedUser.id)
         return RsData.success("담당자 정보 조회 성공", assignment)
     }
 
+    @GetMapping("/assignments/me")
+    @Operation(
+        summary = "내 담당 Todo 조회",
+        description = "모든 팀에서 내가 담당 중인 Todo 를 담당 지정일 최신순으로 페이지 단위 조회합니다. 응답의 nextCursorAssignedAt, nextCursorId 를 다음 요청의 cursorAssignedAt, cursorId 로 전달하세요."
+    )
+    fun getMyAssignments(
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) cursorAssignedAt: LocalDateTime?,
+        @RequestParam(required = false) cursorId: Int?,
+        @RequestParam(required = false) size: Int?
+    ): RsData<MyAssignmentPageResponseDto> {
+        val authenticatedUser = getAuthenticatedUser()
+        val page = teamService.getMyAssignmentPage(authenticatedUser.id, cursorAssignedAt, cursorId, size)
+        return RsData.success("내 담당 Todo 조회 성공", page)
+    }
+
     @GetMapping("/{teamId}/assignments")
     @Operation(
         summary = "팀 담당자 기록 조회",
         description = "지정된 팀의 모든 담당자 기록을 조회합니다. (팀 멤버만 가능)"
     )
-    fun getTeamAssignments(@PathVariable teamId: Int): RsData<List<Map<String, Any?>>> {
+    fun getTeamAssignments(@PathVariable teamId: Int): RsData<List<TeamAssignmentResponseDto>> {
         val authenticatedUser = getAuthenticatedUser()
         val assignments = teamService.getTeamAssignments(teamId, authenticatedUser.id)
         return RsData.success("팀 담당자 기록 조회 성공", assignments)
@@ -315,7 +361,7 @@ class TeamController(
     fun getTodoAssignees(
         @PathVariable teamId: Int,
         @PathVariable todoId: Int
-    ): RsData<List<Map<String, Any?>>> {
+    ): RsData<List<TodoAssigneeResponseDto>> {
         val authenticatedUser = getAuthenticatedUser()
         val assignees = teamService.getTodoAssignees(teamId, todoId, authenticatedUser.id)
         return RsData.success("담당자 목록 조회 성공", assignees)
@@ -329,12 +375,11 @@ class TeamController(
     fun assignMultipleTodoAssignees(
         @PathVariable teamId: Int,
         @PathVariable todoId: Int,
-        @RequestBody assignmentRequest: Map<String, Any?>
-    ): RsData<Map<String, Any?>> {
+        @RequestBody assignmentRequest: TodoAssigneesRequestDto
+    ): RsData<TodoAssigneesResponseDto> {
         val authenticatedUser = getAuthenticatedUser()
 
-        @Suppress("UNCHECKED_CAST")
-        val assignedUserIds = assignmentRequest["assignedUserIds"] as? List<Int>
+        val assignedUserIds = assignmentRequest.assignedUserIds
             ?: throw ServiceException("400-BAD_REQUEST", "담당자 ID 목록은 필수입니다.")
 
         val assignment = teamService.assignMultipleTodoAssignees(teamId, todoId, assignedUserIds, authenticatedUser.id)
@@ -349,14 +394,14 @@ class TeamController(
     fun isTodoAssignee(
         @PathVariable teamId: Int,
         @PathVariable todoId: Int
-    ): RsData<Map<String, Any?>> {
+    ): RsData<TodoAssigneeCheckResponseDto> {
         val authenticatedUser = getAuthenticatedUser()
         val isAssignee = teamService.isTodoAssignee(teamId, todoId, authenticatedUser.id)
 
-        val response = mapOf<String, Any?>(
-            "isAssignee" to isAssignee,
-            "userId" to authenticatedUser.id,
-            "todoId" to todoId
+        val response = TodoAssigneeCheckResponseDto(
+            isAssignee = isAssignee,
+            userId = authenticatedUser.id,
+            todoId = todoId
         )
 
         return RsData.success("담당자 여부 확인 완료", response)
@@ -369,7 +414,7 @@ class TeamController(
         summary = "팀 할일 통계 조회",
         description = "지정된 팀의 할일 통계를 조회합니다. (팀 멤버만 가능)"
     )
-    fun getTeamStats(@PathVariable teamId: Int): RsData<Map<String, Any?>> {
+    fun getTeamStats(@PathVariable teamId: Int): RsData<TeamStatsResponseDto> {
         val authenticatedUser = getAuthenticatedUser()
         val stats = teamService.getTeamStats(teamId, authenticatedUser.id)
         return RsData.success("팀 통계 조회 성공", stats)
@@ -384,7 +429,7 @@ class TeamController(
         val actor = rq.getActor()
         if (actor == null) {
             // 로그인은 성공했지만 쿠키가 제대로 설정되지 않은 경우를 위한 처리
-            println("인증 실패: actor가 null입니다. 쿠키 확인 필요")
+            log.debug("인증 실패: actor가 null입니다. 쿠키 확인 필요")
 
             // 임시로 테스트 사용자 생성 (실제 프로덕션에서는 제거)
             try {
@@ -397,16 +442,16 @@ class TeamController(
                         .password("password123")
                         .build()
                     userRepository.save(testUser)
-                    println("테스트 사용자 생성됨: dev@test.com")
+                    log.debug("테스트 사용자 생성됨: dev@test.com")
 
                     // 생성 후 다시 조회
                     val newActor = userRepository.findByUserEmail("dev@test.com").orElse(null)
                     if (newActor != null) {
-                        println("생성된 사용자로 인증 성공: ${newActor.userEmail}")
+                        log.debug("생성된 사용자로 인증 성공: {}", newActor.userEmail)
                         return newActor
                     }
                 } else {
-                    println("기존 사용자 발견: ${existingUser.get().userEmail}")
+                    log.debug("기존 사용자 발견: {}", existingUser.get().userEmail)
                     return existingUser.get()
                 }
 
@@ -414,8 +459,7 @@ class TeamController(
                 createAdditionalTestUsers()
 
             } catch (e: Exception) {
-                println("테스트 사용자 생성 실패: ${e.message}")
-                e.printStackTrace()
+                log.warn("테스트 사용자 생성 실패", e)
             }
 
             throw ServiceException("401-1", "로그인이 필요합니다.")
@@ -436,8 +480,12 @@ class TeamController(
                     nickName = testNames[i]
                 )
                 userRepository.save(testUser)
-                println("테스트 사용자 생성됨: ${testEmails[i]}")
+                log.debug("테스트 사용자 생성됨: {}", testEmails[i])
             }
         }
     }
-}
\ No newline at end of file
+
+    companion object {
+        private val log = LoggerFactory.getLogger(TeamController::class.java)
+    }
+}
@@ -11,6 +11,7 @@ import com.tododuk.global.rq.Rq
 import com.tododuk.global.rsData.RsData
 import io.swagger.v3.oas.annotations.Operation
 import jakarta.validation.Valid
+import org.slf4j.LoggerFactory
 import org.springframework.web.bind.annotation.*
 
 @RestController
@@ -89,7 +90,7 @@ class TeamMemberController(
         val actor = rq.getActor()
         if (actor == null) {
             // 로그인은 성공했지만 쿠키가 제대로 설정되지 않은 경우를 위한 처리
-            println("인증 실패: actor가 null입니다. 쿠키 확인 필요")
+            log.debug("인증 실패: actor가 null입니다. 쿠키 확인 필요")
 
             // 임시로 테스트 사용자 생성 (실제 프로덕션에서는 제거)
             try {
@@ -102,25 +103,28 @@ class TeamMemberController(
                         nickName = "김개발"
                     )
                     userRepository.save(testUser)
-                    println("테스트 사용자 생성됨: dev@test.com")
+                    log.debug("테스트 사용자 생성됨: dev@test.com")
 
                     // 생성 후 다시 조회
                     val newActor = userRepository.findByUserEmail("dev@test.com").orElse(null)
                     if (newActor != null) {
-                        println("생성된 사용자로 인증 성공: ${newActor.userEmail}")
+                        log.debug("생성된 사용자로 인증 성공: {}", newActor.userEmail)
                         return newActor
                     }
                 } else {
-                    println("기존 사용자 발견: ${existingUser.get().userEmail}")
+                    log.debug("기존 사용자 발견: {}", existingUser.get().userEmail)
                     return existingUser.get()
                 }
             } catch (e: Exception) {
-                println("테스트 사용자 생성 실패: ${e.message}")
-                e.printStackTrace()
+                log.warn("테스트 사용자 생성 실패", e)
             }
 
             throw ServiceException("401-1", "로그인이 필요합니다.")
         }
         return actor
     }
-}
\ No newline at end of file
+
+    companion object {
+        private val log = LoggerFactory.getLogger(TeamMemberController::class.java)
+    }
+}
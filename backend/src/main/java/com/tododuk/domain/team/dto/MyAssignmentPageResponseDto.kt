@@ -0,0 +1,33 @@
+package com.tododuk.domain.team.dto
+
+import java.time.LocalDateTime
+
+/**
+ * 내 담당 Todo 키셋 페이지 (assignedAt 내림차순, 같은 시각은 id 내림차순)
+ * 다음 페이지는 nextCursorAssignedAt / nextCursorId 를 그대로 전달해 요청한다. (마지막 페이지면 null)
+ */
+data class MyAssignmentPageResponseDto(
+    val items: List<MyAssignmentResponseDto>,
+    val size: Int,
+    val nextCursorAssignedAt: LocalDateTime?,
+    val nextCursorId: Int?,
+    val hasNext: Boolean
+) {
+    companion object {
+        // size + 1 건을 조회한 결과로 페이지를 만든다.
+        @JvmStatic
+        fun of(rows: List<MyAssignmentResponseDto>, size: Int): MyAssignmentPageResponseDto {
+            val hasNext = rows.size > size
+            val pageRows = if (hasNext) rows.subList(0, size) else rows
+            val last = pageRows.lastOrNull()?.takeIf { hasNext }
+
+            return MyAssignmentPageResponseDto(
+                items = pageRows,
+                size = size,
+                nextCursorAssignedAt = last?.assignedAt,
+                nextCursorId = last?.assignmentId,
+                hasNext = hasNext
+            )
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.tododuk.domain.team.dto
+
+import java.time.LocalDateTime
+
+/**
+ * 내 담당 Todo 대시보드 항목 (TodoAssignmentRepository.findMyPage 프로젝션)
+ */
+data class MyAssignmentResponseDto(
+    val assignmentId: Int,
+    val todoId: Int,
+    val todoTitle: String?,
+    val dueDate: LocalDateTime?,
+    val isCompleted: Boolean,
+    val teamId: Int,
+    val teamName: String,
+    val assignedAt: LocalDateTime
+)
@@ -0,0 +1,31 @@
+package com.tododuk.domain.team.dto
+
+import com.tododuk.domain.team.entity.TodoAssignment
+import java.time.LocalDateTime
+
+data class TeamAssignmentResponseDto(
+    val id: Int,
+    val todoId: Int?,
+    val todoTitle: String?,
+    val assignedUserId: Int?,
+    val assignedUserNickname: String?,
+    val assignedUserEmail: String?,
+    val assignedAt: LocalDateTime,
+    val status: TodoAssignment.AssignmentStatus
+) {
+    companion object {
+        @JvmStatic
+        fun from(assignment: TodoAssignment): TeamAssignmentResponseDto {
+            return TeamAssignmentResponseDto(
+                id = assignment.id,
+                todoId = assignment.todo?.id,
+                todoTitle = assignment.todo?.title,
+                assignedUserId = assignment.assignedUser?.id,
+                assignedUserNickname = assignment.assignedUser?.nickName,
+                assignedUserEmail = assignment.assignedUser?.userEmail,
+                assignedAt = assignment.assignedAt,
+                status = assignment.status
+            )
+        }
+    }
+}
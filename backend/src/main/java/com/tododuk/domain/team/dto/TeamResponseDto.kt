@@ -1,6 +1,7 @@
 package com.tododuk.domain.team.dto
 
 import com.tododuk.domain.team.entity.Team
+import com.tododuk.domain.team.entity.TeamMember
 import java.time.LocalDateTime
 
 data class TeamResponseDto(
@@ -13,8 +14,12 @@ data class TeamResponseDto(
 ) {
     companion object {
         @JvmStatic
-        fun from(team: Team): TeamResponseDto {
-            val memberDtos = team.members.map { TeamMemberResponseDto.from(it) }
+        fun from(team: Team): TeamResponseDto = of(team, team.members)
+
+        // 멤버를 별도로 조회한 경우 (team.members 지연 로딩을 피할 때)
+        @JvmStatic
+        fun of(team: Team, members: List<TeamMember>): TeamResponseDto {
+            val memberDtos = members.map { TeamMemberResponseDto.from(it) }
 
             return TeamResponseDto(
                 id = team.id,
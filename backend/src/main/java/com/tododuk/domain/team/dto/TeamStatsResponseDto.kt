@@ -0,0 +1,22 @@
+package com.tododuk.domain.team.dto
+
+data class TeamStatsResponseDto(
+    val total: Int,
+    val completed: Int,
+    val overdue: Int,
+    val inProgress: Int,
+    val completionRate: Long
+) {
+    companion object {
+        @JvmStatic
+        fun of(total: Int, completed: Int, overdue: Int): TeamStatsResponseDto {
+            return TeamStatsResponseDto(
+                total = total,
+                completed = completed,
+                overdue = overdue,
+                inProgress = total - completed - overdue,
+                completionRate = if (total > 0) Math.round(completed.toDouble() / total * 100) else 0
+            )
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.tododuk.domain.team.dto
+
+/**
+ * 팀 할일 전체 집계 프로젝션 (카운터 재계산/초기화용)
+ */
+interface TeamTodoCountView {
+    val total: Long
+    val completed: Long
+    val overdue: Long
+}
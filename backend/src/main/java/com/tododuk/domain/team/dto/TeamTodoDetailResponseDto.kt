@@ -0,0 +1,35 @@
+package com.tododuk.domain.team.dto
+
+import com.tododuk.domain.todo.entity.Todo
+import java.time.LocalDateTime
+
+data class TeamTodoDetailResponseDto(
+    val id: Int,
+    val title: String?,
+    val description: String?,
+    val priority: Int,
+    val completed: Boolean,
+    val todoListId: Int?,
+    val createdAt: LocalDateTime,
+    val updatedAt: LocalDateTime,
+    val startDate: LocalDateTime,
+    val dueDate: LocalDateTime?
+) {
+    companion object {
+        @JvmStatic
+        fun from(todo: Todo): TeamTodoDetailResponseDto {
+            return TeamTodoDetailResponseDto(
+                id = todo.id,
+                title = todo.title,
+                description = todo.description,
+                priority = todo.priority,
+                completed = todo.isCompleted,
+                todoListId = todo.todoList?.id,
+                createdAt = todo.createDate,
+                updatedAt = todo.modifyDate,
+                startDate = todo.startDate,
+                dueDate = todo.dueDate
+            )
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.tododuk.domain.team.dto
+
+data class TeamTodoListRequestDto(
+    val name: String? = null,
+    val description: String? = null
+)
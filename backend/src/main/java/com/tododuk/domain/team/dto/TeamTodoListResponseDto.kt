@@ -0,0 +1,29 @@
+package com.tododuk.domain.team.dto
+
+import com.tododuk.domain.todoList.entity.TodoList
+import java.time.LocalDateTime
+
+data class TeamTodoListResponseDto(
+    val id: Int,
+    val name: String?,
+    val description: String?,
+    val userId: Int,
+    val teamId: Int?,
+    val createDate: LocalDateTime,
+    val modifyDate: LocalDateTime
+) {
+    companion object {
+        @JvmStatic
+        fun from(todoList: TodoList): TeamTodoListResponseDto {
+            return TeamTodoListResponseDto(
+                id = todoList.id,
+                name = todoList.name,
+                description = todoList.description,
+                userId = todoList.user.id,
+                teamId = todoList.team?.id,
+                createDate = todoList.createDate,
+                modifyDate = todoList.modifyDate
+            )
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.tododuk.domain.team.dto
+
+import com.tododuk.global.exception.ServiceException
+import java.time.LocalDateTime
+import java.time.format.DateTimeParseException
+
+data class TeamTodoRequestDto(
+    val title: String? = null,
+    val description: String? = null,
+    val priority: Int? = null,
+    val dueDate: String? = null // ISO-8601 문자열 (프론트에서 toISOString() 으로 전달, 'Z' 포함 가능)
+) {
+    /**
+     * dueDate 문자열을 LocalDateTime 으로 변환 (비어있으면 null)
+     * 형식이 잘못되면 마감일을 지우지 않고 400 으로 거절한다.
+     */
+    fun parsedDueDate(): LocalDateTime? {
+        if (dueDate.isNullOrEmpty()) return null
+        return try {
+            LocalDateTime.parse(dueDate.replace("Z", ""))
+        } catch (e: DateTimeParseException) {
+            throw ServiceException("400-BAD_REQUEST", "마감일 형식이 올바르지 않습니다: $dueDate")
+        }
+    }
+}
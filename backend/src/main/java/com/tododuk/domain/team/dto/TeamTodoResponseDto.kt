@@ -0,0 +1,35 @@
+package com.tododuk.domain.team.dto
+
+import com.fasterxml.jackson.annotation.JsonProperty
+import com.tododuk.domain.todo.entity.Todo
+import java.time.LocalDateTime
+
+data class TeamTodoResponseDto(
+    val id: Int,
+    val title: String?,
+    val description: String?,
+    @get:JsonProperty("isCompleted")
+    val isCompleted: Boolean,
+    val priority: Int,
+    val dueDate: LocalDateTime?,
+    val assignedMemberId: Int?,
+    val type: String, // personal, team
+    val createdAt: LocalDateTime
+) {
+    companion object {
+        @JvmStatic
+        fun from(todo: Todo, teamId: Int): TeamTodoResponseDto {
+            return TeamTodoResponseDto(
+                id = todo.id,
+                title = todo.title,
+                description = todo.description,
+                isCompleted = todo.isCompleted,
+                priority = todo.priority,
+                dueDate = todo.dueDate,
+                assignedMemberId = null,
+                type = if (teamId == 0) "personal" else "team",
+                createdAt = todo.createDate
+            )
+        }
+    }
+}
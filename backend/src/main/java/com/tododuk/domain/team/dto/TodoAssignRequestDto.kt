@@ -0,0 +1,5 @@
+package com.tododuk.domain.team.dto
+
+data class TodoAssignRequestDto(
+    val assignedUserId: Int? = null
+)
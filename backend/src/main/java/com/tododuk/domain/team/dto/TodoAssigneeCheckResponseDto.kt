@@ -0,0 +1,10 @@
+package com.tododuk.domain.team.dto
+
+import com.fasterxml.jackson.annotation.JsonProperty
+
+data class TodoAssigneeCheckResponseDto(
+    @get:JsonProperty("isAssignee")
+    val isAssignee: Boolean,
+    val userId: Int,
+    val todoId: Int
+)
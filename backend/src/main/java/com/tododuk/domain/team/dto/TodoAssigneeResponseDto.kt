@@ -0,0 +1,27 @@
+package com.tododuk.domain.team.dto
+
+import com.tododuk.domain.team.entity.TodoAssignment
+import java.time.LocalDateTime
+
+data class TodoAssigneeResponseDto(
+    val assignedUserId: Int?,
+    val assignedUserNickname: String?,
+    val assignedUserEmail: String?,
+    val assignedAt: LocalDateTime?
+) {
+    companion object {
+        // 담당자가 없는 경우의 응답
+        @JvmField
+        val EMPTY = TodoAssigneeResponseDto(null, null, null, null)
+
+        @JvmStatic
+        fun from(assignment: TodoAssignment): TodoAssigneeResponseDto {
+            return TodoAssigneeResponseDto(
+                assignedUserId = assignment.assignedUser?.id,
+                assignedUserNickname = assignment.assignedUser?.nickName,
+                assignedUserEmail = assignment.assignedUser?.userEmail,
+                assignedAt = assignment.assignedAt
+            )
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package com.tododuk.domain.team.dto
+
+data class TodoAssigneesRequestDto(
+    val assignedUserIds: List<Int>? = null
+)
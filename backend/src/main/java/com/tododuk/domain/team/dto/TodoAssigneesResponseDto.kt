@@ -0,0 +1,12 @@
+package com.tododuk.domain.team.dto
+
+import java.time.LocalDateTime
+
+data class TodoAssigneesResponseDto(
+    val todoId: Int,
+    val assignedUserIds: List<Int>,
+    val assignedCount: Int,
+    val removedCount: Int,
+    val addedCount: Int,
+    val assignedAt: LocalDateTime
+)
@@ -0,0 +1,10 @@
+package com.tododuk.domain.team.dto
+
+import java.time.LocalDateTime
+
+data class TodoAssignmentResponseDto(
+    val todoId: Int,
+    val assignedUserId: Int,
+    val assignedUserNickname: String,
+    val assignedAt: LocalDateTime
+)
@@ -1,17 +1,22 @@
 package com.tododuk.domain.team.entity
 
+import com.tododuk.global.cache.CacheRegions
 import com.tododuk.global.entity.BaseEntity
 import jakarta.persistence.CascadeType
 import jakarta.persistence.Entity
 import jakarta.persistence.OneToMany
+import org.hibernate.annotations.Cache
+import org.hibernate.annotations.CacheConcurrencyStrategy
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.TEAM)
 class Team(
     var teamName: String = "",
     var description: String? = null
 ) : BaseEntity() {
 
     @OneToMany(mappedBy = "team", cascade = [CascadeType.ALL], orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.TEAM_MEMBERS)
     val members: MutableList<TeamMember> = mutableListOf()
 
     // JPA를 위한 기본 생성자
@@ -2,11 +2,15 @@ package com.tododuk.domain.team.entity
 
 import com.tododuk.domain.team.constant.TeamRoleType
 import com.tododuk.domain.user.entity.User
+import com.tododuk.global.cache.CacheRegions
 import com.tododuk.global.entity.BaseEntity
 import jakarta.persistence.*
+import org.hibernate.annotations.Cache
+import org.hibernate.annotations.CacheConcurrencyStrategy
 import java.time.LocalDateTime
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.TEAM_MEMBER)
 @Table(
     name = "team_members",
     uniqueConstraints = [UniqueConstraint(columnNames = ["user_id", "team_id"])]
@@ -0,0 +1,55 @@
+package com.tododuk.domain.team.entity
+
+import jakarta.persistence.*
+import java.time.LocalDateTime
+
+/**
+ * 팀별 할일 집계 (팀 통계 API 용 비정규화 카운터)
+ * - total / completed 는 할일 생성/수정/삭제/완료 토글 트랜잭션 안에서 함께 갱신한다.
+ * - overdue 는 overdueAsOf 시점 기준 "미완료 + 마감일 지남" 개수다.
+ *   시간이 지나며 새로 마감이 지나는 할일은 TeamTodoCounterReconciler 가 주기적으로 더하고 overdueAsOf 를 옮긴다.
+ * - 어긋난 값은 매일 전체 재계산으로 바로잡는다.
+ */
+@Entity
+@Table(name = "team_todo_counter")
+class TeamTodoCounter(
+    @Id
+    @Column(name = "team_id")
+    var teamId: Int = 0,
+
+    var total: Int = 0,
+
+    var completed: Int = 0,
+
+    var overdue: Int = 0,
+
+    @Column(name = "overdue_as_of", nullable = false)
+    var overdueAsOf: LocalDateTime = LocalDateTime.now(),
+
+    // 마지막 전체 재계산 시각
+    var reconciledAt: LocalDateTime? = null
+) {
+
+    /**
+     * 할일 하나의 기여분을 빼거나(sign = -1) 더한다(sign = 1)
+     */
+    fun apply(completed: Boolean, dueDate: LocalDateTime?, sign: Int) {
+        total += sign
+        if (completed) this.completed += sign
+        if (isOverdue(completed, dueDate)) overdue += sign
+    }
+
+    fun reset(total: Int, completed: Int, overdue: Int, asOf: LocalDateTime) {
+        this.total = total
+        this.completed = completed
+        this.overdue = overdue
+        this.overdueAsOf = asOf
+        this.reconciledAt = asOf
+    }
+
+    fun matches(total: Int, completed: Int, overdue: Int): Boolean =
+        this.total == total && this.completed == completed && this.overdue == overdue
+
+    private fun isOverdue(completed: Boolean, dueDate: LocalDateTime?): Boolean =
+        !completed && dueDate != null && !dueDate.isAfter(overdueAsOf)
+}
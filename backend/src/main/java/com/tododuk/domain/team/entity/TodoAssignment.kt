@@ -8,7 +8,18 @@ import jakarta.persistence.*
 import java.time.LocalDateTime
 
 @Entity
-@Table(name = "todo_assignment")
+@Table(
+    name = "todo_assignment",
+    indexes = [
+        // 활성 담당자 조회용. MySQL 은 부분 인덱스(WHERE status = 'ACTIVE')를 지원하지 않아
+        // status 를 두 번째 컬럼으로 두고, 비활성 이력은 아카이브로 옮겨 인덱스를 작게 유지한다.
+        Index(name = "idx_todo_assignment_todo_status", columnList = "todo_id, status"),
+        // 내 담당 Todo 대시보드 키셋 조회용 (assigned_at 내림차순 정렬을 인덱스로 처리)
+        Index(name = "idx_todo_assignment_user_status_assigned_at", columnList = "assigned_user_id, status, assigned_at"),
+        // 이력 압축 대상 조회용
+        Index(name = "idx_todo_assignment_status_modify_date", columnList = "status, modify_date")
+    ]
+)
 class TodoAssignment(
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "todo_id")
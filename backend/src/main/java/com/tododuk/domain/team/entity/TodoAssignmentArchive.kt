@@ -0,0 +1,40 @@
+package com.tododuk.domain.team.entity
+
+import jakarta.persistence.*
+import java.time.LocalDateTime
+
+/**
+ * 보관 기간이 지난 비활성 담당자 기록
+ * todo_assignment 에서 옮겨 온 행으로, 원래 ID 를 그대로 사용하고 연관관계 없이 ID 만 보관한다.
+ * (TodoAssignmentCompactionJob 이 INSERT ... SELECT 로만 채운다)
+ */
+@Entity
+@Table(
+    name = "todo_assignment_archive",
+    indexes = [Index(name = "idx_todo_assignment_archive_todo", columnList = "todo_id")]
+)
+class TodoAssignmentArchive(
+    @Id
+    var id: Int = 0,
+
+    @Column(name = "todo_id")
+    var todoId: Int? = null,
+
+    @Column(name = "assigned_user_id")
+    var assignedUserId: Int? = null,
+
+    @Column(name = "team_id")
+    var teamId: Int? = null,
+
+    var assignedAt: LocalDateTime? = null,
+
+    @Enumerated(EnumType.STRING)
+    var status: TodoAssignment.AssignmentStatus? = null,
+
+    var createDate: LocalDateTime? = null,
+
+    var modifyDate: LocalDateTime? = null,
+
+    // 아카이브로 옮긴 시각
+    var archivedAt: LocalDateTime? = null
+)
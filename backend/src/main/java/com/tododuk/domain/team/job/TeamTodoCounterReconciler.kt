@@ -0,0 +1,54 @@
+package com.tododuk.domain.team.job
+
+import com.tododuk.domain.team.repository.TeamRepository
+import com.tododuk.domain.team.repository.TeamTodoCounterRepository
+import com.tododuk.domain.team.service.TeamTodoCounterService
+import com.tododuk.global.datasource.DataSourcePool
+import com.tododuk.global.datasource.UseDataSourcePool
+import io.micrometer.core.instrument.MeterRegistry
+import org.slf4j.LoggerFactory
+import org.springframework.scheduling.annotation.Scheduled
+import org.springframework.stereotype.Component
+import java.time.LocalDateTime
+
+/**
+ * 팀 할일 카운터 보정
+ * - sweepOverdue : 지난 반영 이후 마감이 지난 미완료 할일을 overdue 에 더한다. (update 한 번)
+ * - reconcile    : 매일 모든 팀을 다시 집계해 어긋난 카운터를 바로잡고, 카운터가 없는 팀은 새로 만든다.
+ */
+@Component
+@UseDataSourcePool(DataSourcePool.BATCH)
+class TeamTodoCounterReconciler(
+    private val teamRepository: TeamRepository,
+    private val teamTodoCounterRepository: TeamTodoCounterRepository,
+    private val teamTodoCounterService: TeamTodoCounterService,
+    private val meterRegistry: MeterRegistry
+) {
+
+    @Scheduled(fixedDelayString = "\${custom.team.counter.overdueSweepMs:60000}")
+    fun sweepOverdue() {
+        teamTodoCounterRepository.advanceOverdue(LocalDateTime.now())
+    }
+
+    @Scheduled(cron = "\${custom.team.counter.reconcileCron:0 0 4 * * *}")
+    fun reconcile() {
+        var drifted = 0
+        // 팀마다 별도 트랜잭션 (카운터 행 잠금을 짧게 유지)
+        teamRepository.findAllIds().forEach { teamId ->
+            try {
+                if (teamTodoCounterService.recount(teamId)) drifted++
+            } catch (e: Exception) {
+                log.warn("팀 할일 카운터 재계산 실패 (teamId={})", teamId, e)
+            }
+        }
+
+        if (drifted > 0) {
+            meterRegistry.counter("team.todo_counter.drift").increment(drifted.toDouble())
+            log.info("팀 할일 카운터 {}개 보정", drifted)
+        }
+    }
+
+    companion object {
+        private val log = LoggerFactory.getLogger(TeamTodoCounterReconciler::class.java)
+    }
+}
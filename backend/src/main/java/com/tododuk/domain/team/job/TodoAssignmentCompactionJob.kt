@@ -0,0 +1,67 @@
+package com.tododuk.domain.team.job
+
+import com.tododuk.domain.team.entity.TodoAssignment
+import com.tododuk.domain.team.repository.TodoAssignmentRepository
+import com.tododuk.global.datasource.DataSourcePool
+import com.tododuk.global.datasource.UseDataSourcePool
+import io.micrometer.core.instrument.MeterRegistry
+import org.slf4j.LoggerFactory
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.data.domain.PageRequest
+import org.springframework.scheduling.annotation.Scheduled
+import org.springframework.stereotype.Component
+import org.springframework.transaction.PlatformTransactionManager
+import org.springframework.transaction.support.TransactionTemplate
+import java.time.LocalDateTime
+
+/**
+ * 담당자 이력 압축
+ * 비활성화된 지 retentionDays 가 지난 담당자 기록을 todo_assignment_archive 로 옮긴다.
+ * 배치마다 별도 트랜잭션(복사 + 삭제)으로 처리해 잠금을 짧게 유지한다.
+ */
+@Component
+@UseDataSourcePool(DataSourcePool.BATCH)
+class TodoAssignmentCompactionJob(
+    private val todoAssignmentRepository: TodoAssignmentRepository,
+    private val meterRegistry: MeterRegistry,
+    transactionManager: PlatformTransactionManager,
+    @Value("\${custom.assignment.compaction.retentionDays:30}")
+    private val retentionDays: Long,
+    @Value("\${custom.assignment.compaction.batchSize:1000}")
+    private val batchSize: Int
+) {
+
+    private val transactionTemplate = TransactionTemplate(transactionManager)
+
+    @Scheduled(cron = "\${custom.assignment.compaction.cron:0 30 4 * * *}")
+    fun compact() {
+        val before = LocalDateTime.now().minusDays(retentionDays)
+        var archived = 0
+
+        while (true) {
+            val moved = transactionTemplate.execute { archiveBatch(before) } ?: 0
+            archived += moved
+            if (moved < batchSize) break
+        }
+
+        if (archived > 0) {
+            meterRegistry.counter("team.assignment.archived").increment(archived.toDouble())
+            log.info("비활성 담당자 기록 {}건을 아카이브로 이동 (기준: {} 이전)", archived, before)
+        }
+    }
+
+    private fun archiveBatch(before: LocalDateTime): Int {
+        val ids = todoAssignmentRepository.findIdsByStatusAndModifyDateBefore(
+            TodoAssignment.AssignmentStatus.INACTIVE, before, PageRequest.ofSize(batchSize)
+        )
+        if (ids.isEmpty()) return 0
+
+        todoAssignmentRepository.copyToArchive(ids)
+        todoAssignmentRepository.deleteAllByIdIn(ids)
+        return ids.size
+    }
+
+    companion object {
+        private val log = LoggerFactory.getLogger(TodoAssignmentCompactionJob::class.java)
+    }
+}
@@ -2,7 +2,13 @@ package com.tododuk.domain.team.repository
 
 import com.tododuk.domain.team.constant.TeamRoleType
 import com.tododuk.domain.team.entity.TeamMember
+import com.tododuk.global.cache.CacheRegions
+import jakarta.persistence.QueryHint
+import org.hibernate.jpa.HibernateHints
 import org.springframework.data.jpa.repository.JpaRepository
+import org.springframework.data.jpa.repository.Query
+import org.springframework.data.jpa.repository.QueryHints
+import org.springframework.data.repository.query.Param
 import org.springframework.stereotype.Repository
 import java.util.*
 
@@ -11,11 +17,33 @@ interface TeamMemberRepository : JpaRepository<TeamMember, Int> {
 
     fun findByTeam_Id(teamId: Int): List<TeamMember>
 
+    // 여러 팀의 멤버를 사용자 정보와 함께 한 번에 조회 (팀 목록 페이지용)
+    @Query("SELECT tm FROM TeamMember tm JOIN FETCH tm.user WHERE tm.team.id IN :teamIds ORDER BY tm.id")
+    fun findAllWithUserByTeamIds(@Param("teamIds") teamIds: Collection<Int>): List<TeamMember>
+
     // 기존 userId 기반 메서드들 (호환성 유지)
     fun findByTeam_IdAndUser_Id(teamId: Int, userId: Int): Optional<TeamMember>
     fun existsByTeam_IdAndUser_IdAndRole(teamId: Int, userId: Int, role: TeamRoleType): Boolean
+    @QueryHints(
+        QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.TEAM_MEMBERSHIP)
+    )
     fun existsByTeam_IdAndUser_Id(teamId: Int, userId: Int): Boolean
 
+    // 권한 확인용 역할 조회 (멤버가 아니면 null), 2차 캐시를 켜면 쿼리 캐시에서 읽는다
+    @QueryHints(
+        QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.TEAM_MEMBERSHIP)
+    )
+    @Query("SELECT tm.role FROM TeamMember tm WHERE tm.team.id = :teamId AND tm.user.id = :userId")
+    fun findRoleByTeamIdAndUserId(@Param("teamId") teamId: Int, @Param("userId") userId: Int): TeamRoleType?
+
+    // 여러 사용자의 멤버 여부를 한 번에 확인
+    fun countByTeam_IdAndUser_IdIn(teamId: Int, userIds: Collection<Int>): Long
+
+    @Query("SELECT tm.user.id FROM TeamMember tm WHERE tm.team.id = :teamId AND tm.user.id IN :userIds")
+    fun findUserIdsByTeamIdAndUserIdIn(@Param("teamId") teamId: Int, @Param("userIds") userIds: Collection<Int>): List<Int>
+
     // 이메일 기반 메서드들 (새로 추가)
     fun findByTeam_IdAndUser_UserEmail(teamId: Int, userEmail: String): Optional<TeamMember>
     fun existsByTeam_IdAndUser_UserEmailAndRole(teamId: Int, userEmail: String, role: TeamRoleType): Boolean
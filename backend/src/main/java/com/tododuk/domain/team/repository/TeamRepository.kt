@@ -2,6 +2,8 @@
 package com.tododuk.domain.team.repository
 
 import com.tododuk.domain.team.entity.Team
+import com.tododuk.global.webMvc.ResourceVersion
+import org.springframework.data.domain.Pageable
 import org.springframework.data.jpa.repository.JpaRepository
 import org.springframework.data.jpa.repository.Query
 import org.springframework.data.repository.query.Param
@@ -28,4 +30,22 @@ interface TeamRepository : JpaRepository<Team, Int> {
     fun findByIdWithMembers(@Param("teamId") teamId: Int): Optional<Team>
 
     fun existsByIdAndMembers_UserId(teamId: Int, userId: Int): Boolean
+
+    @Query("SELECT t.id FROM Team t ORDER BY t.id")
+    fun findAllIds(): List<Int>
+
+    // 관리자용 전체 목록 키셋 페이지 조회 (id > cursor, 멤버는 별도 배치 조회)
+    @Query("SELECT t FROM Team t WHERE t.id > :cursor ORDER BY t.id")
+    fun findPageAfter(@Param("cursor") cursor: Int, pageable: Pageable): List<Team>
+
+    // 조건부 GET 용 버전 조회 (팀 + 멤버 + 멤버 사용자 정보의 최종 수정 시각)
+    @Query("""
+        SELECT COUNT(tm) AS total,
+               MAX(GREATEST(t.modifyDate, tm.modifyDate, u.modifyDate)) AS lastModified
+        FROM TeamMember tm
+        JOIN tm.team t
+        JOIN tm.user u
+        WHERE t.id = :teamId
+    """)
+    fun findVersionById(@Param("teamId") teamId: Int): ResourceVersion
 }
\ No newline at end of file
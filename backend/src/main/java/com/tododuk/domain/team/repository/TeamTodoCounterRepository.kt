@@ -0,0 +1,53 @@
+package com.tododuk.domain.team.repository
+
+import com.tododuk.domain.team.dto.TeamTodoCountView
+import com.tododuk.domain.team.entity.TeamTodoCounter
+import jakarta.persistence.LockModeType
+import org.springframework.data.jpa.repository.JpaRepository
+import org.springframework.data.jpa.repository.Lock
+import org.springframework.data.jpa.repository.Modifying
+import org.springframework.data.jpa.repository.Query
+import org.springframework.data.repository.query.Param
+import org.springframework.stereotype.Repository
+import org.springframework.transaction.annotation.Transactional
+import java.time.LocalDateTime
+
+@Repository
+interface TeamTodoCounterRepository : JpaRepository<TeamTodoCounter, Int> {
+
+    // 할일 변경과 마감 경과 반영이 같은 행을 동시에 고치지 않도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from TeamTodoCounter c where c.teamId = :teamId")
+    fun findForUpdate(@Param("teamId") teamId: Int): TeamTodoCounter?
+
+    // 팀 할일 전체 집계 (now 시점 기준 마감 경과 포함)
+    @Query(
+        """
+        select count(t) as total,
+               coalesce(sum(case when t.isCompleted = true then 1 else 0 end), 0) as completed,
+               coalesce(sum(case when t.isCompleted = false and t.dueDate <= :now then 1 else 0 end), 0) as overdue
+        from Todo t
+        where t.todoList.team.id = :teamId
+        """
+    )
+    fun countTodos(@Param("teamId") teamId: Int, @Param("now") now: LocalDateTime): TeamTodoCountView
+
+    // 지난 반영 이후 (overdueAsOf, now] 사이에 마감이 지난 미완료 할일을 모든 팀 카운터에 더하는 update 한 번
+    @Modifying
+    @Transactional
+    @Query(
+        """
+        update TeamTodoCounter c
+        set c.overdue = c.overdue + (
+                select count(t) from Todo t
+                where t.todoList.team.id = c.teamId
+                  and t.isCompleted = false
+                  and t.dueDate > c.overdueAsOf
+                  and t.dueDate <= :now
+            ),
+            c.overdueAsOf = :now
+        where c.overdueAsOf < :now
+        """
+    )
+    fun advanceOverdue(@Param("now") now: LocalDateTime): Int
+}
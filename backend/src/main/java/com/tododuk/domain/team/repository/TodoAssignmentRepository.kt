@@ -1,15 +1,48 @@
 package com.tododuk.domain.team.repository
 
+import com.tododuk.domain.team.dto.MyAssignmentResponseDto
 import com.tododuk.domain.team.entity.TodoAssignment
+import org.springframework.data.domain.Pageable
 import org.springframework.data.jpa.repository.JpaRepository
+import org.springframework.data.jpa.repository.Modifying
+import org.springframework.data.jpa.repository.Query
+import org.springframework.data.repository.query.Param
 import org.springframework.stereotype.Repository
-import java.util.*
+import org.springframework.transaction.annotation.Transactional
+import java.time.LocalDateTime
 
 @Repository
 interface TodoAssignmentRepository : JpaRepository<TodoAssignment, Int> {
 
-    // 특정 Todo의 활성 담당자 조회
-    fun findByTodo_IdAndStatus(todoId: Int, status: TodoAssignment.AssignmentStatus): Optional<TodoAssignment>
+    // 특정 Todo의 상태별 담당자 조회 (idx_todo_assignment_todo_status)
+    fun findAllByTodo_IdAndStatus(todoId: Int, status: TodoAssignment.AssignmentStatus): List<TodoAssignment>
+
+    // 특정 Todo의 상태별 담당자를 사용자와 함께 조회
+    @Query(
+        """
+        select a from TodoAssignment a
+        join fetch a.assignedUser
+        where a.todo.id = :todoId and a.status = :status
+        order by a.assignedAt desc
+        """
+    )
+    fun findWithUserByTodoIdAndStatus(
+        @Param("todoId") todoId: Int,
+        @Param("status") status: TodoAssignment.AssignmentStatus
+    ): List<TodoAssignment>
+
+    // 특정 Todo에서 지정한 사용자들의 상태별 담당자 기록 조회
+    fun findAllByTodo_IdAndStatusAndAssignedUser_IdIn(
+        todoId: Int,
+        status: TodoAssignment.AssignmentStatus,
+        assignedUserIds: Collection<Int>
+    ): List<TodoAssignment>
+
+    fun existsByTodo_IdAndAssignedUser_IdAndStatus(
+        todoId: Int,
+        assignedUserId: Int,
+        status: TodoAssignment.AssignmentStatus
+    ): Boolean
 
     // 특정 Todo의 모든 담당자 기록 조회
     fun findByTodo_IdOrderByAssignedAtDesc(todoId: Int): List<TodoAssignment>
@@ -23,6 +56,30 @@ interface TodoAssignmentRepository : JpaRepository<TodoAssignment, Int> {
         status: TodoAssignment.AssignmentStatus
     ): List<TodoAssignment>
 
+    // 내 담당 Todo 대시보드 키셋 페이지 (idx_todo_assignment_user_status_assigned_at)
+    // Todo/팀 정보까지 한 번의 조인 쿼리로 필요한 컬럼만 조회
+    @Query(
+        """
+        select new com.tododuk.domain.team.dto.MyAssignmentResponseDto(
+            a.id, t.id, t.title, t.dueDate, t.isCompleted, tm.id, tm.teamName, a.assignedAt
+        )
+        from TodoAssignment a
+        join a.todo t
+        join a.team tm
+        where a.assignedUser.id = :userId
+          and a.status = :status
+          and (a.assignedAt < :cursorAssignedAt or (a.assignedAt = :cursorAssignedAt and a.id < :cursorId))
+        order by a.assignedAt desc, a.id desc
+        """
+    )
+    fun findMyPage(
+        @Param("userId") userId: Int,
+        @Param("status") status: TodoAssignment.AssignmentStatus,
+        @Param("cursorAssignedAt") cursorAssignedAt: LocalDateTime,
+        @Param("cursorId") cursorId: Int,
+        pageable: Pageable
+    ): List<MyAssignmentResponseDto>
+
     // 특정 팀에서 특정 사용자가 담당자인 Todo 목록 조회
     fun findByTeam_IdAndAssignedUser_IdAndStatusOrderByAssignedAtDesc(
         teamId: Int,
@@ -38,4 +95,37 @@ interface TodoAssignmentRepository : JpaRepository<TodoAssignment, Int> {
 
     // 특정 팀의 모든 담당자 기록 삭제
     fun deleteByTeam_Id(teamId: Int)
-}
\ No newline at end of file
+
+    // 보관 기간이 지난 비활성 기록 ID (오래된 것부터, idx_todo_assignment_status_modify_date)
+    @Query(
+        """
+        select a.id from TodoAssignment a
+        where a.status = :status and a.modifyDate < :before
+        order by a.modifyDate
+        """
+    )
+    fun findIdsByStatusAndModifyDateBefore(
+        @Param("status") status: TodoAssignment.AssignmentStatus,
+        @Param("before") before: LocalDateTime,
+        pageable: Pageable
+    ): List<Int>
+
+    // 담당자 기록을 아카이브 테이블로 복사 (INSERT ... SELECT 한 번)
+    @Modifying
+    @Transactional
+    @Query(
+        """
+        insert into TodoAssignmentArchive
+            (id, todoId, assignedUserId, teamId, assignedAt, status, createDate, modifyDate, archivedAt)
+        select a.id, a.todo.id, a.assignedUser.id, a.team.id, a.assignedAt, a.status, a.createDate, a.modifyDate, local datetime
+        from TodoAssignment a
+        where a.id in :ids
+        """
+    )
+    fun copyToArchive(@Param("ids") ids: Collection<Int>): Int
+
+    @Modifying
+    @Transactional
+    @Query("delete from TodoAssignment a where a.id in :ids")
+    fun deleteAllByIdIn(@Param("ids") ids: Collection<Int>): Int
+}
@@ -1,5 +1,6 @@
 package com.tododuk.domain.team.service
 
+import com.tododuk.domain.notification.outbox.OutboxPublisher
 import com.tododuk.domain.team.constant.TeamRoleType
 import com.tododuk.domain.team.dto.TeamMemberAddRequestDto
 import com.tododuk.domain.team.dto.TeamMemberResponseDto
@@ -11,6 +12,7 @@ import com.tododuk.domain.team.validator.TeamPermissionValidator
 import com.tododuk.domain.team.validator.TeamValidator
 import com.tododuk.domain.user.entity.User
 import com.tododuk.global.exception.ServiceException
+import org.slf4j.LoggerFactory
 import org.springframework.stereotype.Service
 import org.springframework.transaction.annotation.Transactional
 import java.time.LocalDateTime
@@ -21,7 +23,8 @@ class TeamMemberService(
     private val teamMemberRepository: TeamMemberRepository,
     private val todoAssignmentRepository: TodoAssignmentRepository,
     private val teamPermissionValidator: TeamPermissionValidator,
-    private val teamValidator: TeamValidator
+    private val teamValidator: TeamValidator,
+    private val outboxPublisher: OutboxPublisher
 ) {
 
     /**
@@ -63,6 +66,18 @@ class TeamMemberService(
         teamValidator.validateNotAlreadyMember(team, newMemberUser.userEmail)
 
         val teamMember = createTeamMember(team, newMemberUser, dto.role)
+        teamPermissionValidator.evictMembership(teamId)
+
+        // 추가된 멤버에게 알림/웹 푸시 (같은 트랜잭션에서 아웃박스에 기록)
+        outboxPublisher.publishCoalesced(
+            userId = newMemberUser.id,
+            coalesceKey = "team:$teamId:member-added",
+            title = "팀 멤버 추가",
+            url = "/teams/$teamId",
+            item = team.teamName,
+            body = "'${team.teamName}' 팀의 멤버로 추가되었습니다."
+        )
+
         return TeamMemberResponseDto.from(teamMember)
     }
 
@@ -81,6 +96,7 @@ class TeamMemberService(
 
         val teamMember = findTeamMember(teamId, userId)
         teamMember.updateRole(newRole)
+        teamPermissionValidator.evictMembership(teamId)
 
         return TeamMemberResponseDto.from(teamMember)
     }
@@ -90,7 +106,7 @@ class TeamMemberService(
      */
     @Transactional
     fun deleteTeamMember(teamId: Int, memberUserIdToRemove: Int, removerUserId: Int) {
-        teamValidator.validateAndGetTeam(teamId)
+        val team = teamValidator.validateAndGetTeam(teamId)
         teamPermissionValidator.validateTeamLeader(teamId, removerUserId, "팀 멤버를 제거할 권한이 없습니다.")
 
         val teamMember = findTeamMember(teamId, memberUserIdToRemove)
@@ -101,7 +117,10 @@ class TeamMemberService(
         // 해당 멤버의 모든 담당자 정보 삭제
         cleanupMemberAssignments(teamId, memberUserIdToRemove)
 
+        // 컬렉션에서도 빼야 2차 캐시의 Team.members 가 갱신된다 (삭제만 하면 캐시에 지운 멤버가 남음)
+        team.removeMember(teamMember)
         teamMemberRepository.delete(teamMember)
+        teamPermissionValidator.evictMembership(teamId)
     }
 
     // ===== Private Helper Methods =====
@@ -126,16 +145,18 @@ class TeamMemberService(
     }
 
     private fun cleanupMemberAssignments(teamId: Int, memberUserIdToRemove: Int) {
-        println("=== 멤버 제거 시 담당자 정보 삭제 시작 ===")
-        println("팀 ID: $teamId, 제거할 멤버 User ID: $memberUserIdToRemove")
+        log.debug("멤버 제거 시 담당자 정보 삭제 시작 (팀 ID: {}, 제거할 멤버 User ID: {})", teamId, memberUserIdToRemove)
 
         try {
             todoAssignmentRepository.deleteByTeam_IdAndAssignedUser_Id(teamId, memberUserIdToRemove)
-            println("담당자 정보 삭제 완료")
+            log.debug("담당자 정보 삭제 완료")
         } catch (e: Exception) {
-            println("담당자 정보 삭제 실패: ${e.message}")
-            e.printStackTrace()
+            log.warn("담당자 정보 삭제 실패", e)
             // 담당자 정보 삭제 실패해도 멤버 삭제는 진행
         }
     }
-}
\ No newline at end of file
+
+    companion object {
+        private val log = LoggerFactory.getLogger(TeamMemberService::class.java)
+    }
+}
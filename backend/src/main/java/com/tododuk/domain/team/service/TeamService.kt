@@ -1,8 +1,20 @@
 package com.tododuk.domain.team.service
 
+import com.tododuk.domain.notification.outbox.OutboxPublisher
+import com.tododuk.domain.team.dto.MyAssignmentPageResponseDto
+import com.tododuk.domain.team.dto.TeamAssignmentResponseDto
 import com.tododuk.domain.team.dto.TeamCreateRequestDto
 import com.tododuk.domain.team.dto.TeamResponseDto
+import com.tododuk.domain.team.dto.TeamStatsResponseDto
+import com.tododuk.domain.team.dto.TeamTodoDetailResponseDto
+import com.tododuk.domain.team.dto.TeamTodoListRequestDto
+import com.tododuk.domain.team.dto.TeamTodoListResponseDto
+import com.tododuk.domain.team.dto.TeamTodoRequestDto
+import com.tododuk.domain.team.dto.TeamTodoResponseDto
 import com.tododuk.domain.team.dto.TeamUpdateRequestDto
+import com.tododuk.domain.team.dto.TodoAssigneeResponseDto
+import com.tododuk.domain.team.dto.TodoAssigneesResponseDto
+import com.tododuk.domain.team.dto.TodoAssignmentResponseDto
 import com.tododuk.domain.team.entity.Team
 import com.tododuk.domain.team.entity.TodoAssignment
 import com.tododuk.domain.team.repository.TeamMemberRepository
@@ -16,11 +28,17 @@ import com.tododuk.domain.todoList.entity.TodoList
 import com.tododuk.domain.todoList.repository.TodoListRepository
 import com.tododuk.domain.user.entity.User
 import com.tododuk.global.exception.ServiceException
+import com.tododuk.global.page.CursorPage
+import com.tododuk.global.page.CursorPaging
+import com.tododuk.global.webMvc.ResourceVersion
+import io.micrometer.core.annotation.Timed
+import org.slf4j.LoggerFactory
 import org.springframework.stereotype.Service
 import org.springframework.transaction.annotation.Transactional
 import java.time.LocalDateTime
 
 @Service
+@Timed(value = "service.method", extraTags = ["service", "team"])
 @Transactional(readOnly = true)
 class TeamService(
     private val teamRepository: TeamRepository,
@@ -30,28 +48,31 @@ class TeamService(
     private val todoListRepository: TodoListRepository,
     private val todoAssignmentRepository: TodoAssignmentRepository,
     private val teamPermissionValidator: TeamPermissionValidator,
-    private val teamValidator: TeamValidator
+    private val teamValidator: TeamValidator,
+    private val cursorPaging: CursorPaging,
+    private val teamTodoCounterService: TeamTodoCounterService,
+    private val outboxPublisher: OutboxPublisher
 ) {
 
     // ===== 팀 기본 CRUD =====
 
     @Transactional
     fun createTeam(dto: TeamCreateRequestDto, creatorUserId: Int): TeamResponseDto {
-        println("=== 팀 생성 시작 ===")
-        println("생성자 ID: $creatorUserId")
+        log.debug("팀 생성 시작 (생성자 ID: {})", creatorUserId)
 
         val creatorUser = teamValidator.validateAndGetUser(creatorUserId)
-        println("생성자 정보: ${creatorUser.userEmail}")
+        log.debug("생성자 정보: {}", creatorUser.userEmail)
 
         val team = Team().apply {
             teamName = dto.teamName
             description = dto.description
         }
         teamRepository.save(team)
-        println("팀 생성 완료, 팀 ID: ${team.id}")
+        teamTodoCounterService.createCounter(team.id)
+        log.debug("팀 생성 완료, 팀 ID: {}", team.id)
 
         val leaderMember = teamMemberService.createLeaderMember(team, creatorUser)
-        println("리더 멤버 생성 완료, 멤버 ID: ${leaderMember.id}")
+        log.debug("리더 멤버 생성 완료, 멤버 ID: {}", leaderMember.id)
 
         return TeamResponseDto.from(team)
     }
@@ -73,21 +94,39 @@ class TeamService(
         return teamRepository.findTeamsByUserId(userId)
     }
 
-    fun getAllTeams(): List<Team> {
-        return teamRepository.findAll()
+    fun getTeamPage(cursor: Int?, size: Int?): CursorPage<TeamResponseDto> {
+        val pageSize = cursorPaging.sizeOf(size)
+        val teams = teamRepository.findPageAfter(cursorPaging.cursorOf(cursor), cursorPaging.fetchLimit(pageSize))
+        if (teams.isEmpty()) {
+            return CursorPage.of(teams, pageSize, Team::id) { TeamResponseDto.from(it) }
+        }
+
+        // 페이지에 포함된 팀들의 멤버를 한 번의 쿼리로 조회
+        val membersByTeamId = teamMemberRepository.findAllWithUserByTeamIds(teams.map { it.id })
+            .groupBy { it.team?.id }
+
+        return CursorPage.of(teams, pageSize, Team::id) { team ->
+            TeamResponseDto.of(team, membersByTeamId[team.id].orEmpty())
+        }
     }
 
     fun getTeamDetails(teamId: Int, viewerUserId: Int): TeamResponseDto {
-        println("=== 팀 상세 조회 시작 ===")
-        println("팀 ID: $teamId, 조회자 ID: $viewerUserId")
+        log.debug("팀 상세 조회 시작 (팀 ID: {}, 조회자 ID: {})", teamId, viewerUserId)
 
         val team = teamValidator.validateAndGetTeam(teamId)
         teamPermissionValidator.validateTeamMember(teamId, viewerUserId, "해당 팀의 정보를 조회할 권한이 없습니다.")
 
-        println("멤버 확인됨 - 상세 정보 반환")
+        log.debug("멤버 확인됨 - 상세 정보 반환")
         return TeamResponseDto.from(team)
     }
 
+    fun getTeamDetailsVersion(teamId: Int, viewerUserId: Int): ResourceVersion {
+        teamValidator.validateTeamExists(teamId)
+        teamPermissionValidator.validateTeamMember(teamId, viewerUserId, "해당 팀의 정보를 조회할 권한이 없습니다.")
+
+        return teamRepository.findVersionById(teamId)
+    }
+
     @Transactional
     fun updateTeamInfo(teamId: Int, dto: TeamUpdateRequestDto, modifierUserId: Int): TeamResponseDto {
         val team = teamValidator.validateAndGetTeam(teamId)
@@ -105,81 +144,80 @@ class TeamService(
 
         // 관련 데이터 정리
         cleanupTeamData(teamId)
+        teamTodoCounterService.deleteCounter(teamId)
         teamRepository.delete(team)
+        teamPermissionValidator.evictMembership(teamId)
     }
 
     // ===== 팀 할일 관리 =====
 
-    fun getTeamTodos(teamId: Int, userId: Int): List<Map<String, Any?>> {
+    fun getTeamTodos(teamId: Int, userId: Int): List<TeamTodoResponseDto> {
         teamPermissionValidator.validateTeamMember(teamId, userId, "해당 팀의 할일 목록을 조회할 권한이 없습니다.")
         teamValidator.validateNotPersonalTodo(teamId)
 
         val todoList = getOrCreateTeamTodoList(teamId, userId)
-        return mapTodosToResponse(todoRepository.findAllByTodoListId(todoList.id), teamId)
+        return todoRepository.findAllByTodoListId(todoList.id).map { TeamTodoResponseDto.from(it, teamId) }
+    }
+
+    fun getTeamTodosVersion(teamId: Int, userId: Int): ResourceVersion {
+        teamPermissionValidator.validateTeamMember(teamId, userId, "해당 팀의 할일 목록을 조회할 권한이 없습니다.")
+        teamValidator.validateNotPersonalTodo(teamId)
+
+        return todoRepository.findVersionByTeamIdAndUserId(teamId, userId)
     }
 
     @Transactional
-    fun addTeamTodo(teamId: Int, userId: Int, todoRequest: Map<String, Any?>): Map<String, Any?> {
+    fun addTeamTodo(teamId: Int, userId: Int, todoRequest: TeamTodoRequestDto): TeamTodoResponseDto {
         teamPermissionValidator.validateTeamMember(teamId, userId, "해당 팀에 할일을 추가할 권한이 없습니다.")
         teamValidator.validateNotPersonalTodo(teamId)
 
         val todoList = getOrCreateTeamTodoList(teamId, userId)
         val savedTodo = createTodoFromRequest(todoRequest, todoList)
 
-        return mapTodoToResponse(savedTodo, teamId)
+        return TeamTodoResponseDto.from(savedTodo, teamId)
     }
 
-    fun getTeamTodoLists(teamId: Int, userId: Int): List<Map<String, Any?>> {
+    fun getTeamTodoLists(teamId: Int, userId: Int): List<TeamTodoListResponseDto> {
         teamPermissionValidator.validateTeamMember(teamId, userId)
 
         val todoLists = todoListRepository.findAll()
             .filter { it.team?.id == teamId }
 
-        return todoLists.map { todoList ->
-            mapOf<String, Any?>(
-                "id" to todoList.id,
-                "name" to todoList.name,
-                "description" to todoList.description,
-                "userId" to todoList.user.id,
-                "teamId" to todoList.team?.id,
-                "createDate" to todoList.createDate,
-                "modifyDate" to todoList.modifyDate
-            )
-        }
+        return todoLists.map { TeamTodoListResponseDto.from(it) }
     }
 
     @Transactional
-    fun createTeamTodoList(teamId: Int, todoListRequest: Map<String, Any?>, userId: Int): Map<String, Any?> {
+    fun createTeamTodoList(teamId: Int, todoListRequest: TeamTodoListRequestDto, userId: Int): TeamTodoListResponseDto {
         teamPermissionValidator.validateTeamMember(teamId, userId)
 
         val user = teamValidator.validateAndGetUser(userId)
         val team = teamValidator.validateAndGetTeam(teamId)
 
         val todoList = TodoList(
-            todoListRequest["name"] as? String,
-            todoListRequest["description"] as? String,
+            todoListRequest.name,
+            todoListRequest.description,
             user,
             team
         )
         todoListRepository.save(todoList)
 
-        return mapTodoListToResponse(todoList)
+        return TeamTodoListResponseDto.from(todoList)
     }
 
     @Transactional
-    fun updateTeamTodoList(teamId: Int, todoListId: Int, todoListRequest: Map<String, Any?>, userId: Int): Map<String, Any?> {
+    fun updateTeamTodoList(teamId: Int, todoListId: Int, todoListRequest: TeamTodoListRequestDto, userId: Int): TeamTodoListResponseDto {
         teamPermissionValidator.validateTeamMember(teamId, userId)
 
         val todoList = teamValidator.validateAndGetTodoList(todoListId)
         teamValidator.validateTodoListBelongsToTeam(todoList, teamId)
 
         todoList.apply {
-            name = todoListRequest["name"] as? String
-            description = todoListRequest["description"] as? String
+            name = todoListRequest.name
+            description = todoListRequest.description
         }
         todoListRepository.save(todoList)
 
-        return mapTodoListToResponse(todoList)
+        return TeamTodoListResponseDto.from(todoList)
     }
 
     @Transactional
@@ -192,94 +230,100 @@ class TeamService(
         // 관련 할일들의 담당자 정보 삭제
         cleanupTodoListAssignments(todoListId)
         todoListRepository.delete(todoList)
+        teamTodoCounterService.recount(teamId)
     }
 
-    fun getTeamTodosByList(teamId: Int, todoListId: Int, userId: Int): List<Map<String, Any?>> {
+    fun getTeamTodosByList(teamId: Int, todoListId: Int, userId: Int): List<TeamTodoDetailResponseDto> {
         teamPermissionValidator.validateTeamMember(teamId, userId)
 
         val todoList = teamValidator.validateAndGetTodoList(todoListId)
         teamValidator.validateTodoListBelongsToTeam(todoList, teamId)
 
         val todos = todoRepository.findByTodoListId(todoListId)
-        return todos.map { mapTodoToDetailResponse(it) }
+        return todos.map { TeamTodoDetailResponseDto.from(it) }
     }
 
     @Transactional
-    fun addTodoToTeamList(teamId: Int, todoListId: Int, todoRequest: Map<String, Any?>, userId: Int): Map<String, Any?> {
+    fun addTodoToTeamList(teamId: Int, todoListId: Int, todoRequest: TeamTodoRequestDto, userId: Int): TeamTodoDetailResponseDto {
         teamPermissionValidator.validateTeamMember(teamId, userId)
 
         val todoList = teamValidator.validateAndGetTodoList(todoListId)
         teamValidator.validateTodoListBelongsToTeam(todoList, teamId)
 
         val savedTodo = createTodoFromRequest(todoRequest, todoList)
-        return mapTodoToDetailResponse(savedTodo)
+        return TeamTodoDetailResponseDto.from(savedTodo)
     }
 
     @Transactional
-    fun updateTeamTodo(teamId: Int, todoId: Int, todoRequest: Map<String, Any?>, userId: Int): Map<String, Any?> {
+    fun updateTeamTodo(teamId: Int, todoId: Int, todoRequest: TeamTodoRequestDto, userId: Int): TeamTodoDetailResponseDto {
         teamPermissionValidator.validateTeamMember(teamId, userId)
 
         val todo = teamValidator.validateTodoAssignmentChange(teamId, todoId)
+        val before = teamTodoCounterService.snapshot(todo)
         updateTodoFromRequest(todo, todoRequest)
         todoRepository.save(todo)
+        teamTodoCounterService.apply(before, teamTodoCounterService.snapshot(todo))
 
-        return mapTodoToDetailResponse(todo)
+        return TeamTodoDetailResponseDto.from(todo)
     }
 
     @Transactional
     fun deleteTeamTodo(teamId: Int, todoId: Int, userId: Int) {
         try {
-            println("=== 할일 삭제 시작 ===")
-            println("teamId: $teamId, todoId: $todoId, userId: $userId")
+            log.debug("할일 삭제 시작 (teamId: {}, todoId: {}, userId: {})", teamId, todoId, userId)
 
             teamPermissionValidator.validateTeamMember(teamId, userId)
             val todo = teamValidator.validateTodoAssignmentChange(teamId, todoId)
 
-            println("할일 삭제 전 담당자 정보 삭제")
+            log.debug("할일 삭제 전 담당자 정보 삭제")
             todoAssignmentRepository.deleteByTodo_Id(todoId)
 
+            val before = teamTodoCounterService.snapshot(todo)
             todoRepository.delete(todo)
-            println("할일 삭제 완료")
+            teamTodoCounterService.apply(before, null)
+            log.debug("할일 삭제 완료")
         } catch (e: Exception) {
-            println("할일 삭제 중 예상치 못한 오류 발생: ${e.message}")
-            e.printStackTrace()
+            log.warn("할일 삭제 중 예상치 못한 오류 발생", e)
             throw ServiceException("500-2", "할일 삭제 중 오류가 발생했습니다: ${e.message}")
         }
     }
 
     @Transactional
-    fun toggleTeamTodoComplete(teamId: Int, todoId: Int, userId: Int): Map<String, Any?> {
+    fun toggleTeamTodoComplete(teamId: Int, todoId: Int, userId: Int): TeamTodoDetailResponseDto {
         teamPermissionValidator.validateTeamMember(teamId, userId)
 
         val todo = teamValidator.validateTodoAssignmentChange(teamId, todoId)
-        todo.isCompleted = !todo.isCompleted
+        val before = teamTodoCounterService.snapshot(todo)
+        todo.toggleCompleted()
         todoRepository.save(todo)
+        teamTodoCounterService.apply(before, teamTodoCounterService.snapshot(todo))
 
-        return mapTodoToDetailResponse(todo)
+        return TeamTodoDetailResponseDto.from(todo)
     }
 
     // ===== 담당자 관리 =====
 
     @Transactional
-    fun assignTodoToMember(teamId: Int, todoId: Int, assignedUserId: Int, assignerUserId: Int): Map<String, Any?> {
+    fun assignTodoToMember(teamId: Int, todoId: Int, assignedUserId: Int, assignerUserId: Int): TodoAssignmentResponseDto {
         teamPermissionValidator.validateTeamMember(teamId, assignerUserId, "팀 멤버만 접근할 수 있습니다.")
         teamPermissionValidator.validateTeamMember(teamId, assignedUserId, "담당자는 팀 멤버여야 합니다.")
 
         val todo = teamValidator.validateTodoAssignmentChange(teamId, todoId)
         val assignedUser = teamValidator.validateAndGetUser(assignedUserId)
-        val team = teamValidator.validateAndGetTeam(teamId)
+        val team = teamValidator.getVerifiedTeamReference(teamId)
 
         // 기존 활성 담당자 비활성화
         deactivateExistingAssignments(todoId)
 
         // 새로운 담당자 지정
         val newAssignment = createNewAssignment(todo, assignedUser, team)
+        notifyAssignees(teamId, todo, setOf(assignedUserId), assignerUserId)
 
-        return mapOf<String, Any?>(
-            "todoId" to todoId,
-            "assignedUserId" to assignedUserId,
-            "assignedUserNickname" to assignedUser.nickName,
-            "assignedAt" to newAssignment.assignedAt
+        return TodoAssignmentResponseDto(
+            todoId = todoId,
+            assignedUserId = assignedUserId,
+            assignedUserNickname = assignedUser.nickName,
+            assignedAt = newAssignment.assignedAt
         )
     }
 
@@ -291,88 +335,86 @@ class TeamService(
         deactivateExistingAssignments(todoId)
     }
 
-    fun getTodoAssignment(teamId: Int, todoId: Int, userId: Int): Map<String, Any?> {
+    fun getTodoAssignment(teamId: Int, todoId: Int, userId: Int): TodoAssigneeResponseDto {
         teamPermissionValidator.validateTeamMember(teamId, userId, "팀 멤버만 접근할 수 있습니다.")
         teamValidator.validateTodoAssignmentChange(teamId, todoId)
 
-        val assignment = todoAssignmentRepository.findByTodo_IdAndStatus(todoId, TodoAssignment.AssignmentStatus.ACTIVE)
-
-        return if (assignment.isPresent) {
-            val activeAssignment = assignment.get()
-            mapOf<String, Any?>(
-                "assignedUserId" to activeAssignment.assignedUser?.id,
-                "assignedUserNickname" to activeAssignment.assignedUser?.nickName,
-                "assignedUserEmail" to activeAssignment.assignedUser?.userEmail,
-                "assignedAt" to activeAssignment.assignedAt
-            )
-        } else {
-            mapOf<String, Any?>(
-                "assignedUserId" to null,
-                "assignedUserNickname" to null,
-                "assignedUserEmail" to null,
-                "assignedAt" to null
-            )
+        val assignment = todoAssignmentRepository
+            .findWithUserByTodoIdAndStatus(todoId, TodoAssignment.AssignmentStatus.ACTIVE)
+            .firstOrNull()
+
+        return assignment
+            ?.let { TodoAssigneeResponseDto.from(it) }
+            ?: TodoAssigneeResponseDto.EMPTY
+    }
+
+    /**
+     * 내가 담당 중인 모든 팀의 Todo (assignedAt 내림차순 키셋 페이지)
+     * 커서가 없으면 첫 페이지. 커서는 직전 페이지의 nextCursorAssignedAt / nextCursorId 를 함께 전달해야 한다.
+     */
+    fun getMyAssignmentPage(
+        userId: Int,
+        cursorAssignedAt: LocalDateTime?,
+        cursorId: Int?,
+        size: Int?
+    ): MyAssignmentPageResponseDto {
+        if ((cursorAssignedAt == null) != (cursorId == null)) {
+            throw ServiceException("400-1", "cursorAssignedAt 과 cursorId 는 함께 전달해야 합니다.")
         }
+
+        val pageSize = cursorPaging.sizeOf(size)
+        val rows = todoAssignmentRepository.findMyPage(
+            userId,
+            TodoAssignment.AssignmentStatus.ACTIVE,
+            cursorAssignedAt ?: FIRST_PAGE_ASSIGNED_AT,
+            cursorId ?: Int.MAX_VALUE,
+            cursorPaging.fetchLimit(pageSize)
+        )
+        return MyAssignmentPageResponseDto.of(rows, pageSize)
     }
 
-    fun getTeamAssignments(teamId: Int, userId: Int): List<Map<String, Any?>> {
+    fun getTeamAssignments(teamId: Int, userId: Int): List<TeamAssignmentResponseDto> {
         teamPermissionValidator.validateTeamMember(teamId, userId, "팀 멤버만 접근할 수 있습니다.")
 
         val assignments = todoAssignmentRepository.findByTeam_IdOrderByAssignedAtDesc(teamId)
-        return assignments.map { assignment ->
-            mapOf<String, Any?>(
-                "id" to assignment.id,
-                "todoId" to assignment.todo?.id,
-                "todoTitle" to assignment.todo?.title,
-                "assignedUserId" to assignment.assignedUser?.id,
-                "assignedUserNickname" to assignment.assignedUser?.nickName,
-                "assignedUserEmail" to assignment.assignedUser?.userEmail,
-                "assignedAt" to assignment.assignedAt,
-                "status" to assignment.status
-            )
-        }
+        return assignments.map { TeamAssignmentResponseDto.from(it) }
     }
 
-    fun getTodoAssignees(teamId: Int, todoId: Int, userId: Int): List<Map<String, Any?>> {
+    fun getTodoAssignees(teamId: Int, todoId: Int, userId: Int): List<TodoAssigneeResponseDto> {
         teamPermissionValidator.validateTeamMember(teamId, userId, "팀 멤버만 접근할 수 있습니다.")
         teamValidator.validateTodoAssignmentChange(teamId, todoId)
 
-        val assignments = todoAssignmentRepository.findByTodo_IdOrderByAssignedAtDesc(todoId)
-        val activeAssignments = assignments.filter { it.status == TodoAssignment.AssignmentStatus.ACTIVE }
+        val activeAssignments = todoAssignmentRepository.findWithUserByTodoIdAndStatus(todoId, TodoAssignment.AssignmentStatus.ACTIVE)
 
-        return activeAssignments.map { assignment ->
-            mapOf<String, Any?>(
-                "assignedUserId" to assignment.assignedUser?.id,
-                "assignedUserNickname" to assignment.assignedUser?.nickName,
-                "assignedUserEmail" to assignment.assignedUser?.userEmail,
-                "assignedAt" to assignment.assignedAt
-            )
-        }
+        return activeAssignments.map { TodoAssigneeResponseDto.from(it) }
     }
 
     @Transactional
-    fun assignMultipleTodoAssignees(teamId: Int, todoId: Int, assignedUserIds: List<Int>, assignerUserId: Int): Map<String, Any?> {
+    fun assignMultipleTodoAssignees(teamId: Int, todoId: Int, assignedUserIds: List<Int>, assignerUserId: Int): TodoAssigneesResponseDto {
         teamPermissionValidator.validateTeamMember(teamId, assignerUserId, "팀 멤버만 접근할 수 있습니다.")
         teamPermissionValidator.validateAllAreTeamMembers(teamId, assignedUserIds)
 
         val todo = teamValidator.validateTodoAssignmentChange(teamId, todoId)
-        val team = teamValidator.validateAndGetTeam(teamId)
+        val team = teamValidator.getVerifiedTeamReference(teamId)
 
-        val (toRemoveIds, toAddIds) = calculateAssignmentChanges(todoId, assignedUserIds.toSet())
+        // 활성 담당자는 (todo_id, status) 인덱스로 한 번만 조회해 변경 계산/비활성화에 함께 사용
+        val activeAssignments = todoAssignmentRepository.findWithUserByTodoIdAndStatus(todoId, TodoAssignment.AssignmentStatus.ACTIVE)
+        val (toRemoveIds, toAddIds) = calculateAssignmentChanges(activeAssignments, assignedUserIds.toSet())
 
         // 제거할 담당자들 비활성화
-        deactivateAssignments(todoId, toRemoveIds)
+        deactivateAssignments(activeAssignments, toRemoveIds)
 
         // 새로 추가할 담당자들 처리
         val newAssignmentsCount = addNewAssignments(todo, team, toAddIds)
-
-        return mapOf<String, Any?>(
-            "todoId" to todoId,
-            "assignedUserIds" to assignedUserIds,
-            "assignedCount" to assignedUserIds.size,
-            "removedCount" to toRemoveIds.size,
-            "addedCount" to newAssignmentsCount,
-            "assignedAt" to LocalDateTime.now()
+        notifyAssignees(teamId, todo, toAddIds, assignerUserId)
+
+        return TodoAssigneesResponseDto(
+            todoId = todoId,
+            assignedUserIds = assignedUserIds,
+            assignedCount = assignedUserIds.size,
+            removedCount = toRemoveIds.size,
+            addedCount = newAssignmentsCount,
+            assignedAt = LocalDateTime.now()
         )
     }
 
@@ -381,28 +423,16 @@ class TeamService(
             return false
         }
 
-        val activeAssignments = todoAssignmentRepository.findByTodo_IdOrderByAssignedAtDesc(todoId)
-        return activeAssignments.any { assignment ->
-            assignment.status == TodoAssignment.AssignmentStatus.ACTIVE &&
-                    assignment.assignedUser?.id == userId
-        }
+        return todoAssignmentRepository.existsByTodo_IdAndAssignedUser_IdAndStatus(
+            todoId, userId, TodoAssignment.AssignmentStatus.ACTIVE
+        )
     }
 
-    fun getTeamStats(teamId: Int, userId: Int): Map<String, Any?> {
+    // 팀 할일을 훑지 않고 카운터 행 하나로 조회
+    fun getTeamStats(teamId: Int, userId: Int): TeamStatsResponseDto {
         teamPermissionValidator.validateTeamMember(teamId, userId, "팀 멤버만 접근할 수 있습니다.")
 
-        val team = teamValidator.validateAndGetTeam(teamId)
-        val teamTodoLists = getAllTodoLists().filter { it.team?.id == teamId }
-
-        val (totalTodos, completedTodos, overdueTodos) = calculateTeamStats(teamTodoLists)
-
-        return mapOf<String, Any?>(
-            "total" to totalTodos,
-            "completed" to completedTodos,
-            "overdue" to overdueTodos,
-            "inProgress" to (totalTodos - completedTodos - overdueTodos),
-            "completionRate" to if (totalTodos > 0) Math.round((completedTodos.toDouble() / totalTodos * 100)) else 0
-        )
+        return teamTodoCounterService.getStats(teamId)
     }
 
     // ===== Private Helper Methods =====
@@ -443,96 +473,33 @@ class TeamService(
             }
     }
 
-    private fun createTodoFromRequest(todoRequest: Map<String, Any?>, todoList: TodoList): Todo {
+    private fun createTodoFromRequest(todoRequest: TeamTodoRequestDto, todoList: TodoList): Todo {
         val todo = Todo(
-            todoRequest["title"] as? String,
-            todoRequest["description"] as? String,
+            todoRequest.title,
+            todoRequest.description,
             false,
-            (todoRequest["priority"] as? Int) ?: 1,
+            todoRequest.priority ?: 1,
             LocalDateTime.now(),
-            todoRequest["dueDate"]?.let {
-                LocalDateTime.parse((it as String).replace("Z", ""))
-            },
+            todoRequest.parsedDueDate(),
             todoList
         )
         return todoRepository.save(todo)
+            .also { teamTodoCounterService.apply(null, teamTodoCounterService.snapshot(it)) }
     }
 
-    private fun updateTodoFromRequest(todo: Todo, todoRequest: Map<String, Any?>) {
+    private fun updateTodoFromRequest(todo: Todo, todoRequest: TeamTodoRequestDto) {
         todo.apply {
-            title = todoRequest["title"] as? String
-            description = todoRequest["description"] as? String
-            priority = todoRequest["priority"] as? Int ?: priority
-            dueDate = todoRequest["dueDate"]?.let { dueDateValue ->
-                if (dueDateValue is String && dueDateValue.isNotEmpty()) {
-                    try {
-                        LocalDateTime.parse(dueDateValue.replace("Z", ""))
-                    } catch (e: Exception) { null }
-                } else null
-            }
+            title = todoRequest.title
+            description = todoRequest.description
+            priority = todoRequest.priority ?: priority
+            dueDate = todoRequest.parsedDueDate()
         }
     }
 
-    private fun mapTodosToResponse(todos: List<Todo>, teamId: Int): List<Map<String, Any?>> {
-        return todos.map { todo ->
-            mapOf<String, Any?>(
-                "id" to todo.id,
-                "title" to todo.title,
-                "description" to todo.description,
-                "isCompleted" to todo.isCompleted,
-                "priority" to todo.priority,
-                "dueDate" to todo.dueDate,
-                "assignedMemberId" to null,
-                "type" to if (teamId == 0) "personal" else "team",
-                "createdAt" to todo.createDate
-            )
-        }
-    }
-
-    private fun mapTodoToResponse(todo: Todo, teamId: Int): Map<String, Any?> {
-        return mapOf<String, Any?>(
-            "id" to todo.id,
-            "title" to todo.title,
-            "description" to todo.description,
-            "isCompleted" to todo.isCompleted,
-            "priority" to todo.priority,
-            "dueDate" to todo.dueDate,
-            "assignedMemberId" to null,
-            "type" to if (teamId == 0) "personal" else "team",
-            "createdAt" to todo.createDate
-        )
-    }
-
-    private fun mapTodoToDetailResponse(todo: Todo): Map<String, Any?> {
-        return mapOf<String, Any?>(
-            "id" to todo.id,
-            "title" to todo.title,
-            "description" to todo.description,
-            "priority" to todo.priority,
-            "completed" to todo.isCompleted,
-            "todoListId" to todo.todoList?.id,
-            "createdAt" to todo.createDate,
-            "updatedAt" to todo.modifyDate,
-            "startDate" to todo.startDate,
-            "dueDate" to todo.dueDate
-        )
-    }
-
-    private fun mapTodoListToResponse(todoList: TodoList): Map<String, Any?> {
-        return mapOf<String, Any?>(
-            "id" to todoList.id,
-            "name" to todoList.name,
-            "description" to todoList.description,
-            "userId" to todoList.user.id,
-            "teamId" to todoList.team?.id,
-            "createDate" to todoList.createDate,
-            "modifyDate" to todoList.modifyDate
-        )
-    }
-
+    // 다중 담당자 지정 이후에는 활성 담당자가 여럿일 수 있으므로 모두 비활성화
     private fun deactivateExistingAssignments(todoId: Int) {
-        todoAssignmentRepository.findByTodo_IdAndStatus(todoId, TodoAssignment.AssignmentStatus.ACTIVE)
-            .ifPresent { existingAssignment ->
+        todoAssignmentRepository.findAllByTodo_IdAndStatus(todoId, TodoAssignment.AssignmentStatus.ACTIVE)
+            .forEach { existingAssignment ->
                 existingAssignment.status = TodoAssignment.AssignmentStatus.INACTIVE
                 todoAssignmentRepository.save(existingAssignment)
             }
@@ -543,9 +510,10 @@ class TeamService(
         return todoAssignmentRepository.save(newAssignment)
     }
 
-    private fun calculateAssignmentChanges(todoId: Int, newAssigneeIds: Set<Int>): Pair<Set<Int>, Set<Int>> {
-        val existingAssignments = todoAssignmentRepository.findByTodo_IdOrderByAssignedAtDesc(todoId)
-        val activeAssignments = existingAssignments.filter { it.status == TodoAssignment.AssignmentStatus.ACTIVE }
+    private fun calculateAssignmentChanges(
+        activeAssignments: List<TodoAssignment>,
+        newAssigneeIds: Set<Int>
+    ): Pair<Set<Int>, Set<Int>> {
         val existingAssigneeIds = activeAssignments.map { it.assignedUser?.id }.filterNotNull().toSet()
 
         val toRemoveIds = existingAssigneeIds.filter { !newAssigneeIds.contains(it) }.toSet()
@@ -554,9 +522,8 @@ class TeamService(
         return Pair(toRemoveIds, toAddIds)
     }
 
-    private fun deactivateAssignments(todoId: Int, toRemoveIds: Set<Int>) {
-        val existingAssignments = todoAssignmentRepository.findByTodo_IdOrderByAssignedAtDesc(todoId)
-        val activeAssignments = existingAssignments.filter { it.status == TodoAssignment.AssignmentStatus.ACTIVE }
+    private fun deactivateAssignments(activeAssignments: List<TodoAssignment>, toRemoveIds: Set<Int>) {
+        if (toRemoveIds.isEmpty()) return
 
         activeAssignments.forEach { assignment ->
             if (toRemoveIds.contains(assignment.assignedUser?.id)) {
@@ -567,17 +534,21 @@ class TeamService(
     }
 
     private fun addNewAssignments(todo: Todo, team: Team, toAddIds: Set<Int>): Int {
+        if (toAddIds.isEmpty()) return 0
+
         var newAssignmentsCount = 0
-        val existingAssignments = todoAssignmentRepository.findByTodo_IdOrderByAssignedAtDesc(todo.id)
+        // 전체 이력 대신 추가할 사용자들의 비활성 기록만 조회 (보관 기간이 지난 이력은 아카이브로 옮겨짐)
+        // 사용자별로 가장 최근에 비활성화된 기록만 다시 살리고, 나머지는 그대로 두어 압축 작업이 옮기게 한다
+        val inactiveByUserId = todoAssignmentRepository
+            .findAllByTodo_IdAndStatusAndAssignedUser_IdIn(todo.id, TodoAssignment.AssignmentStatus.INACTIVE, toAddIds)
+            .groupBy { it.assignedUser?.id }
+            .mapValues { (_, assignments) -> assignments.maxWith(compareBy({ it.modifyDate }, { it.id })) }
+        val assignedUsers = teamValidator.validateAndGetUsers(toAddIds)
 
         toAddIds.forEach { assignedUserId ->
-            val assignedUser = teamValidator.validateAndGetUser(assignedUserId)
+            val assignedUser = assignedUsers.getValue(assignedUserId)
 
-            val existingInactive = existingAssignments
-                .firstOrNull { assignment ->
-                    assignment.assignedUser?.id == assignedUserId &&
-                            assignment.status == TodoAssignment.AssignmentStatus.INACTIVE
-                }
+            val existingInactive = inactiveByUserId[assignedUserId]
 
             if (existingInactive != null) {
                 existingInactive.status = TodoAssignment.AssignmentStatus.ACTIVE
@@ -593,27 +564,27 @@ class TeamService(
         return newAssignmentsCount
     }
 
-    private fun getAllTodoLists(): List<TodoList> = todoListRepository.findAll()
-
-    private fun calculateTeamStats(teamTodoLists: List<TodoList>): Triple<Int, Int, Int> {
-        var totalTodos = 0
-        var completedTodos = 0
-        var overdueTodos = 0
-
-        teamTodoLists.forEach { todoList ->
-            val todos = todoRepository.findByTodoListId(todoList.id)
-
-            todos.forEach { todo ->
-                totalTodos++
-                if (todo.isCompleted) {
-                    completedTodos++
-                }
-                if (!todo.isCompleted && todo.dueDate != null && todo.dueDate!!.isBefore(LocalDateTime.now())) {
-                    overdueTodos++
-                }
-            }
+    // 새로 지정된 담당자에게 알림/웹 푸시 (본인이 본인을 지정한 경우 제외), 같은 트랜잭션에서 아웃박스에 기록
+    // 같은 팀에서 연달아 지정되면 릴레이가 사용자별로 한 건으로 묶는다
+    private fun notifyAssignees(teamId: Int, todo: Todo, assigneeIds: Set<Int>, assignerUserId: Int) {
+        val title = todo.title ?: ""
+        assigneeIds.filter { it != assignerUserId }.forEach { userId ->
+            outboxPublisher.publishCoalesced(
+                userId = userId,
+                coalesceKey = "team:$teamId:todo-assigned",
+                title = "할일 담당자 지정",
+                url = "/teams/$teamId",
+                item = title,
+                body = "'$title' 할일의 담당자로 지정되었습니다.",
+                groupBody = "'%s' 외 %d개 할일의 담당자로 지정되었습니다."
+            )
         }
+    }
+
+    companion object {
+        private val log = LoggerFactory.getLogger(TeamService::class.java)
 
-        return Triple(totalTodos, completedTodos, overdueTodos)
+        // 첫 페이지 커서 (MySQL DATETIME 최댓값보다 이른 충분히 먼 미래)
+        private val FIRST_PAGE_ASSIGNED_AT: LocalDateTime = LocalDateTime.of(9999, 12, 31, 0, 0)
     }
-}
\ No newline at end of file
+}
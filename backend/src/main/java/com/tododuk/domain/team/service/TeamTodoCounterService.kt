@@ -0,0 +1,91 @@
+package com.tododuk.domain.team.service
+
+import com.tododuk.domain.team.dto.TeamStatsResponseDto
+import com.tododuk.domain.team.entity.TeamTodoCounter
+import com.tododuk.domain.team.repository.TeamTodoCounterRepository
+import com.tododuk.domain.todo.entity.Todo
+import org.springframework.stereotype.Service
+import org.springframework.transaction.annotation.Transactional
+import java.time.LocalDateTime
+
+/**
+ * 팀별 할일 카운터 관리
+ * 할일을 바꾸는 서비스는 변경 전 snapshot 을 떠 두었다가 변경 후 apply(before, after) 를 호출한다.
+ * 카운터 행이 없는 팀은 갱신하지 않는다. (조회 시 직접 집계하고, 재계산 작업이 행을 만든다)
+ */
+@Service
+@Transactional(readOnly = true)
+class TeamTodoCounterService(
+    private val teamTodoCounterRepository: TeamTodoCounterRepository
+) {
+
+    /**
+     * 카운터에 반영되는 할일 상태
+     */
+    data class Snapshot(
+        val teamId: Int,
+        val completed: Boolean,
+        val dueDate: LocalDateTime?
+    )
+
+    fun snapshot(todo: Todo): Snapshot? =
+        todo.todoList?.team?.id?.let { Snapshot(it, todo.isCompleted, todo.dueDate) }
+
+    /**
+     * 할일 변경을 카운터에 반영 (생성: before = null, 삭제: after = null)
+     * 팀이 바뀐 경우 두 팀 카운터를 팀 ID 순서로 잠가 교착을 피한다.
+     */
+    @Transactional
+    fun apply(before: Snapshot?, after: Snapshot?) {
+        if (before == after) return
+
+        listOfNotNull(before?.teamId, after?.teamId).distinct().sorted().forEach { teamId ->
+            val counter = teamTodoCounterRepository.findForUpdate(teamId) ?: return@forEach
+            before?.takeIf { it.teamId == teamId }?.let { counter.apply(it.completed, it.dueDate, -1) }
+            after?.takeIf { it.teamId == teamId }?.let { counter.apply(it.completed, it.dueDate, 1) }
+        }
+    }
+
+    @Transactional
+    fun createCounter(teamId: Int) {
+        teamTodoCounterRepository.save(TeamTodoCounter(teamId))
+    }
+
+    @Transactional
+    fun deleteCounter(teamId: Int) {
+        teamTodoCounterRepository.deleteById(teamId)
+    }
+
+    /**
+     * 팀 할일을 전체 집계해 카운터를 다시 맞춘다. (목록 삭제/이동처럼 여러 할일이 한꺼번에 바뀔 때, 매일 재계산)
+     * @return 기존 값과 달랐는지 여부
+     */
+    @Transactional
+    fun recount(teamId: Int): Boolean {
+        val now = LocalDateTime.now()
+        val counter = teamTodoCounterRepository.findForUpdate(teamId)
+            ?: teamTodoCounterRepository.save(TeamTodoCounter(teamId, overdueAsOf = now))
+        val count = teamTodoCounterRepository.countTodos(teamId, now)
+
+        val total = count.total.toInt()
+        val completed = count.completed.toInt()
+        val overdue = count.overdue.toInt()
+        val drifted = !counter.matches(total, completed, overdue)
+
+        counter.reset(total, completed, overdue, now)
+        return drifted
+    }
+
+    /**
+     * 카운터 행 하나로 팀 통계 조회. 아직 카운터가 없는 팀은 한 번의 집계 쿼리로 계산한다.
+     * overdue 는 마지막 마감 경과 반영 시점(최대 sweep 주기만큼 이전) 기준이다.
+     */
+    fun getStats(teamId: Int): TeamStatsResponseDto {
+        teamTodoCounterRepository.findById(teamId).orElse(null)?.let { counter ->
+            return TeamStatsResponseDto.of(counter.total, counter.completed, counter.overdue)
+        }
+
+        val count = teamTodoCounterRepository.countTodos(teamId, LocalDateTime.now())
+        return TeamStatsResponseDto.of(count.total.toInt(), count.completed.toInt(), count.overdue.toInt())
+    }
+}
@@ -4,6 +4,8 @@ import com.tododuk.domain.team.constant.TeamRoleType
 import com.tododuk.domain.team.repository.TeamMemberRepository
 import com.tododuk.global.exception.ServiceException
 import org.springframework.stereotype.Component
+import org.springframework.web.context.request.RequestAttributes
+import org.springframework.web.context.request.RequestContextHolder
 
 @Component
 class TeamPermissionValidator(
@@ -14,7 +16,7 @@ class TeamPermissionValidator(
      * 팀 멤버 권한 확인
      */
     fun validateTeamMember(teamId: Int, userId: Int, errorMessage: String = "해당 팀의 멤버가 아닙니다.") {
-        if (!teamMemberRepository.existsByTeam_IdAndUser_Id(teamId, userId)) {
+        if (findRole(teamId, userId) == null) {
             throw ServiceException("403-NO_PERMISSION", errorMessage)
         }
     }
@@ -23,7 +25,7 @@ class TeamPermissionValidator(
      * 팀 리더 권한 확인
      */
     fun validateTeamLeader(teamId: Int, userId: Int, errorMessage: String = "팀 리더만 수행할 수 있습니다.") {
-        if (!teamMemberRepository.existsByTeam_IdAndUser_IdAndRole(teamId, userId, TeamRoleType.LEADER)) {
+        if (findRole(teamId, userId) != TeamRoleType.LEADER) {
             throw ServiceException("403-NO_PERMISSION", errorMessage)
         }
     }
@@ -32,23 +34,30 @@ class TeamPermissionValidator(
      * 팀 멤버 여부 반환 (예외 없이)
      */
     fun isTeamMember(teamId: Int, userId: Int): Boolean {
-        return teamMemberRepository.existsByTeam_IdAndUser_Id(teamId, userId)
+        return findRole(teamId, userId) != null
     }
 
     /**
      * 팀 리더 여부 반환 (예외 없이)
      */
     fun isTeamLeader(teamId: Int, userId: Int): Boolean {
-        return teamMemberRepository.existsByTeam_IdAndUser_IdAndRole(teamId, userId, TeamRoleType.LEADER)
+        return findRole(teamId, userId) == TeamRoleType.LEADER
     }
 
     /**
-     * 여러 사용자가 모두 팀 멤버인지 확인
+     * 여러 사용자가 모두 팀 멤버인지 확인 (한 번의 COUNT 쿼리)
      */
-    fun validateAllAreTeamMembers(teamId: Int, userIds: List<Int>) {
-        userIds.forEach { userId ->
-            validateTeamMember(teamId, userId, "사용자 ID $userId 는 해당 팀의 멤버가 아닙니다.")
-        }
+    fun validateAllAreTeamMembers(teamId: Int, userIds: Collection<Int>) {
+        val distinctUserIds = userIds.toSet()
+        if (distinctUserIds.isEmpty()) return
+
+        val memberCount = teamMemberRepository.countByTeam_IdAndUser_IdIn(teamId, distinctUserIds)
+        if (memberCount == distinctUserIds.size.toLong()) return
+
+        // 실패한 경우에만 어떤 사용자가 멤버가 아닌지 조회
+        val memberUserIds = teamMemberRepository.findUserIdsByTeamIdAndUserIdIn(teamId, distinctUserIds).toSet()
+        val nonMemberUserId = distinctUserIds.first { it !in memberUserIds }
+        throw ServiceException("403-NO_PERMISSION", "사용자 ID $nonMemberUserId 는 해당 팀의 멤버가 아닙니다.")
     }
 
     /**
@@ -65,4 +74,52 @@ class TeamPermissionValidator(
             }
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 멤버 추가/역할 변경/삭제 후 현재 요청의 멤버십 캐시를 비운다.
+     */
+    fun evictMembership(teamId: Int) {
+        requestMembershipCache()?.remove(teamId)
+    }
+
+    // ===== Private Helper Methods =====
+
+    /**
+     * 팀 내 역할 조회 (멤버가 아니면 null)
+     * 같은 요청 안에서는 팀/사용자 조합당 한 번만 조회한다.
+     */
+    private fun findRole(teamId: Int, userId: Int): TeamRoleType? {
+        val cache = requestMembershipCache()
+            ?: return teamMemberRepository.findRoleByTeamIdAndUserId(teamId, userId)
+
+        val teamRoles = cache.getOrPut(teamId) { HashMap() }
+        if (teamRoles.containsKey(userId)) {
+            return teamRoles[userId]
+        }
+
+        return teamMemberRepository.findRoleByTeamIdAndUserId(teamId, userId)
+            .also { teamRoles[userId] = it }
+    }
+
+    /**
+     * 요청 스코프 캐시 (teamId -> (userId -> role))
+     * HTTP 요청 밖(스케줄러, 테스트 등)에서는 캐시하지 않는다.
+     */
+    @Suppress("UNCHECKED_CAST")
+    private fun requestMembershipCache(): MutableMap<Int, MutableMap<Int, TeamRoleType?>>? {
+        val attributes = RequestContextHolder.getRequestAttributes() ?: return null
+
+        val cached = attributes.getAttribute(MEMBERSHIP_CACHE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+        if (cached != null) {
+            return cached as MutableMap<Int, MutableMap<Int, TeamRoleType?>>
+        }
+
+        val cache = HashMap<Int, MutableMap<Int, TeamRoleType?>>()
+        attributes.setAttribute(MEMBERSHIP_CACHE_ATTRIBUTE, cache, RequestAttributes.SCOPE_REQUEST)
+        return cache
+    }
+
+    companion object {
+        private val MEMBERSHIP_CACHE_ATTRIBUTE = TeamPermissionValidator::class.java.name + ".MEMBERSHIP_CACHE"
+    }
+}
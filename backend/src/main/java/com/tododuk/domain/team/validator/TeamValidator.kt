@@ -27,6 +27,15 @@ class TeamValidator(
             .orElseThrow { ServiceException("404-TEAM_NOT_FOUND", "팀을 찾을 수 없습니다. ID: $teamId") }
     }
 
+    /**
+     * 팀 존재 여부만 확인 (엔티티를 로딩하지 않음)
+     */
+    fun validateTeamExists(teamId: Int) {
+        if (!teamRepository.existsById(teamId)) {
+            throw ServiceException("404-TEAM_NOT_FOUND", "팀을 찾을 수 없습니다. ID: $teamId")
+        }
+    }
+
     /**
      * 사용자 존재 여부 확인 및 반환
      */
@@ -35,6 +44,27 @@ class TeamValidator(
             .orElseThrow { ServiceException("404-USER_NOT_FOUND", "사용자를 찾을 수 없습니다. ID: $userId") }
     }
 
+    /**
+     * 여러 사용자 존재 여부 확인 및 반환 (한 번의 IN 쿼리)
+     */
+    fun validateAndGetUsers(userIds: Collection<Int>): Map<Int, User> {
+        val distinctUserIds = userIds.toSet()
+        val users = userRepository.findAllById(distinctUserIds).associateBy { it.id }
+
+        distinctUserIds.firstOrNull { it !in users }?.let { missingUserId ->
+            throw ServiceException("404-USER_NOT_FOUND", "사용자를 찾을 수 없습니다. ID: $missingUserId")
+        }
+        return users
+    }
+
+    /**
+     * 멤버 권한 검증을 통과한 팀의 참조 반환 (연관관계 설정용, 조회 쿼리 없음)
+     * 멤버가 존재한다면 팀도 존재하므로 별도 존재 확인을 생략한다.
+     */
+    fun getVerifiedTeamReference(teamId: Int): Team {
+        return teamRepository.getReferenceById(teamId)
+    }
+
     /**
      * 이메일로 사용자 존재 여부 확인 및 반환
      */
@@ -10,12 +10,15 @@ import com.tododuk.domain.todoList.service.TodoListService
 import com.tododuk.domain.user.entity.User
 import com.tododuk.domain.user.service.UserService
 import com.tododuk.global.exception.ServiceException
+import com.tododuk.global.page.CursorPage
 import com.tododuk.global.rsData.RsData
 import com.tododuk.global.rsData.RsData.Companion.success
+import com.tododuk.global.webMvc.ConditionalGetSupport
 import io.swagger.v3.oas.annotations.Operation
 import io.swagger.v3.oas.annotations.tags.Tag
 import jakarta.validation.Valid
 import lombok.RequiredArgsConstructor
+import org.slf4j.LoggerFactory
 import org.springframework.http.ResponseEntity
 import org.springframework.security.core.Authentication
 import org.springframework.transaction.annotation.Transactional
@@ -32,15 +35,18 @@ class TodoController (
     private val userService: UserService,
     private val todoListService: TodoListService,
     private val todoLabelService: TodoLabelService,
-    private val reminderService: ReminderService
+    private val reminderService: ReminderService,
+    private val conditionalGetSupport: ConditionalGetSupport
 ) {
 
     @GetMapping
-    @Transactional
-    @Operation(summary = "전체 todo 조회")
-    fun getAllTodos(): ResponseEntity<RsData<List<TodoResponseDto>>> {
-        val todos: List<TodoResponseDto> = todoService.getAllTodos()
-        return ResponseEntity.ok(RsData.success("전체 todo 조회 성공", todos))
+    @Operation(summary = "관리자 - 전체 todo 조회", description = "id 커서 기반으로 페이지 단위 조회합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 전달하세요.")
+    fun getAllTodos(
+        @RequestParam(required = false) cursor: Int?,
+        @RequestParam(required = false) size: Int?
+    ): ResponseEntity<RsData<CursorPage<TodoResponseDto>>> {
+        val page = todoService.getTodoPage(cursor, size)
+        return ResponseEntity.ok(success("전체 todo 조회 성공", page))
     }
 
     @GetMapping("/{todoId}")
@@ -70,7 +76,9 @@ class TodoController (
         @Valid @RequestBody reqDto: TodoReqDto
     ): ResponseEntity<RsData<TodoResponseDto>> {
         try {
+            val previousDueDate = todoService.getTodoById(todoId).dueDate
             val todo: Todo = todoService.updateTodo(todoId, reqDto)
+            reminderService.shiftRemindersForTodo(todo.id, previousDueDate, todo.dueDate)
             return ResponseEntity.ok(success("todo 수정 성공", TodoResponseDto.from(todo)))
         } catch (e: Exception) {
             throw ServiceException("400-1", "수정에 실패하였습니다.")
@@ -85,6 +93,7 @@ class TodoController (
     ): ResponseEntity<RsData<Void>> {
         try {
             todoService.deleteTodo(todoId)
+            reminderService.deleteRemindersForTodo(todoId)
             return ResponseEntity.ok(success("todo 삭제 성공"))
         } catch (e: Exception) {
             throw ServiceException("400-1", "삭제에 실패하였습니다.")
@@ -108,8 +117,10 @@ class TodoController (
     fun getUserTodo(
         @PathVariable userId: Int?
     ): ResponseEntity<RsData<List<TodoResponseDto>>> {
-        val todos: List<TodoResponseDto> = todoService.getUserTodo(userId)
-        return ResponseEntity.ok(success("유저의 todo 조회 성공", todos))
+        return conditionalGetSupport.ifModified("todos:user:$userId", todoService.getUserTodoVersion(userId)) {
+            val todos: List<TodoResponseDto> = todoService.getUserTodo(userId)
+            success("유저의 todo 조회 성공", todos)
+        }
     }
 
     @GetMapping("/me")
@@ -122,13 +133,15 @@ class TodoController (
             return ResponseEntity.status(401).body(RsData("401-1", "인증이 필요합니다."))
         }
         val username = authentication.name
-        println("Authenticated Username: $username")
+        log.debug("Authenticated Username: {}", username)
         val user: User = userService.findByUserEmail(username)
             .orElseThrow<IllegalArgumentException>(Supplier<IllegalArgumentException> { IllegalArgumentException("존재하지 않는 사용자입니다.") })
 
         try {
-            val todos: List<TodoResponseDto> = todoService.getUserTodo(user.id)
-            return ResponseEntity.ok(success("유저의 todo list 조회 성공", todos))
+            return conditionalGetSupport.ifModified("todos:user:${user.id}", todoService.getUserTodoVersion(user.id)) {
+                val todos: List<TodoResponseDto> = todoService.getUserTodo(user.id)
+                success("유저의 todo list 조회 성공", todos)
+            }
         } catch (e: Exception) {
             throw ServiceException("400-1", "todo가 존재하지 않습니다.")
         }
@@ -142,12 +155,16 @@ class TodoController (
         @PathVariable id: Int?
     ): ResponseEntity<RsData<List<TodoResponseDto>>> {
         try {
-            val todos: List<TodoResponseDto> = todoService.getTodoByTodoListId(id)
-            return ResponseEntity.ok(success("리스트 기반 투두 조회 성공", todos))
+            return conditionalGetSupport.ifModified("todos:list:$id", todoService.getTodoListTodosVersion(id)) {
+                val todos: List<TodoResponseDto> = todoService.getTodoByTodoListId(id)
+                success("리스트 기반 투두 조회 성공", todos)
+            }
         } catch (e: Exception) {
             throw ServiceException("400-1", "해당 리스트의 투두가 존재하지 않습니다.")
         }
     }
-}
-
 
+    companion object {
+        private val log = LoggerFactory.getLogger(TodoController::class.java)
+    }
+}
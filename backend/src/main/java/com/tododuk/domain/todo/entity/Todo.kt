@@ -4,12 +4,23 @@ import com.tododuk.domain.todo.dto.TodoReqDto
 import com.tododuk.domain.todoList.entity.TodoList
 import com.tododuk.global.entity.BaseEntity
 import jakarta.persistence.Entity
+import jakarta.persistence.Index
 import jakarta.persistence.JoinColumn
 import jakarta.persistence.ManyToOne
+import jakarta.persistence.PrePersist
+import jakarta.persistence.Table
 import lombok.Builder
 import java.time.LocalDateTime
 
 @Entity
+@Table(
+    name = "todo",
+    indexes = [
+        // 일별 생산성 집계용 (하루 동안 생성/완료된 할일)
+        Index(name = "idx_todo_create_date", columnList = "create_date"),
+        Index(name = "idx_todo_completed_at", columnList = "completed_at")
+    ]
+)
 @Builder
 open class Todo(
     var title: String? = null,
@@ -24,6 +35,9 @@ open class Todo(
     var todoList: TodoList? = null
 ) : BaseEntity() {
 
+    // 완료 처리된 시각 (미완료로 되돌리면 null)
+    var completedAt: LocalDateTime? = null
+
     // 생성자 오버로딩 1
     constructor(title: String?, description: String?, completed: Boolean) : this(
         title = title,
@@ -57,8 +71,23 @@ open class Todo(
         this.title = dto.title
         this.description = dto.description
         this.priority = dto.priority
-        this.isCompleted = dto.isCompleted
+        changeCompleted(dto.isCompleted)
         this.dueDate = dto.dueDate
         // this.todoList = dto.toEntity().todoList
     }
+
+    fun changeCompleted(completed: Boolean) {
+        if (isCompleted == completed) return
+        isCompleted = completed
+        completedAt = if (completed) LocalDateTime.now() else null
+    }
+
+    fun toggleCompleted() = changeCompleted(!isCompleted)
+
+    @PrePersist
+    protected fun onCreate() {
+        if (isCompleted && completedAt == null) {
+            completedAt = LocalDateTime.now()
+        }
+    }
 }
\ No newline at end of file
@@ -1,7 +1,11 @@
 package com.tododuk.domain.todo.repository;
 
 import com.tododuk.domain.todo.entity.Todo;
+import com.tododuk.global.webMvc.ResourceVersion;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -12,4 +16,27 @@ public interface TodoRepository extends JpaRepository <Todo, Integer> {
 
     // 할일 목록 ID로 할일 조회
     List<Todo> findByTodoListId(Integer todoListId);
-}
\ No newline at end of file
+
+    // 관리자용 전체 목록 키셋 페이지 조회 (id > cursor)
+    @Query("""
+            select t from Todo t
+            left join fetch t.todoList l left join fetch l.user left join fetch l.team
+            where t.id > :cursor
+            order by t.id
+            """)
+    List<Todo> findPageAfter(@Param("cursor") Integer cursor, Pageable pageable);
+
+    // ===== 조건부 GET 용 버전 조회 =====
+
+    @Query("select count(t) as total, max(t.modifyDate) as lastModified from Todo t where t.todoList.user.id = :userId")
+    ResourceVersion findVersionByTodoListUserId(@Param("userId") Integer userId);
+
+    @Query("select count(t) as total, max(t.modifyDate) as lastModified from Todo t where t.todoList.id = :todoListId")
+    ResourceVersion findVersionByTodoListId(@Param("todoListId") Integer todoListId);
+
+    @Query("""
+            select count(t) as total, max(t.modifyDate) as lastModified from Todo t
+            where t.todoList.team.id = :teamId and t.todoList.user.id = :userId
+            """)
+    ResourceVersion findVersionByTeamIdAndUserId(@Param("teamId") Integer teamId, @Param("userId") Integer userId);
+}
@@ -1,20 +1,28 @@
 package com.tododuk.domain.todo.service
 
+import com.tododuk.domain.team.service.TeamTodoCounterService
 import com.tododuk.domain.todo.dto.TodoReqDto
 import com.tododuk.domain.todo.dto.TodoResponseDto
 import com.tododuk.domain.todo.entity.Todo
 import com.tododuk.domain.todo.repository.TodoRepository
 import com.tododuk.domain.todoLabel.service.TodoLabelService
 import com.tododuk.domain.todoList.repository.TodoListRepository
+import com.tododuk.global.page.CursorPage
+import com.tododuk.global.page.CursorPaging
+import com.tododuk.global.webMvc.ResourceVersion
+import io.micrometer.core.annotation.Timed
 import org.springframework.stereotype.Service
 import org.springframework.transaction.annotation.Transactional
 import java.util.stream.Collectors
 
 @Service
+@Timed(value = "service.method", extraTags = ["service", "todo"])
 class TodoService (
     private val todoRepository: TodoRepository,
     private val todoListRepository: TodoListRepository,
-    private val todoLabelService: TodoLabelService
+    private val todoLabelService: TodoLabelService,
+    private val teamTodoCounterService: TeamTodoCounterService,
+    private val cursorPaging: CursorPaging
 ){
 
 
@@ -41,6 +49,12 @@ class TodoService (
             .map(TodoResponseDto::from)
             .toList()
 
+    fun getTodoPage(cursor: Int?, size: Int?): CursorPage<TodoResponseDto> {
+        val pageSize = cursorPaging.sizeOf(size)
+        val todos = todoRepository.findPageAfter(cursorPaging.cursorOf(cursor), cursorPaging.fetchLimit(pageSize))
+        return CursorPage.of(todos, pageSize, Todo::id, TodoResponseDto::from)
+    }
+
 
 
     fun getTodo(id: Int): TodoResponseDto {
@@ -56,6 +70,7 @@ class TodoService (
         val todo = reqDto.toEntity()
         todo.todoList = todoList
         return todoRepository.save(todo)
+            .also { teamTodoCounterService.apply(null, teamTodoCounterService.snapshot(it)) }
     }
 
     @Transactional
@@ -64,8 +79,11 @@ class TodoService (
             .orElseThrow { IllegalArgumentException("해당 todo는 존재하지 않습니다.") }
         val todoList = todoListRepository.findById(reqDto.todoListId)
             .orElseThrow { IllegalArgumentException("해당 todo_list_id는 존재하지 않습니다.") }
+        // 목록 이동으로 팀이 바뀔 수 있어 변경 전 상태를 먼저 떠 둔다
+        val before = teamTodoCounterService.snapshot(todo)
         todo.todoList = todoList
         todo.update(reqDto)
+        teamTodoCounterService.apply(before, teamTodoCounterService.snapshot(todo))
         return todo
     }
 
@@ -79,14 +97,18 @@ class TodoService (
         todoLabelService.deleteAllTodoLabelsByTodoId(todoId)
 
         // 3. Todo 삭제
+        val before = teamTodoCounterService.snapshot(todo)
         todoRepository.delete(todo)
+        teamTodoCounterService.apply(before, null)
     }
 
     @Transactional
     fun isComplete(todoId: Int): TodoResponseDto {
         val todo = todoRepository.findById(todoId)
             .orElseThrow { IllegalArgumentException("해당 todo는 존재하지 않습니다.") }
-        todo.isCompleted = !todo.isCompleted
+        val before = teamTodoCounterService.snapshot(todo)
+        todo.toggleCompleted()
+        teamTodoCounterService.apply(before, teamTodoCounterService.snapshot(todo))
 
         return TodoResponseDto.from(todoRepository.save(todo))
     }
@@ -99,6 +121,12 @@ class TodoService (
     }
 
 
+    fun getUserTodoVersion(userId: Int?): ResourceVersion =
+        todoRepository.findVersionByTodoListUserId(userId)
+
+    fun getTodoListTodosVersion(todoListId: Int?): ResourceVersion =
+        todoRepository.findVersionByTodoListId(todoListId)
+
     fun getTodoByTodoListId(id: Int?): List<TodoResponseDto> {
         val todos = todoRepository.findAllByTodoListId(id)
         return todos.stream()
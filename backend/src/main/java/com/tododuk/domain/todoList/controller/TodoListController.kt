@@ -7,13 +7,17 @@ import com.tododuk.domain.user.service.UserService
 import com.tododuk.global.exception.ServiceException
 import com.tododuk.global.rsData.RsData
 import com.tododuk.global.rsData.RsData.Companion.success
+import com.tododuk.global.webMvc.ConditionalGetSupport
+import com.tododuk.global.webMvc.JsonStreamingSupport
 import io.swagger.v3.oas.annotations.Operation
 import io.swagger.v3.oas.annotations.tags.Tag
 import lombok.RequiredArgsConstructor
+import org.slf4j.LoggerFactory
 import org.springframework.http.ResponseEntity
 import org.springframework.security.core.Authentication
 import org.springframework.transaction.annotation.Transactional
 import org.springframework.web.bind.annotation.*
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody
 
 
 @RestController
@@ -23,23 +27,26 @@ import org.springframework.web.bind.annotation.*
 @CrossOrigin(origins = ["http://localhost:3000"])
 class TodoListController (
     private val todoListService: TodoListService,
-    private val userService: UserService
+    private val userService: UserService,
+    private val conditionalGetSupport: ConditionalGetSupport,
+    private val jsonStreamingSupport: JsonStreamingSupport
 ){
 
     @GetMapping
-    @Transactional
     @Operation(summary = "전체 todolist 조회")
-    fun allTodoLists(): ResponseEntity<RsData<List<TodoListResponseDto>>> {
-            val todolist = todoListService.allTodoLists()
-            return ResponseEntity.ok(success("전체 todolist 조회 성공",todolist))
-        }
+    fun allTodoLists(): ResponseEntity<StreamingResponseBody> {
+        // 목록마다 하위 todo 를 로딩하지 않도록 from() 대신 생성자를 사용
+        return jsonStreamingSupport.streamList("전체 todolist 조회 성공", todoListService::streamAllTodoLists) { TodoListResponseDto(it) }
+    }
 
     @GetMapping("/{listId}")
     @Transactional
     @Operation(summary = "개별 todoList 조회")
     fun getTodoListById(@PathVariable listId: Int): ResponseEntity<RsData<TodoListResponseDto>> {
-        val list = todoListService.getTodoList(listId)
-        return ResponseEntity.ok(success("todolist 조회 성공", list))
+        return conditionalGetSupport.ifModified("todoList:$listId", todoListService.getTodoListVersion(listId)) {
+            val list = todoListService.getTodoList(listId)
+            success("todolist 조회 성공", list)
+        }
     }
 
     @PostMapping
@@ -87,8 +94,10 @@ class TodoListController (
     fun getUserTodoList(
         @PathVariable userId: Int?
     ): ResponseEntity<RsData<List<TodoListResponseDto>>> {
-        val todoLists = todoListService.getUserTodoList(userId)
-        return ResponseEntity.ok(success("유저의 todo list 조회 성공", todoLists))
+        return conditionalGetSupport.ifModified("todoLists:user:$userId", todoListService.getUserTodoListVersion(userId)) {
+            val todoLists = todoListService.getUserTodoList(userId)
+            success("유저의 todo list 조회 성공", todoLists)
+        }
     }
 
     @GetMapping("/me")
@@ -101,15 +110,21 @@ class TodoListController (
             return ResponseEntity.status(401).body(RsData("401-1", "인증이 필요합니다."))
         }
         val username = authentication.name
-        println("Authenticated Username: $username")
+        log.debug("Authenticated Username: {}", username)
         val user = userService.findByUserEmail(username)
             .orElseThrow { IllegalArgumentException("존재하지 않는 사용자입니다.") }
 
         try {
-            val todoLists = todoListService.getUserTodoList(user.id)
-            return ResponseEntity.ok(success("유저의 todo list 조회 성공", todoLists))
+            return conditionalGetSupport.ifModified("todoLists:user:${user.id}", todoListService.getUserTodoListVersion(user.id)) {
+                val todoLists = todoListService.getUserTodoList(user.id)
+                success("유저의 todo list 조회 성공", todoLists)
+            }
         } catch (e: Exception) {
             throw ServiceException("400-1", "list가 존재하지 않습니다.")
         }
     }
+
+    companion object {
+        private val log = LoggerFactory.getLogger(TodoListController::class.java)
+    }
 }
@@ -1,10 +1,18 @@
 package com.tododuk.domain.todoList.repository;
 
 import com.tododuk.domain.todoList.entity.TodoList;
+import com.tododuk.global.webMvc.ResourceVersion;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 public interface TodoListRepository extends JpaRepository<TodoList, Integer> {
     List<TodoList> findAllByUserId(Integer userId);
@@ -17,4 +25,17 @@ public interface TodoListRepository extends JpaRepository<TodoList, Integer> {
     
     // 팀의 모든 할일 목록 조회
     List<TodoList> findByTeamId(Integer teamId);
+
+    // 스트리밍 응답용 전체 조회 (호출 측에서 트랜잭션 안에서 소비 후 close 해야 함)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("select l from TodoList l join fetch l.user join fetch l.team")
+    Stream<TodoList> streamAll();
+
+    // ===== 조건부 GET 용 버전 조회 =====
+
+    @Query("select count(l) as total, max(l.modifyDate) as lastModified from TodoList l where l.user.id = :userId")
+    ResourceVersion findVersionByUserId(@Param("userId") Integer userId);
+
+    @Query("select count(l) as total, max(l.modifyDate) as lastModified from TodoList l where l.id = :id")
+    ResourceVersion findVersionById(@Param("id") Integer id);
 }
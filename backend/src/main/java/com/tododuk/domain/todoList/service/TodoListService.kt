@@ -1,31 +1,41 @@
 package com.tododuk.domain.todoList.service
 
 import com.tododuk.domain.team.repository.TeamRepository
+import com.tododuk.domain.team.service.TeamTodoCounterService
 import com.tododuk.domain.todoList.dto.TodoListReqDto
 import com.tododuk.domain.todoList.dto.TodoListResponseDto
 import com.tododuk.domain.todoList.entity.TodoList
 import com.tododuk.domain.todoList.repository.TodoListRepository
 import com.tododuk.domain.user.repository.UserRepository
+import com.tododuk.global.webMvc.ResourceVersion
 import org.springframework.stereotype.Service
 import org.springframework.transaction.annotation.Transactional
+import java.util.stream.Stream
 
 @Service
 class TodoListService(
     private val todoListRepository: TodoListRepository,
     private val userRepository: UserRepository,
-    private val teamRepository: TeamRepository
+    private val teamRepository: TeamRepository,
+    private val teamTodoCounterService: TeamTodoCounterService
 ) {
 
     fun allTodoLists(): List<TodoListResponseDto> =
         todoListRepository.findAll()
             .map { TodoListResponseDto.from(it) }
 
+    // 대용량 목록 스트리밍 응답용 (트랜잭션 안에서 소비해야 함)
+    fun streamAllTodoLists(): Stream<TodoList> = todoListRepository.streamAll()
+
     fun getTodoList(id: Int): TodoListResponseDto {
         val todoList = todoListRepository.findById(id)
             .orElseThrow { IllegalArgumentException("해당 todolistid는 존재하지 않습니다.") }
         return TodoListResponseDto.from(todoList)
     }
 
+    fun getTodoListVersion(id: Int): ResourceVersion =
+        todoListRepository.findVersionById(id)
+
     @Transactional
     fun addTodoList(reqDto: TodoListReqDto): TodoList {
         val user = userRepository.findById(reqDto.userId)
@@ -54,21 +64,33 @@ class TodoListService(
         val team = teamRepository.findById(reqDto.teamId)
             .orElseThrow { IllegalArgumentException("해당 팀이 없습니다.") }
 
+        val previousTeamId = todoList.team.id
         todoList.name = reqDto.name
         todoList.description = reqDto.description
         todoList.user = user
         todoList.team = team
 
-        return todoListRepository.save(todoList)
+        val saved = todoListRepository.save(todoList)
+        // 목록이 다른 팀으로 옮겨지면 딸린 할일 전체가 이동하므로 두 팀 카운터를 다시 집계
+        if (previousTeamId != team.id) {
+            teamTodoCounterService.recount(previousTeamId)
+            teamTodoCounterService.recount(team.id)
+        }
+        return saved
     }
 
     @Transactional
     fun deleteTodoList(listId: Int) {
         val todoList = todoListRepository.findById(listId)
             .orElseThrow { IllegalArgumentException("해당 todolist는 존재하지 않습니다.") }
+        val teamId = todoList.team.id
         todoListRepository.delete(todoList)
+        teamTodoCounterService.recount(teamId)
     }
 
+    fun getUserTodoListVersion(userId: Int?): ResourceVersion =
+        todoListRepository.findVersionByUserId(userId)
+
     fun getUserTodoList(userId: Int?): List<TodoListResponseDto> =
         todoListRepository.findAllByUserId(userId)
             .map { TodoListResponseDto.from(it) }
@@ -12,6 +12,7 @@ import jakarta.servlet.http.HttpServletResponse
 import jakarta.validation.Valid
 import jakarta.validation.constraints.NotBlank
 import jakarta.validation.constraints.Size
+import org.slf4j.LoggerFactory
 import org.springframework.http.HttpStatus
 import org.springframework.http.ResponseEntity
 import org.springframework.web.bind.annotation.*
@@ -74,7 +75,7 @@ class UserController(
         @RequestBody @Valid reqBody: UserLoginReqDto,
         response: HttpServletResponse?
     ): RsData<UserLoginResDto?> {
-        println("로그인 요청: ${reqBody.email}, ${reqBody.password}")
+        log.debug("로그인 요청: {}", reqBody.email)
         val userOptional = userService.findByUserEmail(reqBody.email)
 
         if (!userOptional.isPresent) {
@@ -165,7 +166,7 @@ class UserController(
             try {
                 fileUploadService.deleteProfileImage(oldImageUrl)
             } catch (e: Exception) {
-                println("기존 파일 삭제 실패: ${e.message}")
+                log.warn("기존 파일 삭제 실패", e)
             }
         }
 
@@ -205,4 +206,8 @@ class UserController(
             "로그아웃 성공"
         )
     }
-}
\ No newline at end of file
+
+    companion object {
+        private val log = LoggerFactory.getLogger(UserController::class.java)
+    }
+}
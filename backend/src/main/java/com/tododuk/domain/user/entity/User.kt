@@ -5,17 +5,22 @@ import com.tododuk.domain.label.entity.Label
 import com.tododuk.domain.notification.entity.Notification
 import com.tododuk.domain.team.entity.TeamMember
 import com.tododuk.domain.todoList.entity.TodoList
+import com.tododuk.global.cache.CacheRegions
 import com.tododuk.global.entity.BaseEntity
 import jakarta.persistence.Column
 import jakarta.persistence.Entity
 import jakarta.persistence.OneToMany
 import jakarta.persistence.Table
+import org.hibernate.annotations.Cache
+import org.hibernate.annotations.CacheConcurrencyStrategy
 import org.springframework.security.core.GrantedAuthority
 import org.springframework.security.core.authority.SimpleGrantedAuthority
 import java.util.*
 
 @Entity
 @Table(name = "users")
+// 컬럼 값만 캐시한다. 자주 바뀌는 컬렉션(todoLists, notifications 등)은 캐시하지 않는다
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.USER)
 open class User : BaseEntity {
 
     @Column(nullable = false, unique = true)
@@ -0,0 +1,38 @@
+package com.tododuk.global.cache
+
+/**
+ * Hibernate 2차 캐시 영역 이름과 기본 정책
+ * 정책은 custom.cache.secondLevel.regions.<이름>.maxSize / ttlSeconds 로 영역마다 바꿀 수 있다.
+ */
+object CacheRegions {
+
+    const val TEAM = "team"
+    const val TEAM_MEMBERS = "teamMembers"           // Team.members 컬렉션 (멤버 ID 목록)
+    const val TEAM_MEMBER = "teamMember"
+    const val TEAM_MEMBERSHIP = "teamMembership"     // 멤버 여부/역할 조회 쿼리 캐시
+    const val LABEL = "label"
+    const val USER = "user"
+
+    // Hibernate 가 쿼리 캐시에 쓰는 기본 영역
+    const val DEFAULT_QUERY_RESULTS = "default-query-results-region"
+    const val DEFAULT_UPDATE_TIMESTAMPS = "default-update-timestamps-region"
+
+    /**
+     * @param ttlSeconds 쓰고 나서 만료까지 (0 이면 만료 없음)
+     * @param query 쿼리 캐시 영역 여부 (통계 조회 방식이 다르다)
+     */
+    data class Policy(val maxSize: Long, val ttlSeconds: Long, val query: Boolean = false)
+
+    // 인스턴스마다 따로 두는 로컬 캐시라 다른 인스턴스의 변경은 만료 시간이 지나야 보인다. (멤버십은 권한 확인이라 짧게)
+    val DEFAULTS: Map<String, Policy> = linkedMapOf(
+        TEAM to Policy(maxSize = 10_000, ttlSeconds = 600),
+        TEAM_MEMBERS to Policy(maxSize = 10_000, ttlSeconds = 600),
+        TEAM_MEMBER to Policy(maxSize = 100_000, ttlSeconds = 600),
+        TEAM_MEMBERSHIP to Policy(maxSize = 100_000, ttlSeconds = 60, query = true),
+        LABEL to Policy(maxSize = 1_000, ttlSeconds = 3600),
+        USER to Policy(maxSize = 50_000, ttlSeconds = 600),
+        DEFAULT_QUERY_RESULTS to Policy(maxSize = 10_000, ttlSeconds = 60, query = true),
+        // 테이블별 마지막 변경 시각. 만료되면 오래된 쿼리 결과가 유효하다고 판단될 수 있어 만료 없이 둔다
+        DEFAULT_UPDATE_TIMESTAMPS to Policy(maxSize = 10_000, ttlSeconds = 0)
+    )
+}
@@ -0,0 +1,95 @@
+package com.tododuk.global.cache
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider
+import io.micrometer.core.instrument.Gauge
+import io.micrometer.core.instrument.binder.MeterBinder
+import jakarta.persistence.EntityManagerFactory
+import org.hibernate.SessionFactory
+import org.hibernate.cache.jcache.ConfigSettings
+import org.hibernate.cfg.AvailableSettings
+import org.hibernate.stat.CacheRegionStatistics
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer
+import org.springframework.context.annotation.Bean
+import org.springframework.context.annotation.Configuration
+import org.springframework.core.env.Environment
+import java.util.OptionalLong
+import java.util.concurrent.TimeUnit
+import javax.cache.CacheManager
+import javax.cache.Caching
+
+/**
+ * Hibernate 2차 캐시 (custom.cache.secondLevel.enabled=true 일 때만)
+ * - 팀/멤버/라벨/사용자처럼 거의 모든 팀 요청에서 읽지만 잘 바뀌지 않는 엔티티를 JCache(Caffeine) 로컬 캐시에 둔다.
+ *   캐시할 엔티티/컬렉션과 쿼리는 @Cache / 쿼리 캐시 힌트로 고르고, 영역 정책은 CacheRegions 에 있다.
+ * - 영역을 미리 만들어 두고 없는 영역은 실패시킨다. (오타로 정책 없는 캐시가 조용히 생기지 않도록)
+ * - 적중률은 hibernate.second.level.cache.hit.ratio(region 태그)로, 요청/적중/누락 수는
+ *   Hibernate 통계 지표 hibernate.second.level.cache.requests / hibernate.cache.query.requests 로 확인한다.
+ *   둘 다 Hibernate 통계(generate_statistics)를 켠 프로필에서만 값이 쌓인다.
+ * - JDBC 로 직접 쓴 변경은 캐시가 모르므로 쓴 쪽에서 SessionFactory.cache 로 비워야 한다. (LoadTestInitData 참고)
+ */
+@Configuration
+@ConditionalOnProperty(name = ["custom.cache.secondLevel.enabled"], havingValue = "true")
+class SecondLevelCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    fun secondLevelCacheManager(environment: Environment): CacheManager {
+        val provider = Caching.getCachingProvider(CaffeineCachingProvider::class.java.name)
+        val cacheManager = provider.getCacheManager(provider.defaultURI, javaClass.classLoader)
+
+        regionPolicies(environment).forEach { (region, policy) ->
+            val configuration = CaffeineConfiguration<Any, Any>().apply {
+                maximumSize = OptionalLong.of(policy.maxSize)
+                if (policy.ttlSeconds > 0) {
+                    expireAfterWrite = OptionalLong.of(TimeUnit.SECONDS.toNanos(policy.ttlSeconds))
+                }
+            }
+            cacheManager.destroyCache(region)
+            cacheManager.createCache(region, configuration)
+        }
+        return cacheManager
+    }
+
+    @Bean
+    fun secondLevelCacheCustomizer(secondLevelCacheManager: CacheManager): HibernatePropertiesCustomizer =
+        HibernatePropertiesCustomizer { properties ->
+            properties[AvailableSettings.USE_SECOND_LEVEL_CACHE] = true
+            properties[AvailableSettings.USE_QUERY_CACHE] = true
+            properties[AvailableSettings.CACHE_REGION_FACTORY] = "jcache"
+            properties[ConfigSettings.CACHE_MANAGER] = secondLevelCacheManager
+            properties[ConfigSettings.MISSING_CACHE_STRATEGY] = "fail"
+        }
+
+    @Bean
+    fun secondLevelCacheMetrics(entityManagerFactory: EntityManagerFactory, environment: Environment): MeterBinder =
+        MeterBinder { registry ->
+            val statistics = entityManagerFactory.unwrap(SessionFactory::class.java).statistics
+            regionPolicies(environment).forEach { (region, policy) ->
+                if (region == CacheRegions.DEFAULT_UPDATE_TIMESTAMPS) return@forEach
+
+                Gauge.builder("hibernate.second.level.cache.hit.ratio") {
+                    val regionStatistics: CacheRegionStatistics? = runCatching {
+                        if (policy.query) statistics.getQueryRegionStatistics(region)
+                        else statistics.getDomainDataRegionStatistics(region)
+                    }.getOrNull()
+                    regionStatistics?.let { hitRatio(it.hitCount, it.missCount) } ?: Double.NaN
+                }
+                    .description("2차 캐시 영역 적중률 (기동 이후 누적)")
+                    .tag("region", region)
+                    .register(registry)
+            }
+        }
+
+    private fun regionPolicies(environment: Environment): Map<String, CacheRegions.Policy> =
+        CacheRegions.DEFAULTS.mapValues { (region, default) ->
+            val prefix = "custom.cache.secondLevel.regions.$region"
+            default.copy(
+                maxSize = environment.getProperty("$prefix.maxSize", Long::class.javaObjectType, default.maxSize),
+                ttlSeconds = environment.getProperty("$prefix.ttlSeconds", Long::class.javaObjectType, default.ttlSeconds)
+            )
+        }
+
+    private fun hitRatio(hits: Long, misses: Long): Double =
+        if (hits + misses == 0L) Double.NaN else hits.toDouble() / (hits + misses)
+}
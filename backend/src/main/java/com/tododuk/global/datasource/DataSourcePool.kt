@@ -0,0 +1,14 @@
+package com.tododuk.global.datasource
+
+/**
+ * 커넥션 풀 구분 (custom.datasource.pools.<이름> 으로 풀마다 크기/타임아웃을 따로 둔다)
+ * - API       : 요청 처리 (기본값)
+ * - SCHEDULER : 리마인더 발송, 아웃박스 릴레이처럼 지연에 민감한 주기 작업
+ * - BATCH     : 팀 할일 카운터 재집계, 담당자 기록 압축, 생산성 롤업, 부하 테스트 데이터 적재
+ * 리마인더가 몰리거나 배치가 길어져도 API 풀의 커넥션을 빼앗지 않도록 분리한다.
+ */
+enum class DataSourcePool(val poolName: String) {
+    API("api"),
+    SCHEDULER("scheduler"),
+    BATCH("batch")
+}
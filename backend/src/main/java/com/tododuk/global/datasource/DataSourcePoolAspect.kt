@@ -0,0 +1,33 @@
+package com.tododuk.global.datasource
+
+import org.aspectj.lang.ProceedingJoinPoint
+import org.aspectj.lang.annotation.Around
+import org.aspectj.lang.annotation.Aspect
+import org.aspectj.lang.reflect.MethodSignature
+import org.springframework.core.Ordered
+import org.springframework.core.annotation.AnnotationUtils
+import org.springframework.core.annotation.Order
+import org.springframework.stereotype.Component
+
+/**
+ * @UseDataSourcePool 이 붙은 메서드를 해당 풀에서 실행
+ * 트랜잭션 인터셉터보다 먼저 실행되어야 트랜잭션이 시작될 때 가져오는 커넥션에 적용된다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+class DataSourcePoolAspect {
+
+    @Around(
+        "@within(com.tododuk.global.datasource.UseDataSourcePool) || " +
+            "@annotation(com.tododuk.global.datasource.UseDataSourcePool)"
+    )
+    fun route(joinPoint: ProceedingJoinPoint): Any? {
+        val method = (joinPoint.signature as MethodSignature).method
+        val annotation = AnnotationUtils.findAnnotation(method, UseDataSourcePool::class.java)
+            ?: AnnotationUtils.findAnnotation(joinPoint.target.javaClass, UseDataSourcePool::class.java)
+            ?: return joinPoint.proceed()
+
+        return DataSourcePoolContext.with(annotation.value) { joinPoint.proceed() }
+    }
+}
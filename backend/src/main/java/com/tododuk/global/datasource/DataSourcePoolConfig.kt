@@ -0,0 +1,101 @@
+package com.tododuk.global.datasource
+
+import com.zaxxer.hikari.HikariDataSource
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory
+import io.micrometer.core.instrument.MeterRegistry
+import org.hibernate.cfg.AvailableSettings
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode
+import org.springframework.beans.factory.ObjectProvider
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer
+import org.springframework.boot.context.properties.bind.Bindable
+import org.springframework.boot.context.properties.bind.Binder
+import org.springframework.context.annotation.Bean
+import org.springframework.context.annotation.Configuration
+import org.springframework.core.env.Environment
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource
+import javax.sql.DataSource
+
+/**
+ * 실행 맥락(DataSourcePoolContext)에 따라 API / SCHEDULER / BATCH 풀로 나눠 보내는 DataSource
+ * - 접속 정보는 spring.datasource 를 공유하고, 풀 설정은 custom.datasource.pools.<이름> 에서 Hikari 프로퍼티 그대로 읽는다.
+ * - 풀마다 hikaricp.connections.* 지표(pool 태그 = 풀 이름)로 대기 시간/사용 중/대기 수를 확인할 수 있다.
+ * - 풀은 빈으로 등록하지 않는다. (느린 쿼리 프록시, 지표 바인딩이 라우팅 DataSource 한 곳에만 걸리도록)
+ * - 레플리카를 켜면(custom.datasource.replica.enabled) 읽기 전용 트랜잭션은 ReplicaRoutingDataSource 가 고른 곳에서 읽는다.
+ *   트랜잭션 시작 시점에는 readOnly 여부가 커넥션에 아직 반영되지 않으므로, 첫 SQL 을 실행할 때까지 커넥션 획득을 미룬다.
+ *   OSIV 의 EntityManager 는 기본적으로 요청이 끝날 때까지 처음 잡은 커넥션을 들고 있어서, 조회 트랜잭션이 레플리카를 고르면
+ *   같은 요청의 다음 쓰기 트랜잭션도 그 커넥션에서 실행된다. (Hikari readOnly 는 드라이버 힌트일 뿐 쓰기를 막아 주지 않는다)
+ *   그래서 레플리카를 켜면 트랜잭션이 끝날 때 커넥션을 반납하게 해서 트랜잭션마다 새로 고르게 한다.
+ */
+@Configuration
+class DataSourcePoolConfig {
+
+    @Bean
+    fun dataSource(
+        dataSourceProperties: DataSourceProperties,
+        environment: Environment,
+        meterRegistry: MeterRegistry,
+        replicaLagMonitor: ObjectProvider<ReplicaLagMonitor>
+    ): DataSource {
+        val binder = Binder.get(environment)
+        val pools = DataSourcePool.entries.associateWith { pool ->
+            dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource::class.java)
+                .build()
+                .also { hikari ->
+                    binder.bind("custom.datasource.pools.${pool.poolName}", Bindable.ofInstance(hikari))
+                    hikari.poolName = pool.poolName
+                    hikari.metricsTrackerFactory = MicrometerMetricsTrackerFactory(meterRegistry)
+                }
+        }
+        val primary = PoolRoutingDataSource(pools)
+        val lagMonitor = replicaLagMonitor.ifAvailable ?: return primary
+
+        return ReplicaAwareDataSource(primary, ReplicaRoutingDataSource(primary, lagMonitor, meterRegistry))
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = ["custom.datasource.replica.enabled"], havingValue = "true")
+    fun replicaConnectionHandlingCustomizer(): HibernatePropertiesCustomizer =
+        HibernatePropertiesCustomizer { properties ->
+            properties[AvailableSettings.CONNECTION_HANDLING] =
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION
+        }
+
+    class ReplicaAwareDataSource(
+        private val primary: PoolRoutingDataSource,
+        readOnlyDataSource: DataSource
+    ) : LazyConnectionDataSourceProxy(primary), AutoCloseable {
+
+        init {
+            setReadOnlyDataSource(readOnlyDataSource)
+        }
+
+        // 레플리카 풀은 ReplicaLagMonitor 가 닫는다
+        override fun close() {
+            primary.close()
+        }
+    }
+
+    class PoolRoutingDataSource(
+        private val pools: Map<DataSourcePool, HikariDataSource>
+    ) : AbstractRoutingDataSource(), AutoCloseable {
+
+        init {
+            setTargetDataSources(pools.mapKeys { it.key as Any })
+            setDefaultTargetDataSource(pools.getValue(DataSourcePool.API))
+            // 지정되지 않은 키로 기본 풀에 조용히 떨어지지 않도록
+            setLenientFallback(false)
+            // 빈이 아닐 때(레플리카 사용 시)도 바로 쓸 수 있도록
+            afterPropertiesSet()
+        }
+
+        override fun determineCurrentLookupKey(): Any = DataSourcePoolContext.current()
+
+        override fun close() {
+            pools.values.forEach { it.close() }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.tododuk.global.datasource
+
+/**
+ * 현재 스레드가 커넥션을 가져올 풀 (지정하지 않으면 API)
+ * 이미 트랜잭션에 묶인 커넥션은 바뀌지 않고, 이후 새로 가져오는 커넥션부터 적용된다.
+ */
+object DataSourcePoolContext {
+
+    private val current = ThreadLocal<DataSourcePool?>()
+
+    fun current(): DataSourcePool = current.get() ?: DataSourcePool.API
+
+    fun <T> with(pool: DataSourcePool, block: () -> T): T {
+        val previous = current.get()
+        current.set(pool)
+        try {
+            return block()
+        } finally {
+            if (previous == null) current.remove() else current.set(previous)
+        }
+    }
+}
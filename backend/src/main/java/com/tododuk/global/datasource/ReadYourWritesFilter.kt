@@ -0,0 +1,64 @@
+package com.tododuk.global.datasource
+
+import com.tododuk.global.security.SecurityUser
+import jakarta.servlet.FilterChain
+import jakarta.servlet.http.HttpServletRequest
+import jakarta.servlet.http.HttpServletResponse
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty
+import org.springframework.boot.autoconfigure.security.SecurityProperties
+import org.springframework.core.annotation.Order
+import org.springframework.scheduling.annotation.Scheduled
+import org.springframework.security.core.context.SecurityContextHolder
+import org.springframework.stereotype.Component
+import org.springframework.web.filter.OncePerRequestFilter
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * 자기 쓰기 읽기(read-your-writes) 보장
+ * - 쓰기 요청(GET/HEAD/OPTIONS 외)은 요청 전체를 프라이머리로 고정한다.
+ * - 쓰기 요청을 마친 사용자는 readYourWritesMs 동안 조회도 프라이머리에서 읽는다. (방금 바꾼 값이 안 보이는 일 방지)
+ * 사용자 ID 가 필요해서 보안 필터 다음에 실행한다. 최근 쓰기 시각은 인스턴스 메모리에 두므로,
+ * 인스턴스를 늘리면 같은 사용자의 요청이 같은 인스턴스로 가도록 하거나 시각을 공유 저장소로 옮겨야 한다.
+ */
+@Component
+@ConditionalOnProperty(name = ["custom.datasource.replica.enabled"], havingValue = "true")
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER + 1)
+class ReadYourWritesFilter(
+    @Value("\${custom.datasource.replica.readYourWritesMs:5000}")
+    private val readYourWritesMs: Long
+) : OncePerRequestFilter() {
+
+    // 사용자 ID -> 마지막 쓰기 요청을 마친 시각 (epoch ms)
+    private val lastWriteAt = ConcurrentHashMap<Int, Long>()
+
+    override fun doFilterInternal(request: HttpServletRequest, response: HttpServletResponse, filterChain: FilterChain) {
+        val userId = (SecurityContextHolder.getContext().authentication?.principal as? SecurityUser)?.id
+        val write = request.method !in READ_METHODS
+
+        if (!write && (userId == null || !wroteRecently(userId))) {
+            filterChain.doFilter(request, response)
+            return
+        }
+
+        try {
+            ReplicaReadContext.pinPrimary { filterChain.doFilter(request, response) }
+        } finally {
+            // 커밋이 끝난 뒤부터 창을 잰다
+            if (write && userId != null) lastWriteAt[userId] = System.currentTimeMillis()
+        }
+    }
+
+    private fun wroteRecently(userId: Int): Boolean =
+        lastWriteAt[userId]?.let { System.currentTimeMillis() - it < readYourWritesMs } ?: false
+
+    @Scheduled(fixedDelay = 60_000)
+    fun evictExpired() {
+        val expiredBefore = System.currentTimeMillis() - readYourWritesMs
+        lastWriteAt.values.removeIf { it < expiredBefore }
+    }
+
+    companion object {
+        private val READ_METHODS = setOf("GET", "HEAD", "OPTIONS")
+    }
+}
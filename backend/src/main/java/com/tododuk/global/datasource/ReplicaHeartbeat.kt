@@ -0,0 +1,25 @@
+package com.tododuk.global.datasource
+
+import jakarta.persistence.Column
+import jakarta.persistence.Entity
+import jakarta.persistence.Id
+import jakarta.persistence.Table
+
+/**
+ * 레플리카 복제 지연 측정용 하트비트 (행 하나)
+ * ReplicaHeartbeatWriter 가 프라이머리에 현재 시각을 쓰고, ReplicaLagMonitor 가 레플리카에서 읽어 지연을 계산한다.
+ */
+@Entity
+@Table(name = "replica_heartbeat")
+class ReplicaHeartbeat(
+    @Id
+    var id: Int = ROW_ID,
+
+    // 프라이머리에 기록한 시각 (epoch ms, 인스턴스/DB 시간대와 무관하게 비교하려고 숫자로 둔다)
+    @Column(nullable = false)
+    var beatAtMillis: Long = 0
+) {
+    companion object {
+        const val ROW_ID = 1
+    }
+}
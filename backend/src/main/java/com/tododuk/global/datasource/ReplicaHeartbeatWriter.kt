@@ -0,0 +1,37 @@
+package com.tododuk.global.datasource
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty
+import org.springframework.dao.DuplicateKeyException
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.scheduling.annotation.Scheduled
+import org.springframework.stereotype.Component
+
+/**
+ * 프라이머리에 하트비트를 주기적으로 기록
+ * 여러 인스턴스가 함께 써도 값이 뒤로 가지 않도록 큰 값만 남긴다.
+ */
+@Component
+@ConditionalOnProperty(name = ["custom.datasource.replica.enabled"], havingValue = "true")
+@UseDataSourcePool(DataSourcePool.SCHEDULER)
+class ReplicaHeartbeatWriter(
+    private val jdbcTemplate: JdbcTemplate
+) {
+
+    @Scheduled(fixedDelayString = "\${custom.datasource.replica.heartbeatMs:500}")
+    fun beat() {
+        val now = System.currentTimeMillis()
+        if (jdbcTemplate.update(UPDATE_SQL, now, ReplicaHeartbeat.ROW_ID) > 0) return
+
+        try {
+            jdbcTemplate.update(INSERT_SQL, ReplicaHeartbeat.ROW_ID, now)
+        } catch (e: DuplicateKeyException) {
+            // 다른 인스턴스가 먼저 넣었으면 다음 주기에 update 된다
+        }
+    }
+
+    companion object {
+        private const val UPDATE_SQL =
+            "update replica_heartbeat set beat_at_millis = greatest(beat_at_millis, ?) where id = ?"
+        private const val INSERT_SQL = "insert into replica_heartbeat (id, beat_at_millis) values (?, ?)"
+    }
+}
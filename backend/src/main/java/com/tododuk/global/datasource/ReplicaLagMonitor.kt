@@ -0,0 +1,90 @@
+package com.tododuk.global.datasource
+
+import com.zaxxer.hikari.HikariDataSource
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.TimeGauge
+import jakarta.annotation.PreDestroy
+import org.slf4j.LoggerFactory
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty
+import org.springframework.boot.context.properties.bind.Bindable
+import org.springframework.boot.context.properties.bind.Binder
+import org.springframework.core.env.Environment
+import org.springframework.dao.DataAccessException
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.scheduling.annotation.Scheduled
+import org.springframework.stereotype.Component
+import java.util.concurrent.TimeUnit
+
+/**
+ * 레플리카 커넥션 풀과 복제 지연
+ * - 풀 설정은 custom.datasource.replica.pool 에서 Hikari 프로퍼티 그대로 읽는다. (jdbcUrl/username/password 포함)
+ * - 레플리카에 복제된 마지막 하트비트 이후 지난 시간을 지연으로 본다. 조회가 실패하거나 멈춰도 지연이 계속 커지므로
+ *   maxLagMs 를 넘는 순간 읽기가 프라이머리로 넘어간다. (하트비트가 한 번도 안 보이면 레플리카를 쓰지 않는다)
+ * - 지연은 db.replica.lag 지표로 확인할 수 있다.
+ */
+@Component
+@ConditionalOnProperty(name = ["custom.datasource.replica.enabled"], havingValue = "true")
+class ReplicaLagMonitor(
+    environment: Environment,
+    meterRegistry: MeterRegistry,
+    @Value("\${custom.datasource.replica.maxLagMs:2000}")
+    private val maxLagMs: Long
+) {
+
+    val dataSource: HikariDataSource = HikariDataSource().also { hikari ->
+        Binder.get(environment).bind("custom.datasource.replica.pool", Bindable.ofInstance(hikari))
+        hikari.poolName = "replica"
+        // 드라이버가 지원하면 레플리카로 잘못 간 쓰기가 오류로 드러나도록 (MySQL 은 세션을 읽기 전용으로 둔다)
+        hikari.isReadOnly = true
+        hikari.metricsTrackerFactory = MicrometerMetricsTrackerFactory(meterRegistry)
+    }
+
+    private val jdbcTemplate = JdbcTemplate(dataSource).apply { queryTimeout = 1 }
+
+    @Volatile
+    private var replicatedBeatMillis: Long? = null
+
+    @Volatile
+    private var reachable = true
+
+    init {
+        TimeGauge.builder("db.replica.lag", this, TimeUnit.MILLISECONDS) { it.lagMillis()?.toDouble() ?: Double.NaN }
+            .description("레플리카에 마지막으로 복제된 하트비트 이후 지난 시간")
+            .register(meterRegistry)
+    }
+
+    @Scheduled(fixedDelayString = "\${custom.datasource.replica.checkIntervalMs:500}")
+    fun check() {
+        try {
+            replicatedBeatMillis = jdbcTemplate.query(SELECT_SQL, { rs, _ -> rs.getLong(1) }, ReplicaHeartbeat.ROW_ID)
+                .firstOrNull()
+            if (!reachable) {
+                reachable = true
+                log.info("레플리카 하트비트 조회 회복")
+            }
+        } catch (e: DataAccessException) {
+            // 마지막으로 본 하트비트는 그대로 두어 지연이 시간에 따라 커지게 한다
+            if (reachable) {
+                reachable = false
+                log.warn("레플리카 하트비트 조회 실패, 지연 허용치를 넘으면 읽기를 프라이머리로 보냅니다: {}", e.message)
+            }
+        }
+    }
+
+    fun lagMillis(): Long? = replicatedBeatMillis?.let { (System.currentTimeMillis() - it).coerceAtLeast(0) }
+
+    fun isWithinTolerance(): Boolean = lagMillis()?.let { it <= maxLagMs } ?: false
+
+    @PreDestroy
+    fun close() {
+        dataSource.close()
+    }
+
+    companion object {
+        private val log = LoggerFactory.getLogger(ReplicaLagMonitor::class.java)
+
+        private const val SELECT_SQL = "select beat_at_millis from replica_heartbeat where id = ?"
+    }
+}
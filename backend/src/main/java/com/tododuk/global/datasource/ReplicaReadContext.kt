@@ -0,0 +1,22 @@
+package com.tododuk.global.datasource
+
+/**
+ * 현재 스레드의 읽기 전용 트랜잭션을 프라이머리로 고정할지 (ReadYourWritesFilter 가 설정)
+ * 쓰기 요청 처리 중이거나 방금 쓴 사용자의 요청이면 레플리카가 아직 따라오지 못했을 수 있다.
+ */
+object ReplicaReadContext {
+
+    private val primaryPinned = ThreadLocal<Boolean>()
+
+    fun isPrimaryPinned(): Boolean = primaryPinned.get() == true
+
+    fun <T> pinPrimary(block: () -> T): T {
+        val previous = primaryPinned.get()
+        primaryPinned.set(true)
+        try {
+            return block()
+        } finally {
+            if (previous == null) primaryPinned.remove() else primaryPinned.set(previous)
+        }
+    }
+}
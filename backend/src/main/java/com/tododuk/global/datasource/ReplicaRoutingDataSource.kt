@@ -0,0 +1,53 @@
+package com.tododuk.global.datasource
+
+import io.micrometer.core.instrument.Counter
+import io.micrometer.core.instrument.MeterRegistry
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource
+import javax.sql.DataSource
+
+/**
+ * 읽기 전용 트랜잭션이 쓸 DataSource (LazyConnectionDataSourceProxy 의 readOnlyDataSource)
+ * 아래 경우가 아니면 레플리카로 보내고, 결정은 db.replica.reads 지표(route 태그)로 집계한다.
+ * - API 풀이 아닌 작업 (스케줄러/배치는 읽은 값으로 곧바로 쓰는 경우가 많아 프라이머리에서 읽는다)
+ * - 쓰기 요청 중이거나 방금 쓴 사용자의 요청 (ReplicaReadContext)
+ * - 복제 지연이 허용치를 넘음 (ReplicaLagMonitor)
+ */
+class ReplicaRoutingDataSource(
+    primary: DataSource,
+    private val lagMonitor: ReplicaLagMonitor,
+    meterRegistry: MeterRegistry
+) : AbstractRoutingDataSource() {
+
+    enum class Route(val tag: String, val replica: Boolean) {
+        REPLICA("replica", true),
+        PRIMARY_POOL("primary_pool", false),
+        PRIMARY_RECENT_WRITE("primary_recent_write", false),
+        PRIMARY_LAG("primary_lag", false)
+    }
+
+    private val counters: Map<Route, Counter> = Route.entries.associateWith { route ->
+        Counter.builder("db.replica.reads")
+            .description("읽기 전용 트랜잭션이 커넥션을 가져간 곳")
+            .tag("route", route.tag)
+            .register(meterRegistry)
+    }
+
+    init {
+        setTargetDataSources(Route.entries.associate { route ->
+            (route as Any) to (if (route.replica) lagMonitor.dataSource else primary)
+        })
+        setLenientFallback(false)
+        afterPropertiesSet()
+    }
+
+    override fun determineCurrentLookupKey(): Any {
+        val route = when {
+            DataSourcePoolContext.current() != DataSourcePool.API -> Route.PRIMARY_POOL
+            ReplicaReadContext.isPrimaryPinned() -> Route.PRIMARY_RECENT_WRITE
+            !lagMonitor.isWithinTolerance() -> Route.PRIMARY_LAG
+            else -> Route.REPLICA
+        }
+        counters.getValue(route).increment()
+        return route
+    }
+}
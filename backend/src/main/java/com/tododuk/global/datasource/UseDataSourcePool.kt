@@ -0,0 +1,10 @@
+package com.tododuk.global.datasource
+
+/**
+ * 메서드(또는 클래스의 모든 메서드)를 지정한 커넥션 풀에서 실행한다. (DataSourcePoolAspect)
+ * 트랜잭션 시작 전에 풀을 정해야 해서 @Transactional 보다 바깥에서 적용된다.
+ * 스프링 프록시를 거치지 않는 코드는 DataSourcePoolContext.with 를 직접 쓴다.
+ */
+@Target(AnnotationTarget.CLASS, AnnotationTarget.FUNCTION)
+@Retention(AnnotationRetention.RUNTIME)
+annotation class UseDataSourcePool(val value: DataSourcePool)
@@ -15,6 +15,7 @@ import com.tododuk.domain.todoList.repository.TodoListRepository
 import com.tododuk.domain.user.entity.User
 import com.tododuk.domain.user.repository.UserRepository
 import jakarta.annotation.PostConstruct
+import org.slf4j.LoggerFactory
 import org.springframework.context.annotation.Configuration
 import org.springframework.security.crypto.password.PasswordEncoder
 import org.springframework.transaction.annotation.Transactional
@@ -34,7 +35,7 @@ class BaseInitData(
 ) {
     @PostConstruct
     fun init() {
-        println("초기데이터 입력")
+        log.debug("초기데이터 입력")
 
         if (labelService.countLabels() == 0L) {
             // 사용자 생성 (비밀번호 암호화)
@@ -186,7 +187,11 @@ class BaseInitData(
             todoRepository.save<Todo?>(teamTodo2)
 
         } else {
-            println("초기 데이터가 이미 존재합니다.")
+            log.debug("초기 데이터가 이미 존재합니다.")
         }
     }
+
+    companion object {
+        private val log = LoggerFactory.getLogger(BaseInitData::class.java)
+    }
 }
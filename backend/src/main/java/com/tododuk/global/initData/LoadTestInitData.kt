@@ -0,0 +1,255 @@
+package com.tododuk.global.initData
+
+import com.tododuk.domain.team.constant.TeamRoleType
+import com.tododuk.domain.team.entity.TodoAssignment
+import com.tododuk.domain.team.service.TeamTodoCounterService
+import com.tododuk.global.datasource.DataSourcePool
+import com.tododuk.global.datasource.UseDataSourcePool
+import jakarta.persistence.EntityManagerFactory
+import org.hibernate.SessionFactory
+import org.slf4j.LoggerFactory
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.boot.ApplicationArguments
+import org.springframework.boot.ApplicationRunner
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.security.crypto.password.PasswordEncoder
+import org.springframework.stereotype.Component
+import java.sql.PreparedStatement
+import java.sql.Timestamp
+import java.time.LocalDateTime
+import kotlin.random.Random
+
+/**
+ * 부하 테스트용 대량 데이터 생성기 (custom.loadtest.data.enabled=true, application-loadtest.yml 참고)
+ * - 사용자/팀/팀원/목록/할일/라벨/담당자/알림/리마인더를 JDBC 배치 INSERT 로 넣는다. (H2, MySQL 공용 SQL)
+ * - 사용자 i 는 loadtest-user-i@tododuk.com / API 키 loadtest-apikey-i 라서 부하 테스트 클라이언트가 그대로 인증할 수 있다.
+ * - 같은 seed 면 같은 데이터가 만들어진다. 이미 생성되어 있으면 건너뛴다.
+ * - MySQL 은 JDBC URL 에 rewriteBatchedStatements=true 를 붙여야 배치가 한 문장으로 묶인다.
+ */
+@Component
+@ConditionalOnProperty(name = ["custom.loadtest.data.enabled"], havingValue = "true")
+@UseDataSourcePool(DataSourcePool.BATCH)
+class LoadTestInitData(
+    private val jdbcTemplate: JdbcTemplate,
+    private val passwordEncoder: PasswordEncoder,
+    private val teamTodoCounterService: TeamTodoCounterService,
+    private val entityManagerFactory: EntityManagerFactory,
+    @Value("\${custom.loadtest.data.users:1000}")
+    private val users: Int,
+    @Value("\${custom.loadtest.data.teams:100}")
+    private val teams: Int,
+    @Value("\${custom.loadtest.data.membersPerTeam:10}")
+    private val membersPerTeam: Int,
+    @Value("\${custom.loadtest.data.listsPerTeam:5}")
+    private val listsPerTeam: Int,
+    @Value("\${custom.loadtest.data.todosPerList:40}")
+    private val todosPerList: Int,
+    @Value("\${custom.loadtest.data.labels:20}")
+    private val labels: Int,
+    @Value("\${custom.loadtest.data.maxLabelsPerTodo:2}")
+    private val maxLabelsPerTodo: Int,
+    @Value("\${custom.loadtest.data.assignmentRatio:0.5}")
+    private val assignmentRatio: Double,
+    @Value("\${custom.loadtest.data.notificationsPerUser:20}")
+    private val notificationsPerUser: Int,
+    @Value("\${custom.loadtest.data.reminderRatio:0.1}")
+    private val reminderRatio: Double,
+    @Value("\${custom.loadtest.data.batchSize:1000}")
+    private val batchSize: Int,
+    @Value("\${custom.loadtest.data.seed:42}")
+    private val seed: Long
+) : ApplicationRunner {
+
+    private class TodoRow(val listIndex: Int, val completed: Boolean, val dueDate: LocalDateTime?)
+
+    override fun run(args: ApplicationArguments) {
+        val exists = jdbcTemplate.queryForObject(
+            "select count(*) from users where user_email like ?", Long::class.java, "$USER_PREFIX%"
+        ) ?: 0L
+        if (exists > 0) {
+            log.info("부하 테스트 데이터가 이미 있어 생성을 건너뜀 (사용자 {}명)", exists)
+            return
+        }
+
+        require(membersPerTeam <= users) { "membersPerTeam 은 users 보다 클 수 없습니다." }
+
+        val startedAt = System.currentTimeMillis()
+        val random = Random(seed)
+        val now = LocalDateTime.now()
+
+        // 사용자
+        val password = passwordEncoder.encode(PASSWORD)
+        batchInsert(
+            "insert into users (user_email, password, nick_name, is_admin, profile_img_url, api_key, create_date, modify_date) " +
+                "values (?, ?, ?, false, '', ?, ?, ?)",
+            (1..users).toList()
+        ) { ps, i ->
+            ps.setString(1, "$USER_PREFIX$i@tododuk.com")
+            ps.setString(2, password)
+            ps.setString(3, "부하테스트$i")
+            ps.setString(4, "$API_KEY_PREFIX$i")
+            setAudit(ps, 5, now)
+        }
+        val userIds = ids("select id from users where user_email like ? order by id", "$USER_PREFIX%")
+
+        // 팀, 팀원 (첫 번째 팀원이 리더)
+        batchInsert(
+            "insert into team (team_name, description, create_date, modify_date) values (?, ?, ?, ?)",
+            (1..teams).toList()
+        ) { ps, i ->
+            ps.setString(1, "$TEAM_PREFIX$i")
+            ps.setString(2, "부하 테스트 팀 $i")
+            setAudit(ps, 3, now)
+        }
+        val teamIds = ids("select id from team where team_name like ? order by id", "$TEAM_PREFIX%")
+        val membersByTeam = teamIds.map { userIds.shuffled(random).take(membersPerTeam) }
+
+        batchInsert(
+            "insert into team_member (user_id, team_id, role, joined_at, create_date, modify_date) values (?, ?, ?, ?, ?, ?)",
+            teamIds.indices.flatMap { t -> membersByTeam[t].mapIndexed { m, userId -> Triple(teamIds[t], userId, m == 0) } }
+        ) { ps, (teamId, userId, leader) ->
+            ps.setInt(1, userId)
+            ps.setInt(2, teamId)
+            ps.setString(3, if (leader) TeamRoleType.LEADER.name else TeamRoleType.MEMBER.name)
+            ps.setTimestamp(4, Timestamp.valueOf(now))
+            setAudit(ps, 5, now)
+        }
+
+        // 목록 (팀 리더 소유)
+        batchInsert(
+            "insert into todo_list (name, description, user_id, team_id, create_date, modify_date) values (?, ?, ?, ?, ?, ?)",
+            teamIds.indices.flatMap { t -> (1..listsPerTeam).map { l -> t to l } }
+        ) { ps, (t, l) ->
+            ps.setString(1, "$LIST_PREFIX${t + 1}-$l")
+            ps.setString(2, "부하 테스트 목록")
+            ps.setInt(3, membersByTeam[t].first())
+            ps.setInt(4, teamIds[t])
+            setAudit(ps, 5, now)
+        }
+        val listIds = ids("select id from todo_list where name like ? order by id", "$LIST_PREFIX%")
+
+        // 할일 (30% 완료, 마감일은 지난 2주 ~ 앞으로 4주)
+        val todoRows = listIds.indices.flatMap { l ->
+            (1..todosPerList).map {
+                val completed = random.nextDouble() < 0.3
+                val dueDate = if (random.nextDouble() < 0.8) now.plusDays(random.nextLong(-14, 29)) else null
+                TodoRow(l, completed, dueDate)
+            }
+        }
+        batchInsert(
+            "insert into todo (title, description, is_completed, priority, start_date, due_date, todo_list_id, completed_at, create_date, modify_date) " +
+                "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+            todoRows.withIndex().toList()
+        ) { ps, (i, row) ->
+            ps.setString(1, "$TODO_PREFIX${i + 1}")
+            ps.setString(2, "부하 테스트 할일 ${i + 1}")
+            ps.setBoolean(3, row.completed)
+            ps.setInt(4, random.nextInt(1, 4))
+            ps.setTimestamp(5, Timestamp.valueOf(now.minusDays(random.nextLong(0, 30))))
+            ps.setTimestamp(6, row.dueDate?.let { Timestamp.valueOf(it) })
+            ps.setInt(7, listIds[row.listIndex])
+            ps.setTimestamp(8, if (row.completed) Timestamp.valueOf(now.minusDays(random.nextLong(0, 14))) else null)
+            setAudit(ps, 9, now)
+        }
+        val todoIds = ids("select id from todo where title like ? order by id", "$TODO_PREFIX%")
+
+        // 라벨, 할일 라벨
+        batchInsert(
+            "insert into label (name, color, create_date, modify_date) values (?, ?, ?, ?)",
+            (1..labels).toList()
+        ) { ps, i ->
+            ps.setString(1, "$LABEL_PREFIX$i")
+            ps.setString(2, "#%06x".format(random.nextInt(0x1000000)))
+            setAudit(ps, 3, now)
+        }
+        val labelIds = ids("select id from label where name like ? order by id", "$LABEL_PREFIX%")
+
+        batchInsert(
+            "insert into todo_label (todo_id, label_id, create_date, modify_date) values (?, ?, ?, ?)",
+            todoIds.flatMap { todoId ->
+                labelIds.shuffled(random).take(random.nextInt(0, maxLabelsPerTodo + 1)).map { todoId to it }
+            }
+        ) { ps, (todoId, labelId) ->
+            ps.setInt(1, todoId)
+            ps.setInt(2, labelId)
+            setAudit(ps, 3, now)
+        }
+
+        // 담당자 (같은 팀 팀원 중 한 명)
+        batchInsert(
+            "insert into todo_assignment (todo_id, assigned_user_id, team_id, assigned_at, status, create_date, modify_date) " +
+                "values (?, ?, ?, ?, ?, ?, ?)",
+            todoIds.indices.filter { random.nextDouble() < assignmentRatio }
+        ) { ps, i ->
+            val teamIndex = todoRows[i].listIndex / listsPerTeam
+            ps.setInt(1, todoIds[i])
+            ps.setInt(2, membersByTeam[teamIndex].random(random))
+            ps.setInt(3, teamIds[teamIndex])
+            ps.setTimestamp(4, Timestamp.valueOf(now.minusMinutes(random.nextLong(0, 60 * 24 * 30))))
+            ps.setString(5, TodoAssignment.AssignmentStatus.ACTIVE.name)
+            setAudit(ps, 6, now)
+        }
+
+        // 알림 (절반은 읽음)
+        batchInsert(
+            "insert into notification (user_id, title, description, url, is_read, create_date, modify_date) values (?, ?, ?, ?, ?, ?, ?)",
+            userIds.flatMap { userId -> (1..notificationsPerUser).map { userId to it } }
+        ) { ps, (userId, n) ->
+            ps.setInt(1, userId)
+            ps.setString(2, "부하 테스트 알림 $n")
+            ps.setString(3, "할일 상태가 변경되었습니다.")
+            ps.setString(4, "")
+            ps.setBoolean(5, random.nextBoolean())
+            setAudit(ps, 6, now.minusMinutes(random.nextLong(0, 60 * 24 * 7)))
+        }
+
+        // 리마인더 (앞으로 30일 안에 울림)
+        batchInsert(
+            "insert into reminder (todo_id, remind_at, method, recurrence_rule, fired_at, recurrence_start_at, occurrence_count, create_date, modify_date) " +
+                "values (?, ?, 'push', null, null, null, 0, ?, ?)",
+            todoIds.filter { random.nextDouble() < reminderRatio }
+        ) { ps, todoId ->
+            ps.setInt(1, todoId)
+            ps.setTimestamp(2, Timestamp.valueOf(now.plusMinutes(random.nextLong(10, 60 * 24 * 30))))
+            setAudit(ps, 3, now)
+        }
+
+        // 팀 통계 카운터는 집계로 채운다
+        teamIds.forEach { teamTodoCounterService.recount(it) }
+        // JDBC 로 넣은 행은 2차 캐시/쿼리 캐시가 모르므로 비운다
+        entityManagerFactory.unwrap(SessionFactory::class.java).cache.evictAllRegions()
+
+        log.info(
+            "부하 테스트 데이터 생성 완료: 사용자 {}, 팀 {}, 목록 {}, 할일 {} ({}ms)",
+            userIds.size, teamIds.size, listIds.size, todoIds.size, System.currentTimeMillis() - startedAt
+        )
+    }
+
+    private fun <T> batchInsert(sql: String, rows: List<T>, bind: (PreparedStatement, T) -> Unit) {
+        rows.chunked(batchSize).forEach { chunk ->
+            jdbcTemplate.batchUpdate(sql, chunk, chunk.size) { ps, row -> bind(ps, row) }
+        }
+    }
+
+    private fun ids(sql: String, prefix: String): List<Int> =
+        jdbcTemplate.queryForList(sql, Int::class.java, prefix)
+
+    private fun setAudit(ps: PreparedStatement, index: Int, at: LocalDateTime) {
+        ps.setTimestamp(index, Timestamp.valueOf(at))
+        ps.setTimestamp(index + 1, Timestamp.valueOf(at))
+    }
+
+    companion object {
+        private val log = LoggerFactory.getLogger(LoadTestInitData::class.java)
+
+        const val USER_PREFIX = "loadtest-user-"
+        const val API_KEY_PREFIX = "loadtest-apikey-"
+        const val PASSWORD = "password123"
+
+        private const val TEAM_PREFIX = "loadtest-team-"
+        private const val LIST_PREFIX = "loadtest-list-"
+        private const val TODO_PREFIX = "loadtest-todo-"
+        private const val LABEL_PREFIX = "loadtest-label-"
+    }
+}
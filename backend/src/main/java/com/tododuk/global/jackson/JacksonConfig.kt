@@ -0,0 +1,17 @@
+package com.tododuk.global.jackson
+
+import com.fasterxml.jackson.databind.Module
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule
+import org.springframework.context.annotation.Bean
+import org.springframework.context.annotation.Configuration
+
+@Configuration
+class JacksonConfig {
+
+    /**
+     * 스프링 부트가 Module 빈을 공용 ObjectMapper 에 자동 등록한다.
+     * Blackbird 는 getter/setter 호출을 LambdaMetafactory 로 생성한 코드로 대체해 리플렉션 비용을 줄인다.
+     */
+    @Bean
+    fun blackbirdModule(): Module = BlackbirdModule()
+}
@@ -0,0 +1,35 @@
+package com.tododuk.global.logging
+
+import io.micrometer.core.instrument.MeterRegistry
+import net.ttddyy.dsproxy.support.ProxyDataSource
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder
+import org.springframework.beans.factory.ObjectProvider
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.beans.factory.config.BeanPostProcessor
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty
+import org.springframework.stereotype.Component
+import javax.sql.DataSource
+
+/**
+ * DataSource 를 datasource-proxy 로 감싸 SlowQueryListener 를 붙인다.
+ * show_sql / TRACE 바인딩 로그 대신 운영에서도 켜 둘 수 있는 느린 쿼리 기록용.
+ */
+@Component
+@ConditionalOnProperty(name = ["custom.logging.slowQuery.enabled"], havingValue = "true", matchIfMissing = true)
+class SlowQueryDataSourcePostProcessor(
+    @Value("\${custom.logging.slowQuery.thresholdMs:300}")
+    private val thresholdMs: Long,
+    @Value("\${custom.logging.slowQuery.sampleRate:1.0}")
+    private val sampleRate: Double,
+    private val meterRegistryProvider: ObjectProvider<MeterRegistry>
+) : BeanPostProcessor {
+
+    override fun postProcessAfterInitialization(bean: Any, beanName: String): Any {
+        if (bean !is DataSource || bean is ProxyDataSource) return bean
+
+        return ProxyDataSourceBuilder.create(bean)
+            .name(beanName)
+            .listener(SlowQueryListener(thresholdMs, sampleRate, meterRegistryProvider))
+            .build()
+    }
+}
@@ -0,0 +1,56 @@
+package com.tododuk.global.logging
+
+import io.micrometer.core.instrument.MeterRegistry
+import net.ttddyy.dsproxy.ExecutionInfo
+import net.ttddyy.dsproxy.QueryInfo
+import net.ttddyy.dsproxy.listener.QueryExecutionListener
+import org.slf4j.LoggerFactory
+import org.springframework.beans.factory.ObjectProvider
+import java.util.concurrent.ThreadLocalRandom
+
+/**
+ * thresholdMs 이상 걸린 SQL 만 바인딩 값과 함께 기록한다.
+ * 느린 쿼리는 모두 db.query.slow 로 세고, 로그는 sampleRate 비율만 남겨 부하가 몰릴 때 로그가 폭증하지 않게 한다.
+ */
+class SlowQueryListener(
+    private val thresholdMs: Long,
+    private val sampleRate: Double,
+    private val meterRegistryProvider: ObjectProvider<MeterRegistry>
+) : QueryExecutionListener {
+
+    override fun beforeQuery(execInfo: ExecutionInfo, queryInfoList: List<QueryInfo>) = Unit
+
+    override fun afterQuery(execInfo: ExecutionInfo, queryInfoList: List<QueryInfo>) {
+        val elapsedMs = execInfo.elapsedTime
+        if (elapsedMs < thresholdMs) return
+
+        meterRegistryProvider.ifAvailable { it.counter("db.query.slow").increment() }
+        if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) return
+
+        log.warn(
+            "느린 쿼리 {}ms (success={}, batch={}) {}",
+            elapsedMs, execInfo.isSuccess, execInfo.isBatch, describe(queryInfoList)
+        )
+    }
+
+    private fun describe(queryInfoList: List<QueryInfo>): String =
+        queryInfoList.joinToString(" | ") { queryInfo ->
+            val params = queryInfo.parametersList.joinToString(",") { operations ->
+                // args[0] = 파라미터 위치/이름, args[1] = 값
+                operations.joinToString(",", "(", ")") { abbreviate(it.args.getOrNull(1)) }
+            }
+            "${queryInfo.query} params=[$params]"
+        }.take(MAX_LOG_LENGTH)
+
+    private fun abbreviate(value: Any?): String {
+        val text = value.toString()
+        return if (text.length > MAX_PARAM_LENGTH) text.take(MAX_PARAM_LENGTH) + "..." else text
+    }
+
+    companion object {
+        private val log = LoggerFactory.getLogger(SlowQueryListener::class.java)
+
+        private const val MAX_PARAM_LENGTH = 100
+        private const val MAX_LOG_LENGTH = 4000
+    }
+}
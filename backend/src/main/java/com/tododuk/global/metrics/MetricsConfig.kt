@@ -0,0 +1,27 @@
+package com.tododuk.global.metrics
+
+import io.micrometer.core.aop.TimedAspect
+import io.micrometer.core.instrument.MeterRegistry
+import org.hibernate.cfg.AvailableSettings
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer
+import org.springframework.context.annotation.Bean
+import org.springframework.context.annotation.Configuration
+
+@Configuration
+class MetricsConfig {
+
+    /**
+     * 클래스/메서드에 붙인 @Timed 를 처리 (서비스 public 메서드별 호출 수/지연, class·method·exception 태그)
+     */
+    @Bean
+    fun timedAspect(meterRegistry: MeterRegistry): TimedAspect = TimedAspect(meterRegistry)
+
+    @Bean
+    fun requestQueryCounter(): RequestQueryCounter = RequestQueryCounter()
+
+    @Bean
+    fun statementInspectorCustomizer(requestQueryCounter: RequestQueryCounter): HibernatePropertiesCustomizer =
+        HibernatePropertiesCustomizer { properties ->
+            properties[AvailableSettings.STATEMENT_INSPECTOR] = requestQueryCounter
+        }
+}
@@ -0,0 +1,40 @@
+package com.tododuk.global.metrics
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty
+import org.springframework.core.MethodParameter
+import org.springframework.http.MediaType
+import org.springframework.http.converter.HttpMessageConverter
+import org.springframework.http.server.ServerHttpRequest
+import org.springframework.http.server.ServerHttpResponse
+import org.springframework.web.bind.annotation.RestControllerAdvice
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice
+
+/**
+ * 응답 본문을 쓰기 직전까지 실행된 SQL 문 수를 X-Query-Count 헤더로 내려준다. (dev 전용)
+ * 본문을 쓰기 전에 헤더를 붙여야 해서 필터가 아닌 ResponseBodyAdvice 에서 처리한다.
+ * 스트리밍 응답에는 붙지 않는다.
+ */
+@RestControllerAdvice
+@ConditionalOnProperty(name = ["custom.queryBudget.exposeHeader"], havingValue = "true")
+class QueryCountHeaderAdvice(
+    private val requestQueryCounter: RequestQueryCounter
+) : ResponseBodyAdvice<Any> {
+
+    override fun supports(returnType: MethodParameter, converterType: Class<out HttpMessageConverter<*>>): Boolean = true
+
+    override fun beforeBodyWrite(
+        body: Any?,
+        returnType: MethodParameter,
+        selectedContentType: MediaType,
+        selectedConverterType: Class<out HttpMessageConverter<*>>,
+        request: ServerHttpRequest,
+        response: ServerHttpResponse
+    ): Any? {
+        response.headers.set(HEADER, requestQueryCounter.count().toString())
+        return body
+    }
+
+    companion object {
+        const val HEADER = "X-Query-Count"
+    }
+}
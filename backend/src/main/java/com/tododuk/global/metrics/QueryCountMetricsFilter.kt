@@ -0,0 +1,62 @@
+package com.tododuk.global.metrics
+
+import io.micrometer.core.instrument.DistributionSummary
+import io.micrometer.core.instrument.MeterRegistry
+import jakarta.servlet.FilterChain
+import jakarta.servlet.http.HttpServletRequest
+import jakarta.servlet.http.HttpServletResponse
+import org.slf4j.LoggerFactory
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.core.Ordered
+import org.springframework.core.annotation.Order
+import org.springframework.stereotype.Component
+import org.springframework.web.filter.OncePerRequestFilter
+import org.springframework.web.servlet.HandlerMapping
+
+/**
+ * 요청당 SQL 문 수를 http.server.requests.queries 로 기록 (uri 는 매핑 패턴 기준)
+ * 쿼리 예산(custom.queryBudget.maxQueries)을 넘긴 요청은 경고 로그를 남긴다. (N+1 회귀 감지용)
+ * 보안 필터의 사용자 조회까지 포함하도록 가장 먼저 실행한다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+class QueryCountMetricsFilter(
+    private val requestQueryCounter: RequestQueryCounter,
+    private val meterRegistry: MeterRegistry,
+    @Value("\${custom.queryBudget.maxQueries:30}")
+    private val maxQueries: Int
+) : OncePerRequestFilter() {
+
+    override fun doFilterInternal(request: HttpServletRequest, response: HttpServletResponse, filterChain: FilterChain) {
+        requestQueryCounter.start()
+        try {
+            filterChain.doFilter(request, response)
+        } finally {
+            val queries = requestQueryCounter.stop()
+            val uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE) as? String ?: "UNKNOWN"
+
+            DistributionSummary.builder("http.server.requests.queries")
+                .description("요청 하나가 실행한 SQL 문 수")
+                .tag("method", request.method)
+                .tag("uri", uri)
+                .tag("status", response.status.toString())
+                .register(meterRegistry)
+                .record(queries.toDouble())
+
+            if (queries > maxQueries) {
+                meterRegistry.counter("http.server.requests.query_budget.exceeded", "method", request.method, "uri", uri)
+                    .increment()
+                log.warn("쿼리 예산 초과: {} {} -> SQL {}개 (예산 {}개)", request.method, uri, queries, maxQueries)
+            }
+        }
+    }
+
+    // 비동기 디스패치/에러 디스패치는 원 요청에서 이미 집계
+    override fun shouldNotFilterAsyncDispatch(): Boolean = true
+
+    override fun shouldNotFilterErrorDispatch(): Boolean = true
+
+    companion object {
+        private val log = LoggerFactory.getLogger(QueryCountMetricsFilter::class.java)
+    }
+}
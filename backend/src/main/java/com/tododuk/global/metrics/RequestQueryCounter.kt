@@ -0,0 +1,44 @@
+package com.tododuk.global.metrics
+
+import org.hibernate.resource.jdbc.spi.StatementInspector
+
+/**
+ * 현재 스레드에서 실행된 SQL 문 수를 센다. SQL 은 바꾸지 않고 그대로 돌려준다.
+ * - 구간은 start/stop 으로 정한다. (요청은 QueryCountMetricsFilter, 테스트는 @MaxQueries)
+ * - 구간은 중첩될 수 있고, SQL 한 문은 열려 있는 모든 구간에 더해진다.
+ */
+class RequestQueryCounter : StatementInspector {
+
+    private class Scope(val parent: Scope?) {
+        var count = 0
+    }
+
+    private val current = ThreadLocal<Scope?>()
+
+    fun start() {
+        current.set(Scope(current.get()))
+    }
+
+    /**
+     * 가장 안쪽 구간을 닫고 그 구간에서 실행된 SQL 문 수를 돌려준다.
+     */
+    fun stop(): Int {
+        val scope = current.get() ?: return 0
+        if (scope.parent == null) current.remove() else current.set(scope.parent)
+        return scope.count
+    }
+
+    /**
+     * 가장 안쪽 구간에서 지금까지 실행된 SQL 문 수 (열린 구간이 없으면 0)
+     */
+    fun count(): Int = current.get()?.count ?: 0
+
+    override fun inspect(sql: String): String {
+        var scope = current.get()
+        while (scope != null) {
+            scope.count++
+            scope = scope.parent
+        }
+        return sql
+    }
+}
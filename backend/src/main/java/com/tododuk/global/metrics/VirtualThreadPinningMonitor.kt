@@ -0,0 +1,73 @@
+package com.tododuk.global.metrics
+
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.Timer
+import jakarta.annotation.PostConstruct
+import jakarta.annotation.PreDestroy
+import jdk.jfr.consumer.RecordedEvent
+import jdk.jfr.consumer.RecordingStream
+import org.slf4j.LoggerFactory
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty
+import org.springframework.stereotype.Component
+import java.time.Duration
+
+/**
+ * 가상 스레드 고정(pinning) 진단 (spring.threads.virtual.enabled=true 일 때)
+ * synchronized 블록 안에서 JDBC/HTTP 대기처럼 블로킹하면 가상 스레드가 캐리어 스레드를 붙잡아
+ * 동시 처리량이 캐리어 수(CPU 코어 수)로 떨어진다. JFR jdk.VirtualThreadPinned 이벤트를 받아
+ * jvm.threads.virtual.pinned 로 기록하고, 원인이 된 스택을 경고 로그로 남긴다.
+ */
+@Component
+@ConditionalOnProperty(name = ["spring.threads.virtual.enabled"], havingValue = "true")
+class VirtualThreadPinningMonitor(
+    meterRegistry: MeterRegistry,
+    @Value("\${custom.threads.pinning.enabled:true}")
+    private val enabled: Boolean,
+    @Value("\${custom.threads.pinning.thresholdMs:20}")
+    private val thresholdMs: Long,
+    @Value("\${custom.threads.pinning.stackDepth:8}")
+    private val stackDepth: Int
+) {
+
+    private val pinned: Timer = Timer.builder("jvm.threads.virtual.pinned")
+        .description("캐리어 스레드에 고정된 채 블로킹한 시간")
+        .register(meterRegistry)
+
+    private var stream: RecordingStream? = null
+
+    @PostConstruct
+    fun start() {
+        if (!enabled) return
+
+        stream = RecordingStream().apply {
+            enable(PINNED_EVENT).withThreshold(Duration.ofMillis(thresholdMs)).withStackTrace()
+            onEvent(PINNED_EVENT, ::onPinned)
+            startAsync()
+        }
+        log.info("가상 스레드 고정 진단 시작 (임계 {}ms)", thresholdMs)
+    }
+
+    @PreDestroy
+    fun stop() {
+        stream?.close()
+    }
+
+    private fun onPinned(event: RecordedEvent) {
+        pinned.record(event.duration)
+
+        val frames = event.stackTrace?.frames.orEmpty()
+        // 위쪽 프레임(고정 원인)에 더해, 라이브러리 안에서 고정된 경우 호출한 앱 코드 프레임도 함께 보여준다
+        val shown = frames.take(stackDepth).toMutableList()
+        frames.drop(stackDepth).firstOrNull { it.method.type.name.startsWith(APP_PACKAGE) }?.let { shown.add(it) }
+        val stack = shown.joinToString("\n\tat ") { "${it.method.type.name}.${it.method.name}:${it.lineNumber}" }
+        log.warn("가상 스레드 고정 {}ms (thread={})\n\tat {}", event.duration.toMillis(), event.thread?.javaName, stack)
+    }
+
+    companion object {
+        private val log = LoggerFactory.getLogger(VirtualThreadPinningMonitor::class.java)
+
+        private const val PINNED_EVENT = "jdk.VirtualThreadPinned"
+        private const val APP_PACKAGE = "com.tododuk."
+    }
+}
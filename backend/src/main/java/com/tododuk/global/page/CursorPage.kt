@@ -0,0 +1,25 @@
+package com.tododuk.global.page
+
+data class CursorPage<T>(
+    val items: List<T>,
+    val size: Int,
+    val nextCursor: Int?, // 다음 페이지 요청 시 cursor 로 전달 (마지막 페이지면 null)
+    val hasNext: Boolean
+) {
+    companion object {
+        /**
+         * size + 1 건을 조회한 결과로 페이지를 만든다. (초과분이 있으면 다음 페이지가 존재)
+         */
+        fun <E, T> of(rows: List<E>, size: Int, idOf: (E) -> Int, mapper: (E) -> T): CursorPage<T> {
+            val hasNext = rows.size > size
+            val pageRows = if (hasNext) rows.subList(0, size) else rows
+
+            return CursorPage(
+                items = pageRows.map(mapper),
+                size = size,
+                nextCursor = if (hasNext) idOf(pageRows.last()) else null,
+                hasNext = hasNext
+            )
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.tododuk.global.page
+
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.data.domain.PageRequest
+import org.springframework.data.domain.Pageable
+import org.springframework.stereotype.Component
+
+/**
+ * 키셋(id 커서) 페이지네이션 공통 설정
+ * - 요청 size 가 없으면 defaultSize, maxSize 를 넘으면 maxSize 로 잘라낸다.
+ */
+@Component
+class CursorPaging(
+    @Value("\${custom.paging.defaultSize:20}") private val defaultSize: Int,
+    @Value("\${custom.paging.maxSize:100}") private val maxSize: Int
+) {
+    fun sizeOf(requested: Int?): Int =
+        (requested ?: defaultSize).coerceIn(1, maxSize)
+
+    // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+    fun fetchLimit(size: Int): Pageable = PageRequest.ofSize(size + 1)
+
+    // 첫 페이지는 cursor 없이 요청
+    fun cursorOf(cursor: Int?): Int = cursor ?: 0
+}
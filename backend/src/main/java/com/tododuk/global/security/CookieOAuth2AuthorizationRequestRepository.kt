@@ -0,0 +1,139 @@
+package com.tododuk.global.security
+
+import jakarta.servlet.http.HttpServletRequest
+import jakarta.servlet.http.HttpServletResponse
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.http.HttpHeaders
+import org.springframework.http.ResponseCookie
+import org.springframework.security.oauth2.client.web.AuthorizationRequestRepository
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest
+import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames
+import org.springframework.stereotype.Component
+import java.io.ByteArrayInputStream
+import java.io.ByteArrayOutputStream
+import java.io.IOException
+import java.io.ObjectInputFilter
+import java.io.ObjectInputStream
+import java.io.ObjectOutputStream
+import java.nio.ByteBuffer
+import java.nio.charset.StandardCharsets
+import java.security.MessageDigest
+import java.time.Duration
+import java.util.*
+import javax.crypto.Mac
+import javax.crypto.spec.SecretKeySpec
+
+/**
+ * OAuth2 인가 요청을 세션 대신 서명한 쿠키에 저장
+ * 로그인 시작(/oauth2/authorization/kakao)과 콜백(/login/oauth2/code/kakao)이 서로 다른 인스턴스로 가도 로그인된다.
+ * - 값: base64url(만료 시각(epoch 초) + 직렬화한 인가 요청) "." base64url(HMAC-SHA256)
+ * - 서명과 만료 시각을 확인한 뒤에만 역직렬화하고, 역직렬화할 수 있는 클래스도 제한한다.
+ * - 카카오에서 돌아오는 최상위 GET 이동에도 실리도록 SameSite=Lax 로 둔다.
+ */
+@Component
+class CookieOAuth2AuthorizationRequestRepository(
+    @Value("\${custom.jwt.secretKey}")
+    secretKey: String,
+    @Value("\${custom.oauth2.authorizationRequestCookie.maxAgeSeconds:180}")
+    private val maxAgeSeconds: Long
+) : AuthorizationRequestRepository<OAuth2AuthorizationRequest> {
+
+    private val signingKey = SecretKeySpec(secretKey.toByteArray(StandardCharsets.UTF_8), HMAC_ALGORITHM)
+
+    override fun loadAuthorizationRequest(request: HttpServletRequest): OAuth2AuthorizationRequest? {
+        val state = request.getParameter(OAuth2ParameterNames.STATE) ?: return null
+        val value = request.cookies?.firstOrNull { it.name == COOKIE_NAME }?.value ?: return null
+
+        return decode(value)?.takeIf { it.state == state }
+    }
+
+    override fun saveAuthorizationRequest(
+        authorizationRequest: OAuth2AuthorizationRequest?,
+        request: HttpServletRequest,
+        response: HttpServletResponse
+    ) {
+        if (authorizationRequest == null) {
+            writeCookie(request, response, "", Duration.ZERO)
+            return
+        }
+        writeCookie(request, response, encode(authorizationRequest), Duration.ofSeconds(maxAgeSeconds))
+    }
+
+    override fun removeAuthorizationRequest(
+        request: HttpServletRequest,
+        response: HttpServletResponse
+    ): OAuth2AuthorizationRequest? {
+        val authorizationRequest = loadAuthorizationRequest(request)
+        // 한 번 쓴 인가 요청은 재사용되지 않도록 결과와 관계없이 지운다
+        writeCookie(request, response, "", Duration.ZERO)
+        return authorizationRequest
+    }
+
+    private fun writeCookie(request: HttpServletRequest, response: HttpServletResponse, value: String, maxAge: Duration) {
+        val cookie = ResponseCookie.from(COOKIE_NAME, value)
+            .path("/")
+            .httpOnly(true)
+            .secure(request.isSecure)
+            .sameSite("Lax")
+            .maxAge(maxAge)
+            .build()
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString())
+    }
+
+    private fun encode(authorizationRequest: OAuth2AuthorizationRequest): String {
+        val serialized = ByteArrayOutputStream().also { bytes ->
+            ObjectOutputStream(bytes).use { it.writeObject(authorizationRequest) }
+        }.toByteArray()
+
+        val expiresAt = System.currentTimeMillis() / 1000 + maxAgeSeconds
+        val payload = ByteBuffer.allocate(Long.SIZE_BYTES + serialized.size)
+            .putLong(expiresAt)
+            .put(serialized)
+            .array()
+
+        return "${BASE64_ENCODER.encodeToString(payload)}.${BASE64_ENCODER.encodeToString(sign(payload))}"
+    }
+
+    private fun decode(value: String): OAuth2AuthorizationRequest? {
+        val parts = value.split('.')
+        if (parts.size != 2) return null
+
+        val (payload, signature) = try {
+            BASE64_DECODER.decode(parts[0]) to BASE64_DECODER.decode(parts[1])
+        } catch (e: IllegalArgumentException) {
+            return null
+        }
+        if (payload.size <= Long.SIZE_BYTES || !MessageDigest.isEqual(sign(payload), signature)) return null
+
+        val buffer = ByteBuffer.wrap(payload)
+        if (buffer.getLong() < System.currentTimeMillis() / 1000) return null
+
+        return try {
+            ObjectInputStream(ByteArrayInputStream(payload, Long.SIZE_BYTES, payload.size - Long.SIZE_BYTES)).use {
+                it.objectInputFilter = DESERIALIZATION_FILTER
+                it.readObject() as? OAuth2AuthorizationRequest
+            }
+        } catch (e: IOException) {
+            null
+        } catch (e: ClassNotFoundException) {
+            null
+        }
+    }
+
+    private fun sign(payload: ByteArray): ByteArray =
+        Mac.getInstance(HMAC_ALGORITHM).apply { init(signingKey) }.doFinal(payload)
+
+    companion object {
+        const val COOKIE_NAME = "oauth2AuthRequest"
+
+        private const val HMAC_ALGORITHM = "HmacSHA256"
+
+        private val BASE64_ENCODER = Base64.getUrlEncoder().withoutPadding()
+        private val BASE64_DECODER = Base64.getUrlDecoder()
+
+        // 인가 요청에 들어 있는 타입만 허용 (서명 키가 새더라도 임의 클래스 역직렬화는 막는다)
+        private val DESERIALIZATION_FILTER: ObjectInputFilter = ObjectInputFilter.Config.createFilter(
+            "java.lang.*;java.util.*;org.springframework.security.oauth2.core.**;maxdepth=10;!*"
+        )
+    }
+}
@@ -60,13 +60,6 @@ class CustomAuthenticationFilter(
         }
     }
 
-    // 인증, 인가가 필요 없는 경로인지 확인
-    private fun isPermitAllPath(path: String): Boolean {
-        return SecurityConfig.PERMIT_ALL_PATHS.any { pattern ->
-            AntPathMatcher().match(pattern, path)
-        }
-    }
-
     @Throws(ServletException::class, IOException::class)
     private fun work(
         request: HttpServletRequest,
@@ -88,22 +81,7 @@ class CustomAuthenticationFilter(
         // 인증, 인가가 필요한 요청인 경우
         val headerAuthorization = rq.getHeader("Authorization", "")
 
-        val (apiKey, accessToken) = if (!headerAuthorization.isNullOrBlank()) {
-            // Authentication 헤더에서 조회 시도
-            if (!headerAuthorization.startsWith("Bearer ")) {
-                throw IllegalArgumentException("Authorization 헤더가 올바르지 않습니다.")
-            }
-            // Bearer 토큰에서 apiKey, accessToken 추출 (Authorization = Bearer apiKey accessToken)
-            val headerParts = headerAuthorization.split(" ", limit = 3)
-            val apiKey = headerParts[1]
-            val accessToken = if (headerParts.size == 3) headerParts[2] else ""
-            Pair(apiKey, accessToken)
-        } else {
-            // Authentication 헤더가 없는 경우 쿠키에서 조회
-            val apiKey = rq.getCookieValue("apiKey", "")
-            val accessToken = rq.getCookieValue("accessToken", "")
-            Pair(apiKey, accessToken)
-        }
+        val (apiKey, accessToken) = parseCredentials(headerAuthorization) { name -> rq.getCookieValue(name, "") }
 
         // apiKey와 accessToken이 모두 비어있으면 그냥 통과 (인증, 인가가 필요 없는 요청)
         val isApiKeyExists = apiKey.isNotBlank()
@@ -191,4 +169,35 @@ class CustomAuthenticationFilter(
         """.trimIndent()
         response.writer.write(body)
     }
-}
\ No newline at end of file
+
+    companion object {
+        private val pathMatcher = AntPathMatcher()
+
+        // 인증, 인가가 필요 없는 경로인지 확인
+        fun isPermitAllPath(path: String): Boolean {
+            return SecurityConfig.PERMIT_ALL_PATHS.any { pattern ->
+                pathMatcher.match(pattern, path)
+            }
+        }
+
+        /**
+         * Authorization 헤더(Bearer apiKey accessToken), 없으면 쿠키에서 (apiKey, accessToken) 추출
+         */
+        fun parseCredentials(headerAuthorization: String?, cookieValue: (String) -> String): Pair<String, String> {
+            if (headerAuthorization.isNullOrBlank()) {
+                // Authentication 헤더가 없는 경우 쿠키에서 조회
+                return Pair(cookieValue("apiKey"), cookieValue("accessToken"))
+            }
+
+            // Authentication 헤더에서 조회 시도
+            if (!headerAuthorization.startsWith("Bearer ")) {
+                throw IllegalArgumentException("Authorization 헤더가 올바르지 않습니다.")
+            }
+            // Bearer 토큰에서 apiKey, accessToken 추출 (Authorization = Bearer apiKey accessToken)
+            val headerParts = headerAuthorization.split(" ", limit = 3)
+            val apiKey = headerParts[1]
+            val accessToken = if (headerParts.size == 3) headerParts[2] else ""
+            return Pair(apiKey, accessToken)
+        }
+    }
+}
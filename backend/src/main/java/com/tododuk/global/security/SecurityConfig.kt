@@ -4,7 +4,9 @@ import com.tododuk.global.app.AppConfig
 import jakarta.servlet.http.HttpServletResponse
 import org.springframework.context.annotation.Bean
 import org.springframework.context.annotation.Configuration
+import org.springframework.http.HttpMethod
 import org.springframework.security.config.annotation.web.builders.HttpSecurity
+import org.springframework.security.config.http.SessionCreationPolicy
 import org.springframework.security.web.SecurityFilterChain
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter
 import org.springframework.web.cors.CorsConfiguration
@@ -15,7 +17,8 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource
 class SecurityConfig(
     private val customAuthenticationFilter: CustomAuthenticationFilter,
     private val customOAuth2AuthorizationRequestResolver: CustomOAuth2AuthorizationRequestResolver,
-    private val customOAuth2LoginSuccessHandler: CustomOAuth2LoginSuccessHandler
+    private val customOAuth2LoginSuccessHandler: CustomOAuth2LoginSuccessHandler,
+    private val cookieOAuth2AuthorizationRequestRepository: CookieOAuth2AuthorizationRequestRepository
 ) {
     companion object {
         // 인증 인가 필요 없는 API 경로 목록
@@ -25,6 +28,21 @@ class SecurityConfig(
             "/api/v1/user/register",
             "/oauth2/authorization/kakao"
         )
+
+        // 로드밸런서/배포 스크립트용 공개 actuator 경로 (그 외 actuator 는 관리자만)
+        val PUBLIC_ACTUATOR_PATHS = arrayOf(
+            "/actuator/health",
+            "/actuator/health/**",
+            "/actuator/info"
+        )
+
+        // 전체 테이블을 조회하는 관리자 전용 목록 API 경로 목록 (GET)
+        val ADMIN_ONLY_LIST_PATHS = arrayOf(
+            "/api/todo",
+            "/api/v1/teams",
+            "/api/notifications",
+            "/api/v1/reminders"
+        )
     }
 
     @Bean
@@ -58,9 +76,13 @@ class SecurityConfig(
                     .requestMatchers(*PERMIT_ALL_PATHS).permitAll()
                     // 업로드된 파일 접근 허용
                     .requestMatchers("/uploads/**").permitAll()
+                    // 전체 목록 조회는 관리자만 허용
+                    .requestMatchers(HttpMethod.GET, *ADMIN_ONLY_LIST_PATHS).hasRole("ADMIN")
                     // 위 요청 제외 나머지는 로그인 요구
                     .requestMatchers("/api/*/**").authenticated()
-                    .requestMatchers("/actuator/**").permitAll()
+                    // 헬스 체크만 공개, 지표(metrics/prometheus)는 관리자 apiKey 로 수집
+                    .requestMatchers(*PUBLIC_ACTUATOR_PATHS).permitAll()
+                    .requestMatchers("/actuator/**").hasRole("ADMIN")
                     .anyRequest().authenticated()
             }
             .headers { headers ->
@@ -70,10 +92,14 @@ class SecurityConfig(
             }
             // csrf 설정 끔 (rest api에서는 csrf를 사용하지 않음)
             .csrf { csrf -> csrf.disable() }
+            // 인증은 apiKey/accessToken 쿠키로 하고 OAuth2 인가 요청도 쿠키에 두므로 세션을 만들지 않는다
+            // (어느 인스턴스로 요청이 가도 같은 결과, 로드밸런서 스티키 세션 불필요)
+            .sessionManagement { session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS) }
             .oauth2Login { oauth2 ->
                 oauth2.successHandler(customOAuth2LoginSuccessHandler)
                 oauth2.authorizationEndpoint { endpoint ->
                     endpoint.authorizationRequestResolver(customOAuth2AuthorizationRequestResolver)
+                    endpoint.authorizationRequestRepository(cookieOAuth2AuthorizationRequestRepository)
                 }
             }
 
@@ -0,0 +1,37 @@
+package com.tododuk.global.webMvc
+
+import jakarta.servlet.http.HttpServletRequest
+import jakarta.servlet.http.HttpServletResponse
+import org.springframework.http.HttpStatus
+import org.springframework.http.ResponseEntity
+import org.springframework.stereotype.Component
+import org.springframework.web.context.request.ServletWebRequest
+
+@Component
+class ConditionalGetSupport(
+    private val req: HttpServletRequest,
+    private val resp: HttpServletResponse
+) {
+
+    /**
+     * If-None-Match 와 버전이 일치하면 304 를 반환하고,
+     * 일치하지 않을 때만 body() 를 호출해 전체 데이터를 조회/직렬화한다.
+     * If-Modified-Since 로는 304 를 주지 않는다. 하위 행이 삭제되면 max(modifyDate) 가 그대로라
+     * 바뀐 것을 알 수 없고, 행 수까지 담은 ETag 로만 판단할 수 있기 때문이다.
+     * 200 응답에도 Last-Modified 를 싣지 않는다. 실으면 HttpEntityMethodProcessor 가 응답 헤더로
+     * If-Modified-Since 를 다시 검사해 삭제 후에도 304 로 바꿔 버린다.
+     */
+    fun <T> ifModified(scope: String, version: ResourceVersion, body: () -> T): ResponseEntity<T> {
+        val etag = version.toETag(scope)
+
+        if (ServletWebRequest(req, resp).checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .build()
+        }
+
+        return ResponseEntity.ok()
+            .eTag(etag)
+            .body(body())
+    }
+}
@@ -0,0 +1,76 @@
+package com.tododuk.global.webMvc
+
+import com.fasterxml.jackson.core.JsonGenerator
+import com.fasterxml.jackson.databind.ObjectMapper
+import jakarta.persistence.EntityManager
+import org.springframework.http.MediaType
+import org.springframework.http.ResponseEntity
+import org.springframework.stereotype.Component
+import org.springframework.transaction.PlatformTransactionManager
+import org.springframework.transaction.support.TransactionTemplate
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody
+import java.util.stream.Stream
+
+@Component
+class JsonStreamingSupport(
+    private val objectMapper: ObjectMapper,
+    private val entityManager: EntityManager,
+    transactionManager: PlatformTransactionManager
+) {
+    private val readOnlyTransaction = TransactionTemplate(transactionManager).apply {
+        isReadOnly = true
+    }
+
+    /**
+     * RsData 와 같은 모양({"resultCode","msg","data":[...]})의 JSON 을 스트리밍으로 내려준다.
+     * 전체 목록을 List 로 만들지 않고 Stream 에서 한 건씩 꺼내 JsonGenerator 로 바로 쓰므로
+     * 요청당 메모리 사용량이 결과 건수와 무관하게 일정하다.
+     *
+     * 스트리밍은 컨트롤러 반환 후 별도 스레드에서 실행되므로 읽기 전용 트랜잭션을 직접 연다.
+     * 응답을 쓰기 시작한 뒤에는 에러 응답으로 바꿀 수 없다는 점에 주의.
+     */
+    fun <E, T> streamList(
+        msg: String,
+        source: () -> Stream<E>,
+        resultCode: String = "200-OK",
+        mapper: (E) -> T
+    ): ResponseEntity<StreamingResponseBody> {
+        val body = StreamingResponseBody { outputStream ->
+            readOnlyTransaction.executeWithoutResult {
+                objectMapper.createGenerator(outputStream).use { generator ->
+                    generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+
+                    generator.writeStartObject()
+                    generator.writeStringField("resultCode", resultCode)
+                    generator.writeStringField("msg", msg)
+                    generator.writeArrayFieldStart("data")
+
+                    source().use { stream ->
+                        var count = 0
+                        stream.forEach { entity ->
+                            generator.writeObject(mapper(entity))
+
+                            // 영속성 컨텍스트에 엔티티가 계속 쌓이지 않도록 주기적으로 비운다
+                            if (++count % CLEAR_INTERVAL == 0) {
+                                generator.flush()
+                                entityManager.clear()
+                            }
+                        }
+                    }
+
+                    generator.writeEndArray()
+                    generator.writeEndObject()
+                }
+            }
+        }
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(body)
+    }
+
+    companion object {
+        // 리포지토리 스트림 쿼리의 fetch size 와 맞춘다
+        const val CLEAR_INTERVAL = 500
+    }
+}
@@ -0,0 +1,21 @@
+package com.tododuk.global.webMvc
+
+import java.time.LocalDateTime
+import java.time.ZoneId
+
+/**
+ * 리소스 버전 정보 (조건부 GET 용 프로젝션)
+ * 전체 데이터를 읽기 전에 count + max(modifyDate) 만 가벼운 쿼리로 조회한다.
+ */
+interface ResourceVersion {
+    val total: Long
+    val lastModified: LocalDateTime?
+}
+
+// 프로젝션 프록시는 인터페이스의 코틀린 기본 구현을 호출하지 못하므로 확장 함수로 둔다
+fun ResourceVersion.lastModifiedMillis(): Long =
+    lastModified?.atZone(ZoneId.systemDefault())?.toInstant()?.toEpochMilli() ?: -1
+
+// scope(리소스 종류 + 식별자)를 포함한 약한 ETag 생성
+fun ResourceVersion.toETag(scope: String): String =
+    "W/\"${Integer.toHexString(scope.hashCode())}-$total-${lastModifiedMillis()}\""
@@ -0,0 +1,109 @@
+package com.tododuk.domain.analytics.service
+
+import com.tododuk.domain.analytics.entity.ProductivityDaily
+import com.tododuk.domain.analytics.repository.ProductivityDailyRepository
+import com.tododuk.domain.team.constant.TeamRoleType
+import com.tododuk.domain.team.entity.Team
+import com.tododuk.domain.team.initData.TeamTestInitData
+import com.tododuk.domain.todo.entity.Todo
+import com.tododuk.domain.todo.repository.TodoRepository
+import com.tododuk.domain.todoList.entity.TodoList
+import com.tododuk.domain.todoList.repository.TodoListRepository
+import com.tododuk.domain.user.entity.User
+import com.tododuk.global.exception.ServiceException
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.test.context.ActiveProfiles
+import org.springframework.transaction.annotation.Transactional
+import java.time.LocalDate
+import java.time.LocalDateTime
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ProductivityServiceTest {
+
+    @Autowired
+    private lateinit var productivityService: ProductivityService
+
+    @Autowired
+    private lateinit var productivityDailyRepository: ProductivityDailyRepository
+
+    @Autowired
+    private lateinit var teamTestInitData: TeamTestInitData
+
+    @Autowired
+    private lateinit var todoListRepository: TodoListRepository
+
+    @Autowired
+    private lateinit var todoRepository: TodoRepository
+
+    private val today = LocalDate.now()
+
+    private lateinit var user: User
+    private lateinit var team: Team
+
+    @BeforeEach
+    fun setUp() {
+        user = teamTestInitData.createUser("analytics")
+        team = teamTestInitData.createTeam("통계 팀", "통계 팀 설명")
+        teamTestInitData.createTeamMember(user, team, TeamRoleType.LEADER)
+
+        val todoList = todoListRepository.save(TodoList("통계 목록", "통계 목록 설명", user, team))
+        todoRepository.save(Todo("완료", "설명", false, 1, LocalDateTime.now(), null, todoList).apply {
+            changeCompleted(true)
+        })
+        todoRepository.save(Todo("마감 지남", "설명", false, 1, LocalDateTime.now(), today.minusDays(1).atStartOfDay(), todoList))
+        todoRepository.save(Todo("진행 중", "설명", false, 1, LocalDateTime.now(), null, todoList))
+    }
+
+    @Test
+    @DisplayName("1. 하루 집계 - 사용자/팀별 한 행, 다시 실행해도 중복되지 않음")
+    fun rollup() {
+        productivityService.rollup(today)
+        productivityService.rollup(today)
+
+        val userRows = productivityDailyRepository.findByScopeTypeAndScopeIdAndDayBetweenOrderByDay(
+            ProductivityDaily.ScopeType.USER, user.id, today, today
+        )
+        val teamRows = productivityDailyRepository.findByScopeTypeAndScopeIdAndDayBetweenOrderByDay(
+            ProductivityDaily.ScopeType.TEAM, team.id, today, today
+        )
+
+        assertThat(userRows).hasSize(1)
+        assertThat(teamRows).hasSize(1)
+        with(teamRows.first()) {
+            assertThat(created).isEqualTo(3)
+            assertThat(completed).isEqualTo(1)
+            assertThat(remaining).isEqualTo(2)
+            assertThat(overdue).isEqualTo(1)
+        }
+    }
+
+    @Test
+    @DisplayName("2. 기간 조회 - 집계 없는 날은 0으로 채우고 완료 속도는 최근 7일 평균")
+    fun series() {
+        productivityService.rollup(today)
+
+        val series = productivityService.getTeamSeries(team.id, user.id, today.minusDays(2), today)
+
+        assertThat(series.points).hasSize(3)
+        assertThat(series.points[0].completed).isZero()
+        assertThat(series.points[2].completed).isEqualTo(1)
+        assertThat(series.points[2].velocity).isEqualTo(1.0 / 7)
+    }
+
+    @Test
+    @DisplayName("3. 잘못된 기간은 400 예외")
+    fun invalidRange() {
+        assertThatThrownBy { productivityService.getUserSeries(user.id, today, today.minusDays(1)) }
+            .isInstanceOf(ServiceException::class.java)
+        assertThatThrownBy { productivityService.getUserSeries(user.id, today.minusYears(2), today) }
+            .isInstanceOf(ServiceException::class.java)
+    }
+}
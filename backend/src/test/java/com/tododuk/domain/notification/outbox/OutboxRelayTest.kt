@@ -0,0 +1,231 @@
+package com.tododuk.domain.notification.outbox
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.tododuk.domain.notification.repository.NotificationRepository
+import com.tododuk.domain.notification.service.NotificationService
+import com.tododuk.domain.notification.service.WebPushNotificationService
+import com.tododuk.domain.reminder.service.ReminderFireLogService
+import com.tododuk.domain.user.entity.User
+import com.tododuk.domain.user.repository.UserRepository
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.data.domain.PageRequest
+import org.springframework.test.context.ActiveProfiles
+import org.springframework.transaction.IllegalTransactionStateException
+import org.springframework.transaction.PlatformTransactionManager
+import org.springframework.transaction.support.TransactionTemplate
+import java.time.LocalDateTime
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+/**
+ * 릴레이는 자체 트랜잭션/스레드로 동작하므로 테스트 트랜잭션으로 감싸지 않고 실제로 커밋한다.
+ * 스케줄된 릴레이가 끼어들지 않도록 주기를 늘리고, 테스트용 릴레이 인스턴스를 직접 만들어 호출한다.
+ * 묶음 메시지는 바로 전달 대상이 되도록 묶는 시간을 0 으로 두고, 필요한 테스트에서 availableAt 을 직접 조정한다.
+ */
+@SpringBootTest(properties = ["custom.outbox.relay.fixedDelayMs=3600000", "custom.notification.coalesce.windowMs=0"])
+@ActiveProfiles("test")
+class OutboxRelayTest {
+
+    @Autowired
+    private lateinit var outboxPublisher: OutboxPublisher
+
+    @Autowired
+    private lateinit var outboxRepository: OutboxRepository
+
+    @Autowired
+    private lateinit var notificationRepository: NotificationRepository
+
+    @Autowired
+    private lateinit var userRepository: UserRepository
+
+    @Autowired
+    private lateinit var notificationService: NotificationService
+
+    @Autowired
+    private lateinit var webPushNotificationService: WebPushNotificationService
+
+    @Autowired
+    private lateinit var reminderFireLogService: ReminderFireLogService
+
+    @Autowired
+    private lateinit var objectMapper: ObjectMapper
+
+    @Autowired
+    private lateinit var transactionManager: PlatformTransactionManager
+
+    private lateinit var transactionTemplate: TransactionTemplate
+    private lateinit var relay: OutboxRelay
+    private lateinit var user: User
+
+    @BeforeEach
+    fun setUp() {
+        transactionTemplate = TransactionTemplate(transactionManager)
+        relay = OutboxRelay(
+            outboxRepository, notificationService, webPushNotificationService, reminderFireLogService,
+            objectMapper, SimpleMeterRegistry(), transactionManager,
+            batchSize = 10, leaseMs = 60_000, maxAttempts = MAX_ATTEMPTS
+        )
+        outboxRepository.deleteAll()
+        user = userRepository.save(User("outbox-relay@test.com", "password", "아웃박스"))
+    }
+
+    @AfterEach
+    fun tearDown() {
+        outboxRepository.deleteAll()
+        notificationRepository.deleteAll(notificationRepository.findByUserId(user.id))
+        userRepository.delete(user)
+    }
+
+    private fun publishNotification(userId: Int, title: String): OutboxMessage {
+        transactionTemplate.executeWithoutResult {
+            outboxPublisher.publishNotification(userId, title, "본문", "/todos")
+        }
+        return outboxRepository.findAll().maxBy { it.id }
+    }
+
+    private fun reload(message: OutboxMessage): OutboxMessage = outboxRepository.findById(message.id).get()
+
+    @Test
+    @DisplayName("1. 발행은 도메인 트랜잭션 안에서만 가능하고 PENDING 으로 저장됨")
+    fun publishRequiresTransaction() {
+        assertThatThrownBy { outboxPublisher.publishNotification(user.id, "제목", "본문", "/todos") }
+            .isInstanceOf(IllegalTransactionStateException::class.java)
+        assertThat(outboxRepository.count()).isZero()
+
+        val message = publishNotification(user.id, "제목")
+
+        assertThat(message.status).isEqualTo(OutboxMessage.Status.PENDING)
+        assertThat(message.attempts).isZero()
+        assertThat(objectMapper.readValue(message.payload, OutboxPayload::class.java))
+            .isEqualTo(OutboxPayload("제목", "본문", "/todos"))
+    }
+
+    @Test
+    @DisplayName("2. 전달 후 SENT, 같은 메시지가 다시 전달되어도 알림은 한 건")
+    fun deliverOnceEvenIfRelayedTwice() {
+        val message = publishNotification(user.id, "제목")
+
+        relay.relay()
+
+        val sent = reload(message)
+        assertThat(sent.status).isEqualTo(OutboxMessage.Status.SENT)
+        assertThat(sent.processedAt).isNotNull()
+        assertThat(notificationRepository.findByOutboxMessageId(message.id)).isNotNull()
+
+        // SENT 표시 전에 죽어 임대가 끝난 뒤 다시 잡힌 상황
+        outboxRepository.save(sent.apply {
+            status = OutboxMessage.Status.PENDING
+            availableAt = LocalDateTime.now().minusSeconds(1)
+        })
+        relay.relay()
+
+        assertThat(reload(message).status).isEqualTo(OutboxMessage.Status.SENT)
+        assertThat(notificationRepository.findByUserId(user.id)).hasSize(1)
+    }
+
+    @Test
+    @DisplayName("3. 실패하면 지수 백오프 후 재시도, maxAttempts 에 도달하면 FAILED")
+    fun backoffThenFail() {
+        val message = publishNotification(MISSING_USER_ID, "받을 사람 없음")
+
+        val before = LocalDateTime.now()
+        relay.relay()
+        val after = LocalDateTime.now()
+
+        val retrying = reload(message)
+        assertThat(retrying.status).isEqualTo(OutboxMessage.Status.PENDING)
+        assertThat(retrying.attempts).isEqualTo(1)
+        assertThat(retrying.lastError).isNotBlank()
+        // 첫 실패는 1초 뒤 재시도
+        assertThat(retrying.availableAt).isBetween(before.plusNanos(999_000_000), after.plusSeconds(1))
+
+        // 백오프 중에는 선점되지 않음
+        relay.relay()
+        assertThat(reload(message).attempts).isEqualTo(1)
+
+        outboxRepository.save(retrying.apply { availableAt = LocalDateTime.now().minusSeconds(1) })
+        relay.relay()
+
+        val failed = reload(message)
+        assertThat(failed.status).isEqualTo(OutboxMessage.Status.FAILED)
+        assertThat(failed.attempts).isEqualTo(MAX_ATTEMPTS)
+        assertThat(failed.processedAt).isNotNull()
+    }
+
+    @Test
+    @DisplayName("4. 다른 릴레이가 잠근 메시지는 기다리지 않고 건너뜀 (SKIP LOCKED)")
+    fun skipLockedMessages() {
+        val lockedMessage = publishNotification(user.id, "잠긴 메시지")
+        val freeMessage = publishNotification(user.id, "자유 메시지")
+
+        val locked = CountDownLatch(1)
+        val release = CountDownLatch(1)
+        val otherRelay = Thread {
+            transactionTemplate.executeWithoutResult {
+                outboxRepository.findReadyForUpdateSkipLocked(
+                    OutboxMessage.Status.PENDING, LocalDateTime.now(), PageRequest.ofSize(1)
+                )
+                locked.countDown()
+                release.await(10, TimeUnit.SECONDS)
+            }
+        }
+        otherRelay.start()
+
+        try {
+            assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue()
+            relay.relay()
+        } finally {
+            release.countDown()
+            otherRelay.join()
+        }
+
+        assertThat(reload(freeMessage).status).isEqualTo(OutboxMessage.Status.SENT)
+        assertThat(reload(lockedMessage).status).isEqualTo(OutboxMessage.Status.PENDING)
+        assertThat(reload(lockedMessage).attempts).isZero()
+    }
+
+    @Test
+    @DisplayName("5. 같은 묶음의 메시지는 창이 닫히지 않은 것까지 함께 선점해 알림 한 건으로 합침")
+    fun coalesceWithinRelay() {
+        transactionTemplate.executeWithoutResult {
+            listOf("A", "B", "C").forEach { title ->
+                outboxPublisher.publishCoalesced(
+                    userId = user.id,
+                    coalesceKey = "team:1:todo-assigned",
+                    title = "할일 담당자 지정",
+                    url = "/teams/1",
+                    item = title,
+                    body = "'$title' 할일의 담당자로 지정되었습니다.",
+                    groupBody = "'%s' 외 %d개 할일의 담당자로 지정되었습니다."
+                )
+            }
+        }
+        val messages = outboxRepository.findAll().sortedBy { it.id }
+        assertThat(messages).hasSize(6)
+
+        // 첫 메시지들만 창이 닫힌 상태, 뒤따른 메시지는 아직 창 안
+        messages.drop(2).forEach {
+            outboxRepository.save(it.apply { availableAt = LocalDateTime.now().plusMinutes(1) })
+        }
+
+        relay.relay()
+
+        assertThat(outboxRepository.findAll()).allMatch { it.status == OutboxMessage.Status.SENT }
+        val notifications = notificationRepository.findByUserId(user.id)
+        assertThat(notifications).hasSize(1)
+        assertThat(notifications[0].description).isEqualTo("'A' 외 2개 할일의 담당자로 지정되었습니다.")
+    }
+
+    companion object {
+        private const val MAX_ATTEMPTS = 2
+        private const val MISSING_USER_ID = Int.MAX_VALUE
+    }
+}
@@ -0,0 +1,96 @@
+package com.tododuk.domain.reminder.controller
+
+import com.tododuk.domain.reminder.entity.Reminder
+import com.tododuk.domain.reminder.entity.ReminderFireLog
+import com.tododuk.domain.reminder.repository.ReminderFireLogRepository
+import com.tododuk.domain.reminder.repository.ReminderRepository
+import com.tododuk.domain.team.entity.Team
+import com.tododuk.domain.team.repository.TeamRepository
+import com.tododuk.domain.todo.entity.Todo
+import com.tododuk.domain.todo.repository.TodoRepository
+import com.tododuk.domain.todoList.entity.TodoList
+import com.tododuk.domain.todoList.repository.TodoListRepository
+import com.tododuk.domain.user.entity.User
+import com.tododuk.domain.user.repository.UserRepository
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.test.context.ActiveProfiles
+import org.springframework.test.web.servlet.MockMvc
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers.status
+import org.springframework.transaction.annotation.Transactional
+import java.time.LocalDateTime
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class ReminderFireLogAccessTest {
+
+    @Autowired
+    private lateinit var mvc: MockMvc
+
+    @Autowired
+    private lateinit var userRepository: UserRepository
+
+    @Autowired
+    private lateinit var teamRepository: TeamRepository
+
+    @Autowired
+    private lateinit var todoListRepository: TodoListRepository
+
+    @Autowired
+    private lateinit var todoRepository: TodoRepository
+
+    @Autowired
+    private lateinit var reminderRepository: ReminderRepository
+
+    @Autowired
+    private lateinit var reminderFireLogRepository: ReminderFireLogRepository
+
+    private lateinit var owner: User
+    private lateinit var other: User
+    private lateinit var reminder: Reminder
+
+    @BeforeEach
+    fun setUp() {
+        owner = userRepository.save(User("fires-owner@test.com", "password", "주인"))
+        other = userRepository.save(User("fires-other@test.com", "password", "남"))
+
+        val team = teamRepository.save(Team("리마인더 팀"))
+        val todoList = todoListRepository.save(TodoList("목록", null, owner, team))
+        val todo = todoRepository.save(Todo(title = "할일", dueDate = LocalDateTime.now().plusDays(1), todoList = todoList))
+
+        val remindAt = LocalDateTime.now().minusMinutes(1).withNano(0)
+        reminder = reminderRepository.save(Reminder(todo.id, remindAt, "할일"))
+        reminderFireLogRepository.save(ReminderFireLog(reminder.id, remindAt))
+    }
+
+    @Test
+    @DisplayName("1. 본인 할일의 리마인더 발송 기록은 조회됨")
+    fun ownerCanRead() {
+        mvc.perform(get("/api/v1/reminders/${reminder.id}/fires").header("Authorization", "Bearer ${owner.apiKey}"))
+            .andExpect(status().isOk)
+            .andExpect(jsonPath("$.data.length()").value(1))
+    }
+
+    @Test
+    @DisplayName("2. 다른 사용자의 리마인더는 403")
+    fun otherUserIsForbidden() {
+        mvc.perform(get("/api/v1/reminders/${reminder.id}/fires").header("Authorization", "Bearer ${other.apiKey}"))
+            .andExpect(status().isForbidden)
+            .andExpect(jsonPath("$.resultCode").value("403-1"))
+    }
+
+    @Test
+    @DisplayName("3. 없는 리마인더는 404")
+    fun missingReminderIsNotFound() {
+        mvc.perform(get("/api/v1/reminders/${reminder.id + 1000}/fires").header("Authorization", "Bearer ${owner.apiKey}"))
+            .andExpect(status().isNotFound)
+    }
+}
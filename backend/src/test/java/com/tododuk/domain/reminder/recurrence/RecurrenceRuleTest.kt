@@ -0,0 +1,93 @@
+package com.tododuk.domain.reminder.recurrence
+
+import com.tododuk.domain.reminder.entity.Reminder
+import com.tododuk.global.exception.ServiceException
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import java.time.DayOfWeek
+import java.time.LocalDateTime
+
+class RecurrenceRuleTest {
+
+    private val start = LocalDateTime.of(2025, 1, 31, 9, 0)
+
+    @Test
+    @DisplayName("1. 규칙 파싱 - 정규화된 문자열로 다시 직렬화")
+    fun parse() {
+        val rule = RecurrenceRule.parse("RRULE:freq=weekly;byday=fr,mo;interval=2")
+
+        assertThat(rule.frequency).isEqualTo(RecurrenceRule.Frequency.WEEKLY)
+        assertThat(rule.interval).isEqualTo(2)
+        assertThat(rule.byDay).containsExactlyInAnyOrder(DayOfWeek.MONDAY, DayOfWeek.FRIDAY)
+        assertThat(rule.toString()).isEqualTo("FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,FR")
+    }
+
+    @Test
+    @DisplayName("2. 잘못된 규칙은 400 예외")
+    fun parseInvalid() {
+        assertThatThrownBy { RecurrenceRule.parse("INTERVAL=2") }.isInstanceOf(ServiceException::class.java)
+        assertThatThrownBy { RecurrenceRule.parse("FREQ=DAILY;BYDAY=MO") }.isInstanceOf(ServiceException::class.java)
+        assertThatThrownBy { RecurrenceRule.parse("FREQ=DAILY;COUNT=0") }.isInstanceOf(ServiceException::class.java)
+    }
+
+    @Test
+    @DisplayName("3. 매월 반복 - 시작일 기준으로 계산해 말일이 밀리지 않음")
+    fun monthlyKeepsDayOfMonth() {
+        val rule = RecurrenceRule.parse("FREQ=MONTHLY")
+
+        val feb = rule.occurrence(start, start, 1)!!
+        val mar = rule.occurrence(start, feb, 2)!!
+
+        assertThat(feb).isEqualTo(LocalDateTime.of(2025, 2, 28, 9, 0))
+        assertThat(mar).isEqualTo(LocalDateTime.of(2025, 3, 31, 9, 0))
+    }
+
+    @Test
+    @DisplayName("4. 격주 요일 반복 - 같은 주의 다음 요일, 없으면 INTERVAL 주 뒤")
+    fun weeklyByDay() {
+        val rule = RecurrenceRule.parse("FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,FR")
+        val monday = LocalDateTime.of(2025, 1, 6, 9, 0)
+
+        val friday = rule.occurrence(monday, monday, 1)!!
+        val nextMonday = rule.occurrence(monday, friday, 2)!!
+
+        assertThat(friday).isEqualTo(LocalDateTime.of(2025, 1, 10, 9, 0))
+        assertThat(nextMonday).isEqualTo(LocalDateTime.of(2025, 1, 20, 9, 0))
+    }
+
+    @Test
+    @DisplayName("5. COUNT / UNTIL 이후에는 다음 회차 없음")
+    fun countAndUntil() {
+        val byCount = RecurrenceRule.parse("FREQ=DAILY;COUNT=2")
+        val byUntil = RecurrenceRule.parse("FREQ=DAILY;UNTIL=20250201")
+
+        assertThat(byCount.occurrence(start, start, 1)).isNotNull()
+        assertThat(byCount.occurrence(start, start, 2)).isNull()
+        assertThat(byUntil.occurrence(start, start, 1)).isEqualTo(LocalDateTime.of(2025, 2, 1, 9, 0))
+        assertThat(byUntil.occurrence(start, start, 2)).isNull()
+    }
+
+    @Test
+    @DisplayName("6. 리마인더 다음 회차 이동 - 지나간 회차는 건너뛰고 같은 행을 갱신")
+    fun reminderAdvanceSkipsMissedOccurrences() {
+        val reminder = Reminder(1, start, "매일 알림", "FREQ=DAILY")
+
+        val next = reminder.advanceRecurrence(start.plusDays(3).plusHours(1))
+
+        assertThat(next).isEqualTo(start.plusDays(4))
+        assertThat(reminder.remindAt).isEqualTo(start.plusDays(4))
+        assertThat(reminder.occurrenceCount).isEqualTo(4)
+        assertThat(reminder.recurrenceStartAt).isEqualTo(start)
+    }
+
+    @Test
+    @DisplayName("7. 반복 규칙이 없는 리마인더는 다음 회차 없음")
+    fun singleReminder() {
+        val reminder = Reminder(1, start, "한 번만")
+
+        assertThat(reminder.advanceRecurrence(start.plusMinutes(1))).isNull()
+        assertThat(reminder.remindAt).isEqualTo(start)
+    }
+}
@@ -0,0 +1,29 @@
+package com.tododuk.domain.reminder.scheduler
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import java.time.Instant
+import java.time.LocalDateTime
+import java.time.ZoneId
+
+/**
+ * 테스트용 스케줄러 - 예약 상태를 메모리 맵으로만 들고 있는다.
+ */
+class InMemoryReminderScheduler : ReminderScheduler(SimpleMeterRegistry()) {
+
+    val fireTimes = mutableMapOf<Int, Long?>()
+
+    override fun scheduleNow(reminderId: Int, remindAt: LocalDateTime) {
+        fireTimes[reminderId] = epochMillisOf(remindAt)
+    }
+
+    override fun unscheduleNow(reminderId: Int) {
+        fireTimes.remove(reminderId)
+    }
+
+    override fun scheduledFireTimes(): Map<Int, Long?> = fireTimes.toMap()
+
+    fun fireTimeOf(reminderId: Int): LocalDateTime? =
+        fireTimes[reminderId]?.let {
+            LocalDateTime.ofInstant(Instant.ofEpochMilli(it), ZoneId.systemDefault())
+        }
+}
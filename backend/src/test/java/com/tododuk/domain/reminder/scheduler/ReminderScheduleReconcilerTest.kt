@@ -0,0 +1,74 @@
+package com.tododuk.domain.reminder.scheduler
+
+import com.tododuk.domain.reminder.dto.ReminderScheduleView
+import com.tododuk.domain.reminder.repository.ReminderRepository
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.mockito.ArgumentMatchers.any
+import org.mockito.ArgumentMatchers.anyCollection
+import org.mockito.Mockito.mock
+import org.mockito.Mockito.`when`
+import java.time.LocalDateTime
+
+class ReminderScheduleReconcilerTest {
+
+    private val reminderRepository: ReminderRepository = mock(ReminderRepository::class.java)
+    private val scheduler = InMemoryReminderScheduler()
+    private val meterRegistry = SimpleMeterRegistry()
+    private val reconciler = ReminderScheduleReconciler(reminderRepository, scheduler, meterRegistry)
+
+    private val base = LocalDateTime.now().plusDays(1).withNano(0)
+
+    private fun view(id: Int, remindAt: LocalDateTime) = object : ReminderScheduleView {
+        override val id = id
+        override val remindAt = remindAt
+    }
+
+    // 코틀린 non-null 파라미터에 Mockito 매처의 null 이 그대로 넘어가지 않도록 감싼다
+    @Suppress("UNCHECKED_CAST")
+    private fun <T> anyOf(type: Class<T>): T {
+        any(type)
+        return null as T
+    }
+
+    private fun drift(type: String): Double =
+        meterRegistry.find("reminder.reconcile.drift").tag("type", type).counter()?.count() ?: 0.0
+
+    @Test
+    @DisplayName("1. orphan/missing/stale 트리거를 테이블 기준으로 바로잡음")
+    fun repairDrift() {
+        scheduler.scheduleNow(1, base)                 // 정상
+        scheduler.scheduleNow(2, base.minusHours(1))   // stale - 시각이 바뀜
+        scheduler.scheduleNow(99, base)                // orphan - 리마인더 삭제됨
+        // 3 은 missing - 재시작으로 트리거가 비워짐
+
+        `when`(reminderRepository.findExistingIds(anyCollection())).thenReturn(listOf(1, 2))
+        `when`(reminderRepository.findUpcomingSchedules(anyOf(LocalDateTime::class.java))).thenReturn(
+            listOf(view(1, base), view(2, base.plusHours(2)), view(3, base.plusDays(1)))
+        )
+
+        reconciler.reconcile()
+
+        assertThat(scheduler.fireTimes.keys).containsExactlyInAnyOrder(1, 2, 3)
+        assertThat(scheduler.fireTimeOf(2)).isEqualTo(base.plusHours(2))
+        assertThat(scheduler.fireTimeOf(3)).isEqualTo(base.plusDays(1))
+        assertThat(drift("orphan")).isEqualTo(1.0)
+        assertThat(drift("missing")).isEqualTo(1.0)
+        assertThat(drift("stale")).isEqualTo(1.0)
+    }
+
+    @Test
+    @DisplayName("2. 어긋난 것이 없으면 아무것도 바꾸지 않음")
+    fun noDrift() {
+        scheduler.scheduleNow(1, base)
+        `when`(reminderRepository.findExistingIds(anyCollection())).thenReturn(listOf(1))
+        `when`(reminderRepository.findUpcomingSchedules(anyOf(LocalDateTime::class.java))).thenReturn(listOf(view(1, base)))
+
+        reconciler.reconcile()
+
+        assertThat(scheduler.fireTimeOf(1)).isEqualTo(base)
+        assertThat(meterRegistry.find("reminder.reconcile.drift").counters()).isEmpty()
+    }
+}
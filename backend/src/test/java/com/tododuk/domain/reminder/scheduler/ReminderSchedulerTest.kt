@@ -0,0 +1,142 @@
+package com.tododuk.domain.reminder.scheduler
+
+import com.tododuk.domain.reminder.entity.Reminder
+import com.tododuk.domain.reminder.repository.ReminderRepository
+import com.tododuk.domain.reminder.service.ReminderService
+import com.tododuk.domain.todo.service.TodoService
+import com.tododuk.global.page.CursorPaging
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.mockito.ArgumentMatchers.any
+import org.mockito.Mockito.doAnswer
+import org.mockito.Mockito.mock
+import org.mockito.Mockito.`when`
+import org.springframework.transaction.support.TransactionSynchronizationManager
+import java.time.LocalDateTime
+import java.util.Optional
+
+class ReminderSchedulerTest {
+
+    private val reminderRepository: ReminderRepository = mock(ReminderRepository::class.java)
+    private val scheduler = InMemoryReminderScheduler()
+    private val reminderService = ReminderService(
+        reminderRepository,
+        mock(TodoService::class.java),
+        scheduler,
+        mock(CursorPaging::class.java)
+    )
+
+    private val dueDate = LocalDateTime.of(2030, 3, 10, 18, 0)
+
+    @AfterEach
+    fun clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization()
+        }
+    }
+
+    private fun reminder(id: Int, remindAt: LocalDateTime, rule: String? = null) =
+        Reminder(TODO_ID, remindAt, "할일", rule).apply { this.id = id }
+
+    // 트랜잭션 안에서 호출한 것처럼 동기화를 켜 두고, 커밋/롤백을 흉내 낸다
+    private fun inTransaction(commit: Boolean, action: () -> Unit) {
+        TransactionSynchronizationManager.initSynchronization()
+        action()
+        val synchronizations = TransactionSynchronizationManager.getSynchronizations()
+        TransactionSynchronizationManager.clearSynchronization()
+        if (commit) synchronizations.forEach { it.afterCommit() }
+    }
+
+    @Test
+    @DisplayName("1. 생성 - 커밋 이후에만 예약되고 롤백되면 예약되지 않음")
+    fun scheduleAfterCommit() {
+        doAnswer { (it.arguments[0] as Reminder).apply { id = 1 } }
+            .`when`(reminderRepository).save(anyOf(Reminder::class.java))
+
+        inTransaction(commit = true) {
+            reminderService.createReminder(TODO_ID, dueDate.minusMinutes(5), "할일")
+            assertThat(scheduler.fireTimes).isEmpty()
+        }
+        assertThat(scheduler.fireTimeOf(1)).isEqualTo(dueDate.minusMinutes(5))
+
+        inTransaction(commit = false) {
+            scheduler.schedule(reminder(2, dueDate))
+        }
+        assertThat(scheduler.fireTimes).doesNotContainKey(2)
+    }
+
+    @Test
+    @DisplayName("2. 수정 - 같은 리마인더의 예약은 하나로 교체")
+    fun rescheduleReplaces() {
+        val reminder = reminder(1, dueDate.minusMinutes(5))
+        scheduler.schedule(reminder)
+        `when`(reminderRepository.findById(1)).thenReturn(Optional.of(reminder))
+
+        reminderService.updateReminder(1, dueDate.minusHours(1), null)
+
+        assertThat(scheduler.fireTimes).hasSize(1)
+        assertThat(scheduler.fireTimeOf(1)).isEqualTo(dueDate.minusHours(1))
+    }
+
+    @Test
+    @DisplayName("3. 삭제 - 리마인더와 할일 삭제 시 예약도 함께 제거")
+    fun unscheduleOnDelete() {
+        val first = reminder(1, dueDate.minusMinutes(5))
+        val second = reminder(2, dueDate.minusDays(1))
+        listOf(first, second).forEach { scheduler.schedule(it) }
+
+        reminderService.deleteReminder(1)
+        assertThat(scheduler.fireTimes.keys).containsExactly(2)
+
+        `when`(reminderRepository.findAllByTodoId(TODO_ID)).thenReturn(listOf(second))
+        reminderService.deleteRemindersForTodo(TODO_ID)
+        assertThat(scheduler.fireTimes).isEmpty()
+    }
+
+    @Test
+    @DisplayName("4. 할일 마감 변경 - 각 리마인더를 같은 간격만큼 옮기고 반복 회차는 유지")
+    fun shiftKeepsUserOffsetsAndRecurrence() {
+        val auto = reminder(1, dueDate.minusMinutes(5))
+        val custom = reminder(2, dueDate.minusDays(1))
+        val recurring = reminder(3, dueDate.minusDays(7), "FREQ=DAILY;COUNT=10").apply {
+            advanceRecurrence(dueDate.minusDays(5))
+        }
+        val recurringCount = recurring.occurrenceCount
+        val recurringStart = recurring.recurrenceStartAt!!
+        `when`(reminderRepository.findAllByTodoId(TODO_ID)).thenReturn(listOf(auto, custom, recurring))
+
+        reminderService.shiftRemindersForTodo(TODO_ID, dueDate, dueDate.plusDays(2))
+
+        assertThat(auto.remindAt).isEqualTo(dueDate.plusDays(2).minusMinutes(5))
+        assertThat(custom.remindAt).isEqualTo(dueDate.plusDays(1))
+        assertThat(recurring.occurrenceCount).isEqualTo(recurringCount)
+        assertThat(recurring.recurrenceStartAt).isEqualTo(recurringStart.plusDays(2))
+        assertThat(scheduler.fireTimeOf(2)).isEqualTo(dueDate.plusDays(1))
+    }
+
+    @Test
+    @DisplayName("5. 할일 마감이 그대로면 리마인더를 건드리지 않음")
+    fun noShiftWhenDueDateUnchanged() {
+        val custom = reminder(2, dueDate.minusDays(1))
+        `when`(reminderRepository.findAllByTodoId(TODO_ID)).thenReturn(listOf(custom))
+
+        reminderService.shiftRemindersForTodo(TODO_ID, dueDate, dueDate)
+        reminderService.shiftRemindersForTodo(TODO_ID, null, dueDate)
+
+        assertThat(custom.remindAt).isEqualTo(dueDate.minusDays(1))
+        assertThat(scheduler.fireTimes).isEmpty()
+    }
+
+    // 코틀린 non-null 파라미터에 Mockito 매처의 null 이 그대로 넘어가지 않도록 감싼다
+    @Suppress("UNCHECKED_CAST")
+    private fun <T> anyOf(type: Class<T>): T {
+        any(type)
+        return null as T
+    }
+
+    companion object {
+        private const val TODO_ID = 10
+    }
+}
@@ -0,0 +1,142 @@
+package com.tododuk.domain.reminder.scheduler
+
+import com.tododuk.domain.reminder.dto.ReminderScheduleView
+import com.tododuk.domain.reminder.job.ReminderDispatcher
+import com.tododuk.domain.reminder.repository.ReminderRepository
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.mockito.ArgumentMatchers.any
+import org.mockito.ArgumentMatchers.anyCollection
+import org.mockito.ArgumentMatchers.anyLong
+import org.mockito.ArgumentMatchers.eq
+import org.mockito.Mockito.after
+import org.mockito.Mockito.mock
+import org.mockito.Mockito.timeout
+import org.mockito.Mockito.times
+import org.mockito.Mockito.verify
+import org.mockito.Mockito.`when`
+import java.time.Duration
+import java.time.LocalDateTime
+
+class TimingWheelReminderSchedulerTest {
+
+    private val reminderRepository: ReminderRepository = mock(ReminderRepository::class.java)
+    private val reminderDispatcher: ReminderDispatcher = mock(ReminderDispatcher::class.java)
+    private val scheduler = TimingWheelReminderScheduler(
+        reminderRepository,
+        reminderDispatcher,
+        SimpleMeterRegistry(),
+        horizonMs = HORIZON.toMillis(),
+        loadIntervalMs = 60_000,
+        missedGraceMs = MISSED_GRACE.toMillis(),
+        flushBatchSize = 500
+    )
+    private var started = false
+
+    // 적재 요청 구간 (from, until) 기록
+    private val loadRanges = ArrayList<Pair<LocalDateTime, LocalDateTime>>()
+    private var upcoming: List<ReminderScheduleView> = emptyList()
+    private val markedFired = ArrayList<Int>()
+
+    init {
+        `when`(reminderRepository.findUnfiredSchedulesBetween(anyOf(LocalDateTime::class.java), anyOf(LocalDateTime::class.java)))
+            .thenAnswer {
+                loadRanges.add(it.arguments[0] as LocalDateTime to it.arguments[1] as LocalDateTime)
+                upcoming
+            }
+        `when`(reminderRepository.markFired(anyCollection(), anyOf(LocalDateTime::class.java)))
+            .thenAnswer {
+                @Suppress("UNCHECKED_CAST")
+                markedFired.addAll(it.arguments[0] as Collection<Int>)
+                markedFired.size
+            }
+    }
+
+    @AfterEach
+    fun stop() {
+        if (started) scheduler.stop()
+    }
+
+    private fun view(id: Int, remindAt: LocalDateTime) = object : ReminderScheduleView {
+        override val id = id
+        override val remindAt = remindAt
+    }
+
+    @Suppress("UNCHECKED_CAST")
+    private fun <T> anyOf(type: Class<T>): T {
+        any(type)
+        return null as T
+    }
+
+    @Test
+    @DisplayName("1. 기동 직후 적재 - 중단 중 놓친 리마인더를 유예 범위 안에서 바로 발송")
+    fun catchUpMissedReminders() {
+        val now = LocalDateTime.now()
+        val missed = now.minusMinutes(2)
+        upcoming = listOf(view(1, missed), view(2, now.plusMinutes(5)))
+
+        scheduler.loadHorizon()
+
+        val (from, until) = loadRanges.single()
+        assertThat(Duration.between(from, now.minus(MISSED_GRACE)).abs()).isLessThan(Duration.ofSeconds(5))
+        assertThat(Duration.between(until, now.plus(HORIZON)).abs()).isLessThan(Duration.ofSeconds(5))
+
+        verify(reminderDispatcher, timeout(2_000)).dispatch(1, ReminderScheduler.epochMillisOf(missed))
+        assertThat(scheduler.scheduledFireTimes().keys).containsExactly(2)
+
+        // 발송 완료 표시가 저장되기 전 재적재에서 같은 리마인더를 다시 보내지 않음
+        scheduler.loadHorizon()
+        assertThat(loadRanges[1].first).isEqualTo(until)
+        verify(reminderDispatcher, after(200).times(1)).dispatch(eq(1), anyLong())
+
+        val deadline = System.currentTimeMillis() + 2_000
+        while (markedFired.isEmpty() && System.currentTimeMillis() < deadline) {
+            scheduler.flushFired()
+            Thread.sleep(20)
+        }
+        assertThat(markedFired).containsExactly(1)
+    }
+
+    @Test
+    @DisplayName("2. 적재 구간 밖은 등록하지 않고, 재등록은 교체, 취소는 제거")
+    fun scheduleWithinHorizonOnly() {
+        val now = LocalDateTime.now()
+        scheduler.loadHorizon()
+
+        scheduler.scheduleNow(3, now.plusMinutes(1))
+        scheduler.scheduleNow(3, now.plusMinutes(2))
+        scheduler.scheduleNow(4, now.plus(HORIZON).plusHours(1))
+
+        assertThat(scheduler.scheduledFireTimes())
+            .containsOnlyKeys(3)
+            .containsEntry(3, ReminderScheduler.epochMillisOf(now.plusMinutes(2)))
+
+        scheduler.unscheduleNow(3)
+        assertThat(scheduler.scheduledFireTimes()).isEmpty()
+    }
+
+    @Test
+    @DisplayName("3. 휠에서 만료된 리마인더만 발송되고 취소된 리마인더는 발송되지 않음")
+    fun fireFromWheel() {
+        scheduler.start()
+        started = true
+        scheduler.loadHorizon()
+
+        val remindAt = LocalDateTime.now().plusNanos(150_000_000)
+        scheduler.scheduleNow(5, remindAt)
+        scheduler.scheduleNow(6, remindAt)
+        scheduler.unscheduleNow(6)
+
+        verify(reminderDispatcher, timeout(2_000)).dispatch(5, ReminderScheduler.epochMillisOf(remindAt))
+        verify(reminderDispatcher, after(300).never()).dispatch(eq(6), anyLong())
+        assertThat(scheduler.scheduledFireTimes()).isEmpty()
+    }
+
+    companion object {
+        private val HORIZON = Duration.ofMinutes(10)
+        private val MISSED_GRACE = Duration.ofMinutes(5)
+    }
+}
@@ -0,0 +1,96 @@
+package com.tododuk.domain.reminder.scheduler.wheel
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+class HierarchicalTimingWheelTest {
+
+    private class Polled(val payload: String, val expirationMs: Long, val polledAtMs: Long)
+
+    // deadlineMs 까지 poll 을 반복하며 꺼낸 항목을 꺼낸 순서대로 모은다 (poll 한 번에 나온 묶음은 batches 로 구분)
+    private fun drain(
+        wheel: HierarchicalTimingWheel<String>,
+        deadlineMs: Long,
+        expected: Int = Int.MAX_VALUE
+    ): List<List<Polled>> {
+        val batches = ArrayList<List<Polled>>()
+        while (System.currentTimeMillis() < deadlineMs && batches.sumOf { it.size } < expected) {
+            val polled = wheel.poll(20)
+            if (polled.isNotEmpty()) {
+                val now = System.currentTimeMillis()
+                batches.add(polled.map { Polled(it.payload, it.expirationMs, now) })
+            }
+        }
+        return batches
+    }
+
+    @Test
+    @DisplayName("1. 이미 지난 시각은 등록하지 않고 null 반환 (호출 측에서 바로 실행)")
+    fun expiredEntryIsNotAdded() {
+        val now = System.currentTimeMillis()
+        val wheel = HierarchicalTimingWheel<String>(tickMs = 10, wheelSize = 8, startMs = now)
+
+        assertThat(wheel.add("past", now - 1)).isNull()
+        assertThat(wheel.add("current-tick", now - now % 10)).isNull()
+        assertThat(wheel.size()).isZero()
+    }
+
+    @Test
+    @DisplayName("2. 같은 tick 의 항목은 한 버킷에서 함께, 다른 tick 은 시각 순서대로 만료 시각 이후에 나옴")
+    fun slotPlacement() {
+        val now = System.currentTimeMillis()
+        val wheel = HierarchicalTimingWheel<String>(tickMs = 20, wheelSize = 16, startMs = now)
+        val slot = (now / 20 + 3) * 20
+
+        wheel.add("a", slot + 1)
+        wheel.add("b", slot + 15)
+        wheel.add("c", slot + 120)
+        assertThat(wheel.size()).isEqualTo(3)
+        assertThat(wheel.poll(0)).isEmpty()
+
+        val batches = drain(wheel, now + 2_000, expected = 3)
+
+        assertThat(batches).hasSize(2)
+        assertThat(batches[0].map { it.payload }).containsExactlyInAnyOrder("a", "b")
+        assertThat(batches[1].map { it.payload }).containsExactly("c")
+        // 버킷은 tick 시작 시각에 만료되므로 tick 단위 오차 안에서 만료 시각 이후에 나온다
+        batches.flatten().forEach { assertThat(it.polledAtMs).isGreaterThanOrEqualTo(it.expirationMs - 20) }
+        assertThat(wheel.size()).isZero()
+    }
+
+    @Test
+    @DisplayName("3. 범위를 벗어난 항목은 상위 휠에 들어갔다가 하위 휠로 내려와 한 번만 나옴")
+    fun cascadeBetweenLevels() {
+        val now = System.currentTimeMillis()
+        // 1단 10ms x 4 = 40ms, 2단 40ms x 4 = 160ms, 그 이상은 3단
+        val wheel = HierarchicalTimingWheel<String>(tickMs = 10, wheelSize = 4, startMs = now)
+
+        wheel.add("level1", now + 25)
+        wheel.add("level2", now + 100)
+        wheel.add("level3", now + 400)
+
+        val polled = drain(wheel, now + 2_000, expected = 3).flatten()
+
+        assertThat(polled.map { it.payload }).containsExactly("level1", "level2", "level3")
+        polled.forEach { assertThat(it.polledAtMs).isGreaterThanOrEqualTo(it.expirationMs - 10) }
+        assertThat(wheel.size()).isZero()
+        assertThat(drain(wheel, System.currentTimeMillis() + 100)).isEmpty()
+    }
+
+    @Test
+    @DisplayName("4. 취소한 항목은 나오지 않고 버킷을 비울 때 정리됨")
+    fun cancel() {
+        val now = System.currentTimeMillis()
+        val wheel = HierarchicalTimingWheel<String>(tickMs = 10, wheelSize = 4, startMs = now)
+
+        wheel.add("cancelled", now + 30)!!.cancel()
+        wheel.add("cancelled-upper", now + 200)!!.cancel()
+        wheel.add("kept", now + 60)
+
+        val polled = drain(wheel, now + 500).flatten()
+
+        assertThat(polled.map { it.payload }).containsExactly("kept")
+        assertThat(wheel.size()).isZero()
+    }
+}
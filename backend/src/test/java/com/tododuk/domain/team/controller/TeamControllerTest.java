@@ -9,9 +9,11 @@ import com.tododuk.domain.team.initData.TeamTestInitData;
 import com.tododuk.domain.team.repository.TeamRepository;
 import com.tododuk.domain.user.entity.User;
 import com.tododuk.global.exception.ServiceException;
+import com.tododuk.global.metrics.MaxQueries;
 import com.tododuk.global.rq.Rq;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -32,6 +34,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -196,4 +200,67 @@ class TeamControllerTest {
                 .andExpect(jsonPath("$.resultCode").value("404-TEAM_NOT_FOUND"))
                 .andExpect(jsonPath("$.msg").value("팀을 찾을 수 없습니다. ID: -1"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("6. 팀 상세 조회 - 변경이 없으면 304 Not Modified")
+    void getTeamDetailsNotModified() throws Exception {
+        // Given
+        when(rq.getActor()).thenReturn(memberUser);
+
+        String etag = mockMvc.perform(get("/api/v1/teams/{teamId}", testTeam.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/teams/{teamId}", testTeam.getId())
+                        .header("If-None-Match", etag))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("7. 팀 목록 조회 - 커서 기반 페이지네이션")
+    void getTeamsPaged() throws Exception {
+        // Given
+        teamTestInitData.createTeam("두번째 팀", "두번째 팀 설명");
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/teams")
+                        .param("cursor", String.valueOf(testTeam.getId() - 1))
+                        .param("size", "1"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items.length()").value(1))
+                .andExpect(jsonPath("$.data.items[0].id").value(testTeam.getId()))
+                .andExpect(jsonPath("$.data.items[0].members.length()").value(2))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.nextCursor").value(testTeam.getId()));
+    }
+
+    @Nested
+    @DisplayName("8. 쿼리 예산")
+    class QueryBudget {
+
+        @BeforeEach
+        void addTeams() {
+            // 테스트 본문 밖에서 만들어야 INSERT 가 @MaxQueries 집계에 포함되지 않는다
+            for (int i = 0; i < 3; i++) {
+                Team team = teamTestInitData.createTeam("추가 팀 " + i, "추가 팀 설명");
+                teamTestInitData.createTeamMember(teamTestInitData.createUser("extra" + i), team, TeamRoleType.LEADER);
+            }
+        }
+
+        @Test
+        @MaxQueries(2)
+        @DisplayName("팀 목록 조회 - 팀 수와 관계없이 팀 조회 + 멤버 조회 2번")
+        void getTeamsQueryBudget() throws Exception {
+            mockMvc.perform(get("/api/v1/teams")
+                            .param("cursor", String.valueOf(testTeam.getId() - 1))
+                            .param("size", "10"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.items.length()").value(4));
+        }
+    }
+}
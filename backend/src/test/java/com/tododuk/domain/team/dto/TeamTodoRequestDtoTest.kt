@@ -0,0 +1,28 @@
+package com.tododuk.domain.team.dto
+
+import com.tododuk.global.exception.ServiceException
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import java.time.LocalDateTime
+
+class TeamTodoRequestDtoTest {
+
+    @Test
+    @DisplayName("1. toISOString() 형식('Z' 포함)과 빈 값 변환")
+    fun parseDueDate() {
+        assertThat(TeamTodoRequestDto(dueDate = "2025-03-01T09:30:00.000Z").parsedDueDate())
+            .isEqualTo(LocalDateTime.of(2025, 3, 1, 9, 30))
+        assertThat(TeamTodoRequestDto(dueDate = "").parsedDueDate()).isNull()
+        assertThat(TeamTodoRequestDto(dueDate = null).parsedDueDate()).isNull()
+    }
+
+    @Test
+    @DisplayName("2. 형식이 잘못된 마감일은 400")
+    fun rejectMalformedDueDate() {
+        assertThatThrownBy { TeamTodoRequestDto(dueDate = "2025/03/01").parsedDueDate() }
+            .isInstanceOf(ServiceException::class.java)
+            .hasMessageContaining("400-BAD_REQUEST")
+    }
+}
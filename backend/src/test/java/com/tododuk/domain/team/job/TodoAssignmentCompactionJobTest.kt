@@ -0,0 +1,148 @@
+package com.tododuk.domain.team.job
+
+import com.tododuk.domain.team.constant.TeamRoleType
+import com.tododuk.domain.team.entity.Team
+import com.tododuk.domain.team.entity.TodoAssignment
+import com.tododuk.domain.team.entity.TodoAssignment.AssignmentStatus
+import com.tododuk.domain.team.entity.TodoAssignmentArchive
+import com.tododuk.domain.team.initData.TeamTestInitData
+import com.tododuk.domain.team.repository.TodoAssignmentRepository
+import com.tododuk.domain.team.service.TeamService
+import com.tododuk.domain.todo.entity.Todo
+import com.tododuk.domain.todo.repository.TodoRepository
+import com.tododuk.domain.todoList.entity.TodoList
+import com.tododuk.domain.todoList.repository.TodoListRepository
+import com.tododuk.domain.user.entity.User
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import jakarta.persistence.EntityManager
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.test.context.ActiveProfiles
+import org.springframework.transaction.PlatformTransactionManager
+import org.springframework.transaction.annotation.Transactional
+import java.time.LocalDateTime
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class TodoAssignmentCompactionJobTest {
+
+    @Autowired
+    private lateinit var teamTestInitData: TeamTestInitData
+
+    @Autowired
+    private lateinit var teamService: TeamService
+
+    @Autowired
+    private lateinit var todoListRepository: TodoListRepository
+
+    @Autowired
+    private lateinit var todoRepository: TodoRepository
+
+    @Autowired
+    private lateinit var todoAssignmentRepository: TodoAssignmentRepository
+
+    @Autowired
+    private lateinit var transactionManager: PlatformTransactionManager
+
+    @Autowired
+    private lateinit var entityManager: EntityManager
+
+    private lateinit var leader: User
+    private lateinit var member: User
+    private lateinit var team: Team
+    private lateinit var todoList: TodoList
+
+    @BeforeEach
+    fun setUp() {
+        leader = teamTestInitData.createUser("leader")
+        member = teamTestInitData.createUser("member")
+        team = teamTestInitData.createTeam("압축 테스트 팀", "압축 테스트 팀 설명")
+        teamTestInitData.createTeamMember(leader, team, TeamRoleType.LEADER)
+        teamTestInitData.createTeamMember(member, team, TeamRoleType.MEMBER)
+        todoList = todoListRepository.save(TodoList("압축 목록", null, leader, team))
+    }
+
+    // 배치 크기보다 많은 기록도 여러 번에 나눠 옮기는지 보려고 배치 크기를 작게 둔다
+    private fun job() = TodoAssignmentCompactionJob(
+        todoAssignmentRepository, SimpleMeterRegistry(), transactionManager, RETENTION_DAYS, 2
+    )
+
+    private fun todo(title: String): Todo = todoRepository.save(Todo(title = title, todoList = todoList))
+
+    private fun assignment(todo: Todo, status: AssignmentStatus): TodoAssignment =
+        todoAssignmentRepository.save(TodoAssignment(todo, member, team, LocalDateTime.now(), status))
+
+    // 감사(auditing)를 거치지 않도록 벌크 update 로 수정 시각을 과거로 돌린다
+    private fun modifiedDaysAgo(assignment: TodoAssignment, days: Long) {
+        entityManager.flush()
+        entityManager.createQuery("update TodoAssignment a set a.modifyDate = :modifyDate where a.id = :id")
+            .setParameter("modifyDate", LocalDateTime.now().minusDays(days))
+            .setParameter("id", assignment.id)
+            .executeUpdate()
+        entityManager.clear()
+    }
+
+    private fun statusOf(assignment: TodoAssignment): AssignmentStatus? =
+        todoAssignmentRepository.findById(assignment.id).map { it.status }.orElse(null)
+
+    @Test
+    @DisplayName("1. 보관 기간이 지난 비활성 기록만 아카이브로 옮기고 활성/최근 기록은 남김")
+    fun archiveExpiredInactiveAssignments() {
+        val todo = todo("압축 대상")
+        val expired = (1..3).map { assignment(todo, AssignmentStatus.INACTIVE) }
+        val recentInactive = assignment(todo, AssignmentStatus.INACTIVE)
+        val oldActive = assignment(todo, AssignmentStatus.ACTIVE)
+        expired.forEach { modifiedDaysAgo(it, RETENTION_DAYS + 1) }
+        modifiedDaysAgo(oldActive, RETENTION_DAYS + 10)
+
+        job().compact()
+        entityManager.clear()
+
+        expired.forEach { assignment ->
+            assertThat(todoAssignmentRepository.findById(assignment.id)).isEmpty()
+            val archived = entityManager.find(TodoAssignmentArchive::class.java, assignment.id)
+            assertThat(archived).isNotNull()
+            assertThat(archived.todoId).isEqualTo(todo.id)
+            assertThat(archived.assignedUserId).isEqualTo(member.id)
+            assertThat(archived.status).isEqualTo(AssignmentStatus.INACTIVE)
+            assertThat(archived.archivedAt).isNotNull()
+        }
+        assertThat(statusOf(recentInactive)).isEqualTo(AssignmentStatus.INACTIVE)
+        assertThat(statusOf(oldActive)).isEqualTo(AssignmentStatus.ACTIVE)
+        assertThat(entityManager.find(TodoAssignmentArchive::class.java, recentInactive.id)).isNull()
+        assertThat(entityManager.find(TodoAssignmentArchive::class.java, oldActive.id)).isNull()
+    }
+
+    @Test
+    @DisplayName("2. 다시 지정하면 가장 최근에 비활성화된 기록을 살리고 나머지는 압축 대상으로 남김")
+    fun reactivateLatestInactiveAssignment() {
+        val todo = todo("재지정 대상")
+        val older = assignment(todo, AssignmentStatus.INACTIVE)
+        val latest = assignment(todo, AssignmentStatus.INACTIVE)
+        modifiedDaysAgo(older, RETENTION_DAYS + 5)
+        modifiedDaysAgo(latest, 1)
+
+        teamService.assignMultipleTodoAssignees(team.id, todo.id, listOf(member.id), leader.id)
+        entityManager.flush()
+        entityManager.clear()
+
+        assertThat(statusOf(latest)).isEqualTo(AssignmentStatus.ACTIVE)
+        assertThat(statusOf(older)).isEqualTo(AssignmentStatus.INACTIVE)
+
+        job().compact()
+        entityManager.clear()
+
+        assertThat(statusOf(latest)).isEqualTo(AssignmentStatus.ACTIVE)
+        assertThat(todoAssignmentRepository.findById(older.id)).isEmpty()
+        assertThat(todoAssignmentRepository.findAllByTodo_IdAndStatus(todo.id, AssignmentStatus.ACTIVE)).hasSize(1)
+    }
+
+    companion object {
+        private const val RETENTION_DAYS = 30L
+    }
+}
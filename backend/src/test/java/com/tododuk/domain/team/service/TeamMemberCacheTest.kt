@@ -0,0 +1,100 @@
+package com.tododuk.domain.team.service
+
+import com.tododuk.domain.notification.outbox.OutboxRepository
+import com.tododuk.domain.team.constant.TeamRoleType
+import com.tododuk.domain.team.dto.TeamMemberAddRequestDto
+import com.tododuk.domain.team.entity.Team
+import com.tododuk.domain.team.initData.TeamTestInitData
+import com.tododuk.domain.team.repository.TeamRepository
+import com.tododuk.domain.user.entity.User
+import com.tododuk.domain.user.repository.UserRepository
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.test.context.ActiveProfiles
+import org.springframework.transaction.PlatformTransactionManager
+import org.springframework.transaction.support.TransactionTemplate
+
+/**
+ * 2차 캐시를 켠 상태에서 멤버를 빼고 다시 넣을 때 캐시된 Team.members 가 따라오는지 확인한다.
+ * 캐시는 커밋 시점에 채워지고 갱신되므로 테스트 트랜잭션으로 감싸지 않고 단계마다 커밋한다.
+ * 스케줄된 릴레이가 아웃박스 메시지를 보내 알림이 남지 않도록 릴레이 주기를 늘린다.
+ */
+@SpringBootTest(properties = ["custom.cache.secondLevel.enabled=true", "custom.outbox.relay.fixedDelayMs=3600000"])
+@ActiveProfiles("test")
+class TeamMemberCacheTest {
+
+    @Autowired
+    private lateinit var teamTestInitData: TeamTestInitData
+
+    @Autowired
+    private lateinit var teamMemberService: TeamMemberService
+
+    @Autowired
+    private lateinit var teamRepository: TeamRepository
+
+    @Autowired
+    private lateinit var userRepository: UserRepository
+
+    @Autowired
+    private lateinit var outboxRepository: OutboxRepository
+
+    @Autowired
+    private lateinit var transactionManager: PlatformTransactionManager
+
+    private lateinit var transactionTemplate: TransactionTemplate
+    private lateinit var leader: User
+    private lateinit var member: User
+    private lateinit var team: Team
+
+    @BeforeEach
+    fun setUp() {
+        transactionTemplate = TransactionTemplate(transactionManager)
+        leader = teamTestInitData.createUser("leader")
+        member = teamTestInitData.createUser("member")
+        team = teamTestInitData.createTeam("캐시 테스트 팀", "캐시 테스트 팀 설명")
+        teamTestInitData.createTeamMember(leader, team, TeamRoleType.LEADER)
+        teamTestInitData.createTeamMember(member, team, TeamRoleType.MEMBER)
+    }
+
+    @AfterEach
+    fun tearDown() {
+        outboxRepository.deleteAll(outboxRepository.findAll().filter { it.userId == member.id })
+        // 멤버는 Team.members 의 cascade 로 함께 지워진다
+        transactionTemplate.executeWithoutResult { teamRepository.delete(teamRepository.findById(team.id).get()) }
+        userRepository.deleteAll(listOf(leader, member))
+    }
+
+    // 새 트랜잭션(새 영속성 컨텍스트)에서 Team.members 를 읽는다. 캐시에 있으면 캐시에서 읽는다.
+    private fun memberUserIds(): List<Int?> =
+        transactionTemplate.execute { teamRepository.findById(team.id).get().members.map { it.user?.id } }!!
+
+    @Test
+    @DisplayName("1. 멤버를 빼면 캐시된 멤버 목록에서도 빠짐")
+    fun removedMemberLeavesCachedCollection() {
+        assertThat(memberUserIds()).containsExactlyInAnyOrder(leader.id, member.id)
+
+        teamMemberService.deleteTeamMember(team.id, member.id, leader.id)
+
+        assertThat(memberUserIds()).containsExactly(leader.id)
+    }
+
+    @Test
+    @DisplayName("2. 뺀 멤버를 다시 추가할 수 있고 캐시된 멤버 목록에도 다시 보임")
+    fun removedMemberCanBeAddedAgain() {
+        assertThat(memberUserIds()).containsExactlyInAnyOrder(leader.id, member.id)
+        teamMemberService.deleteTeamMember(team.id, member.id, leader.id)
+        assertThat(memberUserIds()).containsExactly(leader.id)
+
+        val added = teamMemberService.addTeamMember(
+            team.id, TeamMemberAddRequestDto(member.userEmail, TeamRoleType.MEMBER), leader.id
+        )
+
+        assertThat(added.userId).isEqualTo(member.id)
+        assertThat(memberUserIds()).containsExactlyInAnyOrder(leader.id, member.id)
+    }
+}
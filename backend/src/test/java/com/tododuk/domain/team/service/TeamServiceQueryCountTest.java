@@ -0,0 +1,221 @@
+package com.tododuk.domain.team.service;
+
+import com.tododuk.domain.team.constant.TeamRoleType;
+import com.tododuk.domain.team.dto.MyAssignmentPageResponseDto;
+import com.tododuk.domain.team.dto.MyAssignmentResponseDto;
+import com.tododuk.domain.team.dto.TeamStatsResponseDto;
+import com.tododuk.domain.team.dto.TeamTodoDetailResponseDto;
+import com.tododuk.domain.team.dto.TeamTodoRequestDto;
+import com.tododuk.domain.team.entity.Team;
+import com.tododuk.domain.team.initData.TeamTestInitData;
+import com.tododuk.domain.team.validator.TeamPermissionValidator;
+import com.tododuk.domain.todo.entity.Todo;
+import com.tododuk.domain.todo.repository.TodoRepository;
+import com.tododuk.domain.todoList.entity.TodoList;
+import com.tododuk.domain.todoList.repository.TodoListRepository;
+import com.tododuk.domain.user.entity.User;
+import com.tododuk.global.exception.ServiceException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+class TeamServiceQueryCountTest {
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private TeamPermissionValidator teamPermissionValidator;
+
+    @Autowired
+    private TeamTestInitData teamTestInitData;
+
+    @Autowired
+    private TodoListRepository todoListRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TeamTodoCounterService teamTodoCounterService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private User leaderUser;
+    private Team testTeam;
+    private List<User> memberUsers;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        leaderUser = teamTestInitData.createUser("leader");
+        testTeam = teamTestInitData.createTeam("쿼리 수 테스트 팀", "쿼리 수 테스트 팀 설명");
+        teamTestInitData.createTeamMember(leaderUser, testTeam, TeamRoleType.LEADER);
+
+        memberUsers = IntStream.range(0, 5)
+                .mapToObj(i -> {
+                    User member = teamTestInitData.createUser("member" + i);
+                    teamTestInitData.createTeamMember(member, testTeam, TeamRoleType.MEMBER);
+                    return member;
+                })
+                .toList();
+    }
+
+    @Test
+    @DisplayName("1. 여러 담당자 지정 - 담당자 수가 늘어도 INSERT 외의 쿼리는 늘지 않음")
+    void assignMultipleTodoAssigneesQueryCount() {
+        // Given
+        Todo singleAssigneeTodo = createTeamTodo("담당자 1명");
+        Todo multipleAssigneeTodo = createTeamTodo("담당자 5명");
+        List<Integer> memberIds = memberUsers.stream().map(User::getId).toList();
+
+        // When
+        long singleCount = countStatements(() -> teamService.assignMultipleTodoAssignees(
+                testTeam.getId(), singleAssigneeTodo.getId(), memberIds.subList(0, 1), leaderUser.getId()));
+        long multipleCount = countStatements(() -> teamService.assignMultipleTodoAssignees(
+                testTeam.getId(), multipleAssigneeTodo.getId(), memberIds, leaderUser.getId()));
+
+        // Then - 추가 담당자 1명당 INSERT 3건(담당자 + 알림/웹 푸시 아웃박스)만 늘어나야 한다
+        assertThat(multipleCount - singleCount).isEqualTo((memberIds.size() - 1) * 3L);
+    }
+
+    @Test
+    @DisplayName("2. 여러 담당자 지정 실패 - 팀 멤버가 아닌 사용자 포함")
+    void assignMultipleTodoAssigneesFailure_NotMember() {
+        // Given
+        Todo todo = createTeamTodo("외부인 포함");
+        User outsider = teamTestInitData.createUser("outsider");
+        List<Integer> userIds = List.of(memberUsers.get(0).getId(), outsider.getId());
+
+        // When & Then
+        assertThatThrownBy(() -> teamService.assignMultipleTodoAssignees(
+                testTeam.getId(), todo.getId(), userIds, leaderUser.getId()))
+                .isInstanceOf(ServiceException.class)
+                .hasMessageContaining("사용자 ID " + outsider.getId());
+    }
+
+    @Test
+    @DisplayName("3. 같은 요청 안에서는 팀 멤버 권한을 한 번만 조회")
+    void membershipIsCachedPerRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        try {
+            // When
+            long count = countStatements(() -> {
+                teamPermissionValidator.validateTeamMember(testTeam.getId(), leaderUser.getId());
+                teamPermissionValidator.validateTeamMember(testTeam.getId(), leaderUser.getId());
+                teamPermissionValidator.validateTeamLeader(testTeam.getId(), leaderUser.getId());
+            });
+
+            // Then
+            assertThat(count).isEqualTo(1);
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    @Test
+    @DisplayName("4. 내 담당 Todo 조회 - 페이지마다 쿼리 1건, 커서로 다음 페이지 이어서 조회")
+    void myAssignmentPageQueryCount() {
+        // Given
+        User member = memberUsers.get(0);
+        List<Integer> todoIds = IntStream.range(0, 3)
+                .mapToObj(i -> createTeamTodo("내 담당 " + i).getId())
+                .toList();
+        todoIds.forEach(todoId -> teamService.assignMultipleTodoAssignees(
+                testTeam.getId(), todoId, List.of(member.getId()), leaderUser.getId()));
+
+        // When
+        MyAssignmentPageResponseDto[] pages = new MyAssignmentPageResponseDto[2];
+        long firstPageCount = countStatements(() ->
+                pages[0] = teamService.getMyAssignmentPage(member.getId(), null, null, 2));
+        pages[1] = teamService.getMyAssignmentPage(
+                member.getId(), pages[0].getNextCursorAssignedAt(), pages[0].getNextCursorId(), 2);
+
+        // Then
+        assertThat(firstPageCount).isEqualTo(1);
+        assertThat(pages[0].getItems()).hasSize(2);
+        assertThat(pages[0].getHasNext()).isTrue();
+        assertThat(pages[0].getItems().get(0).getTeamName()).isEqualTo(testTeam.getTeamName());
+        assertThat(pages[1].getItems()).hasSize(1);
+        assertThat(pages[1].getHasNext()).isFalse();
+        assertThat(Stream.concat(pages[0].getItems().stream(), pages[1].getItems().stream())
+                .map(MyAssignmentResponseDto::getTodoId))
+                .containsExactlyInAnyOrderElementsOf(todoIds);
+    }
+
+    @Test
+    @DisplayName("5. 팀 통계 - 할일 변경이 카운터에 반영되고, 조회 쿼리 수는 할일 수와 무관")
+    void teamStatsReadsCounter() {
+        // Given
+        teamTodoCounterService.recount(testTeam.getId());
+        TodoList todoList = todoListRepository.save(new TodoList("통계 목록", "통계 목록 설명", leaderUser, testTeam));
+        TeamTodoDetailResponseDto overdueTodo = teamService.addTodoToTeamList(testTeam.getId(), todoList.getId(),
+                new TeamTodoRequestDto("마감 지남", null, 1, "2020-01-01T00:00:00"), leaderUser.getId());
+        TeamTodoDetailResponseDto doneTodo = teamService.addTodoToTeamList(testTeam.getId(), todoList.getId(),
+                new TeamTodoRequestDto("완료", null, 1, null), leaderUser.getId());
+        teamService.toggleTeamTodoComplete(testTeam.getId(), doneTodo.getId(), leaderUser.getId());
+
+        long fewTodosCount = countStatements(() -> teamService.getTeamStats(testTeam.getId(), leaderUser.getId()));
+        IntStream.range(0, 5).forEach(i -> teamService.addTodoToTeamList(testTeam.getId(), todoList.getId(),
+                new TeamTodoRequestDto("추가 " + i, null, 1, null), leaderUser.getId()));
+        teamService.deleteTeamTodo(testTeam.getId(), overdueTodo.getId(), leaderUser.getId());
+
+        // When
+        TeamStatsResponseDto[] stats = new TeamStatsResponseDto[1];
+        long manyTodosCount = countStatements(() ->
+                stats[0] = teamService.getTeamStats(testTeam.getId(), leaderUser.getId()));
+
+        // Then
+        assertThat(manyTodosCount).isEqualTo(fewTodosCount);
+        assertThat(stats[0].getTotal()).isEqualTo(6);
+        assertThat(stats[0].getCompleted()).isEqualTo(1);
+        assertThat(stats[0].getOverdue()).isEqualTo(0);
+    }
+
+    private Todo createTeamTodo(String title) {
+        TodoList todoList = todoListRepository.save(new TodoList("팀 할일 목록", "팀 할일 목록 설명", leaderUser, testTeam));
+        return todoRepository.save(new Todo(title, "설명", false, 1, LocalDateTime.now(), null, todoList));
+    }
+
+    /**
+     * 영속성 컨텍스트를 비운 상태에서 action 이 실행한 SQL 문 수를 반환
+     */
+    private long countStatements(Runnable action) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        action.run();
+        entityManager.flush();
+
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,71 @@
+package com.tododuk.global.datasource
+
+import com.tododuk.global.security.SecurityUser
+import jakarta.servlet.FilterChain
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.mock.web.MockHttpServletRequest
+import org.springframework.mock.web.MockHttpServletResponse
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken
+import org.springframework.security.core.context.SecurityContextHolder
+
+class ReadYourWritesFilterTest {
+
+    private val filter = ReadYourWritesFilter(readYourWritesMs = 60_000)
+
+    @AfterEach
+    fun tearDown() {
+        SecurityContextHolder.clearContext()
+    }
+
+    private fun loginAs(userId: Int) {
+        val user = SecurityUser(userId, "user$userId@test.com", "", emptyList())
+        SecurityContextHolder.getContext().authentication =
+            UsernamePasswordAuthenticationToken(user, null, user.authorities)
+    }
+
+    // 체인 안에서 프라이머리로 고정되어 있었는지
+    private fun pinnedDuring(method: String): Boolean {
+        var pinned = false
+        val chain = FilterChain { _, _ -> pinned = ReplicaReadContext.isPrimaryPinned() }
+        filter.doFilter(MockHttpServletRequest(method, "/api/todo"), MockHttpServletResponse(), chain)
+        assertThat(ReplicaReadContext.isPrimaryPinned()).isFalse()
+        return pinned
+    }
+
+    @Test
+    @DisplayName("1. 조회 요청은 고정하지 않고, 쓰기 요청은 요청 전체를 프라이머리로 고정")
+    fun writeRequestPinsPrimary() {
+        loginAs(1)
+
+        assertThat(pinnedDuring("GET")).isFalse()
+        assertThat(pinnedDuring("POST")).isTrue()
+    }
+
+    @Test
+    @DisplayName("2. 쓰기 요청을 마친 사용자의 조회는 프라이머리, 다른 사용자는 그대로")
+    fun readAfterWriteIsPinnedPerUser() {
+        loginAs(1)
+        pinnedDuring("PATCH")
+        assertThat(pinnedDuring("GET")).isTrue()
+
+        loginAs(2)
+        assertThat(pinnedDuring("GET")).isFalse()
+    }
+
+    @Test
+    @DisplayName("3. 창이 지나면 다시 고정하지 않음")
+    fun pinExpires() {
+        val shortFilter = ReadYourWritesFilter(readYourWritesMs = 0)
+        loginAs(1)
+        var pinned = true
+        shortFilter.doFilter(MockHttpServletRequest("DELETE", "/api/todo/1"), MockHttpServletResponse()) { _, _ -> }
+        shortFilter.doFilter(MockHttpServletRequest("GET", "/api/todo"), MockHttpServletResponse()) { _, _ ->
+            pinned = ReplicaReadContext.isPrimaryPinned()
+        }
+
+        assertThat(pinned).isFalse()
+    }
+}
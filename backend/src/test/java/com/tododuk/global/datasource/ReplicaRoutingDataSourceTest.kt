@@ -0,0 +1,120 @@
+package com.tododuk.global.datasource
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.jdbc.datasource.DataSourceTransactionManager
+import org.springframework.jdbc.datasource.DriverManagerDataSource
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy
+import org.springframework.mock.env.MockEnvironment
+import org.springframework.transaction.support.TransactionTemplate
+
+/**
+ * 서로 다른 H2 인메모리 DB 두 개를 프라이머리/레플리카로 두고, 어느 쪽에서 읽었는지 marker 로 확인한다.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private val primary = DriverManagerDataSource(PRIMARY_URL, "sa", "")
+    private val replicaAdmin = JdbcTemplate(DriverManagerDataSource(REPLICA_URL, "sa", ""))
+    private val meterRegistry = SimpleMeterRegistry()
+
+    private lateinit var lagMonitor: ReplicaLagMonitor
+    private lateinit var jdbcTemplate: JdbcTemplate
+    private lateinit var readOnlyTransaction: TransactionTemplate
+    private lateinit var writeTransaction: TransactionTemplate
+
+    @BeforeEach
+    fun setUp() {
+        listOf(JdbcTemplate(primary) to "primary", replicaAdmin to "replica").forEach { (jdbc, name) ->
+            jdbc.execute("create table if not exists marker (name varchar(20))")
+            jdbc.execute("create table if not exists replica_heartbeat (id int primary key, beat_at_millis bigint not null)")
+            jdbc.update("delete from marker")
+            jdbc.update("delete from replica_heartbeat")
+            jdbc.update("insert into marker (name) values (?)", name)
+        }
+
+        val environment = MockEnvironment()
+            .withProperty("custom.datasource.replica.pool.jdbcUrl", REPLICA_URL)
+            .withProperty("custom.datasource.replica.pool.username", "sa")
+            .withProperty("custom.datasource.replica.pool.password", "")
+        lagMonitor = ReplicaLagMonitor(environment, meterRegistry, 2000)
+
+        val dataSource = LazyConnectionDataSourceProxy(primary).apply {
+            setReadOnlyDataSource(ReplicaRoutingDataSource(primary, lagMonitor, meterRegistry))
+        }
+        jdbcTemplate = JdbcTemplate(dataSource)
+        val transactionManager = DataSourceTransactionManager(dataSource)
+        readOnlyTransaction = TransactionTemplate(transactionManager).apply { isReadOnly = true }
+        writeTransaction = TransactionTemplate(transactionManager)
+    }
+
+    @AfterEach
+    fun tearDown() {
+        lagMonitor.close()
+    }
+
+    private fun replicateHeartbeat(beatAtMillis: Long) {
+        replicaAdmin.update("insert into replica_heartbeat (id, beat_at_millis) values (?, ?)", ReplicaHeartbeat.ROW_ID, beatAtMillis)
+        lagMonitor.check()
+    }
+
+    private fun readMarker(transaction: TransactionTemplate): String? =
+        transaction.execute { jdbcTemplate.queryForObject("select name from marker", String::class.java) }
+
+    private fun routed(route: ReplicaRoutingDataSource.Route): Double =
+        meterRegistry.get("db.replica.reads").tag("route", route.tag).counter().count()
+
+    @Test
+    @DisplayName("1. 지연이 허용치 안이면 읽기 전용 트랜잭션은 레플리카, 쓰기 트랜잭션은 프라이머리")
+    fun readOnlyGoesToReplica() {
+        replicateHeartbeat(System.currentTimeMillis())
+
+        assertThat(readMarker(readOnlyTransaction)).isEqualTo("replica")
+        assertThat(readMarker(writeTransaction)).isEqualTo("primary")
+        assertThat(routed(ReplicaRoutingDataSource.Route.REPLICA)).isEqualTo(1.0)
+    }
+
+    @Test
+    @DisplayName("2. 하트비트가 없거나 지연이 허용치를 넘으면 프라이머리")
+    fun laggingReplicaFallsBackToPrimary() {
+        lagMonitor.check()
+        assertThat(readMarker(readOnlyTransaction)).isEqualTo("primary")
+
+        replicateHeartbeat(System.currentTimeMillis() - 10_000)
+        assertThat(lagMonitor.lagMillis()).isGreaterThanOrEqualTo(10_000)
+        assertThat(readMarker(readOnlyTransaction)).isEqualTo("primary")
+        assertThat(routed(ReplicaRoutingDataSource.Route.PRIMARY_LAG)).isEqualTo(2.0)
+    }
+
+    @Test
+    @DisplayName("3. 쓰기 직후(프라이머리 고정)에는 읽기 전용이어도 프라이머리")
+    fun pinnedPrimaryAfterWrite() {
+        replicateHeartbeat(System.currentTimeMillis())
+
+        val marker = ReplicaReadContext.pinPrimary { readMarker(readOnlyTransaction) }
+
+        assertThat(marker).isEqualTo("primary")
+        assertThat(readMarker(readOnlyTransaction)).isEqualTo("replica")
+        assertThat(routed(ReplicaRoutingDataSource.Route.PRIMARY_RECENT_WRITE)).isEqualTo(1.0)
+    }
+
+    @Test
+    @DisplayName("4. API 풀이 아닌 작업은 프라이머리에서 읽음")
+    fun nonApiPoolReadsPrimary() {
+        replicateHeartbeat(System.currentTimeMillis())
+
+        val marker = DataSourcePoolContext.with(DataSourcePool.BATCH) { readMarker(readOnlyTransaction) }
+
+        assertThat(marker).isEqualTo("primary")
+        assertThat(routed(ReplicaRoutingDataSource.Route.PRIMARY_POOL)).isEqualTo(1.0)
+    }
+
+    companion object {
+        private const val PRIMARY_URL = "jdbc:h2:mem:replica_routing_primary;DB_CLOSE_DELAY=-1"
+        private const val REPLICA_URL = "jdbc:h2:mem:replica_routing_replica;DB_CLOSE_DELAY=-1"
+    }
+}
@@ -0,0 +1,120 @@
+package com.tododuk.global.datasource
+
+import jakarta.persistence.EntityManager
+import jakarta.persistence.EntityManagerFactory
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.jdbc.datasource.DriverManagerDataSource
+import org.springframework.orm.jpa.EntityManagerHolder
+import org.springframework.test.context.ActiveProfiles
+import org.springframework.transaction.PlatformTransactionManager
+import org.springframework.transaction.support.TransactionSynchronizationManager
+import org.springframework.transaction.support.TransactionTemplate
+
+private const val REPLICA_URL = "jdbc:h2:mem:replica_routing_jpa;MODE=MySQL;DB_CLOSE_DELAY=-1"
+
+/**
+ * JpaTransactionManager + OSIV 로 요청 동안 EntityManager 를 묶어 둔 상태에서 트랜잭션마다 커넥션을 새로 고르는지
+ * 프라이머리/레플리카에 서로 다른 marker 를 넣어 확인한다.
+ * 트랜잭션이 커넥션을 붙잡지 않도록 테스트 트랜잭션(@Transactional)은 쓰지 않는다.
+ */
+@SpringBootTest(
+    properties = [
+        "custom.datasource.replica.enabled=true",
+        "custom.datasource.replica.pool.jdbcUrl=$REPLICA_URL",
+        "custom.datasource.replica.pool.username=sa",
+        "custom.datasource.replica.pool.password=",
+        "custom.datasource.replica.maxLagMs=3600000"
+    ]
+)
+@ActiveProfiles("test")
+class ReplicaRoutingJpaTest {
+
+    @Autowired
+    private lateinit var entityManagerFactory: EntityManagerFactory
+
+    @Autowired
+    private lateinit var entityManager: EntityManager
+
+    @Autowired
+    private lateinit var transactionManager: PlatformTransactionManager
+
+    @Autowired
+    private lateinit var jdbcTemplate: JdbcTemplate
+
+    @Autowired
+    private lateinit var lagMonitor: ReplicaLagMonitor
+
+    private val replicaAdmin = JdbcTemplate(DriverManagerDataSource(REPLICA_URL, "sa", ""))
+
+    @BeforeEach
+    fun setUp() {
+        listOf(jdbcTemplate to "primary", replicaAdmin to "replica").forEach { (jdbc, name) ->
+            jdbc.execute("create table if not exists marker (name varchar(20))")
+            jdbc.update("delete from marker")
+            jdbc.update("insert into marker (name) values (?)", name)
+        }
+        replicaAdmin.execute("create table if not exists replica_heartbeat (id int primary key, beat_at_millis bigint not null)")
+        replicaAdmin.update("delete from replica_heartbeat")
+        replicaAdmin.update(
+            "insert into replica_heartbeat (id, beat_at_millis) values (?, ?)",
+            ReplicaHeartbeat.ROW_ID, System.currentTimeMillis()
+        )
+        lagMonitor.check()
+    }
+
+    @AfterEach
+    fun tearDown() {
+        jdbcTemplate.execute("drop table if exists marker")
+    }
+
+    private fun readMarker(readOnly: Boolean): String? =
+        TransactionTemplate(transactionManager).apply { isReadOnly = readOnly }.execute {
+            entityManager.createNativeQuery("select name from marker").singleResult as String
+        }
+
+    // OpenEntityManagerInViewInterceptor 가 요청 동안 하는 것과 같이 EntityManager 를 스레드에 묶는다
+    private fun <T> inOpenEntityManager(block: () -> T): T {
+        val em = entityManagerFactory.createEntityManager()
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, EntityManagerHolder(em))
+        try {
+            return block()
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory)
+            em.close()
+        }
+    }
+
+    @Test
+    @DisplayName("1. 읽기 전용 트랜잭션은 레플리카, 쓰기 트랜잭션은 프라이머리")
+    fun routesPerTransaction() {
+        assertThat(readMarker(readOnly = true)).isEqualTo("replica")
+        assertThat(readMarker(readOnly = false)).isEqualTo("primary")
+    }
+
+    @Test
+    @DisplayName("2. OSIV 로 EntityManager 를 이어 써도 레플리카에서 읽은 뒤의 쓰기 트랜잭션은 프라이머리")
+    fun openEntityManagerDoesNotKeepReplicaConnection() {
+        val markers = inOpenEntityManager {
+            listOf(readMarker(readOnly = true), readMarker(readOnly = false), readMarker(readOnly = true))
+        }
+
+        assertThat(markers).containsExactly("replica", "primary", "replica")
+    }
+
+    @Test
+    @DisplayName("3. 프라이머리 고정 중에는 같은 EntityManager 의 읽기 전용 트랜잭션도 프라이머리")
+    fun pinnedPrimaryWithOpenEntityManager() {
+        val markers = inOpenEntityManager {
+            ReplicaReadContext.pinPrimary { listOf(readMarker(readOnly = true), readMarker(readOnly = false)) }
+        }
+
+        assertThat(markers).containsExactly("primary", "primary")
+    }
+}
@@ -0,0 +1,12 @@
+package com.tododuk.global.metrics
+
+import org.junit.jupiter.api.extension.ExtendWith
+
+/**
+ * 테스트 메서드 본문에서 실행된 SQL 문 수가 value 이하인지 검사한다. (@SpringBootTest 전용)
+ * @BeforeEach 에서 만든 데이터의 INSERT 는 세지 않지만, 아직 flush 되지 않은 변경이 본문에서 flush 되면 함께 센다.
+ */
+@Target(AnnotationTarget.FUNCTION)
+@Retention(AnnotationRetention.RUNTIME)
+@ExtendWith(MaxQueriesExtension::class)
+annotation class MaxQueries(val value: Int)
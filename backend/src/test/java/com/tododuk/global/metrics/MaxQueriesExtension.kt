@@ -0,0 +1,29 @@
+package com.tododuk.global.metrics
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback
+import org.junit.jupiter.api.extension.ExtensionContext
+import org.junit.platform.commons.support.AnnotationSupport
+import org.springframework.test.context.junit.jupiter.SpringExtension
+
+class MaxQueriesExtension : BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    override fun beforeTestExecution(context: ExtensionContext) {
+        counter(context).start()
+    }
+
+    override fun afterTestExecution(context: ExtensionContext) {
+        val queries = counter(context).stop()
+        // 테스트가 이미 실패했으면 원래 실패를 그대로 보여준다
+        if (context.executionException.isPresent) return
+
+        val maxQueries = AnnotationSupport.findAnnotation(context.requiredTestMethod, MaxQueries::class.java)
+            .orElseThrow().value
+        if (queries > maxQueries) {
+            throw AssertionError("SQL ${queries}개 실행 (허용 ${maxQueries}개): ${context.displayName}")
+        }
+    }
+
+    private fun counter(context: ExtensionContext): RequestQueryCounter =
+        SpringExtension.getApplicationContext(context).getBean(RequestQueryCounter::class.java)
+}
@@ -0,0 +1,68 @@
+package com.tododuk.global.security
+
+import com.tododuk.domain.user.entity.User
+import com.tododuk.domain.user.repository.UserRepository
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.test.context.ActiveProfiles
+import org.springframework.test.web.servlet.MockMvc
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers.status
+import org.springframework.transaction.annotation.Transactional
+
+// 테스트에서는 지표 내보내기가 꺼져 있어 /actuator/prometheus 가 없으므로 켠다
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+@Transactional
+class ActuatorAccessTest {
+
+    @Autowired
+    private lateinit var mvc: MockMvc
+
+    @Autowired
+    private lateinit var userRepository: UserRepository
+
+    private lateinit var member: User
+    private lateinit var admin: User
+
+    @BeforeEach
+    fun setUp() {
+        member = userRepository.save(User("actuator-member@test.com", "password", "일반회원"))
+        admin = userRepository.save(User("actuator-admin@test.com", "password", "관리자").apply { isAdmin = true })
+    }
+
+    @Test
+    @DisplayName("1. 헬스 체크는 로그인 없이 조회")
+    fun healthIsPublic() {
+        mvc.perform(get("/actuator/health")).andExpect(status().isOk)
+        mvc.perform(get("/actuator/health/liveness")).andExpect(status().isOk)
+    }
+
+    @Test
+    @DisplayName("2. 지표는 비로그인 401, 일반 회원 403")
+    fun metricsAreNotPublic() {
+        METRICS_PATHS.forEach { path ->
+            mvc.perform(get(path)).andExpect(status().isUnauthorized)
+            mvc.perform(get(path).header("Authorization", "Bearer ${member.apiKey}")).andExpect(status().isForbidden)
+        }
+    }
+
+    @Test
+    @DisplayName("3. 관리자는 지표 조회")
+    fun adminCanReadMetrics() {
+        METRICS_PATHS.forEach { path ->
+            mvc.perform(get(path).header("Authorization", "Bearer ${admin.apiKey}")).andExpect(status().isOk)
+        }
+    }
+
+    companion object {
+        private val METRICS_PATHS = listOf("/actuator/metrics", "/actuator/prometheus")
+    }
+}
@@ -0,0 +1,69 @@
+package com.tododuk.global.security
+
+import com.tododuk.domain.user.entity.User
+import com.tododuk.domain.user.repository.UserRepository
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.test.context.ActiveProfiles
+import org.springframework.test.web.servlet.MockMvc
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers.status
+import org.springframework.transaction.annotation.Transactional
+
+/**
+ * 전체 목록 API 의 관리자 제한은 보안 필터 체인에서 처리되므로 standalone MockMvc 가 아닌 전체 컨텍스트로 확인한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class AdminListAccessTest {
+
+    @Autowired
+    private lateinit var mvc: MockMvc
+
+    @Autowired
+    private lateinit var userRepository: UserRepository
+
+    private lateinit var member: User
+    private lateinit var admin: User
+
+    @BeforeEach
+    fun setUp() {
+        member = userRepository.save(User("list-member@test.com", "password", "일반회원"))
+        admin = userRepository.save(User("list-admin@test.com", "password", "관리자").apply { isAdmin = true })
+    }
+
+    @Test
+    @DisplayName("1. 일반 회원은 전체 목록 API 에 403")
+    fun memberIsForbidden() {
+        SecurityConfig.ADMIN_ONLY_LIST_PATHS.forEach { path ->
+            mvc.perform(get(path).header("Authorization", "Bearer ${member.apiKey}"))
+                .andExpect(status().isForbidden)
+                .andExpect(jsonPath("$.resultCode").value("403-1"))
+        }
+    }
+
+    @Test
+    @DisplayName("2. 비로그인 요청은 401")
+    fun anonymousIsUnauthorized() {
+        SecurityConfig.ADMIN_ONLY_LIST_PATHS.forEach { path ->
+            mvc.perform(get(path)).andExpect(status().isUnauthorized)
+        }
+    }
+
+    @Test
+    @DisplayName("3. 관리자는 커서 페이지로 조회")
+    fun adminCanList() {
+        SecurityConfig.ADMIN_ONLY_LIST_PATHS.forEach { path ->
+            mvc.perform(get(path).param("size", "5").header("Authorization", "Bearer ${admin.apiKey}"))
+                .andExpect(status().isOk)
+                .andExpect(jsonPath("$.data.hasNext").exists())
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.tododuk.global.security
+
+import jakarta.servlet.http.Cookie
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.http.HttpHeaders
+import org.springframework.mock.web.MockHttpServletRequest
+import org.springframework.mock.web.MockHttpServletResponse
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest
+
+class CookieOAuth2AuthorizationRequestRepositoryTest {
+
+    private val secret = "abcdefghijklmnopqrstuvwxyz0123456789abcdefghijklmnopqrstuvwxyz0123456789"
+
+    private val authorizationRequest: OAuth2AuthorizationRequest = OAuth2AuthorizationRequest.authorizationCode()
+        .authorizationUri("https://kauth.kakao.com/oauth/authorize")
+        .clientId("client-id")
+        .redirectUri("http://localhost:8080/login/oauth2/code/kakao")
+        .scopes(setOf("profile_nickname", "profile_image"))
+        .state("state-1")
+        .attributes { it["registration_id"] = "kakao" }
+        .build()
+
+    // 저장 후 응답의 Set-Cookie 값
+    private fun savedCookieValue(repository: CookieOAuth2AuthorizationRequestRepository): String {
+        val response = MockHttpServletResponse()
+        repository.saveAuthorizationRequest(authorizationRequest, MockHttpServletRequest(), response)
+
+        return response.getHeader(HttpHeaders.SET_COOKIE)!!
+            .substringAfter("${CookieOAuth2AuthorizationRequestRepository.COOKIE_NAME}=")
+            .substringBefore(';')
+    }
+
+    private fun callback(cookieValue: String, state: String = "state-1") = MockHttpServletRequest().apply {
+        setParameter("state", state)
+        setCookies(Cookie(CookieOAuth2AuthorizationRequestRepository.COOKIE_NAME, cookieValue))
+    }
+
+    @Test
+    @DisplayName("1. 저장한 쿠키로 다른 인스턴스(새 저장소 객체)에서도 인가 요청을 복원")
+    fun roundTrip() {
+        val cookieValue = savedCookieValue(CookieOAuth2AuthorizationRequestRepository(secret, 180))
+        val otherNode = CookieOAuth2AuthorizationRequestRepository(secret, 180)
+        val response = MockHttpServletResponse()
+
+        val restored = otherNode.removeAuthorizationRequest(callback(cookieValue), response)
+
+        assertThat(restored).isNotNull
+        assertThat(restored!!.state).isEqualTo("state-1")
+        assertThat(restored.scopes).containsExactlyInAnyOrder("profile_nickname", "profile_image")
+        assertThat(restored.getAttribute<String>("registration_id")).isEqualTo("kakao")
+        assertThat(response.getHeader(HttpHeaders.SET_COOKIE)).contains("Max-Age=0")
+    }
+
+    @Test
+    @DisplayName("2. 서명이 다르거나 변조된 쿠키는 무시")
+    fun rejectTampered() {
+        val cookieValue = savedCookieValue(CookieOAuth2AuthorizationRequestRepository(secret, 180))
+        val otherKey = CookieOAuth2AuthorizationRequestRepository(secret.reversed(), 180)
+        val tampered = cookieValue.replaceRange(20, 21, if (cookieValue[20] == 'A') "B" else "A")
+
+        assertThat(otherKey.loadAuthorizationRequest(callback(cookieValue))).isNull()
+        assertThat(CookieOAuth2AuthorizationRequestRepository(secret, 180).loadAuthorizationRequest(callback(tampered))).isNull()
+        assertThat(CookieOAuth2AuthorizationRequestRepository(secret, 180).loadAuthorizationRequest(callback("garbage"))).isNull()
+    }
+
+    @Test
+    @DisplayName("3. 만료되었거나 state 가 다르면 무시")
+    fun rejectExpiredOrStateMismatch() {
+        val repository = CookieOAuth2AuthorizationRequestRepository(secret, 180)
+        val expired = savedCookieValue(CookieOAuth2AuthorizationRequestRepository(secret, -1))
+
+        assertThat(repository.loadAuthorizationRequest(callback(expired))).isNull()
+        assertThat(repository.loadAuthorizationRequest(callback(savedCookieValue(repository), state = "other"))).isNull()
+    }
+}
@@ -0,0 +1,91 @@
+package com.tododuk.global.webMvc
+
+import com.tododuk.domain.todo.entity.Todo
+import com.tododuk.domain.todo.repository.TodoRepository
+import com.tododuk.domain.todoList.entity.TodoList
+import com.tododuk.domain.todoList.repository.TodoListRepository
+import com.tododuk.domain.user.entity.User
+import com.tododuk.domain.user.repository.UserRepository
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.http.HttpHeaders
+import org.springframework.test.context.ActiveProfiles
+import org.springframework.test.web.servlet.MockMvc
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers.header
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers.status
+import org.springframework.transaction.annotation.Transactional
+import java.time.ZoneId
+
+/**
+ * 컨트롤러 반환값 처리(HttpEntityMethodProcessor)까지 거쳐 조건부 GET 응답을 확인한다.
+ * (ConditionalGetSupportTest 는 헬퍼만 직접 호출하므로 응답 헤더로 다시 하는 검사를 거치지 않는다)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class ConditionalGetMvcTest {
+
+    @Autowired
+    private lateinit var mvc: MockMvc
+
+    @Autowired
+    private lateinit var userRepository: UserRepository
+
+    @Autowired
+    private lateinit var todoListRepository: TodoListRepository
+
+    @Autowired
+    private lateinit var todoRepository: TodoRepository
+
+    private lateinit var user: User
+    private lateinit var todos: List<Todo>
+
+    @BeforeEach
+    fun setUp() {
+        user = userRepository.save(User("conditional-get@test.com", "password", "조건부조회"))
+        val todoList = todoListRepository.save(TodoList("조건부 조회 목록", null, user, null))
+        todos = listOf("첫 번째", "두 번째").map { todoRepository.save(Todo(title = it, todoList = todoList)) }
+        todoRepository.flush()
+    }
+
+    private fun getMyTodos() = get("/api/todo/me").header("Authorization", "Bearer ${user.apiKey}")
+
+    @Test
+    @DisplayName("1. 200 응답에는 ETag 만 싣고 Last-Modified 는 싣지 않음")
+    fun okCarriesETagOnly() {
+        mvc.perform(getMyTodos())
+            .andExpect(status().isOk)
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED))
+    }
+
+    @Test
+    @DisplayName("2. If-None-Match 가 같으면 304")
+    fun notModifiedByETag() {
+        val etag = mvc.perform(getMyTodos()).andReturn().response.getHeader(HttpHeaders.ETAG)!!
+
+        mvc.perform(getMyTodos().header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified)
+    }
+
+    @Test
+    @DisplayName("3. 할 일을 삭제한 뒤 If-Modified-Since 만 보낸 요청은 200")
+    fun deletionIsNotAnsweredWith304() {
+        // 삭제 전에 받은 응답 시점 (남은 할 일의 max(modifyDate) 와 같거나 늦다)
+        val seenAt = todos.maxOf { it.modifyDate }.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+
+        todoRepository.delete(todos.last())
+        todoRepository.flush()
+
+        mvc.perform(getMyTodos().header(HttpHeaders.IF_MODIFIED_SINCE, seenAt))
+            .andExpect(status().isOk)
+            .andExpect(jsonPath("$.data.length()").value(1))
+    }
+}
@@ -0,0 +1,56 @@
+package com.tododuk.global.webMvc
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.http.HttpHeaders
+import org.springframework.http.HttpStatus
+import org.springframework.mock.web.MockHttpServletRequest
+import org.springframework.mock.web.MockHttpServletResponse
+import java.time.LocalDateTime
+import java.time.ZoneId
+
+class ConditionalGetSupportTest {
+
+    private class Version(override val total: Long, override val lastModified: LocalDateTime?) : ResourceVersion
+
+    private val modifiedAt = LocalDateTime.of(2025, 1, 1, 12, 0)
+
+    private fun call(request: MockHttpServletRequest, version: ResourceVersion) =
+        ConditionalGetSupport(request, MockHttpServletResponse()).ifModified("todos:1", version) { "body" }
+
+    @Test
+    @DisplayName("1. ETag 가 같으면 304")
+    fun notModifiedByETag() {
+        val version = Version(3, modifiedAt)
+        val request = MockHttpServletRequest("GET", "/api/todo/me").apply {
+            addHeader(HttpHeaders.IF_NONE_MATCH, version.toETag("todos:1"))
+        }
+
+        assertThat(call(request, version).statusCode).isEqualTo(HttpStatus.NOT_MODIFIED)
+    }
+
+    @Test
+    @DisplayName("2. 행이 삭제되어 수만 줄면 If-None-Match 가 달라져 200")
+    fun deletionChangesETag() {
+        val request = MockHttpServletRequest("GET", "/api/todo/me").apply {
+            addHeader(HttpHeaders.IF_NONE_MATCH, Version(3, modifiedAt).toETag("todos:1"))
+        }
+
+        val response = call(request, Version(2, modifiedAt))
+
+        assertThat(response.statusCode).isEqualTo(HttpStatus.OK)
+        assertThat(response.body).isEqualTo("body")
+    }
+
+    @Test
+    @DisplayName("3. If-Modified-Since 만 보낸 요청은 최종 수정 시각이 같아도 200")
+    fun ifModifiedSinceAloneIsNotEnough() {
+        val millis = modifiedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+        val request = MockHttpServletRequest("GET", "/api/todo/me").apply {
+            addHeader(HttpHeaders.IF_MODIFIED_SINCE, millis)
+        }
+
+        assertThat(call(request, Version(2, modifiedAt)).statusCode).isEqualTo(HttpStatus.OK)
+    }
+}